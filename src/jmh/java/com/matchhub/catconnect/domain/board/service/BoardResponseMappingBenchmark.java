@@ -0,0 +1,48 @@
+package com.matchhub.catconnect.domain.board.service;
+
+import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
+import com.matchhub.catconnect.domain.board.model.entity.Board;
+import com.matchhub.catconnect.domain.comment.model.entity.Comment;
+import com.matchhub.catconnect.domain.like.model.entity.Like;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 상세 응답 변환(BoardService.toResponseDTO) 벤치마크
+ *
+ * 댓글/좋아요가 많은 게시글에서 상세 조회 시 엔티티 → DTO 변환 비용을 측정함 (DB 조회 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardResponseMappingBenchmark {
+
+    @Param({"10", "1000"})
+    public int commentCount;
+
+    private BoardService boardService;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        // 변환에는 조회수 버퍼만 사용하므로 나머지 의존성은 비워 둠
+        boardService = new BoardService(null, null, null, new BoardViewCountBuffer(null), null, null, null);
+        board = new Board("벤치마크 게시글", "<p>본문</p>".repeat(50), "author");
+        board.setId(1L);
+        for (int i = 0; i < commentCount; i++) {
+            board.getComments().add(new Comment("댓글 " + i, "user" + (i % 100), board));
+        }
+        for (int i = 0; i < commentCount / 2; i++) {
+            board.getLikes().add(new Like("user" + i, board));
+        }
+    }
+
+    @Benchmark
+    public BoardResponseDTO toResponseDTO() {
+        return boardService.toResponseDTO(board);
+    }
+}
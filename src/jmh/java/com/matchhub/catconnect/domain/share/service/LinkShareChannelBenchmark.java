@@ -0,0 +1,37 @@
+package com.matchhub.catconnect.domain.share.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단축코드 생성(LinkShareChannel.generateShortCode) 벤치마크
+ *
+ * SecureRandom을 공유하므로 스레드 수를 늘려 경합 시 비용도 함께 확인함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkShareChannelBenchmark {
+
+    private LinkShareChannel channel;
+
+    @Setup
+    public void setUp() {
+        channel = new LinkShareChannel(null);
+    }
+
+    @Benchmark
+    public String generateShortCode() {
+        return channel.generateShortCode();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateShortCodeContended() {
+        return channel.generateShortCode();
+    }
+}
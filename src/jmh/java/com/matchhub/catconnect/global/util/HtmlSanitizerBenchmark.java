@@ -0,0 +1,94 @@
+package com.matchhub.catconnect.global.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HtmlSanitizer 벤치마크
+ *
+ * 채팅 메시지, 일반 게시글(약 4KB), 긴 게시글(약 80KB), 붙여넣은 이미지가 data: URI로 들어간 게시글(약 700KB)에 대해
+ * 이전 방식(문자열 치환 2회 + 매번 Jsoup.clean)과 현재 방식(일반 텍스트 빠른 경로 + 공유 Cleaner)을 비교함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HtmlSanitizerBenchmark {
+
+    @Param({"chat", "chatWithSymbols", "board", "largeBoard", "pastedImage"})
+    public String payload;
+
+    private HtmlSanitizer sanitizer;
+    private Safelist legacySafelist;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        sanitizer = new HtmlSanitizer();
+        legacySafelist = Safelist.relaxed()
+                .preserveRelativeLinks(true)
+                .addTags("div", "span", "br", "hr", "pre", "code", "table", "thead", "tbody", "tr", "th", "td", "input")
+                .addAttributes("a", "href", "target", "rel")
+                .addProtocols("a", "href", "http", "https", "mailto")
+                .addAttributes("img", "src", "alt", "title", "width", "height")
+                .addProtocols("img", "src", "http", "https", "data", "relpath")
+                .addAttributes(":all", "class", "id", "style");
+        input = switch (payload) {
+            case "chat" -> "오늘 병원 다녀왔는데 다행히 괜찮대요 내일 사진 올릴게요";
+            case "chatWithSymbols" -> "간식은 하루 2번 -> 아침/저녁, 양은 10g 이하로 주세요 :)";
+            case "largeBoard" -> boardHtml().repeat(20);
+            case "pastedImage" -> boardHtml() + pastedImageHtml(512 * 1024);
+            default -> boardHtml();
+        };
+    }
+
+    @Benchmark
+    public String legacySanitize() {
+        String preprocessed = input.replace("src=\"/", "src=\"relpath:///");
+        String cleaned = Jsoup.clean(preprocessed, "", legacySafelist);
+        return cleaned.replace("src=\"relpath:///", "src=\"/");
+    }
+
+    @Benchmark
+    public String sanitize() {
+        return sanitizer.sanitize(input);
+    }
+
+    @Benchmark
+    public String escapeText() {
+        return sanitizer.escapeText(input);
+    }
+
+    // 에디터로 작성한 일반적인 게시글 본문 (약 4KB, 이미지/목록/표 포함)
+    private static String boardHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<h2>입양 후기</h2>");
+        for (int i = 0; i < 8; i++) {
+            html.append("<p>우리 <strong>나비</strong>가 집에 온 지 ").append(i + 1)
+                    .append("주째입니다. 처음에는 숨어만 있었는데 이제는 <em>먼저 다가와요</em>.</p>")
+                    .append("<img src=\"/api/files/download/550e8400-e29b-41d4-a716-44665544000")
+                    .append(i).append(".jpg?w=1024\" alt=\"나비 ").append(i).append("\">");
+        }
+        html.append("<ul><li>사료: 하루 2회</li><li>모래: 벤토나이트</li><li>장난감: 낚싯대</li></ul>");
+        html.append("<table><thead><tr><th>주차</th><th>체중</th></tr></thead><tbody>");
+        for (int i = 0; i < 8; i++) {
+            html.append("<tr><td>").append(i + 1).append("</td><td>").append(2.1 + i * 0.1).append("kg</td></tr>");
+        }
+        html.append("</tbody></table><p><a href=\"https://example.com/guide\" target=\"_blank\">입양 가이드</a></p>");
+        return html.toString();
+    }
+
+    // 에디터에 스크린샷을 붙여넣었을 때의 data: URI 이미지 (압축되지 않는 임의 바이트)
+    private static String pastedImageHtml(int imageBytes) {
+        byte[] image = new byte[imageBytes];
+        new Random(42).nextBytes(image);
+        return "<p><img src=\"data:image/png;base64," + Base64.getEncoder().encodeToString(image) + "\"></p>";
+    }
+}
@@ -0,0 +1,50 @@
+package com.matchhub.catconnect.global.util.auth;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 토큰 생성/검증 벤치마크
+ *
+ * 요청마다 실행되는 경로이므로 서명(HMAC-SHA256) 생성과 검증 비용, 검증 캐시 적중 시 비용을 비교함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        accessToken = jwtProvider.generateAccessToken("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtProvider.generateRefreshToken("benchmark-user");
+    }
+
+    // 서명 검증을 매번 수행하는 경로
+    @Benchmark
+    public String parseWithoutCache() {
+        return jwtProvider.getUsernameFromToken(accessToken);
+    }
+
+    // 검증 캐시에 적중하는 경로 (인증 필터의 일반적인 경우)
+    @Benchmark
+    public JwtClaims parseClaimsCached() {
+        return jwtProvider.parseClaims(accessToken);
+    }
+}
@@ -0,0 +1,38 @@
+package com.matchhub.catconnect.global.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestrictedStringValidator 벤치마크
+ *
+ * 게시글 제목 등 엔티티 검증마다 호출되며, 호출마다 String.matches로 정규식을 컴파일함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestrictedStringValidatorBenchmark {
+
+    @Param({"short", "long"})
+    public String length;
+
+    private RestrictedStringValidator validator;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        validator = new RestrictedStringValidator();
+        value = "short".equals(length)
+                ? "우리 고양이 입양 후기"
+                : "우리 고양이 입양 후기 ".repeat(9);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(value, null);
+    }
+}
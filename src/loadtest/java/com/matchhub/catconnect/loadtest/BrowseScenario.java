@@ -0,0 +1,55 @@
+package com.matchhub.catconnect.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 둘러보기: 목록 30%, 상세 70% (비로그인)
+ *
+ * 목록은 앞쪽 페이지, 상세는 ID가 작은 게시글(생성기가 댓글/좋아요를 몰아준 인기 게시글)에 쏠리도록 고름
+ */
+final class BrowseScenario implements Scenario {
+
+    private static final int MAX_PAGE = 100;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final long minBoardId;
+    private final long maxBoardId;
+
+    BrowseScenario(HttpClient client, String baseUrl, long minBoardId, long maxBoardId) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.minBoardId = minBoardId;
+        this.maxBoardId = maxBoardId;
+    }
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public void runOnce(int worker) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path;
+        if (random.nextInt(10) < 3 || maxBoardId < minBoardId) {
+            path = "/api/boards?page=" + skewed(random, MAX_PAGE) + "&size=10";
+        } else {
+            path = "/api/boards/" + (minBoardId + skewed(random, maxBoardId - minBoardId + 1));
+        }
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        Scenario.checkStatus(path, response.statusCode());
+    }
+
+    // 0..n-1 중 작은 값일수록 자주 뽑힘 (균등 난수의 세제곱)
+    static long skewed(ThreadLocalRandom random, long n) {
+        double u = random.nextDouble();
+        return Math.min((long) (u * u * u * n), n - 1);
+    }
+}
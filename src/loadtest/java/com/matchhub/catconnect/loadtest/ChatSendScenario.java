@@ -0,0 +1,125 @@
+package com.matchhub.catconnect.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * STOMP 채팅 전송: 전송부터 같은 채팅방 구독으로 자기 메시지가 브로드캐스트되어 돌아오기까지의 시간을 측정
+ *
+ * 작업자마다 채팅방 참여자 한 명으로 STOMP 세션을 열고 /topic/chat/{roomId}를 구독함
+ * SockJS 엔드포인트(/ws)의 원시 WebSocket 경로(/ws/websocket)로 접속함
+ */
+final class ChatSendScenario implements Scenario {
+
+    private static final long RESPONSE_TIMEOUT_SECONDS = 10;
+
+    private final String wsUrl;
+    private final List<Participant> participants;
+    private final Function<String, String> tokenIssuer;
+    private final List<Worker> workers = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+
+    /**
+     * @param participants 작업자에 차례로 배정할 채팅방 참여자
+     * @param tokenIssuer 사용자 이름으로 액세스 토큰 발급
+     */
+    ChatSendScenario(String wsUrl, List<Participant> participants, Function<String, String> tokenIssuer) {
+        this.wsUrl = wsUrl;
+        this.participants = participants;
+        this.tokenIssuer = tokenIssuer;
+    }
+
+    record Participant(long roomId, String username) {
+    }
+
+    @Override
+    public String name() {
+        return "chat";
+    }
+
+    @Override
+    public void setUp(int workerCount) throws Exception {
+        if (participants.isEmpty()) {
+            throw new IllegalStateException("채팅방 참여자가 없습니다.");
+        }
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        for (int i = 0; i < workerCount; i++) {
+            Participant participant = participants.get(i % participants.size());
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + tokenIssuer.apply(participant.username()));
+            StompSession session = stompClient.connectAsync(wsUrl, new WebSocketHttpHeaders(), connectHeaders,
+                    new StompSessionHandlerAdapter() {
+                    }).get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            Worker worker = new Worker(participant.roomId(), session);
+            session.subscribe("/topic/chat/" + participant.roomId(), worker);
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public void runOnce(int index) throws Exception {
+        Worker worker = workers.get(index);
+        String nonce = "lt-" + index + "-" + (++worker.sequence);
+        CompletableFuture<Void> echo = new CompletableFuture<>();
+        worker.pending.set(new Pending(nonce, echo));
+        worker.session.send("/app/chat/send", Map.of("roomId", worker.roomId, "content", nonce, "messageType", "TEXT"));
+        echo.get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void tearDown() {
+        workers.forEach(worker -> worker.session.disconnect());
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    private record Pending(String nonce, CompletableFuture<Void> echo) {
+    }
+
+    private static final class Worker implements StompFrameHandler {
+
+        private final long roomId;
+        private final StompSession session;
+        private final AtomicReference<Pending> pending = new AtomicReference<>();
+        private long sequence;
+
+        Worker(long roomId, StompSession session) {
+            this.roomId = roomId;
+            this.session = session;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            // ChatWebSocketMessage { type, payload: ChatMessageResponseDTO }
+            if (payload instanceof Map<?, ?> message && message.get("payload") instanceof Map<?, ?> body) {
+                Pending current = pending.get();
+                if (current != null && current.nonce().equals(body.get("content"))) {
+                    current.echo().complete(null);
+                }
+            }
+        }
+    }
+}
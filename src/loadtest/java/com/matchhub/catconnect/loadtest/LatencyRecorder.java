@@ -0,0 +1,71 @@
+package com.matchhub.catconnect.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 작업자 한 명의 지연 시간 기록 (나노초, 단일 스레드 전용)
+ *
+ * 측정 구간의 모든 표본을 그대로 보관하고 종료 후 정렬하여 백분위를 계산함
+ * (히스토그램 근사 없이 p999까지 정확한 값을 얻기 위함, 표본 100만 개당 약 8MB)
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    /**
+     * 작업자별 기록을 합쳐 시나리오 결과 계산
+     * @param measuredNanos 측정 구간 길이
+     */
+    static ScenarioResult summarize(String name, List<LatencyRecorder> recorders, long measuredNanos) {
+        int total = recorders.stream().mapToInt(recorder -> recorder.size).sum();
+        long errors = recorders.stream().mapToLong(recorder -> recorder.errors).sum();
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+
+        double seconds = measuredNanos / 1_000_000_000.0;
+        double mean = total == 0 ? 0 : Arrays.stream(merged).average().orElse(0);
+        return new ScenarioResult(name, total, errors, round(total / seconds),
+                new ScenarioResult.Latency(
+                        millis(percentile(merged, 0.50)),
+                        millis(percentile(merged, 0.99)),
+                        millis(percentile(merged, 0.999)),
+                        millis(total == 0 ? 0 : merged[total - 1]),
+                        millis(mean)));
+    }
+
+    // nearest-rank 백분위
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    private static double millis(double nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
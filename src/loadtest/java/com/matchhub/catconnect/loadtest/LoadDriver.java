@@ -0,0 +1,205 @@
+package com.matchhub.catconnect.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.matchhub.catconnect.CatconnectApplication;
+import com.matchhub.catconnect.global.configuration.LoadTestDataGenerator;
+import com.matchhub.catconnect.global.util.auth.JwtProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트 드라이버
+ *
+ * loadtest 프로필로 애플리케이션을 같은 JVM에 띄우고(데이터는 LoadTestDataGenerator가 생성),
+ * 시나리오(browse, search, chat, sse)를 차례로 실행하여 시나리오별 처리량과 p50/p99/p999 지연 시간을 JSON으로 남김
+ * 각 시나리오는 작업자 스레드가 요청을 쉬지 않고 반복하는 닫힌 루프로 실행하며, 워밍업 구간은 집계하지 않음
+ *
+ * 설정은 시스템 프로퍼티로 받음 (./gradlew loadTest -Ploadtest.xxx=... 로 전달)
+ * - loadtest.profiles: 스프링 프로필 (기본 local,loadtest / 로컬 Postgres는 dev,loadtest)
+ * - loadtest.scenarios: 실행할 시나리오 (기본 browse,search,chat,sse)
+ * - loadtest.concurrency: 시나리오별 작업자 수 (기본 32)
+ * - loadtest.warmup-seconds, loadtest.duration-seconds: 워밍업/측정 시간 (기본 10초/60초)
+ * - loadtest.sse-hold-ms: SSE 연결 유지 시간 (기본 1000)
+ * - loadtest.output: 결과 파일 (기본 build/results/loadtest/results.json)
+ */
+public final class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String profiles = System.getProperty("loadtest.profiles", "local,loadtest");
+        List<String> scenarioNames = Arrays.asList(System.getProperty("loadtest.scenarios", "browse,search,chat,sse").split(","));
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        long sseHoldMillis = Long.getLong("loadtest.sse-hold-ms", 1000);
+        File output = new File(System.getProperty("loadtest.output", "build/results/loadtest/results.json"));
+
+        // 설정 파일의 spring.profiles.active보다 우선하도록 시스템 프로퍼티로 지정
+        System.setProperty("spring.profiles.active", profiles);
+        System.setProperty("server.port", System.getProperty("server.port", "0"));
+        long bootStart = System.currentTimeMillis();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CatconnectApplication.class).run(args);
+        long bootMillis = System.currentTimeMillis() - bootStart;
+
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            JwtProvider jwtProvider = context.getBean(JwtProvider.class);
+            Function<String, String> tokenIssuer = username -> jwtProvider.generateAccessToken(username, "USER");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (String name : scenarioNames) {
+                Scenario scenario = switch (name.trim()) {
+                    case "browse" -> {
+                        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM tb_board");
+                        yield new BrowseScenario(client, baseUrl, toLong(range.get("min_id"), 1), toLong(range.get("max_id"), 0));
+                    }
+                    case "search" -> new SearchScenario(client, baseUrl);
+                    case "chat" -> new ChatSendScenario("ws://localhost:" + port + "/ws/websocket",
+                            jdbcTemplate.query("SELECT p.chat_room_id, u.username FROM chat_room_participants p "
+                                            + "JOIN tb_user u ON u.id = p.user_id WHERE p.left_at IS NULL AND u.deleted_at IS NULL "
+                                            + "ORDER BY p.chat_room_id LIMIT ?",
+                                    (rs, row) -> new ChatSendScenario.Participant(rs.getLong(1), rs.getString(2)),
+                                    concurrency),
+                            tokenIssuer);
+                    case "sse" -> new SseSubscribeScenario(client, baseUrl,
+                            jdbcTemplate.queryForList("SELECT username FROM tb_user WHERE username LIKE ? ORDER BY id LIMIT ?",
+                                    String.class, LoadTestDataGenerator.USERNAME_PREFIX + "%", concurrency),
+                            tokenIssuer, sseHoldMillis);
+                    default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name);
+                };
+                results.add(run(scenario, concurrency, warmupSeconds, durationSeconds));
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("timestamp", OffsetDateTime.now().toString());
+            report.put("profiles", profiles);
+            report.put("bootMillis", bootMillis);
+            report.put("concurrency", concurrency);
+            report.put("warmupSeconds", warmupSeconds);
+            report.put("durationSeconds", durationSeconds);
+            report.put("dataset", dataset(jdbcTemplate));
+            report.put("scenarios", results);
+
+            File parent = output.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+            log.info("부하 테스트 결과 저장: {}", output.getAbsolutePath());
+        } catch (Exception e) {
+            log.error("부하 테스트 실패: {}", e.getMessage(), e);
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 시나리오 하나를 워밍업 후 측정 시간 동안 실행
+     */
+    private static ScenarioResult run(Scenario scenario, int concurrency, int warmupSeconds, int durationSeconds)
+            throws Exception {
+        log.info("시나리오 시작: name={}, concurrency={}", scenario.name(), concurrency);
+        scenario.setUp(concurrency);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupSeconds * 1_000_000_000L;
+        long measureUntil = measureFrom + durationSeconds * 1_000_000_000L;
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            int worker = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    work(scenario, worker, recorder, measureFrom, measureUntil);
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + scenario.name() + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        scenario.tearDown();
+
+        ScenarioResult result = LatencyRecorder.summarize(scenario.name(), recorders, measureUntil - measureFrom);
+        log.info("시나리오 완료: {}", result);
+        return result;
+    }
+
+    private static void work(Scenario scenario, int worker, LatencyRecorder recorder, long measureFrom, long measureUntil) {
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            boolean measured = now >= measureFrom;
+            try {
+                scenario.runOnce(worker);
+                long end = System.nanoTime();
+                // 측정 구간이 끝난 뒤 완료된 요청은 제외 (처리량 계산 구간과 맞춤)
+                if (measured && end <= measureUntil) {
+                    recorder.record(end - now);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (measured) {
+                    recorder.error();
+                }
+                log.debug("요청 실패: scenario={}, worker={}, error={}", scenario.name(), worker, e.getMessage());
+            }
+            try {
+                scenario.afterRun(worker);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("후처리 실패: scenario={}, worker={}, error={}", scenario.name(), worker, e.getMessage());
+            }
+        }
+    }
+
+    // 보고서에 남길 데이터 규모
+    private static Map<String, Long> dataset(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String table : List.of("tb_user", "tb_board", "tb_comment", "tb_like", "chat_rooms", "chat_messages")) {
+            counts.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+        }
+        return counts;
+    }
+
+    // 게시글이 없으면 MIN/MAX가 null (BrowseScenario는 max < min이면 목록만 조회)
+    private static long toLong(Object value, long defaultValue) {
+        return value instanceof Number number ? number.longValue() : defaultValue;
+    }
+}
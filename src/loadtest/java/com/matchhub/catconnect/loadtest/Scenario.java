@@ -0,0 +1,43 @@
+package com.matchhub.catconnect.loadtest;
+
+/**
+ * 부하 테스트 시나리오
+ *
+ * 작업자 스레드마다 runOnce를 반복 호출하고, 호출 한 번의 소요 시간을 지연 시간으로 기록함
+ * 예외를 던지면 오류로 집계함
+ */
+public interface Scenario {
+
+    String name();
+
+    /**
+     * 측정 전 준비 (작업자별 연결 생성 등)
+     * @param workers 작업자 수
+     */
+    default void setUp(int workers) throws Exception {
+    }
+
+    /**
+     * 요청 1회 실행
+     * @param worker 작업자 번호 (0부터)
+     */
+    void runOnce(int worker) throws Exception;
+
+    /**
+     * runOnce 직후 측정 밖에서 실행할 작업 (연결 유지 시간 등)
+     */
+    default void afterRun(int worker) throws Exception {
+    }
+
+    default void tearDown() {
+    }
+
+    /**
+     * HTTP 응답 코드가 2xx가 아니면 오류로 처리
+     */
+    static void checkStatus(String path, int status) {
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException("HTTP " + status + ": " + path);
+        }
+    }
+}
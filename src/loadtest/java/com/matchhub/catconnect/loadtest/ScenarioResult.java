@@ -0,0 +1,14 @@
+package com.matchhub.catconnect.loadtest;
+
+/**
+ * 시나리오별 측정 결과 (JSON 보고서 항목)
+ * @param requests 측정 구간에 성공한 요청 수
+ * @param errors 측정 구간에 실패한 요청 수
+ * @param throughputPerSecond 초당 성공 요청 수
+ * @param latencyMs 성공 요청의 지연 시간 (밀리초)
+ */
+public record ScenarioResult(String name, long requests, long errors, double throughputPerSecond, Latency latencyMs) {
+
+    public record Latency(double p50, double p99, double p999, double max, double mean) {
+    }
+}
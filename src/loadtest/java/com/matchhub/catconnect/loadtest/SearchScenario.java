@@ -0,0 +1,47 @@
+package com.matchhub.catconnect.loadtest;
+
+import com.matchhub.catconnect.global.configuration.LoadTestDataGenerator;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 통합 검색: 생성기 단어 사전에서 키워드 1개(70%) 또는 2개(30%)를 골라 첫 페이지 조회 (비로그인)
+ */
+final class SearchScenario implements Scenario {
+
+    private static final List<String> WORDS = LoadTestDataGenerator.WORDS;
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    SearchScenario(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public void runOnce(int worker) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String keyword = WORDS.get(random.nextInt(WORDS.size()));
+        if (random.nextInt(10) < 3) {
+            keyword += " " + WORDS.get(random.nextInt(WORDS.size()));
+        }
+        String path = "/api/search?type=ALL&size=10&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        Scenario.checkStatus(path, response.statusCode());
+    }
+}
@@ -0,0 +1,95 @@
+package com.matchhub.catconnect.loadtest;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SSE 구독: 연결 요청부터 초기 connect 이벤트 수신까지의 시간을 측정
+ *
+ * 이벤트를 받은 뒤 holdMillis 동안 연결을 유지했다가 끊고 다시 구독함 (유지 시간은 지연 시간에 포함하지 않음)
+ * 사용자별 연결 수 제한에 걸리지 않도록 작업자마다 다른 사용자로 구독함
+ */
+final class SseSubscribeScenario implements Scenario {
+
+    private static final String PATH = "/api/sse/notifications";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<String> usernames;
+    private final Function<String, String> tokenIssuer;
+    private final long holdMillis;
+    // runOnce에서 연 연결 (afterRun에서 유지 후 닫음)
+    private final ThreadLocal<BufferedReader> openConnection = new ThreadLocal<>();
+    private String[] tokens;
+
+    SseSubscribeScenario(HttpClient client, String baseUrl, List<String> usernames,
+                         Function<String, String> tokenIssuer, long holdMillis) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.usernames = usernames;
+        this.tokenIssuer = tokenIssuer;
+        this.holdMillis = holdMillis;
+    }
+
+    @Override
+    public String name() {
+        return "sse";
+    }
+
+    @Override
+    public void setUp(int workers) {
+        tokens = new String[workers];
+        for (int i = 0; i < workers; i++) {
+            tokens[i] = tokenIssuer.apply(usernames.get(i % usernames.size()));
+        }
+    }
+
+    @Override
+    public void runOnce(int worker) throws Exception {
+        HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + PATH))
+                        .header("Authorization", "Bearer " + tokens[worker])
+                        .header("Accept", "text/event-stream")
+                        .GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+        try {
+            Scenario.checkStatus(PATH, response.statusCode());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("event:")) {
+                    break;
+                }
+            }
+            if (line == null) {
+                throw new IllegalStateException("SSE 연결이 이벤트 없이 종료되었습니다.");
+            }
+        } catch (Exception e) {
+            reader.close();
+            throw e;
+        }
+        openConnection.set(reader);
+    }
+
+    @Override
+    public void afterRun(int worker) throws Exception {
+        BufferedReader reader = openConnection.get();
+        if (reader == null) {
+            return;
+        }
+        openConnection.remove();
+        try {
+            Thread.sleep(holdMillis);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.matchhub.catconnect.common.controller;
 
 import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
+import com.matchhub.catconnect.global.configuration.ViewController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 // HTTP 요청을 받아 해당하는 View 반환
 @Controller // 이 클래스가 Spring MVC의 HTML 뷰를 반환하는 컨트롤러임을 스프링에게 알려주는 어노테이션
+@ViewController
 public class BoardController {
 
     private static final Logger log = LoggerFactory.getLogger(BoardController.class);
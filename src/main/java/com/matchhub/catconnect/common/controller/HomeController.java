@@ -1,10 +1,12 @@
 package com.matchhub.catconnect.common.controller;
 
+import com.matchhub.catconnect.global.configuration.ViewController;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@ViewController
 public class HomeController {
 
     @GetMapping("/")
@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.common.controller;
 
+import com.matchhub.catconnect.global.configuration.ViewController;
 import com.matchhub.catconnect.global.util.auth.JwtProvider;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,6 +22,7 @@ import java.util.Map;
  * 실제 로그인 처리는 AuthRestController에서 담당
  */
 @Controller
+@ViewController
 @RequestMapping("/login")
 public class LoginController {
 
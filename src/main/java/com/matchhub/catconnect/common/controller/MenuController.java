@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.common.controller;
 
+import com.matchhub.catconnect.global.configuration.ViewController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -7,6 +8,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@ViewController
 public class MenuController {
 
     private static final Logger log = LoggerFactory.getLogger(MenuController.class);
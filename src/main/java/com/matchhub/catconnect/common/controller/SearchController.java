@@ -1,12 +1,18 @@
 package com.matchhub.catconnect.common.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.SearchHitDTO;
 import com.matchhub.catconnect.common.model.dto.SearchResponseDTO;
 import com.matchhub.catconnect.common.model.enums.SearchType;
+import com.matchhub.catconnect.common.search.SearchDocumentType;
+import com.matchhub.catconnect.common.search.SearchService;
 import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
 import com.matchhub.catconnect.domain.board.service.BoardService;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentResponseDTO;
 import com.matchhub.catconnect.domain.comment.service.CommentService;
 import com.matchhub.catconnect.global.exception.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Tag(name = "검색 API", description = "통합 검색 관련 REST API")
 @RestController
@@ -34,10 +41,27 @@ public class SearchController {
     private static final Logger log = LoggerFactory.getLogger(SearchController.class);
     private final BoardService boardService;
     private final CommentService commentService;
+    private final SearchService searchService;
+    // 검색 타입 × 페이지 방식(offset/cursor) × 검색 경로(index/like)별 지연 시간 (search.requests)
+    private final Timer[] searchTimers;
 
-    public SearchController(BoardService boardService, CommentService commentService) {
+    public SearchController(BoardService boardService, CommentService commentService, SearchService searchService,
+                            MeterRegistry meterRegistry) {
         this.boardService = boardService;
         this.commentService = commentService;
+        this.searchService = searchService;
+        this.searchTimers = new Timer[SearchType.values().length * 4];
+        for (SearchType type : SearchType.values()) {
+            for (int paging = 0; paging < 2; paging++) {
+                for (int backend = 0; backend < 2; backend++) {
+                    searchTimers[timerIndex(type, paging == 1, backend == 1)] = Timer.builder("search.requests")
+                            .tag("type", type.name())
+                            .tag("paging", paging == 1 ? "cursor" : "offset")
+                            .tag("backend", backend == 1 ? "index" : "like")
+                            .register(meterRegistry);
+                }
+            }
+        }
     }
 
     @Operation(summary = "통합 검색", description = "키워드와 검색 타입에 따라 게시글, 댓글을 페이지네이션하여 검색함")
@@ -55,13 +79,8 @@ public class SearchController {
         log.debug("GET /api/search 요청: keyword={}, type={}, page={}, size={}", keyword, type, page, size);
 
         // SearchType enum으로 변환
-        SearchType searchType;
-        try {
-            searchType = SearchType.valueOf(type.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("유효하지 않은 검색 타입: type={}", type);
-            searchType = SearchType.ALL; // 기본값: 전체 검색
-        }
+        SearchType searchType = parseSearchType(type);
+        long start = System.nanoTime();
 
         // 검색 실행
         SearchResponseDTO result = new SearchResponseDTO();
@@ -91,7 +110,54 @@ public class SearchController {
                 result.setUsers(Collections.emptyList());
                 break;
         }
+        recordSearch(searchType, false, start);
+
+        return ResponseEntity.ok(Response.success(result, "검색 성공"));
+    }
+
+    @Operation(summary = "관련도순 통합 검색", description = "키워드와 검색 타입에 따라 게시글, 댓글을 관련도순으로 검색함. " +
+            "after 파라미터가 있으면 이 API가 호출되며 응답의 nextCursor를 다음 요청의 after로 전달함")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    @GetMapping(params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<SearchHitDTO>>> searchRanked(
+            @Parameter(description = "검색 키워드", required = true) @RequestParam String keyword,
+            @Parameter(description = "검색 타입 (ALL, BOARD, COMMENT)") @RequestParam(defaultValue = "ALL") String type,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String after,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        log.debug("GET /api/search 커서 요청: keyword={}, type={}, after={}, size={}", keyword, type, after, size);
 
+        SearchType searchType = parseSearchType(type);
+        SearchDocumentType documentType = switch (searchType) {
+            case BOARD -> SearchDocumentType.BOARD;
+            case COMMENT -> SearchDocumentType.COMMENT;
+            case ALL -> null;
+        };
+        long start = System.nanoTime();
+        CursorSliceDTO<SearchHitDTO> result = searchService.search(documentType, keyword, after, size);
+        recordSearch(searchType, true, start);
         return ResponseEntity.ok(Response.success(result, "검색 성공"));
     }
+
+    private void recordSearch(SearchType type, boolean cursor, long start) {
+        searchTimers[timerIndex(type, cursor, searchService.isIndexAvailable())]
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static int timerIndex(SearchType type, boolean cursor, boolean indexed) {
+        return type.ordinal() * 4 + (cursor ? 2 : 0) + (indexed ? 1 : 0);
+    }
+
+    // 검색 타입 문자열 변환 (유효하지 않으면 전체 검색)
+    private SearchType parseSearchType(String type) {
+        try {
+            return SearchType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("유효하지 않은 검색 타입: type={}", type);
+            return SearchType.ALL; // 기본값: 전체 검색
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.common.controller;
 
+import com.matchhub.catconnect.global.configuration.ViewController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestParam;
  * 검색 결과를 표시하는 HTML 페이지로 라우팅함
  */
 @Controller
+@ViewController
 public class SearchViewController {
 
     private static final Logger log = LoggerFactory.getLogger(SearchViewController.class);
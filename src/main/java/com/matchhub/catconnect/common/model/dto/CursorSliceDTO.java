@@ -0,0 +1,60 @@
+package com.matchhub.catconnect.common.model.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션 응답 DTO
+ * 전체 개수를 세지 않고 다음 페이지 커서만 내려줌
+ * approximateTotal은 요청한 경우에만 캐시된 근사치로 채워짐
+ */
+@Getter
+public class CursorSliceDTO<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long approximateTotal;
+
+    public CursorSliceDTO(List<T> items, String nextCursor, Long approximateTotal) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.approximateTotal = approximateTotal;
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (1 미만이면 기본값, 최대값 초과면 최대값)
+     * 커서 조회 서비스는 size + 1 조회 전에 반드시 이 값으로 바꿔 사용함
+     * @param size 요청 페이지 크기
+     */
+    public static int clampSize(int size) {
+        if (size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 슬라이스 생성
+     * 초과분이 있으면 마지막으로 담긴 행의 커서를 nextCursor로 사용함
+     * @param rows size + 1개까지 조회한 행
+     * @param size 페이지 크기
+     * @param mapper 행 → 응답 항목 변환
+     * @param cursorOf 행 → 커서 변환
+     * @param approximateTotal 근사 전체 개수 (없으면 null)
+     */
+    public static <R, T> CursorSliceDTO<T> of(List<R> rows, int size, Function<R, T> mapper,
+                                              Function<R, PageCursor> cursorOf, Long approximateTotal) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<T> items = pageRows.stream().map(mapper).toList();
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new CursorSliceDTO<>(items, nextCursor, approximateTotal);
+    }
+}
@@ -0,0 +1,49 @@
+package com.matchhub.catconnect.common.model.dto;
+
+import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.exception.Domain;
+import com.matchhub.catconnect.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ * 최신순(createdDttm DESC, id DESC) 목록에서 마지막으로 받은 행의 (createdDttm, id)를 나타냄
+ * 문자열 형식은 "2025-01-01T12:00:00.123456,42" 이며 빈 값은 첫 페이지를 의미함
+ */
+public record PageCursor(LocalDateTime createdDttm, Long id) {
+
+    // 첫 페이지 조회용 상한값 (모든 행보다 뒤에 위치)
+    private static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static PageCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * 커서 문자열 파싱
+     * @param value "createdDttm,id" 형식 문자열 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서
+     */
+    public static PageCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+        int separator = value.lastIndexOf(',');
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "잘못된 커서 형식입니다.");
+        }
+        try {
+            LocalDateTime createdDttm = LocalDateTime.parse(value.substring(0, separator).trim());
+            Long id = Long.parseLong(value.substring(separator + 1).trim());
+            return new PageCursor(createdDttm, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "잘못된 커서 형식입니다.");
+        }
+    }
+
+    public String encode() {
+        return createdDttm + "," + id;
+    }
+}
@@ -0,0 +1,38 @@
+package com.matchhub.catconnect.common.model.dto;
+
+import com.matchhub.catconnect.common.search.SearchDocument;
+import com.matchhub.catconnect.common.search.SearchDocumentType;
+import com.matchhub.catconnect.common.search.SearchHit;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관련도순 통합 검색 결과 한 건
+ * snippet은 HTML 이스케이프된 본문 발췌이며 키워드만 &lt;mark&gt; 태그로 감싸져 있음
+ */
+@Getter
+public class SearchHitDTO {
+    private final SearchDocumentType type;
+    private final Long id;
+    private final Long boardId;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdDttm;
+    private final boolean blinded;
+    private final int score;
+    private final String snippet;
+
+    public SearchHitDTO(SearchHit hit) {
+        SearchDocument document = hit.document();
+        this.type = document.type();
+        this.id = document.id();
+        this.boardId = document.boardId();
+        this.title = document.title();
+        this.author = document.author();
+        this.createdDttm = document.createdDttm();
+        this.blinded = document.blinded();
+        this.score = hit.score();
+        this.snippet = hit.snippet();
+    }
+}
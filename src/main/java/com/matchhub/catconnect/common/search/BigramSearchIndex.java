@@ -0,0 +1,374 @@
+package com.matchhub.catconnect.common.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 바이그램 기반 메모리 역색인
+ *
+ * 제목/본문/작성자를 소문자로 정규화한 뒤 연속된 두 글자 단위로 색인하므로
+ * 형태소 분석기 없이도 한국어 부분 문자열 검색이 가능함
+ * 키워드의 모든 바이그램을 포함하는 문서를 후보로 좁힌 뒤 실제 부분 문자열 포함 여부로 검증하여
+ * 기존 LIKE '%keyword%' 검색과 같은 결과를 돌려줌
+ */
+@Component
+public class BigramSearchIndex implements SearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BigramSearchIndex.class);
+
+    // 필드별 관련도 가중치
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    // 한 필드에서 점수에 반영할 최대 출현 횟수 (키워드 반복 도배 방지)
+    private static final int MAX_OCCURRENCES = 10;
+
+    // 관련도 내림차순, 같은 점수는 타입 → 최신 ID 순
+    private static final Comparator<ScoredEntry> RANK_ORDER = Comparator
+            .comparingInt(ScoredEntry::score).reversed()
+            .thenComparing((ScoredEntry s) -> s.entry().document().type())
+            .thenComparing(s -> s.entry().document().id(), Comparator.reverseOrder());
+
+    private static final Comparator<Entry> RECENCY_ORDER = Comparator
+            .comparing((Entry entry) -> entry.document().createdDttm(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(entry -> entry.document().id(), Comparator.reverseOrder());
+
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 키 → 색인 항목
+    private final Map<DocumentKey, Entry> documents = new HashMap<>();
+    // 바이그램 → 해당 바이그램을 포함하는 문서 키
+    private final Map<String, Set<DocumentKey>> postings = new HashMap<>();
+    // 게시글 ID → 소속 댓글 ID (게시글 삭제 시 댓글 일괄 제거용)
+    private final Map<Long, Set<Long>> commentsByBoard = new HashMap<>();
+    // 초기 구축 중 삭제된 문서 (구축 데이터로 되살아나지 않도록 기록)
+    private final Set<DocumentKey> removedDuringBuild = new HashSet<>();
+
+    private boolean building = false;
+    private volatile boolean ready = false;
+
+    public BigramSearchIndex(@Value("${app.search.mode:index}") String mode) {
+        this.enabled = !"like".equalsIgnoreCase(mode);
+        log.info("검색 모드: {}", enabled ? "index" : "like");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @Override
+    public boolean canSearch(String keyword) {
+        return isAvailable() && normalize(keyword).length() >= 2;
+    }
+
+    @Override
+    public void upsert(SearchDocument document) {
+        DocumentKey key = new DocumentKey(document.type(), document.id());
+        lock.writeLock().lock();
+        try {
+            if (building && isRemovedDuringBuild(document)) {
+                return;
+            }
+            Entry existing = documents.get(key);
+            if (existing != null && isNewer(existing.document(), document)) {
+                return;
+            }
+            if (existing != null) {
+                unlink(key, existing);
+            }
+            link(key, new Entry(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(SearchDocumentType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(new DocumentKey(type, id));
+            if (type == SearchDocumentType.BOARD) {
+                Set<Long> commentIds = commentsByBoard.remove(id);
+                if (commentIds != null) {
+                    for (Long commentId : new ArrayList<>(commentIds)) {
+                        removeInternal(new DocumentKey(SearchDocumentType.COMMENT, commentId));
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void renameAuthor(String oldAuthor, String newAuthor) {
+        lock.writeLock().lock();
+        try {
+            List<Map.Entry<DocumentKey, Entry>> targets = documents.entrySet().stream()
+                    .filter(e -> oldAuthor.equals(e.getValue().document().author()))
+                    .toList();
+            for (Map.Entry<DocumentKey, Entry> target : targets) {
+                SearchDocument doc = target.getValue().document();
+                unlink(target.getKey(), target.getValue());
+                link(target.getKey(), new Entry(new SearchDocument(doc.type(), doc.id(), doc.boardId(), doc.title(),
+                        doc.content(), newAuthor, doc.blinded(), doc.createdDttm(), doc.updatedDttm())));
+            }
+            log.debug("검색 색인 작성자 변경: oldAuthor={}, newAuthor={}, count={}", oldAuthor, newAuthor, targets.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            building = true;
+            removedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void completeBuild() {
+        lock.writeLock().lock();
+        try {
+            building = false;
+            removedDuringBuild.clear();
+            ready = true;
+            log.info("검색 색인 구축 완료: documents={}, bigrams={}", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findIds(SearchDocumentType type, String keyword) {
+        String query = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            return candidates(type, query).stream()
+                    .sorted(RECENCY_ORDER)
+                    .map(entry -> entry.document().id())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(SearchDocumentType type, String keyword, SearchCursor after, int limit) {
+        String query = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            if (limit <= 0) {
+                return List.of();
+            }
+            // 상위 limit개만 유지 (힙의 머리가 현재 상위 결과 중 가장 낮은 순위)
+            PriorityQueue<ScoredEntry> top = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+            for (Entry entry : candidates(type, query)) {
+                SearchDocument doc = entry.document();
+                int score = score(entry, query);
+                if (after != null && !after.comesBefore(score, doc.type(), doc.id())) {
+                    continue;
+                }
+                ScoredEntry scored = new ScoredEntry(entry, score);
+                if (top.size() < limit) {
+                    top.add(scored);
+                } else if (RANK_ORDER.compare(scored, top.peek()) < 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+            }
+            // 스니펫은 실제로 반환할 결과에 대해서만 생성
+            return top.stream()
+                    .sorted(RANK_ORDER)
+                    .map(s -> new SearchHit(s.entry().document(), s.score(),
+                            SearchSnippet.highlight(s.entry().document(), keyword)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 키워드의 모든 바이그램을 포함하고 실제로 부분 문자열이 일치하는 문서 조회 (읽기 락 보유 상태에서 호출)
+    private List<Entry> candidates(SearchDocumentType type, String query) {
+        if (query.length() < 2) {
+            // 두 글자 미만 키워드는 바이그램이 없어 전체 문서를 훑어야 하므로 색인에서 처리하지 않음 (호출자가 LIKE로 대체)
+            return List.of();
+        }
+        List<Set<DocumentKey>> lists = bigrams(query).stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+        List<Entry> result = new ArrayList<>();
+        for (DocumentKey key : lists.get(0)) {
+            if (type != null && key.type() != type) {
+                continue;
+            }
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(key);
+            }
+            Entry entry = documents.get(key);
+            if (inAll && entry.matches(query)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private int score(Entry entry, String query) {
+        if (query.isEmpty()) {
+            return 0;
+        }
+        return TITLE_WEIGHT * countOccurrences(entry.title(), query)
+                + AUTHOR_WEIGHT * countOccurrences(entry.author(), query)
+                + CONTENT_WEIGHT * countOccurrences(entry.content(), query);
+    }
+
+    private static int countOccurrences(String text, String query) {
+        int count = 0;
+        int from = 0;
+        while (count < MAX_OCCURRENCES) {
+            int index = text.indexOf(query, from);
+            if (index < 0) {
+                break;
+            }
+            count++;
+            from = index + query.length();
+        }
+        return count;
+    }
+
+    private void link(DocumentKey key, Entry entry) {
+        documents.put(key, entry);
+        for (String gram : entry.bigrams()) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+        }
+        SearchDocument doc = entry.document();
+        if (doc.type() == SearchDocumentType.COMMENT && doc.boardId() != null) {
+            commentsByBoard.computeIfAbsent(doc.boardId(), id -> new HashSet<>()).add(doc.id());
+        }
+    }
+
+    private void unlink(DocumentKey key, Entry entry) {
+        documents.remove(key);
+        for (String gram : entry.bigrams()) {
+            Set<DocumentKey> keys = postings.get(gram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        SearchDocument doc = entry.document();
+        if (doc.type() == SearchDocumentType.COMMENT && doc.boardId() != null) {
+            Set<Long> commentIds = commentsByBoard.get(doc.boardId());
+            if (commentIds != null) {
+                commentIds.remove(doc.id());
+                if (commentIds.isEmpty()) {
+                    commentsByBoard.remove(doc.boardId());
+                }
+            }
+        }
+    }
+
+    private void removeInternal(DocumentKey key) {
+        Entry existing = documents.get(key);
+        if (existing != null) {
+            unlink(key, existing);
+        }
+        if (building) {
+            removedDuringBuild.add(key);
+        }
+    }
+
+    private boolean isRemovedDuringBuild(SearchDocument document) {
+        if (removedDuringBuild.contains(new DocumentKey(document.type(), document.id()))) {
+            return true;
+        }
+        return document.type() == SearchDocumentType.COMMENT && document.boardId() != null
+                && removedDuringBuild.contains(new DocumentKey(SearchDocumentType.BOARD, document.boardId()));
+    }
+
+    // 이미 색인된 문서가 들어온 문서보다 나중에 수정된 것인지 확인 (구축 중 늦게 도착한 옛 스냅샷 무시)
+    private static boolean isNewer(SearchDocument existing, SearchDocument incoming) {
+        return existing.updatedDttm() != null && incoming.updatedDttm() != null
+                && existing.updatedDttm().isAfter(incoming.updatedDttm());
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record DocumentKey(SearchDocumentType type, Long id) {
+    }
+
+    private record ScoredEntry(Entry entry, int score) {
+    }
+
+    // 정규화된 필드와 바이그램을 함께 보관하는 색인 항목
+    private record Entry(SearchDocument document, String title, String content, String author, Set<String> bigrams) {
+
+        Entry(SearchDocument document) {
+            this(document, normalize(document.title()), normalize(document.content()), normalize(document.author()));
+        }
+
+        private Entry(SearchDocument document, String title, String content, String author) {
+            this(document, title, content, author, collectBigrams(title, content, author));
+        }
+
+        boolean matches(String query) {
+            return title.contains(query) || content.contains(query) || author.contains(query);
+        }
+
+        private static Set<String> collectBigrams(String title, String content, String author) {
+            Set<String> grams = bigrams(title);
+            grams.addAll(bigrams(content));
+            grams.addAll(bigrams(author));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.matchhub.catconnect.common.search;
+
+import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.exception.Domain;
+import com.matchhub.catconnect.global.exception.ErrorCode;
+
+/**
+ * 관련도순 검색 결과의 커서 위치
+ * 문자열 형식은 "score,TYPE,id" (예: "12,BOARD,42") 이며 빈 값은 첫 페이지를 의미함
+ */
+public record SearchCursor(int score, SearchDocumentType type, Long id) {
+
+    /**
+     * 커서 문자열 파싱
+     * @param value "score,TYPE,id" 형식 문자열 (null 또는 빈 값이면 null 반환)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static SearchCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        if (parts.length != 3) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "잘못된 커서 형식입니다.");
+        }
+        try {
+            return new SearchCursor(Integer.parseInt(parts[0].trim()),
+                    SearchDocumentType.valueOf(parts[1].trim()),
+                    Long.parseLong(parts[2].trim()));
+        } catch (IllegalArgumentException e) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "잘못된 커서 형식입니다.");
+        }
+    }
+
+    public static SearchCursor of(SearchHit hit) {
+        return new SearchCursor(hit.score(), hit.document().type(), hit.document().id());
+    }
+
+    /**
+     * 정렬 순서 (score DESC, type ASC, id DESC) 상 주어진 결과가 이 커서보다 뒤에 오는지 확인
+     */
+    public boolean comesBefore(int otherScore, SearchDocumentType otherType, Long otherId) {
+        if (otherScore != score) {
+            return otherScore < score;
+        }
+        if (otherType != type) {
+            return otherType.ordinal() > type.ordinal();
+        }
+        return otherId < id;
+    }
+
+    public String encode() {
+        return score + "," + type + "," + id;
+    }
+}
@@ -0,0 +1,44 @@
+package com.matchhub.catconnect.common.search;
+
+import com.matchhub.catconnect.domain.board.model.entity.Board;
+import com.matchhub.catconnect.domain.comment.model.entity.Comment;
+import org.jsoup.Jsoup;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 저장되는 문서
+ * content는 HTML 태그를 제거한 평문이며, 댓글은 title 없이 boardId로 소속 게시글을 가리킴
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        Long id,
+        Long boardId,
+        String title,
+        String content,
+        String author,
+        boolean blinded,
+        LocalDateTime createdDttm,
+        LocalDateTime updatedDttm
+) {
+
+    public static SearchDocument of(Board board) {
+        return new SearchDocument(SearchDocumentType.BOARD, board.getId(), board.getId(), board.getTitle(),
+                toPlainText(board.getContent()), board.getAuthor(), board.isBlinded(),
+                board.getCreatedDttm(), board.getUpdatedDttm());
+    }
+
+    public static SearchDocument of(Comment comment) {
+        return new SearchDocument(SearchDocumentType.COMMENT, comment.getId(), comment.getBoard().getId(), null,
+                comment.getContent(), comment.getAuthor(), comment.isBlinded(),
+                comment.getCreatedDttm(), comment.getUpdatedDttm());
+    }
+
+    // 게시글 HTML 본문에서 태그를 제거한 평문 추출
+    private static String toPlainText(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        return Jsoup.parse(html).text();
+    }
+}
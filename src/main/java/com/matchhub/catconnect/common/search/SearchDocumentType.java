@@ -0,0 +1,11 @@
+package com.matchhub.catconnect.common.search;
+
+/**
+ * 검색 색인 대상 문서 타입
+ * BOARD: 게시글
+ * COMMENT: 댓글
+ */
+public enum SearchDocumentType {
+    BOARD,
+    COMMENT
+}
@@ -0,0 +1,11 @@
+package com.matchhub.catconnect.common.search;
+
+/**
+ * 검색 색인 조회 결과 한 건
+ *
+ * @param document 일치한 문서
+ * @param score 관련도 점수 (높을수록 상위)
+ * @param snippet 키워드가 강조된 본문 발췌 (HTML 이스케이프 후 &lt;mark&gt;로 강조, 블라인드 문서는 null)
+ */
+public record SearchHit(SearchDocument document, int score, String snippet) {
+}
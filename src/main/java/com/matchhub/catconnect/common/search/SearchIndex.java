@@ -0,0 +1,81 @@
+package com.matchhub.catconnect.common.search;
+
+import java.util.List;
+
+/**
+ * 게시글/댓글 검색 색인
+ * 구현체는 DB 전체 스캔(LIKE) 없이 키워드에 일치하는 문서를 찾아야 하며,
+ * 일치 기준은 기존 LIKE 검색과 같이 제목/본문/작성자의 대소문자 무시 부분 문자열 일치임
+ */
+public interface SearchIndex {
+
+    /**
+     * 색인 모드 여부 (app.search.mode=like 이면 false이며 색인을 구축하지 않음)
+     */
+    boolean isEnabled();
+
+    /**
+     * 색인 사용 가능 여부
+     * 초기 색인 구축 전이거나 LIKE 모드로 설정된 경우 false이며, 이때 호출자는 DB LIKE 검색으로 대체함
+     */
+    boolean isAvailable();
+
+    /**
+     * 키워드를 색인으로 검색할 수 있는지 여부
+     * 색인이 사용 불가하거나 바이그램이 없는 두 글자 미만 키워드면 false이며, 이때 호출자는 DB LIKE 검색으로 대체함
+     * @param keyword 검색 키워드
+     */
+    boolean canSearch(String keyword);
+
+    /**
+     * 문서 추가 또는 갱신
+     * 이미 더 최신(updatedDttm 기준) 문서가 색인되어 있으면 무시함
+     */
+    void upsert(SearchDocument document);
+
+    /**
+     * 문서 삭제
+     * 게시글 삭제 시 해당 게시글의 댓글도 함께 삭제함
+     */
+    void remove(SearchDocumentType type, Long id);
+
+    /**
+     * 작성자명 일괄 변경 (회원 정보 수정/탈퇴 시)
+     */
+    void renameAuthor(String oldAuthor, String newAuthor);
+
+    /**
+     * 초기 색인 구축 시작
+     * 구축 중 삭제된 문서가 구축 데이터로 되살아나지 않도록 삭제 이력을 기록하기 시작함
+     */
+    void beginBuild();
+
+    /**
+     * 초기 색인 구축 완료 후 색인을 사용 가능 상태로 전환
+     */
+    void completeBuild();
+
+    /**
+     * 키워드에 일치하는 문서 ID를 최신순(createdDttm DESC, id DESC)으로 조회 (canSearch가 false인 키워드는 빈 목록)
+     * @param type 문서 타입
+     * @param keyword 검색 키워드
+     * @return 일치하는 문서 ID 목록
+     */
+    List<Long> findIds(SearchDocumentType type, String keyword);
+
+    /**
+     * 키워드에 일치하는 문서를 관련도순으로 조회 (커서 페이지네이션, canSearch가 false인 키워드는 빈 목록)
+     * 정렬 기준은 (score DESC, type ASC, id DESC)이며 after는 이전 페이지 마지막 결과의 위치임
+     * @param type 문서 타입 (null이면 게시글과 댓글 모두)
+     * @param keyword 검색 키워드
+     * @param after 이전 페이지 마지막 결과 위치 (null이면 첫 페이지)
+     * @param limit 최대 조회 개수
+     * @return 관련도순 결과
+     */
+    List<SearchHit> search(SearchDocumentType type, String keyword, SearchCursor after, int limit);
+
+    /**
+     * 색인된 문서 수
+     */
+    int size();
+}
@@ -0,0 +1,43 @@
+package com.matchhub.catconnect.common.search;
+
+import com.matchhub.catconnect.domain.board.model.entity.Board;
+import com.matchhub.catconnect.domain.comment.model.entity.Comment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 게시글/댓글 엔티티 변경을 검색 색인 이벤트로 발행하는 JPA 엔티티 리스너
+ * 서비스 계층뿐 아니라 cascade 삭제, Repository 직접 호출로 인한 변경도 색인에 반영됨
+ * 실제 색인 반영은 커밋 후 SearchIndexSynchronizer에서 수행함
+ * (JPQL 벌크 연산은 엔티티 콜백이 호출되지 않으므로 호출하는 쪽에서 직접 이벤트를 발행해야 함)
+ */
+public class SearchIndexEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Hibernate가 SpringBeanContainer를 통해 생성하므로 생성자 주입 가능
+    public SearchIndexEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Board board) {
+            eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.of(board)));
+        } else if (entity instanceof Comment comment) {
+            eventPublisher.publishEvent(SearchIndexEvent.upsert(SearchDocument.of(comment)));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Board board) {
+            eventPublisher.publishEvent(SearchIndexEvent.remove(SearchDocumentType.BOARD, board.getId()));
+        } else if (entity instanceof Comment comment) {
+            eventPublisher.publishEvent(SearchIndexEvent.remove(SearchDocumentType.COMMENT, comment.getId()));
+        }
+    }
+}
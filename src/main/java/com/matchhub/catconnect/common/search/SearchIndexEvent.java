@@ -0,0 +1,34 @@
+package com.matchhub.catconnect.common.search;
+
+/**
+ * 검색 색인 변경 이벤트
+ * 트랜잭션 커밋 후 SearchIndexSynchronizer가 색인에 반영함
+ *
+ * @param kind 변경 종류
+ * @param document 색인할 문서 (UPSERT)
+ * @param type 삭제할 문서 타입 (REMOVE)
+ * @param id 삭제할 문서 ID (REMOVE)
+ * @param oldAuthor 변경 전 작성자 (RENAME_AUTHOR)
+ * @param newAuthor 변경 후 작성자 (RENAME_AUTHOR)
+ */
+public record SearchIndexEvent(Kind kind, SearchDocument document, SearchDocumentType type, Long id,
+                               String oldAuthor, String newAuthor) {
+
+    public enum Kind {
+        UPSERT,
+        REMOVE,
+        RENAME_AUTHOR
+    }
+
+    public static SearchIndexEvent upsert(SearchDocument document) {
+        return new SearchIndexEvent(Kind.UPSERT, document, document.type(), document.id(), null, null);
+    }
+
+    public static SearchIndexEvent remove(SearchDocumentType type, Long id) {
+        return new SearchIndexEvent(Kind.REMOVE, null, type, id, null, null);
+    }
+
+    public static SearchIndexEvent renameAuthor(String oldAuthor, String newAuthor) {
+        return new SearchIndexEvent(Kind.RENAME_AUTHOR, null, null, null, oldAuthor, newAuthor);
+    }
+}
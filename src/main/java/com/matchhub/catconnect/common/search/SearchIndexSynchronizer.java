@@ -0,0 +1,86 @@
+package com.matchhub.catconnect.common.search;
+
+import com.matchhub.catconnect.domain.board.model.entity.Board;
+import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import com.matchhub.catconnect.domain.comment.model.entity.Comment;
+import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 검색 색인 동기화
+ * 애플리케이션 기동 시 DB에서 게시글/댓글을 ID 순으로 나누어 읽어 색인을 구축하고,
+ * 이후에는 커밋된 SearchIndexEvent를 받아 색인을 증분 갱신함
+ */
+@Component
+public class SearchIndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexSynchronizer.class);
+    private static final int BUILD_CHUNK_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    public SearchIndexSynchronizer(SearchIndex searchIndex, BoardRepository boardRepository,
+                                   CommentRepository commentRepository) {
+        this.searchIndex = searchIndex;
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    // 기동 완료 후 초기 색인 구축 (구축 전까지는 LIKE 검색으로 대체됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        if (!searchIndex.isEnabled()) {
+            log.info("LIKE 검색 모드, 검색 색인 구축 생략");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        searchIndex.beginBuild();
+        try {
+            long lastId = 0L;
+            List<Board> boards;
+            do {
+                boards = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_CHUNK_SIZE));
+                for (Board board : boards) {
+                    searchIndex.upsert(SearchDocument.of(board));
+                    lastId = board.getId();
+                }
+            } while (boards.size() == BUILD_CHUNK_SIZE);
+
+            lastId = 0L;
+            List<Comment> comments;
+            do {
+                comments = commentRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_CHUNK_SIZE));
+                for (Comment comment : comments) {
+                    searchIndex.upsert(SearchDocument.of(comment));
+                    lastId = comment.getId();
+                }
+            } while (comments.size() == BUILD_CHUNK_SIZE);
+        } finally {
+            searchIndex.completeBuild();
+        }
+        log.info("검색 색인 초기 구축: documents={}, elapsedMs={}", searchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 트랜잭션 커밋 후 색인 반영 (트랜잭션 밖에서 발행된 이벤트는 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexEvent(SearchIndexEvent event) {
+        if (!searchIndex.isEnabled()) {
+            return;
+        }
+        switch (event.kind()) {
+            case UPSERT -> searchIndex.upsert(event.document());
+            case REMOVE -> searchIndex.remove(event.type(), event.id());
+            case RENAME_AUTHOR -> searchIndex.renameAuthor(event.oldAuthor(), event.newAuthor());
+        }
+    }
+}
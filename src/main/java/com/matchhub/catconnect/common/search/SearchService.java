@@ -0,0 +1,87 @@
+package com.matchhub.catconnect.common.search;
+
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.SearchHitDTO;
+import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관련도순 통합 검색 서비스 (커서 페이지네이션)
+ * 검색 색인이 사용 가능하면 색인에서 관련도순으로 조회하고,
+ * LIKE 모드이거나 색인 구축 전, 또는 두 글자 미만 키워드면 DB LIKE 검색을 (게시글 → 댓글, ID 내림차순) 키셋으로 조회함
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private final SearchIndex searchIndex;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    public SearchService(SearchIndex searchIndex, BoardRepository boardRepository, CommentRepository commentRepository) {
+        this.searchIndex = searchIndex;
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    /**
+     * 메모리 색인 사용 가능 여부 (false면 LIKE 검색으로 대체됨)
+     */
+    public boolean isIndexAvailable() {
+        return searchIndex.isAvailable();
+    }
+
+    /**
+     * 관련도순 검색
+     * @param type 문서 타입 (null이면 게시글과 댓글 모두)
+     * @param keyword 검색 키워드
+     * @param after 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 검색 결과 슬라이스
+     */
+    public CursorSliceDTO<SearchHitDTO> search(SearchDocumentType type, String keyword, String after, int size) {
+        size = CursorSliceDTO.clampSize(size);
+        SearchCursor cursor = SearchCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        boolean indexed = searchIndex.canSearch(keyword);
+        List<SearchHit> hits = indexed
+                ? searchIndex.search(type, keyword, cursor, size + 1)
+                : searchByLike(type, keyword, cursor, size + 1);
+        log.debug("관련도순 검색: type={}, keyword={}, indexed={}, hits={}", type, keyword, indexed, hits.size());
+
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        String nextCursor = hasNext ? SearchCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new CursorSliceDTO<>(page.stream().map(SearchHitDTO::new).toList(), nextCursor, null);
+    }
+
+    // LIKE 대체 경로: 점수 없이 게시글(ID 내림차순) 다음 댓글(ID 내림차순) 순서로 조회
+    private List<SearchHit> searchByLike(SearchDocumentType type, String keyword, SearchCursor cursor, int limit) {
+        List<SearchHit> hits = new ArrayList<>();
+        if (type != SearchDocumentType.COMMENT && (cursor == null || cursor.type() == SearchDocumentType.BOARD)) {
+            long beforeId = cursor == null ? Long.MAX_VALUE : cursor.id();
+            boardRepository.searchByKeywordBeforeId(keyword, beforeId, PageRequest.of(0, limit))
+                    .forEach(board -> hits.add(toHit(SearchDocument.of(board), keyword)));
+        }
+        if (type != SearchDocumentType.BOARD && hits.size() < limit) {
+            long beforeId = cursor != null && cursor.type() == SearchDocumentType.COMMENT ? cursor.id() : Long.MAX_VALUE;
+            commentRepository.searchByKeywordBeforeId(keyword, beforeId, PageRequest.of(0, limit - hits.size()))
+                    .forEach(comment -> hits.add(toHit(SearchDocument.of(comment), keyword)));
+        }
+        return hits;
+    }
+
+    private SearchHit toHit(SearchDocument document, String keyword) {
+        return new SearchHit(document, 0, SearchSnippet.highlight(document, keyword));
+    }
+}
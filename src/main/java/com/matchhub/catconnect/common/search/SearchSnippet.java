@@ -0,0 +1,63 @@
+package com.matchhub.catconnect.common.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과 본문 발췌 생성
+ * 본문 평문에서 키워드 첫 출현 위치 주변을 잘라 HTML 이스케이프한 뒤 키워드를 &lt;mark&gt;로 감쌈
+ */
+public final class SearchSnippet {
+
+    private static final int CONTEXT_BEFORE = 40;
+    private static final int CONTEXT_AFTER = 80;
+    private static final String ELLIPSIS = "…";
+
+    private SearchSnippet() {
+    }
+
+    /**
+     * 문서 본문에서 키워드 강조 발췌 생성
+     * @param document 검색 문서
+     * @param keyword 검색 키워드
+     * @return 강조된 발췌 (블라인드 문서는 null)
+     */
+    public static String highlight(SearchDocument document, String keyword) {
+        if (document.blinded()) {
+            return null;
+        }
+        String text = document.content() == null ? "" : document.content();
+        String query = keyword == null ? "" : keyword.toLowerCase(Locale.ROOT);
+        String lower = text.toLowerCase(Locale.ROOT);
+        int index = query.isEmpty() ? -1 : lower.indexOf(query);
+        // 소문자 변환으로 길이가 달라지는 문자가 있으면 위치를 신뢰할 수 없으므로 앞부분만 잘라냄
+        if (index < 0 || lower.length() != text.length()) {
+            return truncate(text);
+        }
+        int start = Math.max(0, index - CONTEXT_BEFORE);
+        int matchEnd = index + query.length();
+        int end = Math.min(text.length(), matchEnd + CONTEXT_AFTER);
+        StringBuilder sb = new StringBuilder();
+        if (start > 0) {
+            sb.append(ELLIPSIS);
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(start, index)))
+                .append("<mark>")
+                .append(HtmlUtils.htmlEscape(text.substring(index, matchEnd)))
+                .append("</mark>")
+                .append(HtmlUtils.htmlEscape(text.substring(matchEnd, end)));
+        if (end < text.length()) {
+            sb.append(ELLIPSIS);
+        }
+        return sb.toString();
+    }
+
+    private static String truncate(String text) {
+        int max = CONTEXT_BEFORE + CONTEXT_AFTER;
+        if (text.length() <= max) {
+            return HtmlUtils.htmlEscape(text);
+        }
+        return HtmlUtils.htmlEscape(text.substring(0, max)) + ELLIPSIS;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,18 @@ public interface BlockRepository extends JpaRepository<UserBlock, Long> {
             "WHERE (b.blocker.id = :userId1 AND b.blocked.id = :userId2) " +
             "OR (b.blocker.id = :userId2 AND b.blocked.id = :userId1)")
     boolean existsBlockBetween(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM UserBlock b " +
+            "WHERE (b.blocker.id = :userId AND b.blocked.id IN :otherUserIds) " +
+            "OR (b.blocked.id = :userId AND b.blocker.id IN :otherUserIds)")
+    boolean existsBlockWithAny(@Param("userId") Long userId, @Param("otherUserIds") Collection<Long> otherUserIds);
+
+    /**
+     * 주어진 사용자들 사이의 차단 관계 조회 (채팅방 세션 적재용)
+     * @param userIds 사용자 ID 목록
+     * @return [차단한 사용자 ID, 차단된 사용자 ID] 목록
+     */
+    @Query("SELECT b.blocker.id, b.blocked.id FROM UserBlock b " +
+            "WHERE b.blocker.id IN :userIds AND b.blocked.id IN :userIds")
+    List<Object[]> findBlockPairsAmong(@Param("userIds") Collection<Long> userIds);
 }
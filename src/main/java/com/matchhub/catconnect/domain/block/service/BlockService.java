@@ -3,15 +3,18 @@ package com.matchhub.catconnect.domain.block.service;
 import com.matchhub.catconnect.domain.block.model.dto.BlockResponseDTO;
 import com.matchhub.catconnect.domain.block.model.entity.UserBlock;
 import com.matchhub.catconnect.domain.block.repository.BlockRepository;
+import com.matchhub.catconnect.domain.chat.service.ChatRoomSessionInvalidatedEvent;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -21,6 +24,7 @@ public class BlockService {
 
     private final BlockRepository blockRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void blockUser(String blockerUsername, Long targetUserId) {
@@ -36,6 +40,7 @@ public class BlockService {
         }
 
         blockRepository.save(new UserBlock(blocker, blocked));
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(blocker.getId()));
     }
 
     @Transactional
@@ -44,6 +49,7 @@ public class BlockService {
         UserBlock block = blockRepository.findByBlockerIdAndBlockedId(blocker.getId(), targetUserId)
                 .orElseThrow(() -> new AppException(Domain.USER, ErrorCode.INVALID_REQUEST, "차단하지 않은 사용자입니다."));
         blockRepository.delete(block);
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(blocker.getId()));
     }
 
     public List<BlockResponseDTO> getBlockList(String username) {
@@ -62,6 +68,11 @@ public class BlockService {
         return blockRepository.existsBlockBetween(userId1, userId2);
     }
 
+    // 한 사용자와 여러 사용자 사이에 어느 방향이든 차단 관계가 있는지 한 번에 확인
+    public boolean isBlockedWithAny(Long userId, Collection<Long> otherUserIds) {
+        return !otherUserIds.isEmpty() && blockRepository.existsBlockWithAny(userId, otherUserIds);
+    }
+
     private User findUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND));
@@ -1,7 +1,9 @@
 package com.matchhub.catconnect.domain.board.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.board.model.dto.BoardRequestDTO;
 import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
+import com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO;
 import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
 import com.matchhub.catconnect.domain.board.service.BoardService;
 import com.matchhub.catconnect.domain.report.service.ReportService;
@@ -43,12 +45,12 @@ public class BoardRestController {
     // 게시글 조회 (페이지네이션, 카테고리 필터 지원)
     @Operation(summary = "게시글 조회", description = "게시글 목록을 페이지네이션하여 조회합니다. category 파라미터로 필터링 가능.")
     @GetMapping
-    public ResponseEntity<Response<Page<BoardResponseDTO>>> getBoards(
+    public ResponseEntity<Response<Page<BoardSummaryDTO>>> getBoards(
             @Parameter(description = "게시판 카테고리") @RequestParam(required = false) BoardCategory category,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
         log.debug("GET /api/boards 요청: category={}, page={}, size={}", category, page, size);
-        Page<BoardResponseDTO> boards;
+        Page<BoardSummaryDTO> boards;
         if (category != null) {
             boards = boardService.getBoardsByCategory(category, page, size);
         } else {
@@ -57,6 +59,19 @@ public class BoardRestController {
         return ResponseEntity.ok(Response.success(boards, "게시글 목록 조회 성공"));
     }
 
+    // 게시글 커서 조회 (after 파라미터가 있으면 키셋 페이지네이션, 빈 값이면 첫 페이지)
+    @Operation(summary = "게시글 커서 조회", description = "after 커서(createdDttm,id) 이후의 게시글 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<BoardSummaryDTO>>> getBoardSlice(
+            @Parameter(description = "게시판 카테고리") @RequestParam(required = false) BoardCategory category,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String after,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "근사 전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("GET /api/boards 커서 요청: category={}, after={}, size={}", category, after, size);
+        CursorSliceDTO<BoardSummaryDTO> boards = boardService.getBoardSlice(category, after, size, includeTotal);
+        return ResponseEntity.ok(Response.success(boards, "게시글 목록 조회 성공"));
+    }
+
     // 게시글 상세 조회 (댓글 포함)
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @GetMapping("/{id}") // 경로에 ID 포함
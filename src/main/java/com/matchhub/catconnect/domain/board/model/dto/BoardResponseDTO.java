@@ -23,6 +23,7 @@ public class BoardResponseDTO {
     private String categoryDisplayName;
     private int viewCount;
     private int likeCount;
+    private int commentCount;
     private boolean blinded;
     private BoardPermissionLevel readPermission;
     private BoardPermissionLevel writePermission;
@@ -0,0 +1,45 @@
+package com.matchhub.catconnect.domain.board.model.dto;
+
+import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 DTO
+ * 본문과 댓글/좋아요 목록 없이 목록 화면에 필요한 컬럼만 담음
+ * BoardRepository의 생성자 프로젝션 쿼리로 한 번에 조회함
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardSummaryDTO {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime createdDttm;
+    private BoardCategory category;
+    private String categoryDisplayName;
+    private int viewCount;
+    private int likeCount;
+    private int commentCount;
+    private boolean blinded;
+    private String thumbnailUrl;
+
+    public BoardSummaryDTO(Long id, String title, String author, LocalDateTime createdDttm, BoardCategory category,
+                           int viewCount, int likeCount, int commentCount, boolean blinded, String thumbnailUrl) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdDttm = createdDttm;
+        this.category = category;
+        this.categoryDisplayName = category.getDisplayName();
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.blinded = blinded;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
@@ -1,6 +1,7 @@
 package com.matchhub.catconnect.domain.board.model.entity;
 
 import com.matchhub.catconnect.common.model.entity.BaseEntity;
+import com.matchhub.catconnect.common.search.SearchIndexEntityListener;
 import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
 import com.matchhub.catconnect.domain.board.model.enums.BoardPermissionLevel;
 import com.matchhub.catconnect.domain.comment.model.entity.Comment;
@@ -17,7 +18,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tb_board")
+@Table(name = "tb_board", indexes = {
+        @Index(name = "idx_board_created", columnList = "createdDttm DESC, id DESC"),
+        @Index(name = "idx_board_category_created", columnList = "category, createdDttm DESC, id DESC")
+})
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,6 +53,17 @@ public class Board extends BaseEntity {
     @Column(nullable = false)
     private int viewCount = 0;
 
+    // 목록 조회용 비정규화 카운터 (엔티티 저장 시에는 갱신하지 않고 BoardRepository의 원자적 UPDATE로만 증감)
+    @Column(nullable = false, updatable = false)
+    private int likeCount = 0;
+
+    @Column(nullable = false, updatable = false)
+    private int commentCount = 0;
+
+    // 목록 썸네일용 본문 첫 번째 이미지 경로
+    @Column(length = 1000)
+    private String thumbnailUrl;
+
     @Column(nullable = false)
     private boolean blinded = false;
 
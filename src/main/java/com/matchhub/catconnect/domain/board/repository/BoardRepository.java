@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.domain.board.repository;
 
+import com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO;
 import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +30,88 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @EntityGraph(attributePaths = {"comments", "likes"})
     Optional<Board> findById(Long id);
 
+    /**
+     * 게시글 목록을 요약 프로젝션으로 조회함
+     * 본문과 연관 컬렉션을 로딩하지 않고 목록에 필요한 컬럼만 한 번의 쿼리로 가져옴
+     * @param pageable 페이지 정보 (페이지 번호, 크기, 정렬)
+     * @return 페이지네이션된 게시글 요약 목록
+     */
+    @Query(value = "SELECT new com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO(" +
+            "b.id, b.title, b.author, b.createdDttm, b.category, b.viewCount, b.likeCount, b.commentCount, " +
+            "b.blinded, b.thumbnailUrl) FROM Board b",
+            countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * 카테고리별 게시글 목록을 요약 프로젝션으로 조회함
+     * @param category 게시판 카테고리
+     * @param pageable 페이지 정보 (페이지 번호, 크기, 정렬)
+     * @return 페이지네이션된 게시글 요약 목록
+     */
+    @Query(value = "SELECT new com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO(" +
+            "b.id, b.title, b.author, b.createdDttm, b.category, b.viewCount, b.likeCount, b.commentCount, " +
+            "b.blinded, b.thumbnailUrl) FROM Board b WHERE b.category = :category",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.category = :category")
+    Page<BoardSummaryDTO> findSummariesByCategory(@Param("category") BoardCategory category, Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 요약을 최신순으로 조회함 (키셋 페이지네이션)
+     * (createdDttm, id) 인덱스를 타므로 OFFSET/COUNT 없이 페이지 깊이와 무관하게 일정한 비용으로 조회됨
+     * @param createdDttm 커서 작성일시
+     * @param id 커서 게시글 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO(" +
+            "b.id, b.title, b.author, b.createdDttm, b.category, b.viewCount, b.likeCount, b.commentCount, " +
+            "b.blinded, b.thumbnailUrl) FROM Board b " +
+            "WHERE b.createdDttm < :createdDttm OR (b.createdDttm = :createdDttm AND b.id < :id) " +
+            "ORDER BY b.createdDttm DESC, b.id DESC")
+    List<BoardSummaryDTO> findSummariesAfter(@Param("createdDttm") LocalDateTime createdDttm,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    /**
+     * 커서 이후의 카테고리별 게시글 요약을 최신순으로 조회함 (키셋 페이지네이션)
+     * @param category 게시판 카테고리
+     * @param createdDttm 커서 작성일시
+     * @param id 커서 게시글 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO(" +
+            "b.id, b.title, b.author, b.createdDttm, b.category, b.viewCount, b.likeCount, b.commentCount, " +
+            "b.blinded, b.thumbnailUrl) FROM Board b " +
+            "WHERE b.category = :category AND " +
+            "(b.createdDttm < :createdDttm OR (b.createdDttm = :createdDttm AND b.id < :id)) " +
+            "ORDER BY b.createdDttm DESC, b.id DESC")
+    List<BoardSummaryDTO> findSummariesByCategoryAfter(@Param("category") BoardCategory category,
+                                                       @Param("createdDttm") LocalDateTime createdDttm,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    long countByCategory(BoardCategory category);
+
+    /**
+     * 좋아요 수를 원자적으로 증감함
+     * @param boardId 게시글 ID
+     * @param delta 증감량
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.likeCount = b.likeCount + :delta WHERE b.id = :boardId")
+    int adjustLikeCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수를 원자적으로 증감함
+     * @param boardId 게시글 ID
+     * @param delta 증감량
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :boardId")
+    int adjustCommentCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
     /**
      * 제목, 내용, 작성자에서 키워드를 검색함
      * 대소문자 구분 없이 검색함
@@ -53,6 +137,32 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Board> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 키워드 검색 결과를 ID 내림차순 키셋으로 조회함 (검색 색인 미사용 시 커서 검색 대체 경로)
+     * @param keyword 검색 키워드
+     * @param id 이 ID보다 작은 게시글만 조회
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 검색 결과 목록
+     */
+    @Query("SELECT b FROM Board b WHERE b.id < :id AND (" +
+            "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY b.id DESC")
+    List<Board> searchByKeywordBeforeId(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 본문에 인라인(data:) 이미지가 남아 있는 게시글 ID를 ID 순 청크로 조회 (인라인 이미지 이전 작업용)
+     * @param id 이 ID보다 큰 게시글만 조회
+     * @param pageable 조회 개수 제한
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.id > :id AND b.content LIKE '%data:image/%' ORDER BY b.id ASC")
+    List<Long> findIdsWithInlineImagesAfter(@Param("id") Long id, Pageable pageable);
+
+    // 검색 색인 구축용 ID 순 청크 조회
+    List<Board> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     Page<Board> findByAuthor(String author, Pageable pageable);
 
     Page<Board> findByCategory(BoardCategory category, Pageable pageable);
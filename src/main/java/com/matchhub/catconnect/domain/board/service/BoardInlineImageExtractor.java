@@ -0,0 +1,182 @@
+package com.matchhub.catconnect.domain.board.service;
+
+import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
+import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.service.FileService;
+import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.exception.Domain;
+import com.matchhub.catconnect.global.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문의 인라인 data: URI 이미지를 파일 저장소로 분리
+ *
+ * 에디터에 붙여넣은 스크린샷은 base64 data: URI로 본문에 들어와 수 MB짜리 본문이 되므로,
+ * 저장 전에 각 이미지를 디코딩하여 FileType.BOARD 파일로 저장하고 src를 다운로드 URL로 바꿈
+ * 디코딩은 본문 문자열의 해당 구간을 그대로 읽는 스트림으로 처리하여 base64 문자열이나 이미지 바이트를 따로 복사하지 않음
+ * 허용되지 않는 형식이거나 base64가 아닌 data: URI는 src를 비움
+ */
+@Component
+public class BoardInlineImageExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardInlineImageExtractor.class);
+    private static final String DATA_PREFIX = "data:";
+    // data: URI의 헤더 부분만 매칭 (본문 데이터는 정규식 대신 따옴표 위치로 찾음)
+    private static final Pattern DATA_SRC_PATTERN = Pattern.compile(
+            "src=([\"'])data:([^;,\"']*)((?:;[^;,\"']*)*),", Pattern.CASE_INSENSITIVE);
+
+    private final FileService fileService;
+    private final long maxBytes;
+
+    public BoardInlineImageExtractor(FileService fileService,
+                                     @Value("${file.max-size:10MB}") DataSize maxSize) {
+        this.fileService = fileService;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * 본문에 인라인 이미지가 있는지 여부
+     */
+    public boolean hasInlineImages(String html) {
+        return html != null && html.contains(DATA_PREFIX) && DATA_SRC_PATTERN.matcher(html).find();
+    }
+
+    /**
+     * 본문의 data: URI 이미지를 파일로 저장하고 src를 다운로드 URL로 바꾼 본문 반환 (호출자 트랜잭션 안에서 호출)
+     * @param html sanitize된 본문
+     * @param boardId 게시글 ID (새 게시글이면 null)
+     * @param author 작성자 (업로드 사용자로 기록)
+     * @return 인라인 이미지가 없으면 원본 그대로
+     */
+    public String extract(String html, Long boardId, String author) {
+        if (html == null || !html.contains(DATA_PREFIX)) {
+            return html;
+        }
+
+        Matcher matcher = DATA_SRC_PATTERN.matcher(html);
+        StringBuilder result = null;
+        int last = 0;
+        int extracted = 0;
+        while (matcher.find(last)) {
+            char quote = matcher.group(1).charAt(0);
+            int dataStart = matcher.end();
+            int dataEnd = html.indexOf(quote, dataStart);
+            if (dataEnd < 0) {
+                break;
+            }
+            if (result == null) {
+                result = new StringBuilder(html.length() - (dataEnd - dataStart));
+            }
+
+            String url = store(html, dataStart, dataEnd, matcher.group(2).trim().toLowerCase(),
+                    matcher.group(3).toLowerCase().contains(";base64"), boardId, author);
+            result.append(html, last, matcher.start())
+                    .append("src=").append(quote).append(url).append(quote);
+            last = dataEnd + 1;
+            if (!url.isEmpty()) {
+                extracted++;
+            }
+        }
+        if (result == null) {
+            return html;
+        }
+        result.append(html, last, html.length());
+        log.debug("게시글 인라인 이미지 분리: boardId={}, extracted={}, length={}→{}",
+                boardId, extracted, html.length(), result.length());
+        return result.toString();
+    }
+
+    /**
+     * data: URI 한 개를 파일로 저장
+     * @return 다운로드 URL (저장할 수 없는 data: URI면 빈 문자열)
+     */
+    private String store(String html, int start, int end, String mimeType, boolean base64,
+                         Long boardId, String author) {
+        String extension = extensionOf(mimeType);
+        if (extension == null || !base64 || start == end || !isBase64(html, start, end)) {
+            log.debug("인라인 이미지 제거 (지원하지 않는 data URI): mimeType={}, base64={}", mimeType, base64);
+            return "";
+        }
+        // 디코딩 전 base64 길이로 크기 검사 (4글자 → 3바이트)
+        long decodedSize = (long) (end - start) / 4 * 3;
+        if (decodedSize > maxBytes) {
+            throw new AppException(Domain.BOARD, ErrorCode.FILE_SIZE_EXCEEDED,
+                    "본문 이미지 크기가 제한을 초과했습니다.");
+        }
+
+        InputStream content = Base64.getMimeDecoder().wrap(new CharRangeInputStream(html, start, end));
+        // 비표준 image/jpg는 파일 서비스 허용 목록에 맞춰 image/jpeg로 저장
+        String contentType = "image/jpg".equals(mimeType) ? "image/jpeg" : mimeType;
+        FileResponseDTO file = fileService.storeImage(content, "inline-image." + extension, contentType,
+                FileType.BOARD, boardId, author);
+        return file.getDownloadUrl();
+    }
+
+    private static String extensionOf(String mimeType) {
+        return switch (mimeType) {
+            case "image/png" -> "png";
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/gif" -> "gif";
+            case "image/webp" -> "webp";
+            default -> null;
+        };
+    }
+
+    // base64 알파벳과 공백만 포함하는지 검사 (디코딩 중 오류로 업로드 실패 처리되지 않도록 미리 확인)
+    private static boolean isBase64(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '+' || c == '/' || c == '=' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열 구간을 복사 없이 ASCII 바이트로 읽는 스트림
+     */
+    private static final class CharRangeInputStream extends InputStream {
+
+        private final String text;
+        private final int end;
+        private int position;
+
+        CharRangeInputStream(String text, int start, int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            return position < end ? text.charAt(position++) : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int count = Math.min(length, end - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) text.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
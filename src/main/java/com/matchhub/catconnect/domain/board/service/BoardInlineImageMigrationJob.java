@@ -0,0 +1,82 @@
+package com.matchhub.catconnect.domain.board.service;
+
+import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 게시글 본문의 인라인(data:) 이미지를 파일 저장소로 옮기는 일괄 이전 작업
+ *
+ * 애플리케이션 기동 후 별도 스레드에서 data: 이미지가 남아 있는 게시글을 ID 순 청크로 찾아
+ * 게시글 하나당 트랜잭션 하나로 이전함 (실패한 게시글은 로그만 남기고 다음 게시글로 진행)
+ * 새로 작성/수정되는 게시글은 BoardService에서 저장 시점에 분리하므로 이 작업은 기존 데이터만 대상으로 함
+ */
+@Component
+public class BoardInlineImageMigrationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardInlineImageMigrationJob.class);
+
+    private final BoardRepository boardRepository;
+    private final BoardService boardService;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public BoardInlineImageMigrationJob(BoardRepository boardRepository,
+                                        BoardService boardService,
+                                        @Value("${app.board.inline-image-migration.enabled:true}") boolean enabled,
+                                        @Value("${app.board.inline-image-migration.batch-size:50}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.boardService = boardService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::migrate, "board-inline-image-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 인라인 이미지가 남아 있는 모든 게시글 이전
+     * @return 본문이 바뀐 게시글 수
+     */
+    public int migrate() {
+        int migrated = 0;
+        int failed = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            ids = boardRepository.findIdsWithInlineImagesAfter(lastId, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                try {
+                    if (boardService.migrateInlineImages(id)) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("게시글 인라인 이미지 이전 실패: id={}, error={}", id, e.getMessage());
+                }
+            }
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+
+        if (migrated > 0 || failed > 0) {
+            log.info("게시글 인라인 이미지 이전 완료: migrated={}, failed={}", migrated, failed);
+        }
+        return migrated;
+    }
+}
@@ -1,7 +1,12 @@
 package com.matchhub.catconnect.domain.board.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.PageCursor;
+import com.matchhub.catconnect.common.search.SearchDocumentType;
+import com.matchhub.catconnect.common.search.SearchIndex;
 import com.matchhub.catconnect.domain.board.model.dto.BoardRequestDTO;
 import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
+import com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO;
 import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
 import com.matchhub.catconnect.domain.board.model.enums.BoardPermissionLevel;
@@ -11,12 +16,14 @@ import com.matchhub.catconnect.domain.like.model.dto.LikeResponseDTO;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
+import com.matchhub.catconnect.global.util.ApproximateCountCache;
 import com.matchhub.catconnect.global.util.HtmlSanitizer;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,7 +31,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,15 +44,28 @@ import java.util.stream.Collectors;
 public class BoardService {
 
     private static final Logger log = LoggerFactory.getLogger(BoardService.class);
+    // 본문 첫 번째 img 태그의 src 추출용 패턴 (목록 썸네일)
+    private static final Pattern FIRST_IMAGE_PATTERN = Pattern.compile("<img[^>]+src=[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+    private static final int THUMBNAIL_URL_MAX_LENGTH = 1000;
     private final BoardRepository boardRepository;
     private final Validator validator;
     private final HtmlSanitizer htmlSanitizer;
+    private final BoardViewCountBuffer viewCountBuffer;
+    private final ApproximateCountCache countCache;
+    private final SearchIndex searchIndex;
+    private final BoardInlineImageExtractor inlineImageExtractor;
 
     // 생성자 주입 방식 (Spring이 의존 객체를 자동으로 넣어줌)
-    public BoardService(BoardRepository boardRepository, Validator validator, HtmlSanitizer htmlSanitizer) {
+    public BoardService(BoardRepository boardRepository, Validator validator, HtmlSanitizer htmlSanitizer,
+                        BoardViewCountBuffer viewCountBuffer, ApproximateCountCache countCache,
+                        SearchIndex searchIndex, BoardInlineImageExtractor inlineImageExtractor) {
         this.boardRepository = boardRepository;
         this.validator = validator;
         this.htmlSanitizer = htmlSanitizer;
+        this.viewCountBuffer = viewCountBuffer;
+        this.countCache = countCache;
+        this.searchIndex = searchIndex;
+        this.inlineImageExtractor = inlineImageExtractor;
     }
 
     // 전체 게시글 조회
@@ -55,22 +80,46 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
-    // 전체 게시글 조회 (페이지네이션)
+    // 전체 게시글 조회 (페이지네이션, 목록용 요약 프로젝션)
     @Transactional(readOnly = true)
-    public Page<BoardResponseDTO> getAllBoards(int page, int size) {
+    public Page<BoardSummaryDTO> getAllBoards(int page, int size) {
         log.debug("페이지네이션 게시글 조회 요청: page={}, size={}", page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDttm").descending());
-        Page<Board> boardPage = boardRepository.findAll(pageable);
-        return boardPage.map(this::toResponseDTO);
+        Page<BoardSummaryDTO> boardPage = boardRepository.findSummaries(pageable);
+        boardPage.forEach(this::applyPendingViewCount);
+        return boardPage;
     }
 
-    // 카테고리별 게시글 조회 (페이지네이션)
+    // 카테고리별 게시글 조회 (페이지네이션, 목록용 요약 프로젝션)
     @Transactional(readOnly = true)
-    public Page<BoardResponseDTO> getBoardsByCategory(BoardCategory category, int page, int size) {
+    public Page<BoardSummaryDTO> getBoardsByCategory(BoardCategory category, int page, int size) {
         log.debug("카테고리별 게시글 조회 요청: category={}, page={}, size={}", category, page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDttm").descending());
-        Page<Board> boardPage = boardRepository.findByCategory(category, pageable);
-        return boardPage.map(this::toResponseDTO);
+        Page<BoardSummaryDTO> boardPage = boardRepository.findSummariesByCategory(category, pageable);
+        boardPage.forEach(this::applyPendingViewCount);
+        return boardPage;
+    }
+
+    // 게시글 목록 커서 조회 (키셋 페이지네이션, 카테고리 필터 선택)
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<BoardSummaryDTO> getBoardSlice(BoardCategory category, String after, int size, boolean includeTotal) {
+        log.debug("커서 게시글 조회 요청: category={}, after={}, size={}", category, after, size);
+        size = CursorSliceDTO.clampSize(size);
+        PageCursor cursor = PageCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<BoardSummaryDTO> rows = category != null
+                ? boardRepository.findSummariesByCategoryAfter(category, cursor.createdDttm(), cursor.id(), limit)
+                : boardRepository.findSummariesAfter(cursor.createdDttm(), cursor.id(), limit);
+        rows.forEach(this::applyPendingViewCount);
+        Long total = null;
+        if (includeTotal) {
+            total = category != null
+                    ? countCache.get("board:" + category, () -> boardRepository.countByCategory(category))
+                    : countCache.get("board", boardRepository::count);
+        }
+        return CursorSliceDTO.of(rows, size, row -> row,
+                row -> new PageCursor(row.getCreatedDttm(), row.getId()), total);
     }
 
     // 게시글 상세 조회 (댓글 포함)
@@ -85,16 +134,16 @@ public class BoardService {
     }
 
     // 게시글 상세 조회 (조회수 증가)
-    @Transactional
+    // 조회수는 BoardViewCountBuffer에 누적 후 주기적으로 배치 반영하므로 읽기 전용 트랜잭션으로 처리
+    @Transactional(readOnly = true)
     public BoardResponseDTO getBoardByIdWithViewCount(Long id) {
         log.debug("게시글 상세 조회 요청 (조회수 증가): id={}", id);
         // 게시글 존재 확인
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new AppException(Domain.BOARD, ErrorCode.BOARD_NOT_FOUND));
-        // 조회수 증가
-        board.incrementViewCount();
-        boardRepository.save(board);
-        // Entity를 DTO로 변환
+        // 조회수 증가 (메모리 버퍼에 누적)
+        viewCountBuffer.increment(id);
+        // Entity를 DTO로 변환 (대기 중인 증가분 포함)
         return toResponseDTO(board);
     }
 
@@ -102,11 +151,12 @@ public class BoardService {
     @Transactional
     public BoardResponseDTO createBoard(BoardRequestDTO requestDTO, String author) {
         log.debug("게시글 생성 요청: author={}", author);
-        // HTML 콘텐츠 XSS 방어를 위한 sanitize
-        String sanitizedContent = htmlSanitizer.sanitize(requestDTO.getContent());
+        // HTML 콘텐츠 XSS 방어를 위한 sanitize 후 인라인(data:) 이미지를 파일로 분리
+        String sanitizedContent = inlineImageExtractor.extract(htmlSanitizer.sanitize(requestDTO.getContent()), null, author);
         // 게시글 엔티티 생성 및 저장
         BoardCategory category = requestDTO.getCategory() != null ? requestDTO.getCategory() : BoardCategory.FREE;
         Board board = new Board(requestDTO.getTitle(), sanitizedContent, author, category);
+        board.setThumbnailUrl(extractThumbnailUrl(sanitizedContent));
         // 엔티티 유효성 검증
         Set<ConstraintViolation<Board>> violations = validator.validate(board);
         if (!violations.isEmpty()) {
@@ -134,10 +184,11 @@ public class BoardService {
             log.warn("게시글 수정 권한 없음: id={}, author={}", id, author);
             throw new AppException(Domain.BOARD, ErrorCode.BOARD_UNAUTHORIZED);
         }
-        // HTML 콘텐츠 XSS 방어를 위한 sanitize
-        String sanitizedContent = htmlSanitizer.sanitize(requestDTO.getContent());
+        // HTML 콘텐츠 XSS 방어를 위한 sanitize 후 인라인(data:) 이미지를 파일로 분리
+        String sanitizedContent = inlineImageExtractor.extract(htmlSanitizer.sanitize(requestDTO.getContent()), id, author);
         // 게시글 정보 수정
         board.update(requestDTO.getTitle(), sanitizedContent);
+        board.setThumbnailUrl(extractThumbnailUrl(sanitizedContent));
         // 엔티티 유효성 검증
         Set<ConstraintViolation<Board>> violations = validator.validate(board);
         if (!violations.isEmpty()) {
@@ -153,6 +204,24 @@ public class BoardService {
         return toResponseDTO(board);
     }
 
+    /**
+     * 기존 게시글 본문의 인라인(data:) 이미지를 파일로 분리 (일괄 이전 작업용)
+     * @param id 게시글 ID
+     * @return 본문이 바뀌었으면 true
+     */
+    @Transactional
+    public boolean migrateInlineImages(Long id) {
+        Board board = boardRepository.findById(id).orElse(null);
+        if (board == null || !inlineImageExtractor.hasInlineImages(board.getContent())) {
+            return false;
+        }
+        String content = inlineImageExtractor.extract(board.getContent(), id, board.getAuthor());
+        board.setContent(content);
+        board.setThumbnailUrl(extractThumbnailUrl(content));
+        log.debug("게시글 인라인 이미지 이전 완료: id={}", id);
+        return true;
+    }
+
     // 게시글 여러 개 삭제
     @Transactional
     public void deleteBoards(List<Long> ids) {
@@ -170,6 +239,7 @@ public class BoardService {
             }
             // JPA를 통해 엔티티 삭제, cascade로 관련 댓글/좋아요 삭제
             boardRepository.deleteById(id);
+            viewCountBuffer.discard(id);
         }
         log.debug("게시글 다중 삭제 완료: count={}", ids.size());
     }
@@ -184,6 +254,7 @@ public class BoardService {
         }
         // 게시글 삭제
         boardRepository.deleteById(id);
+        viewCountBuffer.discard(id);
         log.debug("게시글 개별 삭제 완료: id={}", id);
     }
 
@@ -201,6 +272,7 @@ public class BoardService {
         }
         // 게시글 삭제
         boardRepository.delete(board);
+        viewCountBuffer.discard(id);
         log.debug("게시글 삭제 완료: id={}", id);
     }
 
@@ -208,8 +280,10 @@ public class BoardService {
     @Transactional(readOnly = true)
     public List<BoardResponseDTO> searchBoards(String keyword) {
         log.debug("게시글 검색 요청: keyword={}", keyword);
-        // Repository에서 검색 실행
-        List<Board> boards = boardRepository.searchByKeyword(keyword);
+        // 검색 색인으로 검색할 수 있으면 색인에서, 아니면 (구축 전/두 글자 미만 키워드) Repository LIKE 검색으로 조회
+        List<Board> boards = searchIndex.canSearch(keyword)
+                ? findAllInOrder(searchIndex.findIds(SearchDocumentType.BOARD, keyword))
+                : boardRepository.searchByKeyword(keyword);
         // Entity 리스트를 DTO 리스트로 변환
         return boards.stream()
                 .map(this::toResponseDTO)
@@ -221,8 +295,28 @@ public class BoardService {
     public Page<BoardResponseDTO> searchBoards(String keyword, int page, int size) {
         log.debug("페이지네이션 게시글 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDttm").descending());
-        Page<Board> boardPage = boardRepository.searchByKeyword(keyword, pageable);
-        return boardPage.map(this::toResponseDTO);
+        if (!searchIndex.canSearch(keyword)) {
+            Page<Board> boardPage = boardRepository.searchByKeyword(keyword, pageable);
+            return boardPage.map(this::toResponseDTO);
+        }
+        // 색인에서 최신순 ID 목록을 얻어 해당 페이지 분량만 DB에서 조회
+        List<Long> ids = searchIndex.findIds(SearchDocumentType.BOARD, keyword);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + size, ids.size());
+        List<BoardResponseDTO> content = findAllInOrder(ids.subList(from, to)).stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    // ID 목록 순서대로 게시글 조회 (그 사이 삭제된 게시글은 제외)
+    private List<Board> findAllInOrder(List<Long> ids) {
+        Map<Long, Board> boardsById = boardRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        return ids.stream()
+                .map(boardsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // 게시글 읽기 권한 확인
@@ -238,8 +332,30 @@ public class BoardService {
         }
     }
 
-    // Board → BoardResponseDTO 변환 도우미 메서드
-    private BoardResponseDTO toResponseDTO(Board board) {
+    // 목록 DTO에 아직 DB에 반영되지 않은 조회수 증가분을 더함
+    private void applyPendingViewCount(BoardSummaryDTO dto) {
+        dto.setViewCount(dto.getViewCount() + (int) viewCountBuffer.getPending(dto.getId()));
+    }
+
+    // 본문에서 목록 썸네일로 쓸 첫 번째 이미지 경로 추출
+    // data: URI 등 컬럼 길이를 넘는 인라인 이미지는 목록 응답에 싣지 않음
+    private String extractThumbnailUrl(String content) {
+        if (content == null) {
+            return null;
+        }
+        Matcher matcher = FIRST_IMAGE_PATTERN.matcher(content);
+        if (!matcher.find()) {
+            return null;
+        }
+        String src = matcher.group(1);
+        if (src.startsWith("data:") || src.length() > THUMBNAIL_URL_MAX_LENGTH) {
+            return null;
+        }
+        return src;
+    }
+
+    // Board → BoardResponseDTO 변환 도우미 메서드 (벤치마크에서 직접 호출하므로 package-private)
+    BoardResponseDTO toResponseDTO(Board board) {
         BoardResponseDTO dto = new BoardResponseDTO();
         dto.setId(board.getId());
         dto.setTitle(board.getTitle());
@@ -249,12 +365,14 @@ public class BoardService {
         dto.setCategoryDisplayName(board.getCategory().getDisplayName());
         dto.setCreatedDttm(board.getCreatedDttm());
         dto.setUpdatedDttm(board.getUpdatedDttm());
-        dto.setViewCount(board.getViewCount());
+        // DB 값에 아직 반영되지 않은 조회수 증가분을 더해서 반환
+        dto.setViewCount(board.getViewCount() + (int) viewCountBuffer.getPending(board.getId()));
         dto.setBlinded(board.isBlinded());
         dto.setReadPermission(board.getReadPermission());
         dto.setWritePermission(board.getWritePermission());
         dto.setOwnerReadOnly(board.isOwnerReadOnly());
         dto.setLikeCount(board.getLikes().size());
+        dto.setCommentCount(board.getComments().size());
         dto.setComments(board.getComments().stream()
                 .map(comment -> {
                     CommentResponseDTO commentDTO = new CommentResponseDTO();
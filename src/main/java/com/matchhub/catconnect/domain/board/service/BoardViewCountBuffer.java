@@ -0,0 +1,102 @@
+package com.matchhub.catconnect.domain.board.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ *
+ * 상세 조회마다 게시글 행을 UPDATE 하지 않고, 게시글별 카운터에 증가분을 누적한 뒤
+ * 주기적으로(그리고 종료 시) 배치 UPDATE로 한 번에 반영함
+ * 카운터는 ConcurrentHashMap의 버킷 단위 락으로 게시글별로 분산되어 인기 게시글끼리만 경합함
+ */
+@Component
+public class BoardViewCountBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardViewCountBuffer.class);
+    private static final String FLUSH_SQL = "UPDATE tb_board SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID → 아직 DB에 반영되지 않은 조회수 증가분
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public BoardViewCountBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     * @param boardId 게시글 ID
+     */
+    public void increment(Long boardId) {
+        pending.merge(boardId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 조회
+     * @param boardId 게시글 ID
+     * @return 대기 중인 증가분 (없으면 0)
+     */
+    public long getPending(Long boardId) {
+        if (boardId == null) {
+            return 0L;
+        }
+        return pending.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 삭제된 게시글의 대기 중인 증가분 폐기
+     * @param boardId 게시글 ID
+     */
+    public void discard(Long boardId) {
+        pending.remove(boardId);
+    }
+
+    /**
+     * 누적된 조회수 증가분을 배치 UPDATE로 DB에 반영
+     * 반영 실패 시 증가분을 다시 버퍼에 되돌려 다음 주기에 재시도함
+     */
+    @Scheduled(fixedDelayString = "${app.board.view-count-flush-interval-ms:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 키별로 원자적으로 꺼내서 flush 도중 들어온 증가분은 다음 주기로 넘김
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long boardId : pending.keySet()) {
+            Long delta = pending.remove(boardId);
+            if (delta != null && delta > 0) {
+                batchArgs.add(new Object[]{delta, boardId});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("조회수 flush 완료: boards={}", batchArgs.size());
+        } catch (Exception e) {
+            log.warn("조회수 flush 실패, 다음 주기에 재시도: boards={}, error={}", batchArgs.size(), e.getMessage());
+            for (Object[] args : batchArgs) {
+                pending.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.debug("종료 전 조회수 flush: boards={}", pending.size());
+        flush();
+    }
+}
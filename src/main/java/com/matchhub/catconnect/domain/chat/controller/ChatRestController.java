@@ -1,7 +1,10 @@
 package com.matchhub.catconnect.domain.chat.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatHistoryResponseDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatSyncResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.CreateGroupRoomRequestDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.CreateRoomRequestDTO;
 import com.matchhub.catconnect.domain.chat.service.ChatMessageService;
 import com.matchhub.catconnect.domain.chat.service.ChatRoomService;
@@ -33,6 +36,16 @@ public class ChatRestController {
                 .body(Response.success(room, "채팅방이 생성되었습니다."));
     }
 
+    @PostMapping("/rooms/group")
+    public ResponseEntity<Response<ChatRoomResponseDTO>> createGroupRoom(
+            @Valid @RequestBody CreateGroupRoomRequestDTO request,
+            Authentication authentication) {
+        String username = authentication.getName();
+        ChatRoomResponseDTO room = chatRoomService.createGroupRoom(username, request.getName(), request.getMemberIds());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Response.success(room, "그룹 채팅방이 생성되었습니다."));
+    }
+
     @GetMapping("/rooms")
     public ResponseEntity<Response<List<ChatRoomResponseDTO>>> getRoomList(Authentication authentication) {
         String username = authentication.getName();
@@ -40,6 +53,25 @@ public class ChatRestController {
         return ResponseEntity.ok(Response.success(rooms));
     }
 
+    @GetMapping(value = "/rooms", params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<ChatRoomResponseDTO>>> getRoomSlice(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        String username = authentication.getName();
+        CursorSliceDTO<ChatRoomResponseDTO> rooms = chatRoomService.getRoomSlice(username, after, size);
+        return ResponseEntity.ok(Response.success(rooms));
+    }
+
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<Response<ChatRoomResponseDTO>> getRoom(
+            @PathVariable Long roomId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        ChatRoomResponseDTO room = chatRoomService.getRoom(username, roomId);
+        return ResponseEntity.ok(Response.success(room));
+    }
+
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<Response<ChatHistoryResponseDTO>> getMessages(
             @PathVariable Long roomId,
@@ -51,6 +83,15 @@ public class ChatRestController {
         return ResponseEntity.ok(Response.success(history));
     }
 
+    @GetMapping("/sync")
+    public ResponseEntity<Response<ChatSyncResponseDTO>> sync(
+            @RequestParam(defaultValue = "") String since,
+            Authentication authentication) {
+        String username = authentication.getName();
+        ChatSyncResponseDTO sync = chatMessageService.sync(username, since);
+        return ResponseEntity.ok(Response.success(sync));
+    }
+
     @PostMapping("/rooms/{roomId}/read")
     public ResponseEntity<Response<Void>> markAsRead(
             @PathVariable Long roomId,
@@ -13,6 +13,7 @@ public class ChatMessageResponseDTO {
 
     private Long messageId;
     private Long roomId;
+    private Long seq;
     private Long senderId;
     private String senderName;
     private String senderProfileImage;
@@ -26,6 +27,7 @@ public class ChatMessageResponseDTO {
         return ChatMessageResponseDTO.builder()
                 .messageId(message.getId())
                 .roomId(message.getChatRoom().getId())
+                .seq(message.getSeq())
                 .senderId(message.getSender() != null ? message.getSender().getId() : null)
                 .senderName(message.getSender() != null ? message.getSender().getUsername() : null)
                 .senderProfileImage(message.getSender() != null ? message.getSender().getProfileImageUrl() : null)
@@ -41,6 +43,7 @@ public class ChatMessageResponseDTO {
         return ChatMessageResponseDTO.builder()
                 .messageId(message.getId())
                 .roomId(message.getChatRoom().getId())
+                .seq(message.getSeq())
                 .senderId(message.getSender() != null ? message.getSender().getId() : null)
                 .senderName(message.getSender() != null ? message.getSender().getUsername() : null)
                 .senderProfileImage(message.getSender() != null ? message.getSender().getProfileImageUrl() : null)
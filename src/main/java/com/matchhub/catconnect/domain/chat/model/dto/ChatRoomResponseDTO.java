@@ -1,22 +1,49 @@
 package com.matchhub.catconnect.domain.chat.model.dto;
 
 import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 채팅방 목록/단건 응답 DTO
+ * 목록은 ChatRoomParticipantRepository의 생성자 프로젝션 쿼리로 한 번에 조회함
+ * 그룹 채팅방은 상대방(otherUser) 대신 채팅방 이름(name)을 내려줌
+ */
 @Getter
 @Builder
+@AllArgsConstructor
 public class ChatRoomResponseDTO {
 
     private Long roomId;
     private RoomType roomType;
+    private String name;
     private OtherUserDTO otherUser;
     private String lastMessage;
     private Long unreadCount;
     private LocalDateTime updatedAt;
 
+    public ChatRoomResponseDTO(Long roomId, RoomType roomType, String name, String lastMessage, LocalDateTime updatedAt, int unreadCount,
+                               Long otherUserId, String otherUsername, String otherProfileImageUrl, LocalDateTime otherDeletedAt) {
+        this.roomId = roomId;
+        this.roomType = roomType;
+        this.name = name;
+        this.lastMessage = lastMessage;
+        this.updatedAt = updatedAt;
+        this.unreadCount = (long) unreadCount;
+        if (otherUserId != null) {
+            boolean deleted = otherDeletedAt != null;
+            this.otherUser = OtherUserDTO.builder()
+                    .id(otherUserId)
+                    .username(deleted ? "탈퇴한 사용자" : otherUsername)
+                    .profileImageUrl(otherProfileImageUrl)
+                    .deleted(deleted)
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     public static class OtherUserDTO {
@@ -0,0 +1,9 @@
+package com.matchhub.catconnect.domain.chat.model.dto;
+
+/**
+ * 채팅방과 마지막 메시지 순번
+ * @param roomId 채팅방 ID
+ * @param lastSeq 마지막으로 발급한 메시지 순번 (메시지가 없으면 0)
+ */
+public record ChatRoomSeqDTO(Long roomId, Long lastSeq) {
+}
@@ -0,0 +1,27 @@
+package com.matchhub.catconnect.domain.chat.model.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 동기화 응답
+ * 클라이언트가 가진 순번보다 새 메시지가 있는 채팅방만 포함함
+ */
+@Getter
+@Builder
+public class ChatSyncResponseDTO {
+
+    private List<RoomSync> rooms;
+
+    @Getter
+    @Builder
+    public static class RoomSync {
+
+        private Long roomId;
+        private Long lastSeq;                          // 채팅방의 마지막 메시지 순번
+        private List<ChatMessageResponseDTO> messages; // 요청한 순번 이후의 메시지 (오래된 것부터, 요청에 없던 채팅방은 비어 있음)
+        private boolean hasMore;                       // 한 번에 돌려주지 못한 메시지가 남았는지 여부
+    }
+}
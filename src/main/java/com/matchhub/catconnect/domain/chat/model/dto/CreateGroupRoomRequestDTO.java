@@ -0,0 +1,21 @@
+package com.matchhub.catconnect.domain.chat.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CreateGroupRoomRequestDTO {
+
+    @NotBlank(message = "채팅방 이름은 필수입니다.")
+    @Size(max = 50, message = "채팅방 이름은 50자 이내여야 합니다.")
+    private String name;
+
+    @NotEmpty(message = "초대할 사용자를 선택해주세요.")
+    private List<Long> memberIds;
+}
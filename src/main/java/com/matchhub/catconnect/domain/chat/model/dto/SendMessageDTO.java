@@ -3,8 +3,10 @@ package com.matchhub.catconnect.domain.chat.model.dto;
 import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
+@Setter
 @NoArgsConstructor
 public class SendMessageDTO {
 
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_messages", indexes = {
-        @Index(name = "idx_chat_messages_room_created", columnList = "chat_room_id, id DESC")
+        @Index(name = "idx_chat_messages_room_created", columnList = "chat_room_id, id DESC"),
+        @Index(name = "idx_chat_messages_room_seq", columnList = "chat_room_id, seq", unique = true)
 })
 @Getter
 @NoArgsConstructor
@@ -28,6 +29,8 @@ public class ChatMessage {
     @JoinColumn(name = "sender_id")
     private User sender;
 
+    private Long seq; // 채팅방 내 순번 (1부터 빈틈 없이 증가, 순번 도입 전 메시지는 null)
+
     @Column(columnDefinition = "TEXT")
     private String content;
 
@@ -37,6 +40,9 @@ public class ChatMessage {
 
     private Long fileId;
 
+    @Column(length = 300)
+    private String fileUrl; // 첨부 파일 다운로드 URL (전송 시점에 기록하며, 이전에 저장된 메시지는 null)
+
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
@@ -48,15 +54,18 @@ public class ChatMessage {
         this.createdDttm = LocalDateTime.now();
     }
 
-    public ChatMessage(ChatRoom chatRoom, User sender, String content, MessageType messageType, Long fileId) {
+    public ChatMessage(ChatRoom chatRoom, User sender, Long seq, String content, MessageType messageType,
+                       Long fileId, String fileUrl) {
         this.chatRoom = chatRoom;
         this.sender = sender;
+        this.seq = seq;
         this.content = content;
         this.messageType = messageType;
         this.fileId = fileId;
+        this.fileUrl = fileUrl;
     }
 
-    public static ChatMessage systemMessage(ChatRoom chatRoom, String content) {
-        return new ChatMessage(chatRoom, null, content, MessageType.SYSTEM, null);
+    public static ChatMessage systemMessage(ChatRoom chatRoom, Long seq, String content) {
+        return new ChatMessage(chatRoom, null, seq, content, MessageType.SYSTEM, null, null);
     }
 }
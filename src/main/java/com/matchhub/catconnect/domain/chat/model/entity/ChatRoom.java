@@ -5,12 +5,16 @@ import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+        @Index(name = "idx_chat_rooms_last_message", columnList = "lastMessageAt DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor
 public class ChatRoom extends BaseEntity {
@@ -23,11 +27,36 @@ public class ChatRoom extends BaseEntity {
     @Column(nullable = false, length = 20)
     private RoomType roomType;
 
+    // 그룹 채팅방 이름 (1:1/고객지원 채팅방은 null)
+    @Column(length = 50)
+    private String name;
+
+    // 목록 조회용 마지막 메시지 요약 (ChatRoomRepository.updateLastMessage로만 갱신)
+    @Column(updatable = false)
+    private Long lastMessageId;
+
+    @Column(length = 200, updatable = false)
+    private String lastMessagePreview;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    // 마지막으로 발급한 채팅방 내 메시지 순번 (ChatRoomRepository.reserveSeq로만 증가)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long lastSeq;
+
     @OneToMany(mappedBy = "chatRoom")
     private List<ChatRoomParticipant> participants = new ArrayList<>();
 
     public ChatRoom(RoomType roomType) {
+        this(roomType, null);
+    }
+
+    public ChatRoom(RoomType roomType, String name) {
         this.roomType = roomType;
+        this.name = name;
+        this.lastMessageAt = LocalDateTime.now();
     }
 
     public void addParticipant(ChatRoomParticipant participant) {
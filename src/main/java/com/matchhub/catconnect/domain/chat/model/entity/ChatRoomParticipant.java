@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_room_participants",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"chat_room_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"chat_room_id", "user_id"}),
+        indexes = @Index(name = "idx_chat_participants_user", columnList = "user_id, leftAt"))
 @Getter
 @NoArgsConstructor
 public class ChatRoomParticipant {
@@ -34,6 +35,10 @@ public class ChatRoomParticipant {
     @Column(nullable = false)
     private Long lastReadMessageId = 0L;
 
+    // 안 읽은 메시지 수 (ChatRoomParticipantRepository의 증가/초기화 쿼리로만 갱신)
+    @Column(nullable = false, updatable = false)
+    private int unreadCount = 0;
+
     public ChatRoomParticipant(ChatRoom chatRoom, User user) {
         this.chatRoom = chatRoom;
         this.user = user;
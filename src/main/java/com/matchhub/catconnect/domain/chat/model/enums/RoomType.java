@@ -2,5 +2,6 @@ package com.matchhub.catconnect.domain.chat.model.enums;
 
 public enum RoomType {
     DIRECT,
-    SUPPORT
+    SUPPORT,
+    GROUP
 }
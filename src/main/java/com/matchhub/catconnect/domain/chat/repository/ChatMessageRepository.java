@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -24,6 +25,30 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             "ORDER BY m.id DESC")
     List<ChatMessage> findLatestByRoomId(@Param("roomId") Long roomId, Pageable pageable);
 
+    @Query("SELECT m FROM ChatMessage m " +
+            "LEFT JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :roomId AND m.id > :afterId " +
+            "ORDER BY m.id ASC")
+    List<ChatMessage> findByRoomIdAfter(@Param("roomId") Long roomId,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m " +
+            "LEFT JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :roomId AND m.seq > :afterSeq " +
+            "ORDER BY m.seq ASC")
+    List<ChatMessage> findByRoomIdAfterSeq(@Param("roomId") Long roomId,
+                                           @Param("afterSeq") Long afterSeq,
+                                           Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m " +
+            "LEFT JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :roomId AND m.seq BETWEEN :startSeq AND :endSeq " +
+            "ORDER BY m.seq ASC")
+    List<ChatMessage> findByRoomIdAndSeqBetween(@Param("roomId") Long roomId,
+                                                @Param("startSeq") Long startSeq,
+                                                @Param("endSeq") Long endSeq);
+
     @Query("SELECT COUNT(m) FROM ChatMessage m " +
             "WHERE m.chatRoom.id = :roomId AND m.id > :lastReadMessageId")
     long countUnreadMessages(@Param("roomId") Long roomId,
@@ -35,11 +60,9 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             "ORDER BY m.id DESC")
     List<ChatMessage> findTopByRoomId(@Param("roomId") Long roomId, Pageable pageable);
 
-    @Query("SELECT m FROM ChatMessage m " +
-            "LEFT JOIN FETCH m.sender " +
-            "WHERE m.chatRoom.id = :roomId AND m.id BETWEEN :startId AND :endId " +
-            "ORDER BY m.id ASC")
-    List<ChatMessage> findMessagesInRange(@Param("roomId") Long roomId,
-                                          @Param("startId") Long startId,
-                                          @Param("endId") Long endId);
+    /**
+     * 주어진 파일 중 채팅 메시지가 참조하는 파일 ID 조회 (미참조 파일 정리용)
+     */
+    @Query("SELECT DISTINCT m.fileId FROM ChatMessage m WHERE m.fileId IN :fileIds")
+    List<Long> findReferencedFileIds(@Param("fileIds") Collection<Long> fileIds);
 }
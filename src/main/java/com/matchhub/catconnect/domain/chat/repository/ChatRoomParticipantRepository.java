@@ -1,10 +1,16 @@
 package com.matchhub.catconnect.domain.chat.repository;
 
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO;
 import com.matchhub.catconnect.domain.chat.model.entity.ChatRoomParticipant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +33,65 @@ public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomPar
             "WHERE p.chatRoom.id = :roomId AND p.user.id != :userId AND p.leftAt IS NULL")
     List<ChatRoomParticipant> findOtherParticipants(@Param("roomId") Long roomId,
                                                     @Param("userId") Long userId);
+
+    @Query("SELECT p FROM ChatRoomParticipant p " +
+            "JOIN FETCH p.chatRoom " +
+            "JOIN FETCH p.user " +
+            "WHERE p.chatRoom.id = :roomId")
+    List<ChatRoomParticipant> findAllByRoomIdWithUser(@Param("roomId") Long roomId);
+
+    @Query("SELECT new com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO(" +
+            "r.id, r.roomType, r.name, r.lastMessagePreview, r.lastMessageAt, me.unreadCount, " +
+            "u.id, u.username, u.profileImageUrl, u.deletedAt) " +
+            "FROM ChatRoomParticipant me JOIN me.chatRoom r JOIN me.user mu " +
+            "LEFT JOIN ChatRoomParticipant o ON o.chatRoom = r AND o.user.id <> mu.id AND o.leftAt IS NULL " +
+            "AND r.roomType <> com.matchhub.catconnect.domain.chat.model.enums.RoomType.GROUP " +
+            "LEFT JOIN o.user u " +
+            "WHERE mu.username = :username AND me.leftAt IS NULL " +
+            "AND (r.lastMessageAt < :cursorAt OR (r.lastMessageAt = :cursorAt AND r.id < :cursorId)) " +
+            "ORDER BY r.lastMessageAt DESC, r.id DESC")
+    List<ChatRoomResponseDTO> findRoomSummariesAfter(@Param("username") String username,
+                                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    @Query("SELECT new com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO(" +
+            "r.id, r.roomType, r.name, r.lastMessagePreview, r.lastMessageAt, me.unreadCount, " +
+            "u.id, u.username, u.profileImageUrl, u.deletedAt) " +
+            "FROM ChatRoomParticipant me JOIN me.chatRoom r JOIN me.user mu " +
+            "LEFT JOIN ChatRoomParticipant o ON o.chatRoom = r AND o.user.id <> mu.id AND o.leftAt IS NULL " +
+            "AND r.roomType <> com.matchhub.catconnect.domain.chat.model.enums.RoomType.GROUP " +
+            "LEFT JOIN o.user u " +
+            "WHERE mu.username = :username AND r.id = :roomId")
+    Optional<ChatRoomResponseDTO> findRoomSummary(@Param("username") String username,
+                                                  @Param("roomId") Long roomId);
+
+    @Query("SELECT new com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO(r.id, r.lastSeq) " +
+            "FROM ChatRoomParticipant p JOIN p.chatRoom r " +
+            "WHERE p.user.username = :username AND p.leftAt IS NULL")
+    List<ChatRoomSeqDTO> findActiveRoomSeqs(@Param("username") String username);
+
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET p.unreadCount = p.unreadCount + :delta " +
+            "WHERE p.chatRoom.id = :roomId AND p.leftAt IS NULL AND p.user.id IN :userIds")
+    int incrementUnreadCount(@Param("roomId") Long roomId,
+                             @Param("userIds") Collection<Long> userIds,
+                             @Param("delta") int delta);
+
+    // 제외 대상(배치의 발신자, 차단으로 수신에서 제외된 참여자)을 뺀 활성 참여자 전체의 안 읽은 수 증가 (참여자 수와 관계없이 1회)
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET p.unreadCount = p.unreadCount + :delta " +
+            "WHERE p.chatRoom.id = :roomId AND p.leftAt IS NULL AND p.user.id NOT IN :excludedUserIds")
+    int incrementUnreadCountExcept(@Param("roomId") Long roomId,
+                                   @Param("excludedUserIds") Collection<Long> excludedUserIds,
+                                   @Param("delta") int delta);
+
+    // 읽음 처리한 메시지가 채팅방의 마지막 메시지 이상일 때만 초기화 (그 사이 도착한 메시지는 안 읽음으로 유지)
+    @Modifying
+    @Query("UPDATE ChatRoomParticipant p SET p.unreadCount = 0 " +
+            "WHERE p.chatRoom.id = :roomId AND p.user.id = :userId " +
+            "AND :lastReadMessageId >= (SELECT COALESCE(cr.lastMessageId, 0) FROM ChatRoom cr WHERE cr.id = :roomId)")
+    int resetUnreadCount(@Param("roomId") Long roomId,
+                         @Param("userId") Long userId,
+                         @Param("lastReadMessageId") Long lastReadMessageId);
 }
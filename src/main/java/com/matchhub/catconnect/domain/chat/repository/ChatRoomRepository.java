@@ -1,11 +1,16 @@
 package com.matchhub.catconnect.domain.chat.repository;
 
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO;
 import com.matchhub.catconnect.domain.chat.model.entity.ChatRoom;
 import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
@@ -25,4 +30,27 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             "WHERE cr.roomType = 'SUPPORT' " +
             "AND p.user.id = :userId AND p.leftAt IS NULL")
     Optional<ChatRoom> findSupportRoomByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.lastMessageId = :messageId, cr.lastMessagePreview = :preview, cr.lastMessageAt = :sentAt " +
+            "WHERE cr.id = :roomId AND (cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("roomId") Long roomId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 메시지 순번 count개 예약 (채팅방 행 잠금은 트랜잭션 종료까지 유지되어 순번이 빈틈 없이 발급됨)
+     * 예약 후 findLastSeq/findSeqs로 읽은 값이 예약한 구간의 마지막 순번임
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.lastSeq = cr.lastSeq + :count WHERE cr.id = :roomId")
+    int reserveSeq(@Param("roomId") Long roomId, @Param("count") long count);
+
+    @Query("SELECT cr.lastSeq FROM ChatRoom cr WHERE cr.id = :roomId")
+    long findLastSeq(@Param("roomId") Long roomId);
+
+    @Query("SELECT new com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO(cr.id, cr.lastSeq) " +
+            "FROM ChatRoom cr WHERE cr.id IN :roomIds")
+    List<ChatRoomSeqDTO> findSeqs(@Param("roomIds") Collection<Long> roomIds);
 }
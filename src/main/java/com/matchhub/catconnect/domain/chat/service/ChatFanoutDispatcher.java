@@ -0,0 +1,180 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.domain.inbox.model.dto.ChatInboxUpsert;
+import com.matchhub.catconnect.domain.inbox.service.InboxService;
+import com.matchhub.catconnect.domain.notification.sse.SseEmitterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메시지 수신자 팬아웃 처리기
+ *
+ * 배치 저장기가 커밋한 메시지의 수신자 인박스 갱신과 SSE 알림을 전송 경로 밖의 단일 스레드에서 처리함
+ * 그룹 채팅방처럼 수신자가 많아도 발신자는 메시지 커밋까지만 기다리며,
+ * 큐에 쌓인 메시지를 한꺼번에 꺼내 수신자/채팅방별 마지막 메시지만 남긴 뒤
+ * app.chat.fanout-batch-size명 단위로 인박스 갱신 트랜잭션 1회, 인박스 안 읽은 수 집계 1회, SSE 전송을 수행함
+ * 메시지는 이미 커밋된 상태이므로 큐가 가득 차거나 처리에 실패하면 인박스/알림만 건너뜀
+ */
+@Component
+public class ChatFanoutDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatFanoutDispatcher.class);
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final InboxService inboxService;
+    private final SseEmitterService sseEmitterService;
+    private final int batchSize;
+    private final BlockingQueue<ChatMessageBatchWriter.PendingMessage> queue;
+    // 큐에 있거나 처리 중인 메시지 수
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer fanoutTimer;
+    private final DistributionSummary fanoutRecipients;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    public ChatFanoutDispatcher(InboxService inboxService,
+                                SseEmitterService sseEmitterService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.chat.fanout-batch-size:200}") int batchSize,
+                                @Value("${app.chat.fanout-queue-capacity:10000}") int queueCapacity) {
+        this.inboxService = inboxService;
+        this.sseEmitterService = sseEmitterService;
+        this.batchSize = batchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.fanoutTimer = Timer.builder("chat.inbox.fanout").register(meterRegistry);
+        this.fanoutRecipients = DistributionSummary.builder("chat.inbox.fanout.recipients").register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.fanout.dropped").register(meterRegistry);
+        Gauge.builder("chat.fanout.queue", pending, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcherThread = new Thread(this::runLoop, "chat-fanout-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    /**
+     * 커밋된 메시지의 수신자 팬아웃을 큐에 넣음 (배치 저장기 쓰기 스레드에서 호출)
+     * @param delivered 커밋된 메시지 (전송 순서)
+     */
+    public void dispatch(List<ChatMessageBatchWriter.PendingMessage> delivered) {
+        for (ChatMessageBatchWriter.PendingMessage message : delivered) {
+            if (message.recipients().isEmpty()) {
+                continue;
+            }
+            pending.incrementAndGet();
+            if (!queue.offer(message)) {
+                pending.decrementAndGet();
+                droppedCounter.increment();
+                log.warn("채팅 팬아웃 큐 포화, 인박스/알림 생략: roomId={}, recipients={}",
+                        message.roomId(), message.recipients().size());
+            }
+        }
+    }
+
+    /**
+     * 큐에 있거나 처리 중인 메시지 수
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void runLoop() {
+        List<ChatMessageBatchWriter.PendingMessage> batch = new ArrayList<>();
+        // 종료 요청 후에도 큐에 남은 메시지는 모두 처리하고 끝냄
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessageBatchWriter.PendingMessage first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 팬아웃 처리 중 예외: error={}", e.getMessage(), e);
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<ChatMessageBatchWriter.PendingMessage> batch) {
+        // 같은 수신자/채팅방은 마지막 메시지만 반영
+        Map<String, ChatInboxUpsert> latest = new LinkedHashMap<>();
+        for (ChatMessageBatchWriter.PendingMessage m : batch) {
+            for (ChatRoomSessionCache.Member recipient : m.recipients()) {
+                latest.put(recipient.userId() + ":" + m.roomId(), new ChatInboxUpsert(recipient.userId(),
+                        recipient.username(), m.senderId(), m.senderUsername(), m.roomId(), m.preview()));
+            }
+        }
+
+        List<ChatInboxUpsert> upserts = new ArrayList<>(latest.values());
+        for (int from = 0; from < upserts.size(); from += batchSize) {
+            List<ChatInboxUpsert> chunk = upserts.subList(from, Math.min(from + batchSize, upserts.size()));
+            long start = System.nanoTime();
+            try {
+                inboxService.upsertChatInboxItems(chunk);
+                notifyRecipients(chunk);
+            } catch (RuntimeException e) {
+                log.warn("채팅 팬아웃 실패: recipients={}, error={}", chunk.size(), e.getMessage());
+            }
+            fanoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            fanoutRecipients.record(chunk.size());
+        }
+        log.debug("채팅 팬아웃 완료: messages={}, recipients={}", batch.size(), upserts.size());
+    }
+
+    // 수신자/채팅방별 SSE 알림 전송 (인박스 안 읽은 수는 묶음당 1회 집계)
+    private void notifyRecipients(List<ChatInboxUpsert> chunk) {
+        Map<Long, Long> unreadCounts = inboxService.getUnreadCountsByUserIds(
+                chunk.stream().map(ChatInboxUpsert::recipientId).distinct().toList());
+        for (ChatInboxUpsert upsert : chunk) {
+            try {
+                // 같은 채팅방의 대기 알림은 최신 것 하나만 남김
+                sseEmitterService.pushNotification(upsert.recipientId(), "chat",
+                        Map.of("type", "NEW_CHAT", "senderName", upsert.senderUsername(),
+                                "roomId", upsert.chatRoomId(), "unreadCount", unreadCounts.get(upsert.recipientId())),
+                        "chat:" + upsert.chatRoomId());
+            } catch (RuntimeException e) {
+                log.warn("채팅 SSE 알림 전송 실패: recipientId={}, error={}", upsert.recipientId(), e.getMessage());
+            }
+        }
+    }
+
+    // 애플리케이션 종료 시 큐에 남은 팬아웃 처리 후 스레드 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        log.debug("채팅 팬아웃 처리기 종료: remaining={}", queue.size());
+    }
+}
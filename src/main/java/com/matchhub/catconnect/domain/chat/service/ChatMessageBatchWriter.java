@@ -0,0 +1,293 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO;
+import com.matchhub.catconnect.domain.chat.model.entity.ChatMessage;
+import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
+import com.matchhub.catconnect.domain.chat.repository.ChatMessageRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomParticipantRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomRepository;
+import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.exception.Domain;
+import com.matchhub.catconnect.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 배치 저장기
+ *
+ * 여러 발신자가 동시에 보낸 메시지를 하나의 큐에 모아 단일 쓰기 스레드가 한 트랜잭션으로 저장함
+ * 채팅방별 메시지 순번 예약, 메시지 INSERT, 채팅방 마지막 메시지 요약/참여자별 안 읽은 수 갱신을
+ * 배치 단위로 묶어 커밋 횟수와 조회/갱신 쿼리를 줄이고,
+ * 커밋 직후 메시지별 Future를 완료시켜 호출자가 바로 브로드캐스트할 수 있게 함
+ * 수신자 인박스 갱신과 SSE 알림은 Future 완료 후 ChatFanoutDispatcher에 넘겨 비동기로 처리함
+ * 전송 지연(chat.send: 큐 투입부터 커밋까지)을 메트릭으로 남김
+ */
+@Component
+public class ChatMessageBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageBatchWriter.class);
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final ChatMessageRepository messageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomParticipantRepository participantRepository;
+    private final UserRepository userRepository;
+    private final ChatFanoutDispatcher fanoutDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ChatMessageBatchWriter(ChatMessageRepository messageRepository,
+                                  ChatRoomRepository chatRoomRepository,
+                                  ChatRoomParticipantRepository participantRepository,
+                                  UserRepository userRepository,
+                                  ChatFanoutDispatcher fanoutDispatcher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.chat.write-batch-size:100}") int maxBatchSize,
+                                  @Value("${app.chat.write-queue-capacity:10000}") int queueCapacity) {
+        this.messageRepository = messageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.participantRepository = participantRepository;
+        this.userRepository = userRepository;
+        this.fanoutDispatcher = fanoutDispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.sendSuccessTimer = Timer.builder("chat.send").tag("result", "success").register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("chat.send").tag("result", "failure").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.send.rejected").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.write.batch.size").register(meterRegistry);
+        Gauge.builder("chat.write.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 메시지 저장 요청을 큐에 넣음
+     * @param message 저장할 메시지
+     * @return 커밋 후 저장된 메시지로 완료되는 Future
+     */
+    public CompletableFuture<ChatMessage> submit(PendingMessage message) {
+        PendingWrite pending = new PendingWrite(message, new CompletableFuture<>(), System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            log.warn("채팅 메시지 저장 큐 포화: roomId={}, queued={}", message.roomId(), queue.size());
+            rejectedCounter.increment();
+            throw new AppException(Domain.NONE, ErrorCode.CHAT_CANNOT_SEND, "메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return pending.future();
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        // 종료 요청 후에도 큐에 남은 메시지는 모두 저장하고 끝냄
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 메시지 배치 처리 중 예외: error={}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<PendingWrite> batch) {
+        batchSizeSummary.record(batch.size());
+        List<ChatMessage> saved = write(batch);
+        long committedAt = System.nanoTime();
+
+        // 인박스/알림 팬아웃은 큐에 넣기만 하고 바로 Future를 완료시켜 브로드캐스트가 팬아웃을 기다리지 않게 함
+        List<PendingMessage> delivered = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (saved.get(i) != null) {
+                delivered.add(batch.get(i).message());
+            }
+        }
+        fanoutDispatcher.dispatch(delivered);
+        for (int i = 0; i < batch.size(); i++) {
+            if (saved.get(i) != null) {
+                sendSuccessTimer.record(committedAt - batch.get(i).submittedAt(), TimeUnit.NANOSECONDS);
+                batch.get(i).future().complete(saved.get(i));
+            }
+        }
+    }
+
+    // 배치 전체를 한 트랜잭션으로 저장하고, 실패하면 메시지별로 다시 저장하여 실패한 메시지만 예외 처리
+    private List<ChatMessage> write(List<PendingWrite> batch) {
+        try {
+            List<PendingMessage> messages = batch.stream().map(PendingWrite::message).toList();
+            List<ChatMessage> saved = transactionTemplate.execute(status -> persist(messages));
+            log.debug("채팅 메시지 배치 저장 완료: size={}", batch.size());
+            return saved;
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 배치 저장 실패, 개별 저장으로 재시도: size={}, error={}", batch.size(), e.getMessage());
+        }
+
+        List<ChatMessage> saved = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            try {
+                saved.add(transactionTemplate.execute(status -> persist(List.of(pending.message())).get(0)));
+            } catch (RuntimeException e) {
+                log.warn("채팅 메시지 저장 실패: roomId={}, senderId={}, error={}",
+                        pending.message().roomId(), pending.message().senderId(), e.getMessage());
+                sendFailureTimer.record(System.nanoTime() - pending.submittedAt(), TimeUnit.NANOSECONDS);
+                pending.future().completeExceptionally(e);
+                saved.add(null);
+            }
+        }
+        return saved;
+    }
+
+    private List<ChatMessage> persist(List<PendingMessage> messages) {
+        List<ChatMessage> saved = new ArrayList<>(messages.size());
+        Map<Long, RoomUpdate> roomUpdates = new LinkedHashMap<>();
+        Map<Long, Long> nextSeqs = reserveSeqs(messages);
+        for (PendingMessage m : messages) {
+            Long seq = nextSeqs.merge(m.roomId(), 1L, Long::sum) - 1;
+            ChatMessage message = new ChatMessage(chatRoomRepository.getReferenceById(m.roomId()),
+                    userRepository.getReferenceById(m.senderId()), seq, m.content(), m.messageType(), m.fileId(), m.fileUrl());
+            saved.add(messageRepository.save(message));
+
+            RoomUpdate roomUpdate = roomUpdates.computeIfAbsent(m.roomId(), id -> new RoomUpdate());
+            roomUpdate.lastMessage = message;
+            roomUpdate.lastPreview = m.preview();
+            roomUpdate.messageCount++;
+            roomUpdate.skippedCounts.merge(m.senderId(), 1, Integer::sum);
+            m.blockedUserIds().forEach(userId -> roomUpdate.skippedCounts.merge(userId, 1, Integer::sum));
+        }
+        updateRoomSummaries(roomUpdates);
+        return saved;
+    }
+
+    /**
+     * 배치에 포함된 채팅방별로 메시지 수만큼 순번을 예약하고 채팅방별 첫 순번을 반환
+     * 배치끼리는 채팅방 ID 순서로 잠그고, 참여자 행(안 읽은 수)은 채팅방을 모두 잠근 뒤에만 갱신함
+     * 나가기처럼 참여자 행도 바꾸는 트랜잭션은 같은 채팅방 → 참여자 순서로 잠가야 교착되지 않음 (ChatRoomService.leaveRoom)
+     */
+    private Map<Long, Long> reserveSeqs(List<PendingMessage> messages) {
+        Map<Long, Long> counts = new TreeMap<>();
+        for (PendingMessage m : messages) {
+            counts.merge(m.roomId(), 1L, Long::sum);
+        }
+        counts.forEach(chatRoomRepository::reserveSeq);
+
+        Map<Long, Long> firstSeqs = new HashMap<>();
+        for (ChatRoomSeqDTO room : chatRoomRepository.findSeqs(counts.keySet())) {
+            firstSeqs.put(room.roomId(), room.lastSeq() - counts.get(room.roomId()) + 1);
+        }
+        return firstSeqs;
+    }
+
+    /**
+     * 채팅방별 마지막 메시지 요약은 1회 갱신
+     * 안 읽은 수는 배치의 발신자와 차단으로 수신에서 제외된 참여자를 뺀 활성 참여자 전체를 한 번에 올리고,
+     * 제외된 참여자는 받은 메시지 수만큼 증가분이 같은 사람끼리 묶어 갱신하여 그룹 채팅방 인원과 관계없이 쿼리 수가 일정함
+     */
+    private void updateRoomSummaries(Map<Long, RoomUpdate> roomUpdates) {
+        for (Map.Entry<Long, RoomUpdate> entry : roomUpdates.entrySet()) {
+            Long roomId = entry.getKey();
+            RoomUpdate update = entry.getValue();
+            chatRoomRepository.updateLastMessage(roomId, update.lastMessage.getId(),
+                    truncatePreview(update.lastPreview), update.lastMessage.getCreatedDttm());
+
+            participantRepository.incrementUnreadCountExcept(roomId, update.skippedCounts.keySet(), update.messageCount);
+            Map<Integer, List<Long>> skippedByDelta = new HashMap<>();
+            update.skippedCounts.forEach((userId, skipped) -> {
+                if (skipped < update.messageCount) {
+                    skippedByDelta.computeIfAbsent(update.messageCount - skipped, d -> new ArrayList<>()).add(userId);
+                }
+            });
+            skippedByDelta.forEach((delta, userIds) -> participantRepository.incrementUnreadCount(roomId, userIds, delta));
+        }
+    }
+
+    private String truncatePreview(String preview) {
+        return preview != null && preview.length() > 200 ? preview.substring(0, 200) : preview;
+    }
+
+    // 애플리케이션 종료 시 큐에 남은 메시지 저장 후 쓰기 스레드 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        log.debug("채팅 메시지 저장기 종료: remaining={}", queue.size());
+    }
+
+    /**
+     * 저장 대기 중인 채팅 메시지
+     * @param roomId 채팅방 ID
+     * @param senderId 발신자 ID
+     * @param senderUsername 발신자명
+     * @param content 새니타이징된 메시지 내용
+     * @param messageType 메시지 유형
+     * @param fileId 첨부 파일 ID
+     * @param fileUrl 첨부 파일 다운로드 URL
+     * @param preview 인박스 미리보기 내용
+     * @param recipients 인박스/알림을 받을 참여자 (안 읽은 수는 커밋 시점의 활성 참여자 기준으로 갱신)
+     * @param blockedUserIds 발신자와 차단 관계라 안 읽은 수를 올리지 않을 참여자 ID (그룹 채팅방만 해당)
+     */
+    public record PendingMessage(Long roomId, Long senderId, String senderUsername, String content,
+                                 MessageType messageType, Long fileId, String fileUrl, String preview,
+                                 List<ChatRoomSessionCache.Member> recipients, List<Long> blockedUserIds) {
+    }
+
+    private record PendingWrite(PendingMessage message, CompletableFuture<ChatMessage> future, long submittedAt) {
+    }
+
+    // 배치 내 채팅방별 요약 갱신 내용
+    private static class RoomUpdate {
+        private ChatMessage lastMessage;
+        private String lastPreview;
+        private int messageCount;
+        // 참여자 ID → 배치 안에서 안 읽은 수에 넣지 않을 메시지 수 (직접 보냈거나 차단 관계인 발신자의 메시지)
+        private final Map<Long, Integer> skippedCounts = new HashMap<>();
+    }
+}
@@ -1,20 +1,19 @@
 package com.matchhub.catconnect.domain.chat.service;
 
-import com.matchhub.catconnect.domain.block.service.BlockService;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatHistoryResponseDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatMessageResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomSeqDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatSyncResponseDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.SendMessageDTO;
 import com.matchhub.catconnect.domain.chat.model.entity.ChatMessage;
-import com.matchhub.catconnect.domain.chat.model.entity.ChatRoom;
 import com.matchhub.catconnect.domain.chat.model.entity.ChatRoomParticipant;
 import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
+import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
 import com.matchhub.catconnect.domain.chat.repository.ChatMessageRepository;
 import com.matchhub.catconnect.domain.chat.repository.ChatRoomParticipantRepository;
-import com.matchhub.catconnect.domain.chat.repository.ChatRoomRepository;
 import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
 import com.matchhub.catconnect.domain.file.repository.FileRepository;
 import com.matchhub.catconnect.domain.inbox.service.InboxService;
-import com.matchhub.catconnect.domain.notification.sse.SseEmitterService;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
 import com.matchhub.catconnect.global.exception.AppException;
@@ -24,11 +23,18 @@ import com.matchhub.catconnect.global.util.HtmlSanitizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,47 +42,64 @@ import java.util.Map;
 public class ChatMessageService {
 
     private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String DOWNLOAD_PATH = "/api/files/download/";
 
     private final ChatMessageRepository messageRepository;
-    private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomParticipantRepository participantRepository;
     private final UserRepository userRepository;
-    private final BlockService blockService;
     private final InboxService inboxService;
-    private final SseEmitterService sseEmitterService;
     private final FileRepository fileRepository;
     private final HtmlSanitizer htmlSanitizer;
+    private final ChatRoomSessionCache sessionCache;
+    private final ChatMessageBatchWriter batchWriter;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
 
-    @Transactional
-    public ChatMessageResponseDTO sendMessage(String senderUsername, SendMessageDTO dto) {
-        User sender = findUserByUsername(senderUsername);
-        ChatRoom room = chatRoomRepository.findById(dto.getRoomId())
+    /**
+     * 메시지 전송
+     * 참여자/차단 검증은 채팅방 세션 캐시로 처리하고, 저장은 배치 저장기에 맡김
+     * 수신자 인박스/SSE 알림은 커밋 후 팬아웃 처리기가 비동기로 처리하므로 그룹 채팅방 인원과 관계없이 커밋까지만 기다림
+     * @param senderUsername 발신자명
+     * @param dto 전송 요청
+     * @return 메시지가 커밋된 뒤 완료되는 응답 Future
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ChatMessageResponseDTO> sendMessage(String senderUsername, SendMessageDTO dto) {
+        ChatRoomSessionCache.Session session = sessionCache.get(dto.getRoomId())
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "채팅방을 찾을 수 없습니다."));
 
         // 참여자 검증
-        ChatRoomParticipant senderParticipant = participantRepository.findByRoomIdAndUserId(room.getId(), sender.getId())
+        ChatRoomSessionCache.Member sender = session.findMember(senderUsername)
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.ACCESS_DENIED, "채팅방 참여자가 아닙니다."));
 
-        if (!senderParticipant.isActive()) {
+        if (!sender.active()) {
             throw new AppException(Domain.NONE, ErrorCode.ACCESS_DENIED, "나간 채팅방입니다.");
         }
 
-        // 상대방 확인 및 차단/탈퇴 검증
-        var otherParticipants = participantRepository.findOtherParticipants(room.getId(), sender.getId());
-        if (!otherParticipants.isEmpty()) {
-            User other = otherParticipants.get(0).getUser();
-            if (other.isDeleted()) {
+        // 상대방 확인 및 차단/탈퇴 검증 (그룹 채팅방은 탈퇴했거나 발신자와 차단 관계인 참여자를 수신자에서 제외)
+        List<ChatRoomSessionCache.Member> recipients = session.recipientsOf(sender.userId());
+        List<Long> blockedUserIds = List.of();
+        if (session.roomType() == RoomType.GROUP) {
+            blockedUserIds = recipients.stream()
+                    .filter(member -> session.isBlockedBetween(sender.userId(), member.userId()))
+                    .map(ChatRoomSessionCache.Member::userId)
+                    .toList();
+            recipients = recipients.stream()
+                    .filter(member -> !member.deleted() && !session.isBlockedBetween(sender.userId(), member.userId()))
+                    .toList();
+        } else if (!recipients.isEmpty()) {
+            if (recipients.stream().anyMatch(ChatRoomSessionCache.Member::deleted)) {
                 throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "탈퇴한 사용자에게 메시지를 보낼 수 없습니다.");
             }
-            if (blockService.isBlockedBetween(sender.getId(), other.getId())) {
+            if (session.blocked()) {
                 throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "메시지를 보낼 수 없습니다.");
             }
         }
 
-        // 메시지 내용 새니타이징
+        // 메시지 내용 새니타이징 (채팅은 마크업을 허용하지 않으므로 DOM 파싱 없이 이스케이프만 함)
         String content = dto.getContent();
         if (content != null && dto.getMessageType() == MessageType.TEXT) {
-            content = htmlSanitizer.sanitize(content);
+            content = htmlSanitizer.escapeText(content);
         }
 
         // 이미지 메시지일 경우 content를 "[사진]"으로 설정 (인박스 미리보기용)
@@ -85,25 +108,32 @@ public class ChatMessageService {
             previewContent = "[사진]";
         }
 
-        ChatMessage message = new ChatMessage(room, sender, content, dto.getMessageType(), dto.getFileId());
-        messageRepository.save(message);
-
-        // 파일 URL 조회 (이미지 메시지인 경우)
+        // 파일 URL 조회 (이미지 메시지인 경우, 메시지에 함께 저장하여 이력 조회 시 재조회하지 않음)
         String fileUrl = resolveFileUrl(dto.getFileId());
 
-        // 인박스 갱신 + SSE 실시간 알림 (상대방)
-        if (!otherParticipants.isEmpty()) {
-            User recipient = otherParticipants.get(0).getUser();
-            inboxService.createOrUpdateChatInboxItem(recipient, sender, room.getId(), previewContent);
+        // 메시지 저장 + 인박스 갱신 + SSE 알림은 배치 저장기에서 처리
+        ChatMessageBatchWriter.PendingMessage pending = new ChatMessageBatchWriter.PendingMessage(
+                session.roomId(), sender.userId(), sender.username(), content, dto.getMessageType(),
+                dto.getFileId(), fileUrl, previewContent, recipients, blockedUserIds);
 
-            // SSE로 상대방에게 실시간 알림 push
-            long unreadCount = inboxService.getUnreadCount(recipient.getUsername());
-            sseEmitterService.pushNotification(recipient.getId(), "chat",
-                    Map.of("type", "NEW_CHAT", "senderName", sender.getUsername(),
-                            "roomId", room.getId(), "unreadCount", unreadCount));
-        }
-
-        return ChatMessageResponseDTO.from(message, fileUrl);
+        return batchWriter.submit(pending)
+                .thenApply(message -> {
+                    ChatMessageResponseDTO response = ChatMessageResponseDTO.builder()
+                            .messageId(message.getId())
+                            .roomId(session.roomId())
+                            .seq(message.getSeq())
+                            .senderId(sender.userId())
+                            .senderName(sender.username())
+                            .senderProfileImage(sender.profileImageUrl())
+                            .content(message.getContent())
+                            .messageType(message.getMessageType())
+                            .fileId(message.getFileId())
+                            .fileUrl(fileUrl)
+                            .createdAt(message.getCreatedDttm())
+                            .build();
+                    recentMessageBuffer.append(response);
+                    return response;
+                });
     }
 
     @Transactional
@@ -112,24 +142,38 @@ public class ChatMessageService {
         ChatRoomParticipant participant = participantRepository.findByRoomIdAndUserId(roomId, user.getId())
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.ACCESS_DENIED));
         participant.updateLastReadMessageId(lastReadMessageId);
+        participantRepository.resetUnreadCount(roomId, user.getId(), lastReadMessageId);
 
         // 인박스 읽음 처리
         inboxService.markChatAsRead(username, roomId);
     }
 
+    /**
+     * 메시지 이력 조회
+     * 첫 페이지(cursor 없음)는 최근 메시지 버퍼에서 처리하고, 이전 페이지는 키셋 쿼리로 조회함
+     * 버퍼 적중 시 DB 연결을 잡지 않도록 트랜잭션 없이 실행함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatHistoryResponseDTO getHistory(String username, Long roomId, Long cursor, int size) {
-        User user = findUserByUsername(username);
+        validateMember(username, roomId);
 
-        // 참여자 검증
-        participantRepository.findByRoomIdAndUserId(roomId, user.getId())
-                .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.ACCESS_DENIED));
-
-        if (size <= 0 || size > 100) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
             size = DEFAULT_PAGE_SIZE;
         }
 
         List<ChatMessage> messages;
         if (cursor == null || cursor == 0) {
+            Optional<ChatRecentMessageBuffer.Window> buffered = recentMessageBuffer.latest(roomId, size,
+                    limit -> toResponses(messageRepository.findLatestByRoomId(roomId, PageRequest.of(0, limit))));
+            if (buffered.isPresent()) {
+                List<ChatMessageResponseDTO> window = buffered.get().messages();
+                boolean hasMore = buffered.get().hasMore();
+                return ChatHistoryResponseDTO.builder()
+                        .messages(window)
+                        .hasMore(hasMore)
+                        .nextCursor(hasMore && !window.isEmpty() ? window.get(0).getMessageId() : null)
+                        .build();
+            }
             messages = messageRepository.findLatestByRoomId(roomId, PageRequest.of(0, size + 1));
         } else {
             messages = messageRepository.findByRoomIdBeforeCursor(roomId, cursor, PageRequest.of(0, size + 1));
@@ -141,11 +185,7 @@ public class ChatMessageService {
         }
 
         // 역순 정렬 (오래된 것부터)
-        List<ChatMessageResponseDTO> dtos = messages.stream()
-                .map(m -> ChatMessageResponseDTO.from(m, resolveFileUrl(m.getFileId())))
-                .toList();
-
-        List<ChatMessageResponseDTO> reversed = new java.util.ArrayList<>(dtos);
+        List<ChatMessageResponseDTO> reversed = new ArrayList<>(toResponses(messages));
         Collections.reverse(reversed);
 
         Long nextCursor = hasMore && !messages.isEmpty() ? messages.get(messages.size() - 1).getId() : null;
@@ -157,21 +197,129 @@ public class ChatMessageService {
                 .build();
     }
 
+    /**
+     * 재연결 후 사용자의 모든 채팅방에 대해 누락된 메시지를 한 번에 조회
+     * 최근 메시지 버퍼가 누락 구간을 DB의 마지막 순번까지 모두 담고 있는 채팅방은 버퍼에서, 나머지는 채팅방 순번 인덱스로 조회함
+     * @param since 클라이언트가 채팅방별로 마지막으로 받은 순번 (roomId:seq를 쉼표로 구분)
+     * @return 새 메시지가 있는 채팅방 목록 (since에 없던 채팅방은 마지막 순번만 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatSyncResponseDTO sync(String username, String since) {
+        Map<Long, Long> knownSeqs = parseSince(since);
+
+        List<ChatSyncResponseDTO.RoomSync> rooms = new ArrayList<>();
+        for (ChatRoomSeqDTO room : participantRepository.findActiveRoomSeqs(username)) {
+            Long knownSeq = knownSeqs.get(room.roomId());
+            if (knownSeq == null) {
+                rooms.add(ChatSyncResponseDTO.RoomSync.builder()
+                        .roomId(room.roomId())
+                        .lastSeq(room.lastSeq())
+                        .messages(List.of())
+                        .hasMore(room.lastSeq() > 0)
+                        .build());
+                continue;
+            }
+            if (room.lastSeq() <= knownSeq) {
+                continue;
+            }
+            // 버퍼는 커밋 후에 추가되므로 커밋 직후에는 DB의 마지막 순번보다 뒤처질 수 있음 (그때는 DB에서 조회)
+            List<ChatMessageResponseDTO> missed = recentMessageBuffer.after(room.roomId(), knownSeq)
+                    .filter(buffered -> lastSeqOf(buffered, knownSeq) >= room.lastSeq())
+                    .orElseGet(() -> toResponses(messageRepository.findByRoomIdAfterSeq(room.roomId(), knownSeq,
+                            PageRequest.of(0, MAX_PAGE_SIZE + 1))));
+            boolean hasMore = missed.size() > MAX_PAGE_SIZE;
+            rooms.add(ChatSyncResponseDTO.RoomSync.builder()
+                    .roomId(room.roomId())
+                    .lastSeq(room.lastSeq())
+                    .messages(hasMore ? missed.subList(0, MAX_PAGE_SIZE) : missed)
+                    .hasMore(hasMore)
+                    .build());
+        }
+        return ChatSyncResponseDTO.builder().rooms(rooms).build();
+    }
+
+    // 메시지 목록의 마지막 순번 (비어 있으면 기준 순번)
+    private static long lastSeqOf(List<ChatMessageResponseDTO> messages, long defaultSeq) {
+        if (messages.isEmpty() || messages.get(messages.size() - 1).getSeq() == null) {
+            return defaultSeq;
+        }
+        return messages.get(messages.size() - 1).getSeq();
+    }
+
+    /**
+     * 메시지 전후 맥락 조회 (검색 결과에서 메시지로 이동)
+     * 채팅방 순번 인덱스로 전후 contextSize개씩 조회하며, 순번이 없는 이전 메시지는 ID 키셋으로 조회함
+     */
     public List<ChatMessageResponseDTO> getMessagesAroundId(Long roomId, Long messageId, int contextSize) {
-        Long startId = Math.max(1, messageId - contextSize);
-        Long endId = messageId + contextSize;
-        return messageRepository.findMessagesInRange(roomId, startId, endId).stream()
-                .map(m -> ChatMessageResponseDTO.from(m, resolveFileUrl(m.getFileId())))
+        ChatMessage target = messageRepository.findById(messageId)
+                .filter(m -> m.getChatRoom().getId().equals(roomId))
+                .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "메시지를 찾을 수 없습니다."));
+
+        if (target.getSeq() != null) {
+            return toResponses(messageRepository.findByRoomIdAndSeqBetween(roomId,
+                    Math.max(1, target.getSeq() - contextSize), target.getSeq() + contextSize));
+        }
+
+        List<ChatMessage> around = new ArrayList<>(
+                messageRepository.findByRoomIdBeforeCursor(roomId, messageId + 1, PageRequest.of(0, contextSize + 1)));
+        Collections.reverse(around);
+        around.addAll(messageRepository.findByRoomIdAfter(roomId, messageId, PageRequest.of(0, contextSize)));
+        return toResponses(around);
+    }
+
+    /**
+     * 메시지 목록을 응답으로 변환
+     * 파일 URL이 저장되지 않은 이전 메시지의 첨부 파일만 모아 IN 조회 한 번으로 채움
+     */
+    private List<ChatMessageResponseDTO> toResponses(List<ChatMessage> messages) {
+        Set<Long> missingFileIds = messages.stream()
+                .filter(m -> m.getFileId() != null && m.getFileUrl() == null)
+                .map(ChatMessage::getFileId)
+                .collect(Collectors.toSet());
+        Map<Long, String> legacyFileUrls = missingFileIds.isEmpty() ? Map.of()
+                : fileRepository.findAllById(missingFileIds).stream()
+                        .collect(Collectors.toMap(FileEntity::getId, file -> DOWNLOAD_PATH + file.getStoredName()));
+
+        return messages.stream()
+                .map(m -> ChatMessageResponseDTO.from(m, m.getFileUrl() != null || m.getFileId() == null
+                        ? m.getFileUrl() : legacyFileUrls.get(m.getFileId())))
                 .toList();
     }
 
     private String resolveFileUrl(Long fileId) {
         if (fileId == null) return null;
         return fileRepository.findById(fileId)
-                .map(file -> "/api/files/download/" + file.getStoredName())
+                .map(file -> DOWNLOAD_PATH + file.getStoredName())
                 .orElse(null);
     }
 
+    // roomId:seq,roomId:seq 형식 파싱
+    private static Map<Long, Long> parseSince(String since) {
+        Map<Long, Long> knownSeqs = new HashMap<>();
+        if (since == null || since.isBlank()) {
+            return knownSeqs;
+        }
+        for (String entry : since.split(",")) {
+            String[] parts = entry.trim().split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException(entry);
+                }
+                knownSeqs.put(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "잘못된 동기화 기준입니다: " + entry);
+            }
+        }
+        return knownSeqs;
+    }
+
+    // 채팅방 참여자 검증 (나간 참여자도 이전 이력은 조회 가능)
+    private void validateMember(String username, Long roomId) {
+        sessionCache.get(roomId)
+                .flatMap(session -> session.findMember(username))
+                .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.ACCESS_DENIED));
+    }
+
     private User findUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND));
@@ -0,0 +1,322 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.domain.chat.model.dto.ChatMessageResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼
+ *
+ * 대화가 오가는 채팅방의 최근 메시지 capacity개를 응답 DTO 그대로 보관하여
+ * 첫 이력 페이지(cursor 없음)와 재연결 후 누락분 조회를 DB 조회 없이 처리함
+ * 채팅방을 처음 열 때 DB에서 채우고, 이후에는 전송 커밋 시 append로 이어 붙임
+ * 유휴 시간이 지난 채팅방과 전체 메모리 예산을 넘는 채팅방(오래 접근하지 않은 순)은 제거되며,
+ * 시스템 메시지 저장(나가기/재참여)이나 프로필 변경 시에는 ChatRoomSessionInvalidatedEvent로 무효화됨
+ */
+@Component
+public class ChatRecentMessageBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatRecentMessageBuffer.class);
+    private static final int ENTRY_OVERHEAD_BYTES = 200; // DTO 객체와 필드, 덱 슬롯의 대략적인 크기
+
+    private final int capacity;
+    private final long maxBytes;
+    private final long idleMillis;
+
+    // 채팅방 ID → 최근 메시지 (접근 순서 기준, 메모리 예산 초과 시 가장 오래 접근하지 않은 채팅방부터 제거)
+    private final Map<Long, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ChatRecentMessageBuffer(@Value("${app.chat.recent-buffer.capacity:100}") int capacity,
+                                   @Value("${app.chat.recent-buffer.max-bytes:67108864}") long maxBytes,
+                                   @Value("${app.chat.recent-buffer.idle-ms:600000}") long idleMillis) {
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * 최근 메시지 size개 조회 (버퍼에 없으면 loader로 채운 뒤 조회)
+     * 다른 요청이 같은 채팅방을 채우는 중이거나 size가 버퍼 크기보다 크면 empty를 반환하므로 DB 조회로 처리해야 함
+     * @param roomId 채팅방 ID
+     * @param size 조회 개수
+     * @param loader 최신순으로 최대 n개의 메시지를 DB에서 조회하는 함수
+     * @return 오래된 것부터 정렬된 메시지와 이전 메시지 존재 여부
+     */
+    public Optional<Window> latest(Long roomId, int size, IntFunction<List<ChatMessageResponseDTO>> loader) {
+        if (size > capacity) {
+            return Optional.empty();
+        }
+        RoomBuffer loading;
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(roomId);
+            if (buffer != null) {
+                return buffer.loaded ? Optional.of(buffer.latest(size)) : Optional.empty();
+            }
+            // 조회 전에 자리를 잡아 두어 조회 도중 커밋된 메시지도 append로 받음
+            loading = new RoomBuffer();
+            rooms.put(roomId, loading);
+        }
+
+        List<ChatMessageResponseDTO> newestFirst;
+        try {
+            newestFirst = loader.apply(capacity + 1);
+        } catch (RuntimeException e) {
+            synchronized (rooms) {
+                rooms.remove(roomId, loading);
+            }
+            throw e;
+        }
+
+        synchronized (rooms) {
+            loading.fill(newestFirst);
+            loading.trim();
+            loading.complete = newestFirst.size() <= capacity && !loading.trimmed;
+            loading.loaded = true;
+            Window window = loading.latest(size);
+            if (rooms.get(roomId) == loading) {
+                totalBytes += loading.bytes;
+                evictOverBudget();
+                log.debug("최근 메시지 버퍼 로드: roomId={}, messages={}, complete={}",
+                        roomId, loading.messages.size(), loading.complete);
+            }
+            // 조회 도중 무효화된 경우에도 이번 응답에는 조회 결과를 그대로 사용
+            return Optional.of(window);
+        }
+    }
+
+    /**
+     * afterSeq 이후의 메시지 조회 (재연결 후 누락분)
+     * @param roomId 채팅방 ID
+     * @param afterSeq 클라이언트가 마지막으로 받은 메시지 순번
+     * @return 오래된 것부터 정렬된 메시지 (버퍼가 afterSeq 이후를 빈틈 없이 담고 있지 않으면 empty)
+     */
+    public Optional<List<ChatMessageResponseDTO>> after(Long roomId, long afterSeq) {
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(roomId);
+            if (buffer == null || !buffer.loaded || !buffer.covers(afterSeq)) {
+                return Optional.empty();
+            }
+            buffer.touch();
+            List<ChatMessageResponseDTO> result = new ArrayList<>();
+            for (ChatMessageResponseDTO message : buffer.messages) {
+                if (message.getSeq() > afterSeq) {
+                    result.add(message);
+                }
+            }
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * 커밋된 메시지 추가 (버퍼에 올라와 있거나 채우는 중인 채팅방만)
+     * 배치 저장기의 완료 순서와 호출 순서가 어긋날 수 있어 메시지 ID 순서로 끼워 넣음
+     */
+    public void append(ChatMessageResponseDTO message) {
+        synchronized (rooms) {
+            RoomBuffer buffer = rooms.get(message.getRoomId());
+            if (buffer == null) {
+                return;
+            }
+            long before = buffer.bytes;
+            buffer.insert(message);
+            buffer.trim();
+            if (buffer.trimmed) {
+                buffer.complete = false;
+            }
+            if (buffer.loaded) {
+                totalBytes += buffer.bytes - before;
+                evictOverBudget();
+            }
+        }
+    }
+
+    /**
+     * 시스템 메시지 저장/프로필 변경 커밋 후 해당 채팅방(또는 사용자가 보낸 메시지가 있는 채팅방) 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInvalidated(ChatRoomSessionInvalidatedEvent event) {
+        synchronized (rooms) {
+            if (event.roomId() != null) {
+                remove(event.roomId());
+            }
+            if (event.userId() != null) {
+                List<Long> roomIds = rooms.entrySet().stream()
+                        .filter(e -> e.getValue().hasSender(event.userId()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                roomIds.forEach(this::remove);
+            }
+        }
+    }
+
+    /**
+     * 유휴 시간이 지난 채팅방 제거
+     */
+    @Scheduled(fixedDelayString = "${app.chat.recent-buffer.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int evicted = 0;
+        synchronized (rooms) {
+            Iterator<RoomBuffer> it = rooms.values().iterator();
+            while (it.hasNext()) {
+                RoomBuffer buffer = it.next();
+                if (buffer.loaded && buffer.lastAccessAt < threshold) {
+                    totalBytes -= buffer.bytes;
+                    it.remove();
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("유휴 채팅방 버퍼 제거: rooms={}", evicted);
+        }
+    }
+
+    /**
+     * 버퍼에 올라와 있는 채팅방 수
+     */
+    public int getRoomCount() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    /**
+     * 버퍼가 차지하는 대략적인 메모리 (bytes)
+     */
+    public long getTotalBytes() {
+        synchronized (rooms) {
+            return totalBytes;
+        }
+    }
+
+    // rooms 락 안에서 호출
+    private void remove(Long roomId) {
+        RoomBuffer removed = rooms.remove(roomId);
+        if (removed != null && removed.loaded) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    // rooms 락 안에서 호출 (접근 순서 맵이므로 앞쪽이 가장 오래 접근하지 않은 채팅방)
+    private void evictOverBudget() {
+        Iterator<RoomBuffer> it = rooms.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            RoomBuffer buffer = it.next();
+            if (buffer.loaded) {
+                totalBytes -= buffer.bytes;
+                it.remove();
+            }
+        }
+    }
+
+    private static long estimateBytes(ChatMessageResponseDTO message) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (length(message.getContent()) + length(message.getSenderName())
+                + length(message.getSenderProfileImage()) + length(message.getFileUrl()));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * 버퍼에서 잘라낸 최근 메시지
+     * @param messages 오래된 것부터 정렬된 메시지
+     * @param hasMore 이보다 이전 메시지가 있는지 여부
+     */
+    public record Window(List<ChatMessageResponseDTO> messages, boolean hasMore) {
+    }
+
+    // 채팅방 하나의 최근 메시지 (rooms 락 안에서만 접근)
+    private class RoomBuffer {
+        private final ArrayDeque<ChatMessageResponseDTO> messages = new ArrayDeque<>(); // 오래된 것부터
+        private long bytes;
+        private long lastAccessAt = System.currentTimeMillis();
+        private boolean loaded;    // DB 로드 완료 여부 (false면 로드 중)
+        private boolean complete;  // 채팅방의 모든 메시지를 담고 있는지 여부
+        private boolean trimmed;   // capacity를 넘어 오래된 메시지를 버린 적이 있는지 여부
+
+        // DB 조회 결과와 조회 도중 append된 메시지를 ID 순으로 합침
+        void fill(List<ChatMessageResponseDTO> newestFirst) {
+            Map<Long, ChatMessageResponseDTO> merged = new TreeMap<>();
+            for (ChatMessageResponseDTO message : newestFirst) {
+                merged.put(message.getMessageId(), message);
+            }
+            for (ChatMessageResponseDTO message : messages) {
+                merged.put(message.getMessageId(), message);
+            }
+            messages.clear();
+            bytes = 0;
+            for (ChatMessageResponseDTO message : merged.values()) {
+                messages.addLast(message);
+                bytes += estimateBytes(message);
+            }
+            touch();
+        }
+
+        void insert(ChatMessageResponseDTO message) {
+            ChatMessageResponseDTO last = messages.peekLast();
+            if (last == null || last.getMessageId() < message.getMessageId()) {
+                messages.addLast(message);
+            } else {
+                // 드물게 순서가 어긋난 경우만 재정렬 (중복은 무시)
+                List<ChatMessageResponseDTO> sorted = new ArrayList<>(messages);
+                if (sorted.stream().anyMatch(m -> m.getMessageId().equals(message.getMessageId()))) {
+                    return;
+                }
+                sorted.add(message);
+                sorted.sort((a, b) -> Long.compare(a.getMessageId(), b.getMessageId()));
+                messages.clear();
+                messages.addAll(sorted);
+            }
+            bytes += estimateBytes(message);
+            touch();
+        }
+
+        void trim() {
+            while (messages.size() > capacity) {
+                bytes -= estimateBytes(messages.pollFirst());
+                trimmed = true;
+            }
+        }
+
+        void touch() {
+            lastAccessAt = System.currentTimeMillis();
+        }
+
+        Window latest(int size) {
+            touch();
+            List<ChatMessageResponseDTO> all = new ArrayList<>(messages);
+            int from = Math.max(0, all.size() - size);
+            boolean hasMore = from > 0 || !complete;
+            return new Window(List.copyOf(all.subList(from, all.size())), hasMore);
+        }
+
+        // 순번 도입 전 메시지가 섞여 있으면 버퍼로 판단하지 않음
+        boolean covers(long afterSeq) {
+            if (messages.stream().anyMatch(m -> m.getSeq() == null)) {
+                return false;
+            }
+            return complete || (!messages.isEmpty() && messages.peekFirst().getSeq() <= afterSeq + 1);
+        }
+
+        boolean hasSender(Long userId) {
+            return messages.stream().anyMatch(m -> userId.equals(m.getSenderId()));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.matchhub.catconnect.domain.chat.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.PageCursor;
 import com.matchhub.catconnect.domain.block.service.BlockService;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO;
 import com.matchhub.catconnect.domain.chat.model.entity.ChatMessage;
@@ -15,26 +17,38 @@ import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatRoomService {
 
+    // 그룹 채팅방 최대 인원 (생성자 포함)
+    private static final int MAX_GROUP_MEMBERS = 500;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomParticipantRepository participantRepository;
     private final ChatMessageRepository messageRepository;
     private final UserRepository userRepository;
     private final BlockService blockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ChatRoomResponseDTO createOrGetRoom(String username, Long targetUserId, RoomType roomType) {
+        if (roomType == RoomType.GROUP) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "그룹 채팅방은 그룹 채팅방 생성으로 만들어주세요.");
+        }
+
         User currentUser = findUserByUsername(username);
         User targetUser = findUserById(targetUserId);
 
@@ -68,7 +82,10 @@ public class ChatRoomService {
             // 나갔던 유저가 다시 진입하면 rejoin
             var participant = participantRepository.findByRoomIdAndUserId(room.getId(), user1.getId());
             participant.ifPresent(p -> {
-                if (!p.isActive()) p.rejoin();
+                if (!p.isActive()) {
+                    p.rejoin();
+                    eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.room(room.getId()));
+                }
             });
             return buildRoomResponse(room, user1);
         }
@@ -82,8 +99,7 @@ public class ChatRoomService {
         participantRepository.save(p2);
 
         // 시스템 메시지
-        ChatMessage systemMsg = ChatMessage.systemMessage(room, "대화가 시작되었습니다.");
-        messageRepository.save(systemMsg);
+        saveSystemMessage(room, "대화가 시작되었습니다.");
 
         return buildRoomResponse(room, user1);
     }
@@ -103,22 +119,85 @@ public class ChatRoomService {
         participantRepository.save(p1);
         participantRepository.save(p2);
 
-        ChatMessage systemMsg = ChatMessage.systemMessage(room, "고객지원 대화가 시작되었습니다.");
-        messageRepository.save(systemMsg);
+        saveSystemMessage(room, "고객지원 대화가 시작되었습니다.");
 
         return buildRoomResponse(room, user);
     }
 
-    public List<ChatRoomResponseDTO> getRoomList(String username) {
-        User user = findUserByUsername(username);
-        List<ChatRoomParticipant> myParticipants = participantRepository.findActiveByUserId(user.getId());
+    /**
+     * 그룹 채팅방 생성
+     * 생성자와 초대한 사용자를 한 번에 참여자로 등록하며, 생성자와 차단 관계인 사용자는 초대할 수 없음
+     * 초대된 사용자끼리의 차단 관계는 전송 시 수신자에서 제외하는 방식으로 처리함
+     * @param username 생성자명
+     * @param name 채팅방 이름
+     * @param memberIds 초대할 사용자 ID 목록 (생성자 ID가 포함되어 있으면 무시)
+     */
+    @Transactional
+    public ChatRoomResponseDTO createGroupRoom(String username, String name, List<Long> memberIds) {
+        User owner = findUserByUsername(username);
+
+        Set<Long> inviteeIds = new LinkedHashSet<>(memberIds);
+        inviteeIds.remove(owner.getId());
+        if (inviteeIds.isEmpty()) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "초대할 사용자를 선택해주세요.");
+        }
+        if (inviteeIds.size() + 1 > MAX_GROUP_MEMBERS) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST,
+                    "그룹 채팅방은 최대 " + MAX_GROUP_MEMBERS + "명까지 참여할 수 있습니다.");
+        }
 
-        List<ChatRoomResponseDTO> result = new ArrayList<>();
-        for (ChatRoomParticipant myPart : myParticipants) {
-            ChatRoom room = myPart.getChatRoom();
-            result.add(buildRoomResponseWithUnread(room, user, myPart));
+        List<User> invitees = userRepository.findAllById(inviteeIds);
+        if (invitees.size() != inviteeIds.size()) {
+            throw new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND);
         }
-        return result;
+        if (invitees.stream().anyMatch(User::isDeleted)) {
+            throw new AppException(Domain.USER, ErrorCode.INVALID_REQUEST, "탈퇴한 사용자는 초대할 수 없습니다.");
+        }
+        if (blockService.isBlockedWithAny(owner.getId(), inviteeIds)) {
+            throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "초대할 수 없는 사용자가 포함되어 있습니다.");
+        }
+
+        ChatRoom room = new ChatRoom(RoomType.GROUP, name);
+        chatRoomRepository.save(room);
+
+        List<ChatRoomParticipant> participants = new ArrayList<>(invitees.size() + 1);
+        participants.add(new ChatRoomParticipant(room, owner));
+        invitees.forEach(invitee -> participants.add(new ChatRoomParticipant(room, invitee)));
+        participantRepository.saveAll(participants);
+
+        saveSystemMessage(room, owner.getUsername() + "님이 그룹 대화를 시작했습니다.");
+
+        return buildRoomResponse(room, owner);
+    }
+
+    /**
+     * 내 채팅방 전체 목록 조회 (마지막 메시지 최신순)
+     * 상대방/마지막 메시지/안 읽은 수를 채팅방 요약 컬럼에서 한 번의 쿼리로 조회함
+     */
+    public List<ChatRoomResponseDTO> getRoomList(String username) {
+        PageCursor first = PageCursor.first();
+        return participantRepository.findRoomSummariesAfter(username, first.createdDttm(), first.id(), Pageable.unpaged());
+    }
+
+    /**
+     * 내 채팅방 목록 커서 조회
+     * @param username 사용자명
+     * @param after 이전 응답의 nextCursor ("lastMessageAt,roomId", 빈 값이면 첫 페이지)
+     * @param size 페이지 크기
+     */
+    public CursorSliceDTO<ChatRoomResponseDTO> getRoomSlice(String username, String after, int size) {
+        size = CursorSliceDTO.clampSize(size);
+        PageCursor cursor = PageCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<ChatRoomResponseDTO> rows = participantRepository.findRoomSummariesAfter(
+                username, cursor.createdDttm(), cursor.id(), PageRequest.of(0, size + 1));
+        return CursorSliceDTO.of(rows, size, row -> row,
+                row -> new PageCursor(row.getUpdatedAt(), row.getRoomId()), null);
+    }
+
+    public ChatRoomResponseDTO getRoom(String username, Long roomId) {
+        return participantRepository.findRoomSummary(username, roomId)
+                .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
     @Transactional
@@ -127,13 +206,16 @@ public class ChatRoomService {
         ChatRoomParticipant participant = participantRepository.findByRoomIdAndUserId(roomId, user.getId())
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "채팅방 참여자가 아닙니다."));
 
-        participant.leave();
-
-        // 시스템 메시지
+        // 시스템 메시지 순번을 먼저 예약해 채팅방 행을 잠근 뒤 참여자 행을 갱신
+        // (배치 저장기와 같은 채팅방 → 참여자 잠금 순서를 지켜 교착을 피함)
         ChatRoom room = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST));
-        ChatMessage systemMsg = ChatMessage.systemMessage(room, user.getUsername() + "님이 나갔습니다.");
-        messageRepository.save(systemMsg);
+        long seq = reserveSystemMessageSeq(roomId);
+
+        participant.leave();
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.room(roomId));
+
+        saveSystemMessage(room, seq, user.getUsername() + "님이 나갔습니다.");
     }
 
     public void validateParticipant(Long roomId, String username) {
@@ -146,50 +228,23 @@ public class ChatRoomService {
     }
 
     private ChatRoomResponseDTO buildRoomResponse(ChatRoom room, User currentUser) {
-        var otherParticipants = participantRepository.findOtherParticipants(room.getId(), currentUser.getId());
-        var latestMessages = messageRepository.findTopByRoomId(room.getId(), PageRequest.of(0, 1));
-
-        ChatRoomResponseDTO.OtherUserDTO otherUserDTO = otherParticipants.isEmpty() ? null : buildOtherUserDTO(otherParticipants.get(0));
-
-        String lastMessage = latestMessages.isEmpty() ? null : latestMessages.get(0).getContent();
-
-        return ChatRoomResponseDTO.builder()
-                .roomId(room.getId())
-                .roomType(room.getRoomType())
-                .otherUser(otherUserDTO)
-                .lastMessage(lastMessage)
-                .unreadCount(0L)
-                .updatedAt(room.getUpdatedDttm())
-                .build();
+        return getRoom(currentUser.getUsername(), room.getId());
     }
 
-    private ChatRoomResponseDTO buildRoomResponseWithUnread(ChatRoom room, User currentUser, ChatRoomParticipant myPart) {
-        var otherParticipants = participantRepository.findOtherParticipants(room.getId(), currentUser.getId());
-        var latestMessages = messageRepository.findTopByRoomId(room.getId(), PageRequest.of(0, 1));
-        long unreadCount = messageRepository.countUnreadMessages(room.getId(), myPart.getLastReadMessageId());
-
-        ChatRoomResponseDTO.OtherUserDTO otherUserDTO = otherParticipants.isEmpty() ? null : buildOtherUserDTO(otherParticipants.get(0));
-
-        String lastMessage = latestMessages.isEmpty() ? null : latestMessages.get(0).getContent();
+    private void saveSystemMessage(ChatRoom room, String content) {
+        saveSystemMessage(room, reserveSystemMessageSeq(room.getId()), content);
+    }
 
-        return ChatRoomResponseDTO.builder()
-                .roomId(room.getId())
-                .roomType(room.getRoomType())
-                .otherUser(otherUserDTO)
-                .lastMessage(lastMessage)
-                .unreadCount(unreadCount)
-                .updatedAt(room.getUpdatedDttm())
-                .build();
+    // 시스템 메시지 순번 예약 (채팅방 행 잠금을 커밋까지 유지함)
+    private long reserveSystemMessageSeq(Long roomId) {
+        chatRoomRepository.reserveSeq(roomId, 1);
+        return chatRoomRepository.findLastSeq(roomId);
     }
 
-    private ChatRoomResponseDTO.OtherUserDTO buildOtherUserDTO(ChatRoomParticipant participant) {
-        User other = participant.getUser();
-        return ChatRoomResponseDTO.OtherUserDTO.builder()
-                .id(other.getId())
-                .username(other.isDeleted() ? "탈퇴한 사용자" : other.getUsername())
-                .profileImageUrl(other.getProfileImageUrl())
-                .deleted(other.isDeleted())
-                .build();
+    // 시스템 메시지 저장 후 채팅방 마지막 메시지 요약 갱신 (안 읽은 수는 증가시키지 않음)
+    private void saveSystemMessage(ChatRoom room, long seq, String content) {
+        ChatMessage systemMsg = messageRepository.save(ChatMessage.systemMessage(room, seq, content));
+        chatRoomRepository.updateLastMessage(room.getId(), systemMsg.getId(), content, systemMsg.getCreatedDttm());
     }
 
     private User findUserByUsername(String username) {
@@ -0,0 +1,212 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.domain.block.repository.BlockRepository;
+import com.matchhub.catconnect.domain.chat.model.entity.ChatRoomParticipant;
+import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomParticipantRepository;
+import com.matchhub.catconnect.domain.user.model.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 채팅방 세션 캐시
+ *
+ * 채팅방별 참여자 목록(활성/탈퇴 여부 포함)과 참여자 간 차단 여부를 스냅샷으로 보관하여
+ * 메시지 전송마다 사용자/채팅방/참여자/차단 조회 쿼리가 실행되지 않도록 함
+ * 그룹 채팅방도 참여자 목록 전체를 한 번에 적재하므로 참여자 수와 관계없이 전송 시 조회가 없음
+ * STOMP 구독 시점에 미리 채워지며, 나가기/재참여/차단/해제/탈퇴/프로필 이미지 변경 시
+ * ChatRoomSessionInvalidatedEvent로 무효화됨
+ */
+@Component
+public class ChatRoomSessionCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatRoomSessionCache.class);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ChatRoomParticipantRepository participantRepository;
+    private final BlockRepository blockRepository;
+
+    // 사용자 ID → 캐시된 세션 중 그 사용자가 속한 채팅방 ID (사용자 단위 무효화용, 세션이 빠지면 함께 정리)
+    private final Map<Long, Set<Long>> roomsByUser = new HashMap<>();
+
+    // 채팅방 ID → 세션 스냅샷 (접근 순서 기준 LRU)
+    private final Map<Long, Session> sessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Session> eldest) {
+            if (size() <= MAX_ENTRIES) {
+                return false;
+            }
+            unindex(eldest.getValue());
+            return true;
+        }
+    };
+
+    // 무효화가 일어날 때마다 증가, 조회 도중 무효화된 스냅샷은 저장하지 않음
+    private long generation;
+
+    public ChatRoomSessionCache(ChatRoomParticipantRepository participantRepository, BlockRepository blockRepository) {
+        this.participantRepository = participantRepository;
+        this.blockRepository = blockRepository;
+    }
+
+    /**
+     * 채팅방 세션 조회 (캐시 미스 시 DB 조회 후 저장)
+     * @param roomId 채팅방 ID
+     * @return 세션 스냅샷 (참여자가 없는 채팅방이면 empty)
+     */
+    public Optional<Session> get(Long roomId) {
+        long loadGeneration;
+        synchronized (sessions) {
+            Session cached = sessions.get(roomId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            loadGeneration = generation;
+        }
+
+        Session session = load(roomId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        synchronized (sessions) {
+            if (loadGeneration == generation) {
+                Session replaced = sessions.put(roomId, session);
+                if (replaced != null) {
+                    unindex(replaced);
+                }
+                for (Member member : session.members()) {
+                    roomsByUser.computeIfAbsent(member.userId(), id -> new HashSet<>()).add(roomId);
+                }
+            }
+        }
+        return Optional.of(session);
+    }
+
+    /**
+     * 채팅방 구독 시 세션을 미리 채움
+     * @param roomId 채팅방 ID
+     */
+    public void warm(Long roomId) {
+        get(roomId);
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 후 해당 채팅방(또는 사용자가 속한 모든 채팅방) 세션 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInvalidated(ChatRoomSessionInvalidatedEvent event) {
+        synchronized (sessions) {
+            generation++;
+            if (event.roomId() != null) {
+                remove(event.roomId());
+            }
+            if (event.userId() != null) {
+                Set<Long> roomIds = roomsByUser.remove(event.userId());
+                if (roomIds != null) {
+                    roomIds.forEach(this::remove);
+                }
+            }
+        }
+        log.debug("채팅방 세션 무효화: roomId={}, userId={}", event.roomId(), event.userId());
+    }
+
+    /**
+     * 사용자가 속한 채팅방 세션이 캐시에 남아 있는지 여부 (역인덱스 정리 확인용)
+     * @param userId 사용자 ID
+     */
+    public boolean hasIndexedRooms(Long userId) {
+        synchronized (sessions) {
+            return roomsByUser.containsKey(userId);
+        }
+    }
+
+    // sessions 잠금 안에서 호출
+    private void remove(Long roomId) {
+        Session removed = sessions.remove(roomId);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    // 세션이 빠질 때 참여자별 역인덱스에서 채팅방 제거 (sessions 잠금 안에서 호출)
+    private void unindex(Session session) {
+        for (Member member : session.members()) {
+            Set<Long> roomIds = roomsByUser.get(member.userId());
+            if (roomIds != null) {
+                roomIds.remove(session.roomId());
+                if (roomIds.isEmpty()) {
+                    roomsByUser.remove(member.userId());
+                }
+            }
+        }
+    }
+
+    private Session load(Long roomId) {
+        List<ChatRoomParticipant> participants = participantRepository.findAllByRoomIdWithUser(roomId);
+        if (participants.isEmpty()) {
+            return null;
+        }
+        RoomType roomType = participants.get(0).getChatRoom().getRoomType();
+        List<Member> members = participants.stream().map(Member::from).toList();
+        Map<Long, Set<Long>> blockRelations = new HashMap<>();
+        for (Object[] pair : blockRepository.findBlockPairsAmong(members.stream().map(Member::userId).toList())) {
+            Long blockerId = (Long) pair[0];
+            Long blockedId = (Long) pair[1];
+            blockRelations.computeIfAbsent(blockerId, id -> new HashSet<>()).add(blockedId);
+            blockRelations.computeIfAbsent(blockedId, id -> new HashSet<>()).add(blockerId);
+        }
+        log.debug("채팅방 세션 로드: roomId={}, roomType={}, members={}, blockRelations={}",
+                roomId, roomType, members.size(), blockRelations.size());
+        return new Session(roomId, roomType, members, blockRelations);
+    }
+
+    /**
+     * 채팅방 세션 스냅샷
+     * @param roomId 채팅방 ID
+     * @param roomType 채팅방 유형
+     * @param members 참여자 목록 (나간 참여자 포함)
+     * @param blockRelations 사용자 ID → 어느 방향이든 차단 관계가 있는 참여자 ID
+     */
+    public record Session(Long roomId, RoomType roomType, List<Member> members, Map<Long, Set<Long>> blockRelations) {
+
+        // 참여자 사이에 차단 관계가 있는지 여부 (1:1/고객지원 채팅방은 전송 불가)
+        public boolean blocked() {
+            return !blockRelations.isEmpty();
+        }
+
+        public boolean isBlockedBetween(Long userId1, Long userId2) {
+            return blockRelations.getOrDefault(userId1, Set.of()).contains(userId2);
+        }
+
+        public Optional<Member> findMember(String username) {
+            return members.stream().filter(m -> m.username().equals(username)).findFirst();
+        }
+
+        // 발신자를 제외한 활성 참여자
+        public List<Member> recipientsOf(Long senderId) {
+            return members.stream().filter(m -> m.active() && !m.userId().equals(senderId)).toList();
+        }
+    }
+
+    /**
+     * 채팅방 참여자 스냅샷
+     */
+    public record Member(Long userId, String username, String profileImageUrl, boolean active, boolean deleted) {
+
+        static Member from(ChatRoomParticipant participant) {
+            User user = participant.getUser();
+            return new Member(user.getId(), user.getUsername(), user.getProfileImageUrl(),
+                    participant.isActive(), user.isDeleted());
+        }
+    }
+}
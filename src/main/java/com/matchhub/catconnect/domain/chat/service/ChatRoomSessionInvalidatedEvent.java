@@ -0,0 +1,19 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+/**
+ * 채팅방 세션(참여자/차단 상태) 캐시 무효화 이벤트
+ * roomId가 있으면 해당 채팅방만, userId가 있으면 그 사용자가 속한 모든 채팅방을 무효화함
+ *
+ * @param roomId 무효화할 채팅방 ID (없으면 null)
+ * @param userId 무효화할 사용자 ID (없으면 null)
+ */
+public record ChatRoomSessionInvalidatedEvent(Long roomId, Long userId) {
+
+    public static ChatRoomSessionInvalidatedEvent room(Long roomId) {
+        return new ChatRoomSessionInvalidatedEvent(roomId, null);
+    }
+
+    public static ChatRoomSessionInvalidatedEvent user(Long userId) {
+        return new ChatRoomSessionInvalidatedEvent(null, userId);
+    }
+}
@@ -1,6 +1,9 @@
 package com.matchhub.catconnect.domain.chat.websocket;
 
+import com.matchhub.catconnect.domain.chat.service.ChatRoomSessionCache;
+import com.matchhub.catconnect.global.util.auth.JwtClaims;
 import com.matchhub.catconnect.global.util.auth.JwtProvider;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,7 +26,9 @@ import java.util.Map;
 public class ChatStompInterceptor implements ChannelInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(ChatStompInterceptor.class);
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
     private final JwtProvider jwtProvider;
+    private final ChatRoomSessionCache sessionCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -32,24 +37,53 @@ public class ChatStompInterceptor implements ChannelInterceptor {
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractTokenFromHandshake(accessor);
 
-            if (token != null && jwtProvider.validateToken(token)) {
-                String username = jwtProvider.getUsernameFromToken(token);
-                String role = jwtProvider.getRoleFromToken(token);
-
+            JwtClaims claims = resolveClaims(token);
+            if (claims != null) {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                        claims.username(), null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.role()))
                 );
                 accessor.setUser(auth);
-                log.debug("WebSocket 인증 성공: username={}", username);
+                log.debug("WebSocket 인증 성공: username={}", claims.username());
             } else {
                 log.warn("WebSocket 인증 실패: 유효하지 않은 토큰");
                 throw new IllegalArgumentException("인증에 실패했습니다.");
             }
         }
 
+        if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            warmRoomSession(accessor.getDestination());
+        }
+
         return message;
     }
 
+    // 채팅방 구독 시 참여자/차단 상태를 미리 캐시하여 첫 메시지 전송 시 조회를 생략
+    private void warmRoomSession(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            return;
+        }
+        try {
+            sessionCache.warm(Long.parseLong(destination.substring(CHAT_TOPIC_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            log.debug("채팅방 구독 경로 파싱 실패: destination={}", destination);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 세션 캐시 적재 실패: destination={}, error={}", destination, e.getMessage());
+        }
+    }
+
+    // 토큰을 한 번만 검증하여 클레임 반환 (유효하지 않으면 null)
+    private JwtClaims resolveClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return jwtProvider.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("WebSocket 토큰 검증 실패: error={}", e.getMessage());
+            return null;
+        }
+    }
+
     private String extractTokenFromHandshake(StompHeaderAccessor accessor) {
         // STOMP 헤더에서 토큰 추출
         List<String> authHeaders = accessor.getNativeHeader("Authorization");
@@ -1,12 +1,11 @@
 package com.matchhub.catconnect.domain.chat.websocket;
 
-import com.matchhub.catconnect.domain.chat.model.dto.ChatMessageResponseDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.ChatWebSocketMessage;
 import com.matchhub.catconnect.domain.chat.model.dto.ReadReceiptDTO;
 import com.matchhub.catconnect.domain.chat.model.dto.SendMessageDTO;
 import com.matchhub.catconnect.domain.chat.service.ChatMessageService;
-import com.matchhub.catconnect.domain.chat.service.ChatRoomService;
 import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +14,7 @@ import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.concurrent.CompletionException;
 
 @Controller
 @RequiredArgsConstructor
@@ -22,7 +22,6 @@ public class ChatWebSocketController {
 
     private static final Logger log = LoggerFactory.getLogger(ChatWebSocketController.class);
     private final ChatMessageService chatMessageService;
-    private final ChatRoomService chatRoomService;
     private final SimpMessageSendingOperations messagingTemplate;
 
     @MessageMapping("/chat/send")
@@ -31,22 +30,32 @@ public class ChatWebSocketController {
         log.debug("WS 메시지 수신: username={}, roomId={}", username, dto.getRoomId());
 
         try {
-            chatRoomService.validateParticipant(dto.getRoomId(), username);
-            ChatMessageResponseDTO response = chatMessageService.sendMessage(username, dto);
-
-            // 채팅방 구독자에게 브로드캐스트
-            messagingTemplate.convertAndSend(
-                    "/topic/chat/" + dto.getRoomId(),
-                    ChatWebSocketMessage.message(response)
-            );
+            // 메시지가 커밋되는 즉시 채팅방 구독자에게 브로드캐스트
+            chatMessageService.sendMessage(username, dto).whenComplete((response, error) -> {
+                if (error == null) {
+                    messagingTemplate.convertAndSend(
+                            "/topic/chat/" + dto.getRoomId(),
+                            ChatWebSocketMessage.message(response)
+                    );
+                } else {
+                    sendError(username, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
         } catch (AppException e) {
-            // 에러를 발신자에게만 전달
-            messagingTemplate.convertAndSendToUser(
-                    username,
-                    "/queue/errors",
-                    ChatWebSocketMessage.error(e.getErrorCode().getCode(), e.getMessage())
-            );
+            sendError(username, e);
+        }
+    }
+
+    // 에러를 발신자에게만 전달
+    private void sendError(String username, Throwable error) {
+        ChatWebSocketMessage payload;
+        if (error instanceof AppException e) {
+            payload = ChatWebSocketMessage.error(e.getErrorCode().getCode(), e.getMessage());
+        } else {
+            log.error("WS 메시지 저장 실패: username={}, error={}", username, error.getMessage());
+            payload = ChatWebSocketMessage.error(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
         }
+        messagingTemplate.convertAndSendToUser(username, "/queue/errors", payload);
     }
 
     @MessageMapping("/chat/read")
@@ -0,0 +1,109 @@
+package com.matchhub.catconnect.domain.chat.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 메시지 핸들러(@MessageMapping) 처리 시간 측정 (stomp.handler)
+ *
+ * clientInboundChannel 실행 스레드에서 핸들러 호출 전후 시각을 재고,
+ * destination 태그에는 실제 목적지가 아닌 매핑 패턴(/app/chat/send 등)만 사용함
+ * 매핑되지 않은 목적지는 UNMAPPED 하나로 묶어 태그 수가 핸들러 수를 넘지 않게 함
+ */
+@Component
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final MeterRegistry meterRegistry;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+    // 매핑 패턴 → [성공, 실패] 타이머
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+    private volatile List<String> routes;
+
+    public StompMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            startedAt.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler methodHandler)) {
+            return;
+        }
+        Long start = startedAt.get();
+        if (start == null) {
+            return;
+        }
+        startedAt.remove();
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        // 애플리케이션 prefix(/app)가 아닌 목적지는 브로커가 처리하므로 제외
+        if (destination == null || methodHandler.getDestinationPrefixes().stream().noneMatch(destination::startsWith)) {
+            return;
+        }
+        Timer[] pair = timers.computeIfAbsent(route(methodHandler, destination), this::register);
+        pair[ex == null ? 0 : 1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(String route) {
+        return new Timer[]{
+                Timer.builder("stomp.handler").tag("destination", route).tag("outcome", "success").register(meterRegistry),
+                Timer.builder("stomp.handler").tag("destination", route).tag("outcome", "error").register(meterRegistry)
+        };
+    }
+
+    private String route(SimpAnnotationMethodMessageHandler handler, String destination) {
+        for (String route : routes(handler)) {
+            if (route.equals(destination) || pathMatcher.match(route, destination)) {
+                return route;
+            }
+        }
+        return UNMAPPED;
+    }
+
+    // 핸들러 매핑은 기동 후 바뀌지 않으므로 처음 한 번만 prefix와 합쳐 둠
+    private List<String> routes(SimpAnnotationMethodMessageHandler handler) {
+        List<String> cached = routes;
+        if (cached == null) {
+            List<String> built = new ArrayList<>();
+            for (String prefix : handler.getDestinationPrefixes()) {
+                for (SimpMessageMappingInfo info : handler.getHandlerMethods().keySet()) {
+                    for (String pattern : info.getDestinationConditions().getPatterns()) {
+                        built.add(prefix.endsWith("/") && pattern.startsWith("/")
+                                ? prefix + pattern.substring(1) : prefix + pattern);
+                    }
+                }
+            }
+            cached = List.copyOf(built);
+            routes = cached;
+        }
+        return cached;
+    }
+}
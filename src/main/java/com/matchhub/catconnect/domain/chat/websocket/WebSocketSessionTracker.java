@@ -0,0 +1,38 @@
+package com.matchhub.catconnect.domain.chat.websocket;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결된 STOMP 세션 추적 (websocket.sessions 게이지용)
+ *
+ * 같은 세션의 종료 이벤트가 두 번 올 수 있으므로 개수 대신 세션 ID 집합으로 관리함
+ */
+@Component
+public class WebSocketSessionTracker {
+
+    private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessionIds.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionIds.remove(event.getSessionId());
+    }
+
+    public int getSessionCount() {
+        return sessionIds.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.domain.comment.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentRequestDTO;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentResponseDTO;
 import com.matchhub.catconnect.domain.comment.service.CommentService;
@@ -45,6 +46,17 @@ public class CommentRestController {
         return ResponseEntity.ok(Response.success(comments, "댓글 목록 조회 성공"));
     }
 
+    @Operation(summary = "전체 댓글 커서 조회", description = "after 커서(createdDttm,id) 이후의 댓글 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<CommentResponseDTO>>> getCommentSlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String after,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "근사 전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("GET /api/comments 커서 요청: after={}, size={}", after, size);
+        CursorSliceDTO<CommentResponseDTO> comments = commentService.getCommentSlice(after, size, includeTotal);
+        return ResponseEntity.ok(Response.success(comments, "댓글 목록 조회 성공"));
+    }
+
     @Operation(summary = "댓글 추가", description = "게시글에 댓글을 추가합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "댓글 추가 성공",
@@ -1,6 +1,7 @@
 package com.matchhub.catconnect.domain.comment.model.entity;
 
 import com.matchhub.catconnect.common.model.entity.BaseEntity;
+import com.matchhub.catconnect.common.search.SearchIndexEntityListener;
 import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.global.validation.RestrictedString;
 import jakarta.persistence.*;
@@ -13,7 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tb_comment")
+@Table(name = "tb_comment", indexes = {
+        @Index(name = "idx_comment_created", columnList = "createdDttm DESC, id DESC")
+})
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @NoArgsConstructor
 public class Comment extends BaseEntity {
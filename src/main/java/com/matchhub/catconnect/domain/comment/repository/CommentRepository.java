@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -41,6 +42,42 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "LOWER(c.author) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Comment> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 키워드 검색 결과를 ID 내림차순 키셋으로 조회함 (검색 색인 미사용 시 커서 검색 대체 경로)
+     * @param keyword 검색 키워드
+     * @param id 이 ID보다 작은 댓글만 조회
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 검색 결과 목록
+     */
+    @Query("SELECT c FROM Comment c WHERE c.id < :id AND (" +
+            "LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(c.author) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY c.id DESC")
+    List<Comment> searchByKeywordBeforeId(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    // 검색 색인 구축용 ID 순 청크 조회
+    List<Comment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 주어진 댓글 ID들을 게시글별로 집계함 (일괄 삭제 시 게시글 댓글 수 보정용)
+     * @param ids 댓글 ID 목록
+     * @return [게시글 ID, 댓글 수] 목록
+     */
+    @Query("SELECT c.board.id, COUNT(c) FROM Comment c WHERE c.id IN :ids GROUP BY c.board.id")
+    List<Object[]> countByBoardIdForIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 커서 이후의 댓글을 최신순으로 조회함 (키셋 페이지네이션)
+     * @param createdDttm 커서 작성일시
+     * @param id 커서 댓글 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 댓글 목록
+     */
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.createdDttm < :createdDttm OR (c.createdDttm = :createdDttm AND c.id < :id) " +
+            "ORDER BY c.createdDttm DESC, c.id DESC")
+    List<Comment> findAfter(@Param("createdDttm") LocalDateTime createdDttm, @Param("id") Long id, Pageable pageable);
+
     @EntityGraph(attributePaths = {"board"})
     Page<Comment> findByAuthor(String author, Pageable pageable);
 
@@ -1,5 +1,10 @@
 package com.matchhub.catconnect.domain.comment.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.PageCursor;
+import com.matchhub.catconnect.common.search.SearchDocumentType;
+import com.matchhub.catconnect.common.search.SearchIndex;
+import com.matchhub.catconnect.common.search.SearchIndexEvent;
 import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.domain.board.repository.BoardRepository;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentRequestDTO;
@@ -9,11 +14,14 @@ import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
+import com.matchhub.catconnect.global.util.ApproximateCountCache;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,7 +29,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,12 +43,20 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final Validator validator;
+    private final ApproximateCountCache countCache;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성자를 통한 의존성 주입
-    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository, Validator validator) {
+    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository, Validator validator,
+                          ApproximateCountCache countCache, SearchIndex searchIndex,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.boardRepository = boardRepository;
         this.validator = validator;
+        this.countCache = countCache;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +79,19 @@ public class CommentService {
         return commentPage.map(this::toResponseDTO);
     }
 
+    // 전체 댓글 커서 조회 (키셋 페이지네이션)
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<CommentResponseDTO> getCommentSlice(String after, int size, boolean includeTotal) {
+        log.debug("커서 댓글 조회 요청: after={}, size={}", after, size);
+        size = CursorSliceDTO.clampSize(size);
+        PageCursor cursor = PageCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Comment> rows = commentRepository.findAfter(cursor.createdDttm(), cursor.id(), PageRequest.of(0, size + 1));
+        Long total = includeTotal ? countCache.get("comment", commentRepository::count) : null;
+        return CursorSliceDTO.of(rows, size, this::toResponseDTO,
+                comment -> new PageCursor(comment.getCreatedDttm(), comment.getId()), total);
+    }
+
     @Transactional
     public void addComment(Long boardId, CommentRequestDTO requestDTO, String author) {
         addComment(boardId, requestDTO, author, null);
@@ -100,6 +132,7 @@ public class CommentService {
             throw new AppException(Domain.COMMENT, ErrorCode.INVALID_REQUEST, errorMessage);
         }
         commentRepository.save(comment);
+        boardRepository.adjustCommentCount(boardId, 1);
         log.debug("댓글 추가 완료: boardId={}, commentId={}", boardId, comment.getId());
     }
 
@@ -111,8 +144,13 @@ public class CommentService {
             log.warn("삭제할 댓글 ID 없음");
             throw new AppException(Domain.COMMENT, ErrorCode.INVALID_REQUEST, "삭제할 댓글을 선택하세요.");
         }
-        // 일괄 삭제
+        // 게시글별 댓글 수 보정 후 일괄 삭제
+        for (Object[] row : commentRepository.countByBoardIdForIds(ids)) {
+            boardRepository.adjustCommentCount((Long) row[0], -((Long) row[1]).intValue());
+        }
         commentRepository.deleteAllByIdInBatch(ids);
+        // 벌크 삭제는 엔티티 콜백이 호출되지 않으므로 검색 색인 삭제 이벤트를 직접 발행
+        ids.forEach(id -> eventPublisher.publishEvent(SearchIndexEvent.remove(SearchDocumentType.COMMENT, id)));
         log.debug("댓글 다중 삭제 완료: count={}", ids.size());
     }
 
@@ -120,12 +158,14 @@ public class CommentService {
     public void deleteComment(Long id) {
         log.debug("댓글 개별 삭제 요청: id={}", id);
         // 댓글 존재 확인
-        if (!commentRepository.existsById(id)) {
-            log.warn("삭제 대상 댓글 없음: id={}", id);
-            throw new AppException(Domain.COMMENT, ErrorCode.COMMENT_NOT_FOUND);
-        }
-        // 댓글 삭제
-        commentRepository.deleteById(id);
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("삭제 대상 댓글 없음: id={}", id);
+                    return new AppException(Domain.COMMENT, ErrorCode.COMMENT_NOT_FOUND);
+                });
+        // 댓글 삭제 (대댓글은 cascade로 함께 삭제되므로 그만큼 게시글 댓글 수 감소)
+        commentRepository.delete(comment);
+        boardRepository.adjustCommentCount(comment.getBoard().getId(), -(1 + comment.getReplies().size()));
         log.debug("댓글 개별 삭제 완료: id={}", id);
     }
 
@@ -156,8 +196,9 @@ public class CommentService {
             log.warn("댓글 삭제 권한 없음: commentAuthor={}, requestAuthor={}", comment.getAuthor(), author);
             throw new AppException(Domain.COMMENT, ErrorCode.COMMENT_UNAUTHORIZED);
         }
-        // 댓글 삭제
-        commentRepository.deleteById(id);
+        // 댓글 삭제 (대댓글은 cascade로 함께 삭제되므로 그만큼 게시글 댓글 수 감소)
+        commentRepository.delete(comment);
+        boardRepository.adjustCommentCount(comment.getBoard().getId(), -(1 + comment.getReplies().size()));
         log.debug("작성자 댓글 삭제 완료: id={}", id);
     }
 
@@ -165,8 +206,10 @@ public class CommentService {
     @Transactional(readOnly = true)
     public List<CommentResponseDTO> searchComments(String keyword) {
         log.debug("댓글 검색 요청: keyword={}", keyword);
-        // Repository에서 검색 실행
-        List<Comment> comments = commentRepository.searchByKeyword(keyword);
+        // 검색 색인으로 검색할 수 있으면 색인에서, 아니면 (구축 전/두 글자 미만 키워드) Repository LIKE 검색으로 조회
+        List<Comment> comments = searchIndex.canSearch(keyword)
+                ? findAllInOrder(searchIndex.findIds(SearchDocumentType.COMMENT, keyword))
+                : commentRepository.searchByKeyword(keyword);
         // Entity 리스트를 DTO 리스트로 변환
         return comments.stream()
                 .map(this::toResponseDTO)
@@ -178,8 +221,28 @@ public class CommentService {
     public Page<CommentResponseDTO> searchComments(String keyword, int page, int size) {
         log.debug("페이지네이션 댓글 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDttm").descending());
-        Page<Comment> commentPage = commentRepository.searchByKeyword(keyword, pageable);
-        return commentPage.map(this::toResponseDTO);
+        if (!searchIndex.canSearch(keyword)) {
+            Page<Comment> commentPage = commentRepository.searchByKeyword(keyword, pageable);
+            return commentPage.map(this::toResponseDTO);
+        }
+        // 색인에서 최신순 ID 목록을 얻어 해당 페이지 분량만 DB에서 조회
+        List<Long> ids = searchIndex.findIds(SearchDocumentType.COMMENT, keyword);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + size, ids.size());
+        List<CommentResponseDTO> content = findAllInOrder(ids.subList(from, to)).stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    // ID 목록 순서대로 댓글 조회 (그 사이 삭제된 댓글은 제외)
+    private List<Comment> findAllInOrder(List<Long> ids) {
+        Map<Long, Comment> commentsById = commentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        return ids.stream()
+                .map(commentsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // Comment 엔티티를 CommentResponseDTO로 변환
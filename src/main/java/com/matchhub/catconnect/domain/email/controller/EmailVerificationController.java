@@ -1,6 +1,7 @@
 package com.matchhub.catconnect.domain.email.controller;
 
 import com.matchhub.catconnect.domain.email.service.EmailVerificationService;
+import com.matchhub.catconnect.global.configuration.ViewController;
 import com.matchhub.catconnect.global.exception.AppException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestParam;
  * 이메일 인증 뷰 컨트롤러
  */
 @Controller
+@ViewController
 public class EmailVerificationController {
 
     private static final Logger log = LoggerFactory.getLogger(EmailVerificationController.class);
@@ -1,7 +1,9 @@
 package com.matchhub.catconnect.domain.file.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
 import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.service.FileDownload;
 import com.matchhub.catconnect.domain.file.service.FileService;
 import com.matchhub.catconnect.global.exception.Response;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +11,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 파일 업로드/다운로드 REST API 컨트롤러
@@ -53,24 +58,36 @@ public class FileRestController {
         return ResponseEntity.ok(Response.success(response, "파일 업로드 성공"));
     }
 
-    @Operation(summary = "파일 다운로드", description = "파일을 다운로드합니다")
+    @Operation(summary = "파일 다운로드", description = "파일을 다운로드합니다. Range 요청(206)과 If-None-Match 조건부 요청(304)을 지원합니다")
     @GetMapping("/download/{storedName}")
     public ResponseEntity<Resource> downloadFile(
             @Parameter(description = "저장된 파일명")
-            @PathVariable String storedName) {
-        log.debug("GET /api/files/download/{} 요청", storedName);
+            @PathVariable String storedName,
+            @Parameter(description = "이미지 너비 (요청 너비 이상인 가장 작은 변형, 변형이 아직 없으면 원본)")
+            @RequestParam(required = false) Integer w) {
+        log.debug("GET /api/files/download/{} 요청: w={}", storedName, w);
 
-        Resource resource = fileService.downloadFile(storedName);
-        FileResponseDTO fileInfo = fileService.getFileInfoByStoredName(storedName);
+        FileDownload original = fileService.getDownload(storedName);
+        FileDownload download = original.forWidth(w);
 
-        String encodedFileName = URLEncoder.encode(fileInfo.getOriginalName(), StandardCharsets.UTF_8)
+        String encodedFileName = URLEncoder.encode(download.originalName(), StandardCharsets.UTF_8)
                 .replaceAll("\\+", "%20");
 
+        // 저장된 파일은 내용이 바뀌지 않으므로 1년 캐시 + immutable
+        // 단, 요청한 변형 대신 원본을 내려줄 때는 변형이 생성된 뒤 같은 URL이 바뀌어야 하므로 매번 ETag로 재검증함
+        // If-None-Match 일치 시 304, Range 헤더가 있으면 206(ResourceRegion)으로 스프링이 처리하며
+        // 본문은 메모리에 올리지 않고 파일에서 바로 스트리밍됨
+        CacheControl cacheControl = original.fallsBackToOriginal(w)
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(fileInfo.getContentType()))
+                .contentType(MediaType.parseMediaType(download.contentType()))
+                .eTag(download.etag())
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "inline; filename*=UTF-8''" + encodedFileName)
-                .body(resource);
+                .body(new FileSystemResource(download.path()));
     }
 
     @Operation(summary = "파일 정보 조회", description = "파일 정보를 조회합니다")
@@ -107,6 +124,20 @@ public class FileRestController {
         return ResponseEntity.ok(Response.success(response, "파일 목록 조회 성공"));
     }
 
+    @Operation(summary = "전체 파일 커서 조회", description = "after 커서(createdDttm,id) 이후의 파일 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다")
+    @GetMapping(params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<FileResponseDTO>>> getFileSlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam String after,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "근사 전체 개수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("GET /api/files 커서 요청: after={}, size={}", after, size);
+        CursorSliceDTO<FileResponseDTO> response = fileService.getFileSlice(after, size, includeTotal);
+        return ResponseEntity.ok(Response.success(response, "파일 목록 조회 성공"));
+    }
+
     @Operation(summary = "파일 삭제", description = "파일을 삭제합니다. 본인이 업로드한 파일만 삭제할 수 있습니다")
     @DeleteMapping("/{fileId}")
     public ResponseEntity<Response<Void>> deleteFile(
@@ -0,0 +1,53 @@
+package com.matchhub.catconnect.domain.file.model.entity;
+
+import com.matchhub.catconnect.common.model.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 파일 저장소의 블롭 (SHA-256 해시 하나당 디스크 파일 하나)
+ *
+ * 같은 내용의 업로드는 하나의 블롭을 공유하고 refCount로 참조 수를 관리함
+ * 참조 수와 변형 정보는 동시 업로드/삭제 시 덮어쓰지 않도록 JPQL로만 갱신함 (updatable = false)
+ */
+@Entity
+@Table(name = "tb_file_blob", indexes = {
+        @Index(name = "idx_file_blob_unreferenced", columnList = "refCount, zeroRefSince")
+})
+@Getter
+@NoArgsConstructor
+public class FileBlob extends BaseEntity {
+
+    @Id
+    @Column(length = 64)
+    private String hash;          // SHA-256 (16진수 소문자)
+
+    @Column(nullable = false, length = 100)
+    private String relativePath;  // 업로드 디렉토리 기준 경로 (ab/cd/<hash>)
+
+    @Column(nullable = false)
+    private Long fileSize;        // 파일 크기 (bytes)
+
+    @Column(nullable = false, updatable = false)
+    private int refCount;         // 이 블롭을 가리키는 FileEntity 수
+
+    @Column(updatable = false)
+    private LocalDateTime zeroRefSince; // 참조 수가 0이 된 시각 (정리 유예 기준)
+
+    @Column(length = 50, updatable = false)
+    private String variantWidths; // 생성 완료된 리사이즈 변형 너비 (쉼표 구분, 예: "64,256")
+
+    /**
+     * 참조 수 0으로 생성 (호출자 트랜잭션에서 참조 수를 올리며, 롤백되면 정리 대상이 됨)
+     */
+    public FileBlob(String hash, String relativePath, Long fileSize) {
+        this.hash = hash;
+        this.relativePath = relativePath;
+        this.fileSize = fileSize;
+        this.refCount = 0;
+        this.zeroRefSince = LocalDateTime.now();
+    }
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
  * 파일 메타데이터 엔티티
  */
 @Entity
-@Table(name = "tb_file")
+@Table(name = "tb_file", indexes = {
+        @Index(name = "idx_file_created", columnList = "createdDttm DESC, id DESC"),
+        @Index(name = "idx_file_blob", columnList = "blob_hash")
+})
 @Getter
 @NoArgsConstructor
 public class FileEntity extends BaseEntity {
@@ -43,6 +46,10 @@ public class FileEntity extends BaseEntity {
     @Column(nullable = false)
     private String uploadedBy;    // 업로드한 사용자
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_hash")
+    private FileBlob blob;        // 내용 블롭 (내용 주소 저장소 도입 전 업로드는 null)
+
     public FileEntity(String originalName, String storedName, String filePath,
                       String contentType, Long fileSize, FileType fileType,
                       Long referenceId, String uploadedBy) {
@@ -55,4 +62,10 @@ public class FileEntity extends BaseEntity {
         this.referenceId = referenceId;
         this.uploadedBy = uploadedBy;
     }
+
+    public FileEntity(String originalName, String storedName, FileBlob blob, String filePath,
+                      String contentType, FileType fileType, Long referenceId, String uploadedBy) {
+        this(originalName, storedName, filePath, contentType, blob.getFileSize(), fileType, referenceId, uploadedBy);
+        this.blob = blob;
+    }
 }
@@ -0,0 +1,60 @@
+package com.matchhub.catconnect.domain.file.repository;
+
+import com.matchhub.catconnect.domain.file.model.entity.FileBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 파일 블롭 레포지토리
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * 참조 수 증가 (블롭이 없으면 0 반환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1, b.zeroRefSince = NULL WHERE b.hash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.hash = :hash AND b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash);
+
+    /**
+     * 참조 수가 0이 된 블롭에 정리 유예 시작 시각 기록
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.zeroRefSince = :now WHERE b.hash = :hash AND b.refCount = 0")
+    int markUnreferenced(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    /**
+     * 유예 기간이 지난 미참조 블롭 조회
+     */
+    @Query("SELECT b FROM FileBlob b WHERE b.refCount = 0 AND b.zeroRefSince < :cutoff ORDER BY b.zeroRefSince ASC")
+    List<FileBlob> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 여전히 미참조 상태인 경우에만 삭제 (정리 중 다시 참조된 블롭은 0 반환)
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.zeroRefSince < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 생성 완료된 이미지 변형 너비 기록
+     * @param hash 블롭 해시
+     * @param variantWidths 변형 너비 목록 (오름차순, 쉼표 구분)
+     * @return 갱신된 행 수 (생성 중 블롭이 정리되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.variantWidths = :variantWidths WHERE b.hash = :hash")
+    int updateVariantWidths(@Param("hash") String hash, @Param("variantWidths") String variantWidths);
+}
@@ -2,9 +2,13 @@ package com.matchhub.catconnect.domain.file.repository;
 
 import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
 import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +23,27 @@ public interface FileRepository extends JpaRepository<FileEntity, Long> {
     List<FileEntity> findByFileTypeAndReferenceId(FileType fileType, Long referenceId);
 
     List<FileEntity> findByUploadedBy(String uploadedBy);
+
+    /**
+     * 커서 이후의 파일을 최신순으로 조회함 (키셋 페이지네이션)
+     * @param createdDttm 커서 업로드일시
+     * @param id 커서 파일 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 파일 목록
+     */
+    @Query("SELECT f FROM FileEntity f " +
+            "WHERE f.createdDttm < :createdDttm OR (f.createdDttm = :createdDttm AND f.id < :id) " +
+            "ORDER BY f.createdDttm DESC, f.id DESC")
+    List<FileEntity> findAfter(@Param("createdDttm") LocalDateTime createdDttm, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 저장된 파일명으로 블롭과 함께 조회 (다운로드 메타데이터용)
+     */
+    @Query("SELECT f FROM FileEntity f LEFT JOIN FETCH f.blob WHERE f.storedName = :storedName")
+    Optional<FileEntity> findByStoredNameWithBlob(@Param("storedName") String storedName);
+
+    /**
+     * 기준 시각 이전에 업로드된 파일을 ID 순 청크로 조회 (미참조 파일 정리용)
+     */
+    List<FileEntity> findByCreatedDttmBeforeAndIdGreaterThanOrderByIdAsc(LocalDateTime createdDttm, Long id, Pageable pageable);
 }
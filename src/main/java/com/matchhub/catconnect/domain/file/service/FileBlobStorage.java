@@ -0,0 +1,186 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import com.matchhub.catconnect.domain.file.model.entity.FileBlob;
+import com.matchhub.catconnect.domain.file.repository.FileBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 내용 주소 기반(SHA-256) 중복 제거 파일 저장소
+ *
+ * 업로드를 임시 파일로 스트리밍하면서 해시를 계산하고, "ab/cd/<해시>" 경로에 블롭으로 저장함
+ * 같은 내용은 블롭 하나를 공유하며 참조 수로 관리하고, 참조 수가 0이 된 블롭은
+ * 유예 기간이 지난 뒤 주기 작업(sweep)이 디스크 파일과 함께 정리함
+ *
+ * 블롭 행 생성은 별도 트랜잭션(참조 수 0)으로 커밋하고 참조 수 증가는 호출자 트랜잭션에서 하므로,
+ * 호출자가 롤백되면 블롭은 참조 수 0으로 남아 정리 대상이 됨
+ */
+@Component
+public class FileBlobStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(FileBlobStorage.class);
+    private static final int MAX_STORE_ATTEMPTS = 3;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final FileBlobRepository blobRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path rootPath;
+    private final Path tempPath;
+    private final long sweepGraceMillis;
+
+    public FileBlobStorage(FileBlobRepository blobRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${file.upload-dir:${user.home}/catconnect-uploads}") String uploadDir,
+                           @Value("${file.blob.sweep-grace-ms:600000}") long sweepGraceMillis) {
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempPath = rootPath.resolve("tmp");
+        this.sweepGraceMillis = sweepGraceMillis;
+        try {
+            Files.createDirectories(tempPath);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 임시 디렉토리를 생성할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 업로드 내용을 블롭으로 저장하고 참조 수 증가 (호출자 트랜잭션 안에서 호출)
+     * @param content 업로드 스트림 (이 메서드가 닫음)
+     * @return 참조 수가 증가된 블롭
+     */
+    public FileBlob store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(tempPath, "upload-", ".tmp");
+        try {
+            String hash;
+            try (DigestInputStream in = new DigestInputStream(content, sha256())) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            }
+            long size = Files.size(temp);
+            String relativePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+
+            for (int attempt = 1; attempt <= MAX_STORE_ATTEMPTS; attempt++) {
+                if (blobRepository.incrementRefCount(hash) == 1) {
+                    // 참조 수를 올린 뒤에는 정리 대상이 아니므로 파일이 없을 때만 채워 넣음
+                    placeFile(temp, resolve(relativePath));
+                    log.debug("블롭 참조 추가: hash={}, size={}", hash, size);
+                    return blobRepository.findById(hash).orElseThrow();
+                }
+                createBlob(hash, relativePath, size);
+            }
+            throw new IOException("블롭을 저장할 수 없습니다: " + hash);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 블롭 참조 해제 (참조 수가 0이 되면 유예 후 정리 대상, 호출자 트랜잭션 안에서 호출)
+     */
+    public void release(String hash) {
+        blobRepository.decrementRefCount(hash);
+        if (blobRepository.markUnreferenced(hash, LocalDateTime.now()) > 0) {
+            log.debug("블롭 참조 없음, 정리 대기: hash={}", hash);
+        }
+    }
+
+    /**
+     * 블롭의 절대 경로
+     */
+    public Path resolve(String relativePath) {
+        return rootPath.resolve(relativePath);
+    }
+
+    /**
+     * 유예 기간이 지난 미참조 블롭을 디스크와 DB에서 정리
+     * 행을 조건부로 먼저 삭제하고 성공한 경우에만 파일을 지우며, 같은 트랜잭션 안에서 처리하여
+     * 동시에 같은 내용을 업로드하는 요청은 행 잠금이 풀린 뒤 블롭을 새로 만듦
+     */
+    @Scheduled(fixedDelayString = "${file.blob.sweep-interval-ms:3600000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(sweepGraceMillis * 1_000_000);
+        int removed = 0;
+        List<FileBlob> candidates;
+        do {
+            candidates = blobRepository.findUnreferenced(cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            for (FileBlob blob : candidates) {
+                Boolean deleted = transactionTemplate.execute(status -> {
+                    if (blobRepository.deleteIfUnreferenced(blob.getHash(), cutoff) == 0) {
+                        return false;
+                    }
+                    Path path = resolve(blob.getRelativePath());
+                    try {
+                        Files.deleteIfExists(path);
+                        ImageVariantGenerator.deleteVariants(path, blob.getVariantWidths());
+                    } catch (IOException e) {
+                        log.error("블롭 파일 삭제 실패: {}", path, e);
+                    }
+                    return true;
+                });
+                if (Boolean.TRUE.equals(deleted)) {
+                    removed++;
+                }
+            }
+        } while (candidates.size() == SWEEP_BATCH_SIZE);
+
+        if (removed > 0) {
+            log.info("미참조 블롭 정리 완료: removed={}", removed);
+        }
+    }
+
+    // 블롭 행을 별도 트랜잭션으로 생성 (동시에 다른 요청이 만들었으면 무시하고 참조 수 증가를 다시 시도)
+    private void createBlob(String hash, String relativePath, long size) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> blobRepository.saveAndFlush(new FileBlob(hash, relativePath, size)));
+            log.debug("블롭 생성: hash={}, path={}", hash, relativePath);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("블롭 동시 생성 감지: hash={}", hash);
+        }
+    }
+
+    private void placeFile(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용을 다른 요청이 먼저 채워 넣음
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.matchhub.catconnect.domain.file.service;
+
+/**
+ * 파일 삭제 이벤트 (커밋 후 다운로드 메타데이터 캐시 무효화에 사용)
+ *
+ * @param storedName 삭제된 파일의 저장된 파일명
+ */
+public record FileDeletedEvent(String storedName) {
+}
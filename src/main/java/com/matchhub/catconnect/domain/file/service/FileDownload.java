@@ -0,0 +1,44 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 다운로드 응답에 필요한 파일 메타데이터 스냅샷
+ *
+ * @param storedName 저장된 파일명
+ * @param path 디스크 경로
+ * @param originalName 원본 파일명 (Content-Disposition용)
+ * @param contentType MIME 타입
+ * @param etag 강한 ETag (블롭이 있으면 내용 해시, 없으면 저장명-크기)
+ * @param variantWidths 생성 완료된 리사이즈 변형 너비 (오름차순)
+ */
+public record FileDownload(String storedName, Path path, String originalName,
+                           String contentType, String etag, List<Integer> variantWidths) {
+
+    /**
+     * 요청 너비 이상인 가장 작은 변형 선택 (없거나 아직 생성 전이면 원본)
+     * @param width 요청 너비 (null이면 원본)
+     */
+    public FileDownload forWidth(Integer width) {
+        if (width == null) {
+            return this;
+        }
+        for (int variant : variantWidths) {
+            if (variant >= width) {
+                String variantEtag = etag.substring(0, etag.length() - 1) + "-w" + variant + "\"";
+                return new FileDownload(storedName, ImageVariantGenerator.variantPath(path, variant),
+                        originalName, contentType, variantEtag, List.of());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 요청 너비의 변형 대신 원본으로 응답하는지 여부 (변형 생성 전이거나 요청 너비가 모든 변형보다 큼)
+     * @param width 요청 너비 (null이면 원본 요청이므로 false)
+     */
+    public boolean fallsBackToOriginal(Integer width) {
+        return width != null && variantWidths.stream().noneMatch(variant -> variant >= width);
+    }
+}
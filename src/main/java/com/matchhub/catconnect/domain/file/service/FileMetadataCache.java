@@ -0,0 +1,65 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 다운로드용 파일 메타데이터 캐시 (저장된 파일명 → 메타데이터, 접근 순서 기준 LRU)
+ *
+ * 저장된 파일명은 무작위 UUID이고 내용이 바뀌지 않으므로 TTL 없이 보관하며,
+ * 파일 삭제 또는 블롭 변형 생성 완료 시에만 제거함
+ */
+@Component
+public class FileMetadataCache {
+
+    private final Map<String, FileDownload> entries;
+
+    public FileMetadataCache(@Value("${file.metadata-cache-size:5000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FileDownload> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public FileDownload get(String storedName) {
+        synchronized (entries) {
+            return entries.get(storedName);
+        }
+    }
+
+    public void put(FileDownload download) {
+        synchronized (entries) {
+            entries.put(download.storedName(), download);
+        }
+    }
+
+    public void evict(String storedName) {
+        synchronized (entries) {
+            entries.remove(storedName);
+        }
+    }
+
+    /**
+     * 파일 삭제 트랜잭션 커밋 후 해당 항목 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileDeleted(FileDeletedEvent event) {
+        evict(event.storedName());
+    }
+
+    /**
+     * 같은 경로(블롭)를 가리키는 항목 모두 제거 (블롭 변형 생성 완료 시)
+     */
+    public void evictPath(Path path) {
+        synchronized (entries) {
+            entries.values().removeIf(download -> download.path().equals(path));
+        }
+    }
+}
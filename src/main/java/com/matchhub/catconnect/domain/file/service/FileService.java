@@ -1,17 +1,20 @@
 package com.matchhub.catconnect.domain.file.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.PageCursor;
 import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
+import com.matchhub.catconnect.domain.file.model.entity.FileBlob;
 import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
 import com.matchhub.catconnect.domain.file.model.enums.FileType;
 import com.matchhub.catconnect.domain.file.repository.FileRepository;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
+import com.matchhub.catconnect.global.util.ApproximateCountCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,11 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -50,10 +52,22 @@ public class FileService {
 
     private final FileRepository fileRepository;
     private final Path uploadPath;
+    private final ApproximateCountCache countCache;
+    private final FileMetadataCache metadataCache;
+    private final FileBlobStorage blobStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FileService(FileRepository fileRepository,
-                       @Value("${file.upload-dir:${user.home}/catconnect-uploads}") String uploadDir) {
+                       @Value("${file.upload-dir:${user.home}/catconnect-uploads}") String uploadDir,
+                       ApproximateCountCache countCache,
+                       FileMetadataCache metadataCache,
+                       FileBlobStorage blobStorage,
+                       ApplicationEventPublisher eventPublisher) {
         this.fileRepository = fileRepository;
+        this.countCache = countCache;
+        this.metadataCache = metadataCache;
+        this.blobStorage = blobStorage;
+        this.eventPublisher = eventPublisher;
         this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
         createUploadDirectory();
     }
@@ -79,29 +93,50 @@ public class FileService {
         // 파일 유효성 검사
         validateFile(file);
 
-        // 저장할 파일명 생성 (UUID + 확장자)
-        String originalName = file.getOriginalFilename();
+        try (InputStream content = file.getInputStream()) {
+            return storeImage(content, file.getOriginalFilename(), file.getContentType(),
+                    fileType, referenceId, username);
+        } catch (IOException e) {
+            log.error("업로드 파일 읽기 실패: originalName={}", file.getOriginalFilename(), e);
+            throw new AppException(Domain.NONE, ErrorCode.FILE_UPLOAD_FAILED,
+                    "파일 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 스트림 저장 (멀티파트 업로드와 게시글 본문 인라인 이미지 추출에서 공용)
+     * @param content 이미지 내용
+     * @param originalName 원본 파일명 (확장자로 형식 검사)
+     * @param contentType MIME 타입
+     */
+    @Transactional
+    public FileResponseDTO storeImage(InputStream content, String originalName, String contentType,
+                                      FileType fileType, Long referenceId, String username) {
+        validateType(originalName, contentType);
+
+        // 저장할 파일명 생성 (UUID + 확장자, 다운로드 URL용)
         String extension = getExtension(originalName);
         String storedName = UUID.randomUUID().toString() + "." + extension;
 
-        // 파일 저장
-        Path targetPath = uploadPath.resolve(storedName);
+        // 내용 해시 기반 블롭으로 저장 (같은 내용이 이미 있으면 디스크에 다시 쓰지 않음)
+        FileBlob blob;
         try {
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-            log.debug("파일 저장 완료: {}", targetPath);
+            blob = blobStorage.store(content);
         } catch (IOException e) {
-            log.error("파일 저장 실패: {}", targetPath, e);
+            log.error("파일 저장 실패: storedName={}", storedName, e);
             throw new AppException(Domain.NONE, ErrorCode.FILE_UPLOAD_FAILED,
                     "파일 저장 중 오류가 발생했습니다: " + e.getMessage());
         }
+        Path blobPath = blobStorage.resolve(blob.getRelativePath());
+        log.debug("파일 저장 완료: storedName={}, blob={}", storedName, blob.getHash());
 
         // 메타데이터 저장
         FileEntity fileEntity = new FileEntity(
                 originalName,
                 storedName,
-                targetPath.toString(),
-                file.getContentType(),
-                file.getSize(),
+                blob,
+                blobPath.toString(),
+                contentType,
                 fileType,
                 referenceId,
                 username
@@ -109,36 +144,51 @@ public class FileService {
         fileRepository.save(fileEntity);
         log.debug("파일 메타데이터 저장 완료: id={}", fileEntity.getId());
 
+        // 커밋 후 썸네일 등 리사이즈 변형을 백그라운드에서 생성 (같은 내용의 변형이 이미 있으면 생략)
+        eventPublisher.publishEvent(new FileUploadedEvent(blob.getHash(), blobPath, contentType,
+                blob.getVariantWidths() != null));
+
         return new FileResponseDTO(fileEntity);
     }
 
     /**
-     * 파일 다운로드
+     * 다운로드용 파일 메타데이터 조회 (한 번의 조회로 경로와 응답 헤더 정보를 함께 반환)
+     * 메타데이터 캐시에 있으면 DB를 조회하지 않음
      */
-    public Resource downloadFile(String storedName) {
-        log.debug("파일 다운로드 요청: storedName={}", storedName);
+    public FileDownload getDownload(String storedName) {
+        FileDownload cached = metadataCache.get(storedName);
+        if (cached != null) {
+            return cached;
+        }
 
-        FileEntity fileEntity = fileRepository.findByStoredName(storedName)
+        log.debug("파일 다운로드 메타데이터 조회: storedName={}", storedName);
+        FileEntity fileEntity = fileRepository.findByStoredNameWithBlob(storedName)
                 .orElseThrow(() -> new AppException(Domain.NONE, ErrorCode.FILE_NOT_FOUND,
                         "파일을 찾을 수 없습니다: " + storedName));
 
-        try {
-            Path filePath = Paths.get(fileEntity.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists() && resource.isReadable()) {
-                log.debug("파일 다운로드 성공: {}", filePath);
-                return resource;
-            } else {
-                log.error("파일을 읽을 수 없습니다: {}", filePath);
-                throw new AppException(Domain.NONE, ErrorCode.FILE_NOT_FOUND,
-                        "파일을 읽을 수 없습니다: " + storedName);
-            }
-        } catch (MalformedURLException e) {
-            log.error("잘못된 파일 경로: {}", fileEntity.getFilePath(), e);
+        Path filePath = Paths.get(fileEntity.getFilePath());
+        if (!Files.isReadable(filePath)) {
+            log.error("파일을 읽을 수 없습니다: {}", filePath);
             throw new AppException(Domain.NONE, ErrorCode.FILE_NOT_FOUND,
-                    "잘못된 파일 경로입니다: " + storedName);
+                    "파일을 읽을 수 없습니다: " + storedName);
         }
+
+        // 블롭이 있으면 내용 해시를 ETag로 사용 (같은 내용은 파일명이 달라도 같은 ETag)
+        FileBlob blob = fileEntity.getBlob();
+        String etag = blob != null
+                ? "\"" + blob.getHash() + "\""
+                : "\"" + storedName + "-" + fileEntity.getFileSize() + "\"";
+        FileDownload download = new FileDownload(storedName, filePath, fileEntity.getOriginalName(),
+                fileEntity.getContentType(), etag, parseVariantWidths(blob != null ? blob.getVariantWidths() : null));
+        metadataCache.put(download);
+        return download;
+    }
+
+    private List<Integer> parseVariantWidths(String variantWidths) {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(variantWidths.split(",")).map(Integer::valueOf).sorted().toList();
     }
 
     /**
@@ -183,6 +233,20 @@ public class FileService {
         return fileRepository.findAll(pageable).map(FileResponseDTO::new);
     }
 
+    /**
+     * 전체 파일 목록 커서 조회 (키셋 페이지네이션)
+     */
+    public CursorSliceDTO<FileResponseDTO> getFileSlice(String after, int size, boolean includeTotal) {
+        log.debug("커서 파일 목록 조회: after={}, size={}", after, size);
+        size = CursorSliceDTO.clampSize(size);
+        PageCursor cursor = PageCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<FileEntity> rows = fileRepository.findAfter(cursor.createdDttm(), cursor.id(), PageRequest.of(0, size + 1));
+        Long total = includeTotal ? countCache.get("file", fileRepository::count) : null;
+        return CursorSliceDTO.of(rows, size, FileResponseDTO::new,
+                file -> new PageCursor(file.getCreatedDttm(), file.getId()), total);
+    }
+
     /**
      * 파일 삭제 (본인 파일만)
      */
@@ -219,8 +283,33 @@ public class FileService {
         deleteFileInternal(fileEntity);
     }
 
+    /**
+     * 미참조 파일 일괄 삭제 (정리 작업용, 그 사이 이미 삭제된 파일은 건너뜀)
+     * @return 삭제된 파일 수
+     */
+    @Transactional
+    public int deleteOrphanFiles(List<Long> fileIds) {
+        List<FileEntity> files = fileRepository.findAllById(fileIds);
+        files.forEach(this::deleteFileInternal);
+        return files.size();
+    }
+
     private void deleteFileInternal(FileEntity fileEntity) {
-        // 물리적 파일 삭제
+        // 커밋 전에 제거하면 동시 다운로드가 삭제 전 행을 다시 캐시할 수 있으므로 커밋 후 제거
+        eventPublisher.publishEvent(new FileDeletedEvent(fileEntity.getStoredName()));
+
+        // DB에서 메타데이터 삭제
+        fileRepository.delete(fileEntity);
+        log.debug("파일 메타데이터 삭제 완료: id={}", fileEntity.getId());
+
+        FileBlob blob = fileEntity.getBlob();
+        if (blob != null) {
+            // 블롭은 다른 파일과 공유될 수 있으므로 참조만 해제하고, 디스크 파일은 정리 작업이 유예 후 삭제
+            blobStorage.release(blob.getHash());
+            return;
+        }
+
+        // 블롭 도입 전 업로드는 물리적 파일을 바로 삭제
         try {
             Path filePath = Paths.get(fileEntity.getFilePath());
             Files.deleteIfExists(filePath);
@@ -228,10 +317,6 @@ public class FileService {
         } catch (IOException e) {
             log.error("물리적 파일 삭제 실패: {}", fileEntity.getFilePath(), e);
         }
-
-        // DB에서 메타데이터 삭제
-        fileRepository.delete(fileEntity);
-        log.debug("파일 메타데이터 삭제 완료: id={}", fileEntity.getId());
     }
 
     /**
@@ -243,9 +328,17 @@ public class FileService {
             throw new AppException(Domain.NONE, ErrorCode.INVALID_REQUEST, "파일이 비어있습니다.");
         }
 
-        String originalName = file.getOriginalFilename();
+        validateType(file.getOriginalFilename(), file.getContentType());
+
+        log.debug("파일 유효성 검사 통과: name={}, contentType={}, size={}",
+                file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 확장자와 MIME 타입 검사
+     */
+    private void validateType(String originalName, String contentType) {
         String extension = getExtension(originalName).toLowerCase();
-        String contentType = file.getContentType();
 
         // 확장자 검사
         if (!ALLOWED_EXTENSIONS.contains(extension)) {
@@ -260,9 +353,6 @@ public class FileService {
             throw new AppException(Domain.NONE, ErrorCode.INVALID_FILE_TYPE,
                     "허용되지 않은 파일 형식입니다. 이미지 파일만 업로드 가능합니다.");
         }
-
-        log.debug("파일 유효성 검사 통과: name={}, extension={}, contentType={}, size={}",
-                originalName, extension, contentType, file.getSize());
     }
 
     /**
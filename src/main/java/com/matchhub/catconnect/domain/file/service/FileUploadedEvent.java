@@ -0,0 +1,14 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 업로드 완료 이벤트 (커밋 후 이미지 변형 생성에 사용)
+ *
+ * @param blobHash 내용 블롭 해시
+ * @param path 블롭 경로
+ * @param contentType MIME 타입
+ * @param variantsReady 같은 내용이 이미 업로드되어 변형이 만들어져 있는지 여부
+ */
+public record FileUploadedEvent(String blobHash, Path path, String contentType, boolean variantsReady) {
+}
@@ -0,0 +1,245 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import com.matchhub.catconnect.domain.file.repository.FileBlobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 이미지의 고정 너비 변형(썸네일) 생성기
+ *
+ * 업로드 커밋 후 제한된 크기의 작업자 풀에서 JDK ImageIO만으로 원본보다 작은 너비의 변형을 만들어
+ * 블롭 옆에 "{블롭}_w{너비}"로 저장하고, 완료된 너비를 FileBlob.variantWidths에 기록함
+ * 변형은 내용(블롭) 단위이므로 같은 이미지가 다시 업로드되면 새로 만들지 않음
+ * 대기열이 가득 차면 해당 이미지는 변형 없이 원본으로만 제공됨
+ * JPEG/PNG만 처리하며 (GIF 애니메이션, WebP는 ImageIO로 손실 없이 다룰 수 없어 원본 유지)
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+    private final FileBlobRepository blobRepository;
+    private final FileMetadataCache metadataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(FileBlobRepository blobRepository,
+                                 FileMetadataCache metadataCache,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${file.variant.widths:64,256,1024}") List<Integer> widths,
+                                 @Value("${file.variant.max-pixels:40000000}") long maxPixels,
+                                 @Value("${file.variant.threads:2}") int threads,
+                                 @Value("${file.variant.queue-capacity:200}") int queueCapacity) {
+        this.blobRepository = blobRepository;
+        this.metadataCache = metadataCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.widths = widths.stream().sorted().distinct().toList();
+        this.maxPixels = maxPixels;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("이미지 변형 대기열 포화로 생성 생략: queued={}", pool.getQueue().size()));
+    }
+
+    /**
+     * 변형 파일 경로 ("ab/cd/<해시>" → "ab/cd/<해시>_w256", 확장자가 있으면 확장자 앞에 붙임)
+     */
+    public static Path variantPath(Path original, int width) {
+        String fileName = original.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot < 0 ? fileName : fileName.substring(0, dot);
+        String extension = dot < 0 ? "" : fileName.substring(dot);
+        return original.resolveSibling(base + "_w" + width + extension);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUploaded(FileUploadedEvent event) {
+        if (event.variantsReady() || formatOf(event.contentType()) == null) {
+            return;
+        }
+        executor.execute(() -> generate(event));
+    }
+
+    private void generate(FileUploadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<Integer> created = createVariants(event.path(), formatOf(event.contentType()));
+            if (created.isEmpty()) {
+                return;
+            }
+            String variantWidths = created.stream().map(String::valueOf).collect(Collectors.joining(","));
+            Integer updated = transactionTemplate.execute(status ->
+                    blobRepository.updateVariantWidths(event.blobHash(), variantWidths));
+            // 같은 블롭을 가리키는 모든 파일의 캐시된 메타데이터가 새 변형을 보도록 무효화
+            metadataCache.evictPath(event.path());
+            if (updated == null || updated == 0) {
+                // 생성 중 블롭이 정리된 경우 변형 파일도 정리
+                deleteVariants(event.path(), variantWidths);
+            }
+            log.debug("이미지 변형 생성 완료: blob={}, widths={}, elapsedMs={}",
+                    event.blobHash(), variantWidths, System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변형 생성 실패 (원본으로 제공): blob={}, error={}", event.blobHash(), e.getMessage());
+        }
+    }
+
+    /**
+     * 원본을 한 번만 디코딩하여 큰 너비부터 차례로 축소 (앞 단계 결과를 다음 단계 입력으로 사용)
+     * @return 생성된 변형 너비 (오름차순)
+     */
+    private List<Integer> createVariants(Path original, String format) throws IOException {
+        BufferedImage source = readDownsampled(original);
+        if (source == null) {
+            return List.of();
+        }
+
+        List<Integer> targets = new ArrayList<>(widths.stream().filter(w -> w < source.getWidth()).toList());
+        Collections.reverse(targets);
+
+        List<Integer> created = new ArrayList<>();
+        BufferedImage current = source;
+        for (int width : targets) {
+            current = resize(current, width, "png".equals(format));
+            write(current, format, variantPath(original, width));
+            created.add(width);
+        }
+        Collections.reverse(created);
+        return created;
+    }
+
+    /**
+     * 헤더로 크기를 먼저 확인하고, 가장 큰 변형의 2배 이상 해상도만 남도록 서브샘플링하여 디코딩
+     * (10MB 원본을 전체 해상도로 메모리에 올리지 않음)
+     */
+    private BufferedImage readDownsampled(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                log.debug("이미지 디코더 없음: {}", original);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    log.warn("이미지 해상도 초과로 변형 생성 생략: {}x{}, path={}", sourceWidth, sourceHeight, original);
+                    return null;
+                }
+                int largest = widths.stream().filter(w -> w < sourceWidth).max(Integer::compare).orElse(0);
+                if (largest == 0) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (largest * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        int type = keepAlpha && source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 임시 파일에 쓴 뒤 이동하여 다운로드 중 쓰다 만 파일이 노출되지 않도록 함
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("이미지 인코더 없음: " + format);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 원본에 딸린 변형 파일 삭제
+     * @param original 원본(블롭) 경로
+     * @param variantWidths 생성된 변형 너비 (쉼표 구분, null이면 없음)
+     */
+    public static void deleteVariants(Path original, String variantWidths) {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return;
+        }
+        for (String width : variantWidths.split(",")) {
+            Path variant = variantPath(original, Integer.parseInt(width.trim()));
+            try {
+                Files.deleteIfExists(variant);
+            } catch (IOException e) {
+                log.error("이미지 변형 파일 삭제 실패: {}", variant, e);
+            }
+        }
+    }
+
+    private String formatOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        return switch (contentType) {
+            case "image/jpeg" -> "jpeg";
+            case "image/png" -> "png";
+            default -> null;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,275 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import com.matchhub.catconnect.domain.chat.repository.ChatMessageRepository;
+import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
+import com.matchhub.catconnect.domain.file.repository.FileRepository;
+import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 미참조 업로드 파일 정리 작업
+ *
+ * 게시글 작성 중 이탈하거나 전송하지 않은 채팅 이미지처럼 어디에서도 참조하지 않는 파일을 주기적으로 삭제함
+ * 1) 게시글 본문/썸네일을 한 행씩 스트리밍으로 읽어 참조 중인 저장 파일명만 모음 (본문 전체를 메모리에 올리지 않음)
+ * 2) 유예 기간보다 오래된 파일을 ID 순 청크로 조회하여, 채팅 메시지(fileId)와 프로필 이미지(URL)는 청크 단위 IN 조회로 확인
+ * 3) 미참조 파일을 작은 배치로 나누어 초당 삭제 수 제한을 지키며 삭제 (배치마다 스캔 이후 수정된 게시글을 다시 확인)
+ *
+ * dry-run 모드에서는 삭제하지 않고 대상 수와 용량만 로그와 메트릭으로 남김
+ */
+@Component
+public class OrphanFileCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanFileCollector.class);
+    private static final String DOWNLOAD_PATH = "/api/files/download/";
+    private static final Pattern FILE_REFERENCE = Pattern.compile(Pattern.quote(DOWNLOAD_PATH) + "([\\w.-]+)");
+    private static final String BOARD_SCAN_SQL = "SELECT content, thumbnail_url FROM tb_board";
+    private static final String BOARD_RESCAN_SQL = "SELECT content, thumbnail_url FROM tb_board WHERE updated_dttm >= ?";
+
+    private final FileRepository fileRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final UserRepository userRepository;
+    private final FileService fileService;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final long graceMillis;
+    private final int batchSize;
+    private final int deleteBatchSize;
+    private final int maxDeletesPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer runTimer;
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter deletedCounter;
+    private final Counter orphanBytesCounter;
+    // 마지막 실행에서 찾은 미참조 파일 수/용량 (dry-run 결과 확인용)
+    private final AtomicLong lastOrphanCount = new AtomicLong();
+    private final AtomicLong lastOrphanBytes = new AtomicLong();
+
+    public OrphanFileCollector(FileRepository fileRepository,
+                               ChatMessageRepository chatMessageRepository,
+                               UserRepository userRepository,
+                               FileService fileService,
+                               DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${file.gc.enabled:true}") boolean enabled,
+                               @Value("${file.gc.dry-run:false}") boolean dryRun,
+                               @Value("${file.gc.grace-ms:86400000}") long graceMillis,
+                               @Value("${file.gc.batch-size:500}") int batchSize,
+                               @Value("${file.gc.delete-batch-size:50}") int deleteBatchSize,
+                               @Value("${file.gc.max-deletes-per-second:20}") int maxDeletesPerSecond) {
+        this.fileRepository = fileRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.userRepository = userRepository;
+        this.fileService = fileService;
+        // 스캔 전용 JdbcTemplate (공유 빈의 fetch size를 바꾸지 않도록 따로 생성)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(100);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.graceMillis = graceMillis;
+        this.batchSize = batchSize;
+        this.deleteBatchSize = deleteBatchSize;
+        this.maxDeletesPerSecond = maxDeletesPerSecond;
+
+        this.runTimer = Timer.builder("file.gc.run").register(meterRegistry);
+        this.scannedCounter = Counter.builder("file.gc.scanned").register(meterRegistry);
+        this.orphanCounter = Counter.builder("file.gc.orphans").register(meterRegistry);
+        this.deletedCounter = Counter.builder("file.gc.deleted").register(meterRegistry);
+        this.orphanBytesCounter = Counter.builder("file.gc.orphan.bytes").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("file.gc.last_run.orphans", lastOrphanCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("file.gc.last_run.orphan_bytes", lastOrphanBytes, AtomicLong::get).baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 정리 결과
+     * @param scanned 유예 기간이 지나 검사한 파일 수
+     * @param orphans 미참조 파일 수
+     * @param orphanBytes 미참조 파일 용량 (bytes)
+     * @param deleted 실제 삭제한 파일 수 (dry-run이면 0)
+     */
+    public record Report(int scanned, int orphans, long orphanBytes, int deleted) {
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:3600000}", initialDelayString = "${file.gc.initial-delay-ms:600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        collect(LocalDateTime.now().minusNanos(graceMillis * 1_000_000), dryRun);
+    }
+
+    /**
+     * 기준 시각 이전에 업로드된 미참조 파일 정리
+     * @param cutoff 이 시각 이전에 업로드된 파일만 대상
+     * @param dryRun true면 삭제하지 않고 집계만 함
+     */
+    public Report collect(LocalDateTime cutoff, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("미참조 파일 정리 이미 실행 중");
+            return new Report(0, 0, 0, 0);
+        }
+        try {
+            return runTimer.record(() -> doCollect(cutoff, dryRun));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Report doCollect(LocalDateTime cutoff, boolean dryRun) {
+        log.debug("미참조 파일 정리 시작: cutoff={}, dryRun={}", cutoff, dryRun);
+        LocalDateTime scanStartedAt = LocalDateTime.now();
+        Set<String> boardReferences = scanBoardReferences(BOARD_SCAN_SQL);
+
+        int scanned = 0;
+        int orphans = 0;
+        long orphanBytes = 0;
+        int deleted = 0;
+        long lastId = 0;
+        List<FileEntity> chunk;
+        do {
+            chunk = fileRepository.findByCreatedDttmBeforeAndIdGreaterThanOrderByIdAsc(cutoff, lastId, PageRequest.of(0, batchSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+            scanned += chunk.size();
+
+            List<FileEntity> orphanFiles = findOrphans(chunk, boardReferences);
+            orphans += orphanFiles.size();
+            for (FileEntity file : orphanFiles) {
+                orphanBytes += file.getFileSize();
+                orphanBytesCounter.increment(file.getFileSize());
+            }
+            orphanCounter.increment(orphanFiles.size());
+
+            if (!dryRun && !orphanFiles.isEmpty()) {
+                // 스캔 이후 수정된 게시글이 새로 참조한 파일은 제외
+                boardReferences.addAll(scanBoardReferences(BOARD_RESCAN_SQL, Timestamp.valueOf(scanStartedAt)));
+                List<Long> ids = orphanFiles.stream()
+                        .filter(file -> !boardReferences.contains(file.getStoredName()))
+                        .map(FileEntity::getId)
+                        .toList();
+                deleted += deleteThrottled(ids);
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+        } while (chunk.size() == batchSize);
+
+        scannedCounter.increment(scanned);
+        lastOrphanCount.set(orphans);
+        lastOrphanBytes.set(orphanBytes);
+        log.info("미참조 파일 정리 완료: scanned={}, orphans={}, orphanBytes={}, deleted={}, dryRun={}",
+                scanned, orphans, orphanBytes, deleted, dryRun);
+        return new Report(scanned, orphans, orphanBytes, deleted);
+    }
+
+    /**
+     * 게시글 본문과 썸네일에서 참조 중인 저장 파일명을 스트리밍으로 수집
+     * (PostgreSQL은 트랜잭션 안에서만 fetch size 단위 커서로 읽으므로 읽기 전용 트랜잭션으로 감쌈)
+     */
+    private Set<String> scanBoardReferences(String sql, Object... args) {
+        Set<String> references = new HashSet<>();
+        RowCallbackHandler handler = rs -> {
+            collectReferences(rs.getString(1), references);
+            collectReferences(rs.getString(2), references);
+        };
+        readOnlyTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, handler, args));
+        return references;
+    }
+
+    private static void collectReferences(String text, Set<String> references) {
+        if (text == null || !text.contains(DOWNLOAD_PATH)) {
+            return;
+        }
+        Matcher matcher = FILE_REFERENCE.matcher(text);
+        while (matcher.find()) {
+            references.add(matcher.group(1));
+        }
+    }
+
+    // 청크 안에서 게시글/채팅/프로필 어디에서도 참조하지 않는 파일만 남김
+    private List<FileEntity> findOrphans(List<FileEntity> chunk, Set<String> boardReferences) {
+        Map<Long, FileEntity> candidates = chunk.stream()
+                .filter(file -> !boardReferences.contains(file.getStoredName()))
+                .collect(Collectors.toMap(FileEntity::getId, Function.identity()));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        chatMessageRepository.findReferencedFileIds(candidates.keySet()).forEach(candidates::remove);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> idsByUrl = candidates.values().stream()
+                .collect(Collectors.toMap(file -> DOWNLOAD_PATH + file.getStoredName(), FileEntity::getId));
+        userRepository.findProfileImageUrlsIn(idsByUrl.keySet()).forEach(url -> candidates.remove(idsByUrl.get(url)));
+
+        List<FileEntity> orphans = new ArrayList<>(candidates.values());
+        orphans.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return orphans;
+    }
+
+    /**
+     * 작은 배치로 나누어 삭제하며 초당 삭제 수 제한을 넘지 않도록 배치 사이에 대기
+     * @return 삭제된 파일 수 (중단되면 그때까지의 수)
+     */
+    private int deleteThrottled(List<Long> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += deleteBatchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + deleteBatchSize, ids.size()));
+            long startedAt = System.nanoTime();
+            int count = fileService.deleteOrphanFiles(batch);
+            deleted += count;
+            deletedCounter.increment(count);
+
+            long minimumNanos = batch.size() * 1_000_000_000L / Math.max(1, maxDeletesPerSecond);
+            long remainingNanos = minimumNanos - (System.nanoTime() - startedAt);
+            if (remainingNanos > 0) {
+                try {
+                    Thread.sleep(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("미참조 파일 정리 중단: deleted={}", deleted);
+                    return deleted;
+                }
+            }
+        }
+        return deleted;
+    }
+}
@@ -1,20 +1,18 @@
 package com.matchhub.catconnect.domain.inbox.controller;
 
-import com.matchhub.catconnect.domain.inbox.repository.InboxItemRepository;
-import com.matchhub.catconnect.domain.user.model.entity.User;
-import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.configuration.HeaderContextCache;
+import com.matchhub.catconnect.global.configuration.ViewController;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
-@ControllerAdvice
+@ControllerAdvice(annotations = ViewController.class)
 @RequiredArgsConstructor
 public class InboxModelAdvice {
 
-    private final InboxItemRepository inboxItemRepository;
-    private final UserRepository userRepository;
+    private final HeaderContextCache headerContextCache;
 
     @ModelAttribute("unreadCount")
     public Long unreadCount() {
@@ -24,10 +22,8 @@ public class InboxModelAdvice {
         }
 
         try {
-            String username = auth.getName();
-            return userRepository.findByUsername(username)
-                    .map(user -> inboxItemRepository.countUnread(user.getId()))
-                    .orElse(0L);
+            HeaderContextCache.HeaderContext context = headerContextCache.get(auth.getName());
+            return context != null ? context.unreadCount() : 0L;
         } catch (Exception e) {
             return 0L;
         }
@@ -0,0 +1,17 @@
+package com.matchhub.catconnect.domain.inbox.model.dto;
+
+/**
+ * 채팅 인박스 항목 일괄 생성/갱신 요청
+ * 채팅 메시지 배치 저장 시 수신자별 인박스 미리보기를 한 번에 반영하기 위해 사용
+ *
+ * @param recipientId 수신자 ID
+ * @param recipientUsername 수신자명 (헤더 컨텍스트 무효화용)
+ * @param senderId 발신자 ID
+ * @param senderUsername 발신자명 (새 인박스 항목 제목)
+ * @param chatRoomId 채팅방 ID
+ * @param preview 미리보기 내용
+ */
+public record ChatInboxUpsert(Long recipientId, String recipientUsername,
+                              Long senderId, String senderUsername,
+                              Long chatRoomId, String preview) {
+}
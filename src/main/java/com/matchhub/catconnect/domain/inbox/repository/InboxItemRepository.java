@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,16 @@ public interface InboxItemRepository extends JpaRepository<InboxItem, Long> {
             "WHERE i.recipient.id = :recipientId AND i.readAt IS NULL AND i.deletedAt IS NULL")
     long countUnread(@Param("recipientId") Long recipientId);
 
+    /**
+     * 여러 수신자의 안 읽은 항목 수를 한 번에 집계함 (채팅 SSE 알림 팬아웃용)
+     * @param recipientIds 수신자 ID 목록
+     * @return [수신자 ID, 안 읽은 수] 목록 (안 읽은 항목이 없는 수신자는 빠짐)
+     */
+    @Query("SELECT i.recipient.id, COUNT(i) FROM InboxItem i " +
+            "WHERE i.recipient.id IN :recipientIds AND i.readAt IS NULL AND i.deletedAt IS NULL " +
+            "GROUP BY i.recipient.id")
+    List<Object[]> countUnreadByRecipientIds(@Param("recipientIds") Collection<Long> recipientIds);
+
     @Query("SELECT i FROM InboxItem i " +
             "LEFT JOIN FETCH i.sender " +
             "WHERE i.recipient.id = :recipientId AND i.deletedAt IS NULL " +
@@ -37,6 +48,12 @@ public interface InboxItemRepository extends JpaRepository<InboxItem, Long> {
     Optional<InboxItem> findChatInboxItem(@Param("recipientId") Long recipientId,
                                           @Param("referenceId") Long referenceId);
 
+    @Query("SELECT i FROM InboxItem i " +
+            "WHERE i.recipient.id IN :recipientIds AND i.itemType = 'CHAT' " +
+            "AND i.referenceId IN :referenceIds AND i.deletedAt IS NULL")
+    List<InboxItem> findChatInboxItems(@Param("recipientIds") Collection<Long> recipientIds,
+                                       @Param("referenceIds") Collection<Long> referenceIds);
+
     @Modifying
     @Query("UPDATE InboxItem i SET i.readAt = CURRENT_TIMESTAMP " +
             "WHERE i.recipient.id = :recipientId AND i.readAt IS NULL AND i.deletedAt IS NULL")
@@ -1,20 +1,31 @@
 package com.matchhub.catconnect.domain.inbox.service;
 
+import com.matchhub.catconnect.domain.inbox.model.dto.ChatInboxUpsert;
 import com.matchhub.catconnect.domain.inbox.model.dto.InboxItemResponseDTO;
 import com.matchhub.catconnect.domain.inbox.model.entity.InboxItem;
 import com.matchhub.catconnect.domain.inbox.model.enums.InboxItemType;
 import com.matchhub.catconnect.domain.inbox.repository.InboxItemRepository;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.configuration.HeaderContextInvalidatedEvent;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,12 +36,34 @@ public class InboxService {
 
     private final InboxItemRepository inboxItemRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long getUnreadCount(String username) {
         User user = findUserByUsername(username);
         return inboxItemRepository.countUnread(user.getId());
     }
 
+    public long getUnreadCountByUserId(Long userId) {
+        return inboxItemRepository.countUnread(userId);
+    }
+
+    /**
+     * 여러 사용자의 안 읽은 인박스 항목 수를 쿼리 한 번으로 조회
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 안 읽은 수 (모든 사용자 포함, 없으면 0)
+     */
+    public Map<Long, Long> getUnreadCountsByUserIds(Collection<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        userIds.forEach(userId -> counts.put(userId, 0L));
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : inboxItemRepository.countUnreadByRecipientIds(userIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     public List<InboxItemResponseDTO> getInboxItems(String username, InboxItemType type, int page, int size) {
         User user = findUserByUsername(username);
         PageRequest pageable = PageRequest.of(page, size);
@@ -49,12 +82,14 @@ public class InboxService {
     public void markAsRead(String username, Long itemId) {
         InboxItem item = findInboxItemForUser(username, itemId);
         item.markAsRead();
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
     }
 
     @Transactional
     public void markAllAsRead(String username) {
         User user = findUserByUsername(username);
         inboxItemRepository.markAllAsRead(user.getId());
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
     }
 
     @Transactional
@@ -78,6 +113,7 @@ public class InboxService {
     public void deleteItem(String username, Long itemId) {
         InboxItem item = findInboxItemForUser(username, itemId);
         item.softDelete();
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
     }
 
     @Transactional
@@ -101,6 +137,53 @@ public class InboxService {
                     .build();
             inboxItemRepository.save(item);
         }
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(recipient.getUsername()));
+    }
+
+    /**
+     * 채팅 인박스 항목 일괄 생성/갱신
+     * 같은 수신자/채팅방에 대한 요청이 여러 개면 마지막 요청만 반영하며,
+     * 기존 항목은 한 번의 쿼리로 조회함
+     * @param upserts 생성/갱신 요청 (메시지 전송 순서)
+     */
+    @Transactional
+    public void upsertChatInboxItems(List<ChatInboxUpsert> upserts) {
+        if (upserts.isEmpty()) {
+            return;
+        }
+        Map<ChatInboxKey, ChatInboxUpsert> latest = new LinkedHashMap<>();
+        for (ChatInboxUpsert upsert : upserts) {
+            latest.put(new ChatInboxKey(upsert.recipientId(), upsert.chatRoomId()), upsert);
+        }
+
+        Set<Long> recipientIds = latest.keySet().stream().map(ChatInboxKey::recipientId).collect(Collectors.toSet());
+        Set<Long> roomIds = latest.keySet().stream().map(ChatInboxKey::chatRoomId).collect(Collectors.toSet());
+        Map<ChatInboxKey, InboxItem> existing = inboxItemRepository.findChatInboxItems(recipientIds, roomIds).stream()
+                .collect(Collectors.toMap(i -> new ChatInboxKey(i.getRecipient().getId(), i.getReferenceId()),
+                        Function.identity(), (a, b) -> a));
+
+        Set<String> recipientUsernames = new LinkedHashSet<>();
+        for (Map.Entry<ChatInboxKey, ChatInboxUpsert> entry : latest.entrySet()) {
+            ChatInboxUpsert upsert = entry.getValue();
+            String preview = truncatePreview(upsert.preview());
+            User sender = userRepository.getReferenceById(upsert.senderId());
+            InboxItem item = existing.get(entry.getKey());
+            if (item != null) {
+                item.updatePreview(preview, sender);
+            } else {
+                inboxItemRepository.save(InboxItem.builder()
+                        .recipient(userRepository.getReferenceById(upsert.recipientId()))
+                        .itemType(InboxItemType.CHAT)
+                        .referenceId(upsert.chatRoomId())
+                        .title(upsert.senderUsername())
+                        .preview(preview)
+                        .linkUrl("/chat/" + upsert.chatRoomId())
+                        .sender(sender)
+                        .build());
+            }
+            recipientUsernames.add(upsert.recipientUsername());
+        }
+        recipientUsernames.forEach(username -> eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username)));
     }
 
     @Transactional
@@ -108,6 +191,7 @@ public class InboxService {
         User user = findUserByUsername(username);
         var existing = inboxItemRepository.findChatInboxItem(user.getId(), chatRoomId);
         existing.ifPresent(InboxItem::markAsRead);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
     }
 
     private InboxItem findInboxItemForUser(String username, Long itemId) {
@@ -120,8 +204,15 @@ public class InboxService {
         return item;
     }
 
+    private String truncatePreview(String preview) {
+        return preview != null && preview.length() > 200 ? preview.substring(0, 200) : preview;
+    }
+
     private User findUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND));
     }
+
+    private record ChatInboxKey(Long recipientId, Long chatRoomId) {
+    }
 }
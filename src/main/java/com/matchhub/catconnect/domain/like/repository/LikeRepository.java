@@ -4,7 +4,10 @@ import com.matchhub.catconnect.domain.like.model.entity.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -12,4 +15,12 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Page<Like> findAll(Pageable pageable);
     boolean existsByBoardIdAndUsername(Long boardId, String username);
     Optional<Like> findByBoardIdAndUsername(Long boardId, String username);
+
+    /**
+     * 주어진 좋아요 ID들을 게시글별로 집계함 (일괄 삭제 시 게시글 좋아요 수 보정용)
+     * @param ids 좋아요 ID 목록
+     * @return [게시글 ID, 좋아요 수] 목록
+     */
+    @Query("SELECT l.board.id, COUNT(l) FROM Like l WHERE l.id IN :ids GROUP BY l.board.id")
+    List<Object[]> countByBoardIdForIds(@Param("ids") List<Long> ids);
 }
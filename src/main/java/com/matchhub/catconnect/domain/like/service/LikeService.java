@@ -66,6 +66,7 @@ public class LikeService {
         if (existingLike != null) {
             // 이미 좋아요가 있으면 삭제
             likeRepository.delete(existingLike);
+            boardRepository.adjustLikeCount(boardId, -1);
             log.debug("좋아요 삭제 완료: boardId={}, username={}", boardId, username);
             return false;
         }
@@ -75,6 +76,7 @@ public class LikeService {
         // 좋아요 엔티티 생성 및 저장
         Like like = new Like(username, board);
         likeRepository.save(like);
+        boardRepository.adjustLikeCount(boardId, 1);
         log.debug("좋아요 추가 완료: boardId={}, username={}", boardId, username);
         return true;
     }
@@ -87,7 +89,10 @@ public class LikeService {
             log.warn("삭제할 좋아요 ID 없음");
             throw new AppException(Domain.LIKE, ErrorCode.INVALID_REQUEST, "삭제할 좋아요를 선택하세요.");
         }
-        // 일괄 삭제
+        // 게시글별 좋아요 수 보정 후 일괄 삭제
+        for (Object[] row : likeRepository.countByBoardIdForIds(ids)) {
+            boardRepository.adjustLikeCount((Long) row[0], -((Long) row[1]).intValue());
+        }
         likeRepository.deleteAllByIdInBatch(ids);
         log.debug("좋아요 다중 삭제 완료: count={}", ids.size());
     }
@@ -96,12 +101,14 @@ public class LikeService {
     public void deleteLike(Long id) {
         log.debug("좋아요 개별 삭제 요청: id={}", id);
         // 좋아요 존재 확인
-        if (!likeRepository.existsById(id)) {
-            log.warn("삭제 대상 좋아요 없음: id={}", id);
-            throw new AppException(Domain.LIKE, ErrorCode.LIKE_NOT_FOUND);
-        }
-        // 좋아요 삭제
-        likeRepository.deleteById(id);
+        Like like = likeRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("삭제 대상 좋아요 없음: id={}", id);
+                    return new AppException(Domain.LIKE, ErrorCode.LIKE_NOT_FOUND);
+                });
+        // 좋아요 삭제 및 게시글 좋아요 수 감소
+        likeRepository.delete(like);
+        boardRepository.adjustLikeCount(like.getBoard().getId(), -1);
         log.debug("좋아요 개별 삭제 완료: id={}", id);
     }
 
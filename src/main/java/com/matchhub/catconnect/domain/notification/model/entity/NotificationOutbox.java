@@ -0,0 +1,82 @@
+package com.matchhub.catconnect.domain.notification.model.entity;
+
+import com.matchhub.catconnect.common.model.entity.BaseEntity;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ * 요청 트랜잭션 안에서는 발송할 알림을 이 테이블에 적재만 하고,
+ * 실제 발송(SMTP, SOLAPI 호출)은 커밋 후 워커가 처리함
+ * 상태 전이는 워커의 JPQL 갱신으로만 이루어지므로 상태 관련 컬럼은 updatable = false
+ * 발송 완료(SENT)와 최종 실패(FAILED)는 보관 기간(app.notification.retention-days)이 지나면 삭제됨
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_notification_outbox_status_sent", columnList = "status, sentAt")
+})
+@Getter
+@NoArgsConstructor
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationChannel channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    // 템플릿 발송이면 템플릿 이름, 단순 메시지 발송이면 null
+    @Column(length = 100)
+    private String templateName;
+
+    // 단순 메시지 내용 또는 템플릿 변수(JSON)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private NotificationStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private int attempts;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커가 점유한 시각 (점유 후 응답 없이 오래 지나면 다시 대기 상태로 되돌림)
+    @Column(updatable = false)
+    private LocalDateTime claimedAt;
+
+    // 점유할 때마다 새로 발급하는 토큰 (점유 만료 후 다른 워커가 다시 점유하면 이전 워커의 결과 기록은 무시됨)
+    @Column(length = 36, updatable = false)
+    private String claimToken;
+
+    @Column(updatable = false)
+    private LocalDateTime sentAt;
+
+    @Column(length = 1000, updatable = false)
+    private String lastError;
+
+    @Builder
+    public NotificationOutbox(NotificationChannel channel, String recipient, String templateName, String payload) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.templateName = templateName;
+        this.payload = payload;
+        this.status = NotificationStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.matchhub.catconnect.domain.notification.model.enums;
+
+/**
+ * 알림 아웃박스 발송 상태
+ */
+public enum NotificationStatus {
+    PENDING,   // 발송 대기 (재시도 대기 포함)
+    SENDING,   // 워커가 점유하여 발송 중
+    SENT,      // 발송 완료
+    FAILED     // 최대 재시도 초과로 발송 포기
+}
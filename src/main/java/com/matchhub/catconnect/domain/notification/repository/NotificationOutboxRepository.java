@@ -0,0 +1,84 @@
+package com.matchhub.catconnect.domain.notification.repository;
+
+import com.matchhub.catconnect.domain.notification.model.entity.NotificationOutbox;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("SELECT o FROM NotificationOutbox o " +
+            "WHERE o.channel = :channel AND o.status = :status AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt ASC, o.id ASC")
+    List<NotificationOutbox> findDue(@Param("channel") NotificationChannel channel,
+                                     @Param("status") NotificationStatus status,
+                                     @Param("now") LocalDateTime now,
+                                     Pageable pageable);
+
+    /**
+     * 대기 중인 알림 점유 (다른 워커가 먼저 점유했으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :sending, o.attempts = o.attempts + 1, o.claimedAt = :now, " +
+            "o.claimToken = :token WHERE o.id = :id AND o.status = :pending")
+    int claim(@Param("id") Long id,
+              @Param("token") String token,
+              @Param("pending") NotificationStatus pending,
+              @Param("sending") NotificationStatus sending,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 완료 기록 (같은 토큰으로 점유 중일 때만 반영, 아니면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.sentAt = :now, o.lastError = NULL " +
+            "WHERE o.id = :id AND o.status = :sending AND o.claimToken = :token")
+    int markSent(@Param("id") Long id,
+                 @Param("token") String token,
+                 @Param("sending") NotificationStatus sending,
+                 @Param("status") NotificationStatus status,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 실패 기록 (재시도 대기 또는 최종 실패, 같은 토큰으로 점유 중일 때만 반영, 아니면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error " +
+            "WHERE o.id = :id AND o.status = :sending AND o.claimToken = :token")
+    int markFailure(@Param("id") Long id,
+                    @Param("token") String token,
+                    @Param("sending") NotificationStatus sending,
+                    @Param("status") NotificationStatus status,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("error") String error);
+
+    /**
+     * 점유 후 오래 지나도록 결과가 기록되지 않은 알림을 대기 상태로 되돌림 (워커 비정상 종료 대비)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :pending, o.nextAttemptAt = :now " +
+            "WHERE o.status = :sending AND o.claimedAt < :cutoff")
+    int releaseStale(@Param("pending") NotificationStatus pending,
+                     @Param("sending") NotificationStatus sending,
+                     @Param("cutoff") LocalDateTime cutoff,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 발송 완료/최종 실패 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o " +
+            "WHERE (o.status = :sent AND o.sentAt < :cutoff) OR (o.status = :failed AND o.nextAttemptAt < :cutoff)")
+    int deleteCompletedBefore(@Param("sent") NotificationStatus sent,
+                              @Param("failed") NotificationStatus failed,
+                              @Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(NotificationStatus status);
+}
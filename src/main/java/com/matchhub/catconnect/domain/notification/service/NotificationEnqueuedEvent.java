@@ -0,0 +1,10 @@
+package com.matchhub.catconnect.domain.notification.service;
+
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+
+/**
+ * 알림이 아웃박스에 적재되었음을 알리는 이벤트
+ * 커밋 후 워커를 깨워 다음 폴링 주기를 기다리지 않고 바로 발송하도록 함
+ */
+public record NotificationEnqueuedEvent(NotificationChannel channel) {
+}
@@ -0,0 +1,360 @@
+package com.matchhub.catconnect.domain.notification.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchhub.catconnect.domain.notification.model.entity.NotificationOutbox;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationStatus;
+import com.matchhub.catconnect.domain.notification.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 아웃박스 발송 워커
+ *
+ * 채널마다 고정 크기 작업자 풀(app.notification.concurrency.{채널})을 두고,
+ * 발송 시각이 된 대기 알림을 점유(PENDING → SENDING)한 뒤 작업자 풀에서 발송함
+ * 채널별 동시 점유 건수는 app.notification.max-in-flight.{채널}로 제한함
+ * 실패하면 지수 백오프로 다음 시도 시각을 미루고, 최대 시도 횟수를 넘으면 FAILED로 남김
+ * 적재 이벤트(커밋 후)와 주기적 폴링 두 경로로 깨어나며, 점유 여부는 DB 갱신 결과로 판단하므로
+ * 여러 인스턴스가 동시에 돌아도 같은 알림을 중복 발송하지 않음
+ * 결과 기록은 점유 시 발급한 토큰이 그대로이고 SENDING 상태일 때만 반영하므로,
+ * 점유가 만료되어 다른 워커가 다시 가져간 알림을 늦게 끝난 이전 워커가 덮어쓰지 않음
+ * 발송 완료/최종 실패 알림은 app.notification.retention-days가 지나면 주기적으로 삭제함
+ */
+@Component
+public class NotificationOutboxWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxWorker.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<NotificationChannel, Lane> lanes = new EnumMap<>(NotificationChannel.class);
+    private final ExecutorService dispatcher;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final long leaseTimeoutMillis;
+    private final int retentionDays;
+
+    // 상태별 아웃박스 건수 (폴링 시 갱신, 게이지로 노출)
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public NotificationOutboxWorker(NotificationOutboxRepository outboxRepository,
+                                    List<NotificationSender> senderList,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    PlatformTransactionManager transactionManager,
+                                    Environment environment,
+                                    @Value("${app.notification.batch-size:50}") int batchSize,
+                                    @Value("${app.notification.max-attempts:5}") int maxAttempts,
+                                    @Value("${app.notification.retry-base-delay-ms:2000}") long retryBaseDelayMillis,
+                                    @Value("${app.notification.retry-max-delay-ms:600000}") long retryMaxDelayMillis,
+                                    @Value("${app.notification.lease-timeout-ms:300000}") long leaseTimeoutMillis,
+                                    @Value("${app.notification.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.retentionDays = retentionDays;
+
+        for (NotificationSender sender : senderList) {
+            NotificationChannel channel = sender.getChannel();
+            String key = channel.name().toLowerCase();
+            int concurrency = environment.getProperty("app.notification.concurrency." + key, Integer.class, 2);
+            // 작업자 수의 두 배까지 점유해 두어 작업자가 쉬지 않도록 함 (비동기 발송자는 더 크게 잡아 배치가 차도록 함)
+            int maxInFlight = environment.getProperty("app.notification.max-in-flight." + key, Integer.class, concurrency * 2);
+            Lane lane = new Lane(channel, sender, concurrency, maxInFlight);
+            lanes.put(channel, lane);
+            Gauge.builder("notification.outbox.in_flight", lane.inFlight, AtomicInteger::get)
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("notification.outbox.size", pendingCount, AtomicLong::get)
+                .tag("status", NotificationStatus.PENDING.name())
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.size", failedCount, AtomicLong::get)
+                .tag("status", NotificationStatus.FAILED.name())
+                .register(meterRegistry);
+
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.debug("알림 워커 초기화 완료: lanes={}", lanes.keySet());
+    }
+
+    /**
+     * 알림 적재 트랜잭션 커밋 후 해당 채널 발송을 바로 시작
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(NotificationEnqueuedEvent event) {
+        requestDispatch(event.channel());
+    }
+
+    /**
+     * 주기 폴링: 점유가 만료된 알림을 되돌리고, 재시도 시각이 된 알림을 발송
+     */
+    @Scheduled(fixedDelayString = "${app.notification.poll-interval-ms:1000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status -> outboxRepository.releaseStale(
+                NotificationStatus.PENDING, NotificationStatus.SENDING,
+                now.minusNanos(leaseTimeoutMillis * 1_000_000), now));
+        if (released != null && released > 0) {
+            log.warn("점유 만료된 알림을 대기 상태로 되돌림: count={}", released);
+        }
+
+        pendingCount.set(outboxRepository.countByStatus(NotificationStatus.PENDING));
+        failedCount.set(outboxRepository.countByStatus(NotificationStatus.FAILED));
+
+        lanes.keySet().forEach(this::requestDispatch);
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료/최종 실패 알림 정리
+     */
+    @Scheduled(fixedDelayString = "${app.notification.purge-interval-ms:3600000}",
+            initialDelayString = "${app.notification.purge-initial-delay-ms:600000}")
+    public void purge() {
+        purgeCompleted(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 기준 시각 이전에 발송 완료/최종 실패한 알림 삭제
+     * @param cutoff 이 시각 이전에 끝난 알림만 대상
+     * @return 삭제한 알림 수
+     */
+    public int purgeCompleted(LocalDateTime cutoff) {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteCompletedBefore(
+                    NotificationStatus.SENT, NotificationStatus.FAILED, cutoff));
+            int count = deleted == null ? 0 : deleted;
+            if (count > 0) {
+                log.info("보관 기간이 지난 알림 삭제: count={}, cutoff={}", count, cutoff);
+            }
+            return count;
+        } catch (RuntimeException e) {
+            log.error("알림 정리 실패: error={}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // 채널별 점유 작업은 디스패처 스레드 하나에서 처리하고, 이미 예약되어 있으면 합침
+    private void requestDispatch(NotificationChannel channel) {
+        Lane lane = lanes.get(channel);
+        if (lane == null || !lane.dispatchRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                lane.dispatchRequested.set(false);
+                dispatch(lane);
+            });
+        } catch (RuntimeException e) {
+            // 종료 중에는 다음 기동 시 폴링으로 처리됨
+            lane.dispatchRequested.set(false);
+        }
+    }
+
+    /**
+     * 작업자 풀의 여유만큼 대기 알림을 점유하여 발송 작업 제출
+     */
+    private void dispatch(Lane lane) {
+        try {
+            int available = lane.maxInFlight - lane.inFlight.get();
+            if (available <= 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> due = outboxRepository.findDue(lane.channel, NotificationStatus.PENDING, now,
+                    PageRequest.of(0, Math.min(available, batchSize)));
+
+            for (NotificationOutbox outbox : due) {
+                String token = UUID.randomUUID().toString();
+                Integer claimed = transactionTemplate.execute(status -> outboxRepository.claim(
+                        outbox.getId(), token, NotificationStatus.PENDING, NotificationStatus.SENDING, now));
+                if (claimed == null || claimed == 0) {
+                    continue;
+                }
+                lane.inFlight.incrementAndGet();
+                lane.executor.execute(() -> deliver(lane, outbox, token));
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 점유 실패: channel={}, error={}", lane.channel, e.getMessage());
+        }
+    }
+
+    /**
+     * 알림 한 건 발송 후 결과 기록
+     * 발송자가 비동기(SMS 배치 등)이면 작업자 스레드를 붙잡지 않고 결과 future 완료 시 기록함
+     */
+    private void deliver(Lane lane, NotificationOutbox outbox, String token) {
+        int attempt = outbox.getAttempts() + 1;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Void> result;
+        try {
+            result = outbox.getTemplateName() == null
+                    ? lane.sender.sendAsync(outbox.getRecipient(), outbox.getPayload())
+                    : lane.sender.sendWithTemplateAsync(outbox.getRecipient(), outbox.getTemplateName(), readVariables(outbox));
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenCompleteAsync((ignored, error) -> {
+            try {
+                if (error == null) {
+                    sample.stop(deliveryTimer(lane.channel, "success"));
+                    Integer updated = transactionTemplate.execute(status -> outboxRepository.markSent(outbox.getId(),
+                            token, NotificationStatus.SENDING, NotificationStatus.SENT, LocalDateTime.now()));
+                    if (updated == null || updated == 0) {
+                        log.warn("점유가 만료된 알림의 발송 완료 기록 무시: id={}, channel={}", outbox.getId(), lane.channel);
+                    } else {
+                        log.debug("알림 발송 완료: id={}, channel={}, attempt={}", outbox.getId(), lane.channel, attempt);
+                    }
+                } else {
+                    sample.stop(deliveryTimer(lane.channel, "failure"));
+                    recordFailure(lane.channel, outbox, token, attempt, unwrap(error));
+                }
+            } finally {
+                lane.inFlight.decrementAndGet();
+                // 밀린 알림이 있으면 폴링 주기를 기다리지 않고 이어서 발송
+                requestDispatch(lane.channel);
+            }
+        }, lane.executor);
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private void recordFailure(NotificationChannel channel, NotificationOutbox outbox, String token, int attempt, Throwable e) {
+        String error = truncateError(e);
+        boolean exhausted = attempt >= maxAttempts;
+        NotificationStatus status = exhausted ? NotificationStatus.FAILED : NotificationStatus.PENDING;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(backoffMillis(attempt) * 1_000_000);
+        try {
+            Integer updated = transactionTemplate.execute(tx -> outboxRepository.markFailure(outbox.getId(),
+                    token, NotificationStatus.SENDING, status, nextAttemptAt, error));
+            if (updated == null || updated == 0) {
+                log.warn("점유가 만료된 알림의 실패 기록 무시: id={}, channel={}", outbox.getId(), channel);
+                return;
+            }
+        } catch (RuntimeException recordError) {
+            // 기록에 실패해도 점유 만료 후 다시 시도됨
+            log.error("알림 실패 기록 실패: id={}, error={}", outbox.getId(), recordError.getMessage());
+        }
+        meterRegistry.counter("notification.delivery.failures", "channel", channel.name(),
+                "outcome", exhausted ? "exhausted" : "retry").increment();
+
+        if (exhausted) {
+            log.error("알림 발송 최종 실패: id={}, channel={}, attempts={}, error={}",
+                    outbox.getId(), channel, attempt, error);
+        } else {
+            log.warn("알림 발송 실패, 재시도 예약: id={}, channel={}, attempt={}, nextAttemptAt={}, error={}",
+                    outbox.getId(), channel, attempt, nextAttemptAt, error);
+        }
+    }
+
+    /**
+     * 지수 백오프 (기본 지연 × 2^(시도-1), 최대 지연으로 제한, 동시 재시도 분산을 위해 최대 20% 지터)
+     */
+    long backoffMillis(int attempt) {
+        long delay = retryBaseDelayMillis << Math.min(attempt - 1, 30);
+        if (delay <= 0 || delay > retryMaxDelayMillis) {
+            delay = retryMaxDelayMillis;
+        }
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private Map<String, Object> readVariables(NotificationOutbox outbox) throws Exception {
+        return objectMapper.readValue(outbox.getPayload(), new TypeReference<>() {
+        });
+    }
+
+    private Timer deliveryTimer(NotificationChannel channel, String result) {
+        return Timer.builder("notification.delivery")
+                .tag("channel", channel.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String truncateError(Throwable e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        String message = e.getMessage() + " (" + cause.getClass().getSimpleName() + ": " + cause.getMessage() + ")";
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdown();
+        for (Lane lane : lanes.values()) {
+            lane.executor.shutdown();
+        }
+        // 발송 중이던 알림은 결과를 기록할 시간을 주고, 남은 것은 점유 만료 후 다시 발송됨
+        for (Lane lane : lanes.values()) {
+            lane.executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 채널별 발송자와 작업자 풀
+    private static class Lane {
+        private final NotificationChannel channel;
+        private final NotificationSender sender;
+        private final int maxInFlight;
+        private final ExecutorService executor;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+        private Lane(NotificationChannel channel, NotificationSender sender, int concurrency, int maxInFlight) {
+            this.channel = channel;
+            this.sender = sender;
+            this.maxInFlight = maxInFlight;
+            AtomicInteger threadNumber = new AtomicInteger();
+            String prefix = "notification-" + channel.name().toLowerCase() + "-";
+            this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.matchhub.catconnect.domain.notification.service;
 import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 알림 발송 인터페이스
@@ -30,6 +31,31 @@ public interface NotificationSender {
      */
     void sendWithTemplate(String recipient, String templateName, Map<String, Object> variables);
 
+    /**
+     * 단순 메시지 비동기 발송
+     * 기본 구현은 호출 스레드에서 바로 발송하며, 묶어서 보내는 채널은 대기열에 넣고 결과 future를 반환함
+     */
+    default CompletableFuture<Void> sendAsync(String recipient, String message) {
+        try {
+            send(recipient, message);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 템플릿 기반 메시지 비동기 발송
+     */
+    default CompletableFuture<Void> sendWithTemplateAsync(String recipient, String templateName, Map<String, Object> variables) {
+        try {
+            sendWithTemplate(recipient, templateName, variables);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 템플릿 기반 발송 지원 여부
      */
@@ -1,9 +1,15 @@
 package com.matchhub.catconnect.domain.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchhub.catconnect.domain.notification.model.entity.NotificationOutbox;
 import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+import com.matchhub.catconnect.domain.notification.repository.NotificationOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -13,6 +19,10 @@ import java.util.stream.Collectors;
 /**
  * 통합 알림 서비스
  * 다양한 채널(이메일, SMS 등)을 통해 알림을 발송하는 통합 인터페이스 제공
+ *
+ * 발송 요청은 호출자의 트랜잭션 안에서 아웃박스 테이블에 적재만 하고,
+ * 실제 발송은 커밋 후 NotificationOutboxWorker가 채널별 작업자 풀에서 재시도와 함께 처리함
+ * (요청 트랜잭션이 SMTP/SOLAPI 응답을 기다리며 DB 커넥션을 잡고 있지 않도록 함)
  */
 @Service
 public class NotificationService {
@@ -20,8 +30,17 @@ public class NotificationService {
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
 
     private final Map<NotificationChannel, NotificationSender> senders;
-
-    public NotificationService(List<NotificationSender> senderList) {
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NotificationService(List<NotificationSender> senderList,
+                               NotificationOutboxRepository outboxRepository,
+                               ObjectMapper objectMapper,
+                               ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
         this.senders = senderList.stream()
                 .collect(Collectors.toMap(NotificationSender::getChannel, Function.identity()));
         log.debug("알림 서비스 초기화 완료: 등록된 채널={}", senders.keySet());
@@ -33,11 +52,12 @@ public class NotificationService {
      * @param channel 발송 채널
      * @param message 메시지 내용
      */
+    @Transactional
     public void send(String recipient, NotificationChannel channel, String message) {
-        log.debug("알림 발송: recipient={}, channel={}", recipient, channel);
+        log.debug("알림 발송 요청: recipient={}, channel={}", recipient, channel);
 
-        NotificationSender sender = getSender(channel);
-        sender.send(recipient, message);
+        getSender(channel);
+        enqueue(channel, recipient, null, message);
     }
 
     /**
@@ -47,9 +67,10 @@ public class NotificationService {
      * @param templateName 템플릿 이름
      * @param variables 템플릿 변수
      */
+    @Transactional
     public void sendWithTemplate(String recipient, NotificationChannel channel,
                                  String templateName, Map<String, Object> variables) {
-        log.debug("템플릿 알림 발송: recipient={}, channel={}, template={}",
+        log.debug("템플릿 알림 발송 요청: recipient={}, channel={}, template={}",
                 recipient, channel, templateName);
 
         NotificationSender sender = getSender(channel);
@@ -58,7 +79,11 @@ public class NotificationService {
             log.warn("채널 {}는 템플릿을 지원하지 않습니다. 단순 메시지로 대체합니다.", channel);
         }
 
-        sender.sendWithTemplate(recipient, templateName, variables);
+        try {
+            enqueue(channel, recipient, templateName, objectMapper.writeValueAsString(variables));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("템플릿 변수를 직렬화할 수 없습니다: " + templateName, e);
+        }
     }
 
     /**
@@ -86,6 +111,20 @@ public class NotificationService {
         return senders.containsKey(channel);
     }
 
+    /**
+     * 아웃박스에 알림 적재 후 커밋 시 워커를 깨우는 이벤트 발행
+     */
+    private void enqueue(NotificationChannel channel, String recipient, String templateName, String payload) {
+        NotificationOutbox outbox = outboxRepository.save(NotificationOutbox.builder()
+                .channel(channel)
+                .recipient(recipient)
+                .templateName(templateName)
+                .payload(payload)
+                .build());
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(channel));
+        log.debug("알림 아웃박스 적재: id={}, channel={}", outbox.getId(), channel);
+    }
+
     /**
      * 채널별 발송자 조회
      */
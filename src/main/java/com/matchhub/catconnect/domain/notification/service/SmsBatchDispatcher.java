@@ -0,0 +1,280 @@
+package com.matchhub.catconnect.domain.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SOLAPI send-many 배치 발송기
+ *
+ * 발송 요청을 대기열에 모았다가 최대 batch-size건 또는 batch-wait-ms가 지나면 한 번의 send-many 호출로 보냄
+ * 응답의 failedMessageList를 수신번호로 대조하여 메시지별 결과를 각 호출자의 future로 돌려줌
+ * HTTP 호출은 연결을 재사용(keep-alive)하는 JDK HttpClient 하나로 처리하며,
+ * 동시 호출 수를 제한해 호출이 밀리는 동안 쌓인 메시지는 다음 배치에 함께 실림
+ */
+@Component
+public class SmsBatchDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SmsBatchDispatcher.class);
+
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+    private final String apiKey;
+    private final String apiSecret;
+    private final String senderPhone;
+    private final String apiUrl;
+    private final int batchSize;
+    private final long batchWaitMillis;
+
+    private final BlockingQueue<PendingSms> queue;
+    private final Semaphore requestPermits;
+    private final ExecutorService requestExecutor;
+    private final Thread collectorThread;
+    private volatile boolean running = true;
+
+    public SmsBatchDispatcher(ObjectMapper objectMapper,
+                              @Value("${app.solapi.api-key}") String apiKey,
+                              @Value("${app.solapi.api-secret}") String apiSecret,
+                              @Value("${app.solapi.sender-phone}") String senderPhone,
+                              @Value("${app.solapi.api-url}") String apiUrl,
+                              @Value("${app.solapi.batch-size:100}") int batchSize,
+                              @Value("${app.solapi.batch-wait-ms:200}") long batchWaitMillis,
+                              @Value("${app.solapi.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.solapi.max-concurrent-requests:2}") int maxConcurrentRequests,
+                              @Value("${app.solapi.connect-timeout-ms:3000}") long connectTimeoutMillis,
+                              @Value("${app.solapi.read-timeout-ms:10000}") long readTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.senderPhone = senderPhone;
+        this.apiUrl = apiUrl;
+        this.batchSize = batchSize;
+        this.batchWaitMillis = batchWaitMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.requestPermits = new Semaphore(maxConcurrentRequests);
+
+        // 연결 풀과 keep-alive를 기본으로 지원하는 JDK HttpClient를 모든 호출이 공유
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.requestExecutor = Executors.newFixedThreadPool(maxConcurrentRequests, runnable -> {
+            Thread thread = new Thread(runnable, "sms-batch-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.collectorThread = new Thread(this::collectLoop, "sms-batch-collector");
+        this.collectorThread.setDaemon(true);
+        this.collectorThread.start();
+    }
+
+    /**
+     * SMS 발송 요청을 대기열에 추가
+     * @param recipient 수신 번호
+     * @param text 메시지 내용
+     * @return 이 메시지의 발송 결과 (SOLAPI 접수 성공 시 완료, 실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(String recipient, String text) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!running || !queue.offer(new PendingSms(recipient, text, result))) {
+            log.warn("SMS 발송 대기열 추가 실패: to={}, running={}", recipient, running);
+            result.completeExceptionally(new RuntimeException("SMS 발송 대기열이 가득 찼습니다."));
+        }
+        return result;
+    }
+
+    private void collectLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSms first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingSms> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWaitMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingSms next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 동시 호출 수가 다 찼으면 여기서 기다림 (기다리는 동안 들어온 메시지는 다음 배치로)
+                requestPermits.acquire();
+                try {
+                    requestExecutor.execute(() -> {
+                        try {
+                            sendBatch(batch);
+                        } finally {
+                            requestPermits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    requestPermits.release();
+                    sendBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * 배치 한 건을 send-many로 발송하고 메시지별 결과를 future에 반영
+     */
+    void sendBatch(List<PendingSms> batch) {
+        log.debug("SMS 배치 발송: count={}", batch.size());
+        JsonNode response;
+        try {
+            List<Map<String, Object>> messages = new ArrayList<>(batch.size());
+            for (PendingSms sms : batch) {
+                Map<String, Object> messageMap = new HashMap<>();
+                messageMap.put("to", sms.recipient());
+                messageMap.put("from", senderPhone);
+                messageMap.put("text", sms.text());
+                messageMap.put("type", "SMS");
+                messages.add(messageMap);
+            }
+
+            HttpHeaders headers = createAuthHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            String jsonBody = objectMapper.writeValueAsString(Map.of("messages", messages));
+
+            ResponseEntity<String> entity = restTemplate.exchange(
+                    apiUrl, HttpMethod.POST, new HttpEntity<>(jsonBody, headers), String.class);
+            if (!entity.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("status=" + entity.getStatusCode() + ", body=" + entity.getBody());
+            }
+            response = entity.getBody() == null ? null : objectMapper.readTree(entity.getBody());
+        } catch (Exception e) {
+            log.error("SMS 배치 발송 실패: count={}, error={}", batch.size(), e.getMessage());
+            RuntimeException failure = new RuntimeException("SMS 발송에 실패했습니다.", e);
+            batch.forEach(sms -> sms.result().completeExceptionally(failure));
+            return;
+        }
+
+        int failed = completeResults(batch, response);
+        log.debug("SMS 배치 발송 완료: count={}, failed={}", batch.size(), failed);
+    }
+
+    // failedMessageList의 수신번호와 대조하여 실패한 메시지만 예외로 완료하고 나머지는 성공 처리
+    private int completeResults(List<PendingSms> batch, JsonNode response) {
+        Map<String, Deque<PendingSms>> byRecipient = new HashMap<>();
+        for (PendingSms sms : batch) {
+            byRecipient.computeIfAbsent(normalize(sms.recipient()), key -> new ArrayDeque<>()).add(sms);
+        }
+
+        int failed = 0;
+        JsonNode failedList = response == null ? null : response.path("failedMessageList");
+        if (failedList != null && failedList.isArray()) {
+            for (JsonNode item : failedList) {
+                Deque<PendingSms> candidates = byRecipient.get(normalize(item.path("to").asText()));
+                PendingSms sms = candidates == null ? null : candidates.pollFirst();
+                if (sms == null) {
+                    continue;
+                }
+                String reason = item.path("statusCode").asText() + " " + item.path("statusMessage").asText();
+                sms.result().completeExceptionally(new RuntimeException("SMS 발송에 실패했습니다: " + reason.trim()));
+                failed++;
+            }
+        }
+        batch.forEach(sms -> sms.result().complete(null));
+        return failed;
+    }
+
+    private String normalize(String phoneNumber) {
+        return phoneNumber == null ? "" : phoneNumber.replaceAll("[^0-9]", "");
+    }
+
+    /**
+     * SOLAPI 인증 헤더 생성 (HMAC-SHA256)
+     */
+    private HttpHeaders createAuthHeaders() {
+        String date = ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT);
+        String salt = UUID.randomUUID().toString().replace("-", "");
+        String signature = generateSignature(date, salt);
+
+        String authorization = String.format(
+                "HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
+                apiKey, date, salt, signature);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", authorization);
+        return headers;
+    }
+
+    /**
+     * HMAC-SHA256 서명 생성
+     */
+    private String generateSignature(String date, String salt) {
+        try {
+            String data = date + salt;
+            Mac mac = Mac.getInstance("HmacSHA256");
+            SecretKeySpec secretKeySpec = new SecretKeySpec(
+                    apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+            mac.init(secretKeySpec);
+            byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (Exception e) {
+            throw new RuntimeException("서명 생성 실패", e);
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 메시지를 마저 발송
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        collectorThread.join(TimeUnit.SECONDS.toMillis(10));
+        requestExecutor.shutdown();
+        requestExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    record PendingSms(String recipient, String text, CompletableFuture<Void> result) {
+    }
+}
@@ -1,50 +1,27 @@
 package com.matchhub.catconnect.domain.notification.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * SMS 알림 발송 구현체 (SOLAPI)
+ * 실제 호출은 SmsBatchDispatcher가 여러 건을 모아 send-many 한 번으로 처리함
  */
 @Component
 public class SmsNotificationSender implements NotificationSender {
 
     private static final Logger log = LoggerFactory.getLogger(SmsNotificationSender.class);
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final SmsBatchDispatcher batchDispatcher;
 
-    @Value("${app.solapi.api-key}")
-    private String apiKey;
-
-    @Value("${app.solapi.api-secret}")
-    private String apiSecret;
-
-    @Value("${app.solapi.sender-phone}")
-    private String senderPhone;
-
-    @Value("${app.solapi.api-url}")
-    private String apiUrl;
-
-    public SmsNotificationSender() {
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+    public SmsNotificationSender(SmsBatchDispatcher batchDispatcher) {
+        this.batchDispatcher = batchDispatcher;
     }
 
     @Override
@@ -59,89 +36,34 @@ public class SmsNotificationSender implements NotificationSender {
 
     @Override
     public void send(String recipient, String message) {
-        log.debug("SMS 발송: to={}", recipient);
-
         try {
-            HttpHeaders headers = createAuthHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, Object> messageMap = new HashMap<>();
-            messageMap.put("to", recipient);
-            messageMap.put("from", senderPhone);
-            messageMap.put("text", message);
-            messageMap.put("type", "SMS");
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("messages", Collections.singletonList(messageMap));
-
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    apiUrl, HttpMethod.POST, entity, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("SMS 발송 성공: to={}", recipient);
-            } else {
-                log.error("SMS 발송 실패: to={}, status={}, body={}",
-                        recipient, response.getStatusCode(), response.getBody());
-                throw new RuntimeException("SMS 발송에 실패했습니다.");
+            sendAsync(recipient, message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-        } catch (Exception e) {
-            log.error("SMS 발송 중 오류 발생: to={}, error={}", recipient, e.getMessage());
-            throw new RuntimeException("SMS 발송에 실패했습니다.", e);
+            throw new RuntimeException("SMS 발송에 실패했습니다.", e.getCause());
         }
     }
 
     @Override
-    public void sendWithTemplate(String recipient, String templateName, Map<String, Object> variables) {
-        // SMS는 템플릿 미지원, 단순 메시지로 대체
-        String message = (String) variables.getOrDefault("message", "알림 메시지입니다.");
-        send(recipient, message);
+    public CompletableFuture<Void> sendAsync(String recipient, String message) {
+        log.debug("SMS 발송 요청: to={}", recipient);
+        return batchDispatcher.submit(recipient, message);
     }
 
-    /**
-     * SOLAPI 인증 헤더 생성 (HMAC-SHA256)
-     */
-    private HttpHeaders createAuthHeaders() {
-        String date = ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT);
-        String salt = UUID.randomUUID().toString().replace("-", "");
-        String signature = generateSignature(date, salt);
-
-        String authorization = String.format(
-                "HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
-                apiKey, date, salt, signature);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", authorization);
-        return headers;
+    @Override
+    public void sendWithTemplate(String recipient, String templateName, Map<String, Object> variables) {
+        // SMS는 템플릿 미지원, 단순 메시지로 대체
+        send(recipient, extractMessage(variables));
     }
 
-    /**
-     * HMAC-SHA256 서명 생성
-     */
-    private String generateSignature(String date, String salt) {
-        try {
-            String data = date + salt;
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(
-                    apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(secretKeySpec);
-            byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("서명 생성 실패", e);
-        }
+    @Override
+    public CompletableFuture<Void> sendWithTemplateAsync(String recipient, String templateName, Map<String, Object> variables) {
+        return sendAsync(recipient, extractMessage(variables));
     }
 
-    /**
-     * 바이트 배열을 16진수 문자열로 변환
-     */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
+    private String extractMessage(Map<String, Object> variables) {
+        return (String) variables.getOrDefault("message", "알림 메시지입니다.");
     }
 }
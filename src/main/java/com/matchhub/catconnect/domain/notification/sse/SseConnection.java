@@ -0,0 +1,154 @@
+package com.matchhub.catconnect.domain.notification.sse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나(브라우저 탭 하나)에 대한 전송 대기열
+ *
+ * 이벤트는 연결별 큐에 쌓이고 디스패처 스레드가 한 번에 하나씩 비움
+ * 같은 mergeKey의 이벤트가 아직 대기 중이면 큐 포화 여부와 관계없이 이전 이벤트를 빼고 최신 이벤트를 맨 뒤에 붙임
+ * (대기열의 이벤트 ID 순서가 유지되어 Last-Event-ID 재전송이 이벤트를 건너뛰지 않음)
+ * 큐가 가득 차면 가장 오래된 이벤트를 버림 (버린 이벤트는 재연결 시 Last-Event-ID로 복구 가능)
+ */
+class SseConnection {
+
+    private static final Logger log = LoggerFactory.getLogger(SseConnection.class);
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor dispatcher;
+    private final Consumer<SseConnection> onClosed;
+
+    // 전송 대기 이벤트 (this로 동기화)
+    private final LinkedList<Pending> pending = new LinkedList<>();
+    private boolean draining;
+    private boolean closed;
+    private long dropped;
+
+    SseConnection(Long userId, SseEmitter emitter, int capacity, Executor dispatcher, Consumer<SseConnection> onClosed) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.dispatcher = dispatcher;
+        this.onClosed = onClosed;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    // 대기 중인 이벤트 ID (전송 순서, 하트비트 제외)
+    synchronized List<Long> pendingIds() {
+        return pending.stream().map(Pending::id).filter(id -> id != null).toList();
+    }
+
+    /**
+     * 이벤트를 전송 대기열에 추가
+     * @param event 전송할 이벤트
+     */
+    void enqueue(SseEvent event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .data(event.data());
+        enqueue(builder, event.id(), event.mergeKey());
+    }
+
+    /**
+     * 하트비트 주석 전송 (대기 중인 이벤트가 있으면 그 전송으로 생존 확인이 되므로 생략)
+     */
+    void heartbeat() {
+        synchronized (this) {
+            if (!pending.isEmpty() || draining) {
+                return;
+            }
+        }
+        enqueue(SseEmitter.event().comment("heartbeat"), null, null);
+    }
+
+    private void enqueue(SseEmitter.SseEventBuilder builder, Long id, String mergeKey) {
+        boolean schedule;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (mergeKey != null) {
+                removePending(mergeKey);
+            }
+            if (pending.size() >= capacity) {
+                pending.pollFirst();
+                dropped++;
+                log.debug("SSE 전송 대기열 포화로 이벤트 버림: userId={}, dropped={}", userId, dropped);
+            }
+            pending.addLast(new Pending(builder, id, mergeKey));
+            schedule = !draining;
+            draining = true;
+        }
+        if (schedule) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    // 같은 mergeKey의 대기 이벤트 제거 (최신 이벤트는 호출자가 맨 뒤에 추가)
+    private void removePending(String mergeKey) {
+        Iterator<Pending> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            if (mergeKey.equals(iterator.next().mergeKey())) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                next = pending.pollFirst();
+                if (next == null || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(next.builder());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (연결 해제): userId={}", userId);
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 연결 종료 처리 (대기 이벤트 폐기 후 허브에서 제거)
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClosed.accept(this);
+    }
+
+    private record Pending(SseEmitter.SseEventBuilder builder, Long id, String mergeKey) {
+    }
+}
@@ -1,60 +1,258 @@
 package com.matchhub.catconnect.domain.notification.sse;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 허브
+ *
+ * 사용자별로 여러 연결(탭)을 유지하고, 최근 이벤트를 고정 크기 링 버퍼에 보관하여
+ * 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내줌
+ * 실제 전송은 호출자 스레드가 아닌 디스패처 스레드에서 연결별 큐를 통해 이루어지며,
+ * 주기적인 하트비트로 끊어진 연결을 감지해 정리함
+ */
 @Service
 public class SseEmitterService {
 
     private static final Logger log = LoggerFactory.getLogger(SseEmitterService.class);
     private static final long SSE_TIMEOUT = 60 * 60 * 1000L; // 1시간
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final int replayBufferSize;
+    private final int connectionQueueSize;
+    private final int maxConnectionsPerUser;
+    private final long replayRetentionMillis;
+    private final ExecutorService dispatcher;
+
+    // 사용자 ID → 연결 목록 + 재전송 버퍼
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+
+    // 서비스 전체 이벤트 ID (채널이 정리되거나 서버가 재시작돼도 이전 ID보다 커지도록 현재 시각으로 시작)
+    private final AtomicLong eventIdSequence = new AtomicLong(System.currentTimeMillis());
+
+    public SseEmitterService(@Value("${app.sse.replay-buffer-size:50}") int replayBufferSize,
+                             @Value("${app.sse.connection-queue-size:64}") int connectionQueueSize,
+                             @Value("${app.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+                             @Value("${app.sse.replay-retention-ms:300000}") long replayRetentionMillis,
+                             @Value("${app.sse.dispatcher-threads:4}") int dispatcherThreads) {
+        this.replayBufferSize = replayBufferSize;
+        this.connectionQueueSize = connectionQueueSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.replayRetentionMillis = replayRetentionMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     public SseEmitter subscribe(Long userId) {
+        return subscribe(userId, null);
+    }
+
+    /**
+     * SSE 구독 (연결 추가)
+     * @param userId 사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (있으면 이후 이벤트를 재전송)
+     * @return 새 연결의 emitter
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        SseConnection connection = new SseConnection(userId, emitter, connectionQueueSize, dispatcher,
+                closed -> removeConnection(userId, closed));
+
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
 
-        emitters.put(userId, emitter);
+        List<SseConnection> evictedHolder = new ArrayList<>(1);
+        // 채널 정리(heartbeat)와 경합하지 않도록 맵의 키 단위 원자 연산 안에서 연결 추가
+        channels.compute(userId, (id, existing) -> {
+            UserChannel channel = existing != null ? existing : newChannel();
+            synchronized (channel) {
+                channel.connections.add(connection);
+                if (channel.connections.size() > maxConnectionsPerUser) {
+                    evictedHolder.add(channel.connections.remove(0));
+                }
 
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError(e -> emitters.remove(userId));
+                // 연결 확인용 초기 이벤트 후 놓친 이벤트 재전송 (push와 같은 락 안에서 넣어 순서 보장)
+                connection.enqueue(new SseEvent(channel.lastEventId, "connect", "connected", null));
+                if (lastEventId != null) {
+                    for (SseEvent event : channel.recentEvents) {
+                        if (event.id() > lastEventId) {
+                            connection.enqueue(event);
+                        }
+                    }
+                }
+            }
+            return channel;
+        });
 
-        // 연결 확인용 초기 이벤트
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("connected"));
-        } catch (IOException e) {
-            emitters.remove(userId);
+        SseConnection evicted = evictedHolder.isEmpty() ? null : evictedHolder.get(0);
+        if (evicted != null) {
+            // 가장 오래된 연결 종료 (사용자별 연결 수 제한)
+            evicted.close();
+            evicted.getEmitter().complete();
         }
 
-        log.debug("SSE 구독: userId={}", userId);
+        log.debug("SSE 구독: userId={}, lastEventId={}", userId, lastEventId);
         return emitter;
     }
 
     public void pushNotification(Long userId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) return;
+        pushNotification(userId, eventName, data, null);
+    }
 
-        try {
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(data));
-            log.debug("SSE 전송 성공: userId={}, event={}", userId, eventName);
-        } catch (IOException e) {
-            emitters.remove(userId);
-            log.debug("SSE 전송 실패 (연결 해제): userId={}", userId);
-        }
+    /**
+     * 사용자에게 이벤트 전송 (비동기)
+     * 연결이 없어도 재전송 버퍼에는 보관되어 재연결 시 전달됨
+     * @param userId 사용자 ID
+     * @param eventName 이벤트 이름
+     * @param data 이벤트 데이터
+     * @param mergeKey 같은 키의 대기 이벤트를 빼고 최신 이벤트를 대기열 끝에 붙일 키 (null이면 병합하지 않음)
+     */
+    public void pushNotification(Long userId, String eventName, Object data, String mergeKey) {
+        channels.compute(userId, (id, existing) -> {
+            UserChannel channel = existing != null ? existing : newChannel();
+            synchronized (channel) {
+                SseEvent event = new SseEvent(eventIdSequence.incrementAndGet(), eventName, data, mergeKey);
+                channel.lastEventId = event.id();
+                channel.recentEvents.addLast(event);
+                if (channel.recentEvents.size() > replayBufferSize) {
+                    channel.recentEvents.pollFirst();
+                }
+                channel.lastActivityAt = System.currentTimeMillis();
+                for (SseConnection connection : channel.connections) {
+                    connection.enqueue(event);
+                }
+            }
+            return channel;
+        });
+        log.debug("SSE 전송 요청: userId={}, event={}", userId, eventName);
     }
 
     public boolean isConnected(Long userId) {
-        return emitters.containsKey(userId);
+        return connectionCount(userId) > 0;
+    }
+
+    /**
+     * 사용자의 현재 연결 수
+     */
+    public int connectionCount(Long userId) {
+        UserChannel channel = channels.get(userId);
+        if (channel == null) {
+            return 0;
+        }
+        synchronized (channel) {
+            return channel.connections.size();
+        }
+    }
+
+    /**
+     * 전체 사용자의 현재 연결 수 (메트릭 수집 시점에만 호출)
+     */
+    public int getTotalConnectionCount() {
+        int total = 0;
+        for (UserChannel channel : channels.values()) {
+            synchronized (channel) {
+                total += channel.connections.size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 재전송 버퍼에서 지정한 ID 이후의 이벤트 조회
+     * @param userId 사용자 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID
+     */
+    public List<SseEvent> getEventsAfter(Long userId, long lastEventId) {
+        UserChannel channel = channels.get(userId);
+        if (channel == null) {
+            return List.of();
+        }
+        synchronized (channel) {
+            return channel.recentEvents.stream().filter(e -> e.id() > lastEventId).toList();
+        }
+    }
+
+    /**
+     * 주기적으로 모든 연결에 하트비트를 보내 끊어진 연결을 감지하고,
+     * 연결이 없는 채로 보관 기간이 지난 사용자의 재전송 버퍼를 정리함
+     */
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        int connections = 0;
+        for (Long userId : channels.keySet()) {
+            // 연결이 없고 보관 기간이 지난 채널 제거 (subscribe/push와 키 단위로 원자적으로 처리)
+            channels.computeIfPresent(userId, (id, channel) -> {
+                synchronized (channel) {
+                    boolean expired = channel.connections.isEmpty() && now - channel.lastActivityAt > replayRetentionMillis;
+                    return expired ? null : channel;
+                }
+            });
+            UserChannel channel = channels.get(userId);
+            if (channel == null) {
+                continue;
+            }
+            List<SseConnection> snapshot;
+            synchronized (channel) {
+                snapshot = new ArrayList<>(channel.connections);
+            }
+            snapshot.forEach(SseConnection::heartbeat);
+            connections += snapshot.size();
+        }
+        log.debug("SSE 하트비트: users={}, connections={}", channels.size(), connections);
+    }
+
+    // 새 채널의 초기 이벤트 ID는 현재까지 발급된 마지막 ID (이전 채널의 ID보다 작아지지 않음)
+    private UserChannel newChannel() {
+        UserChannel channel = new UserChannel();
+        channel.lastEventId = eventIdSequence.get();
+        return channel;
+    }
+
+    private void removeConnection(Long userId, SseConnection connection) {
+        UserChannel channel = channels.get(userId);
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            channel.connections.remove(connection);
+            channel.lastActivityAt = System.currentTimeMillis();
+        }
+        log.debug("SSE 연결 해제: userId={}", userId);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 사용자별 연결 목록과 최근 이벤트 (인스턴스 자체로 동기화)
+    private static class UserChannel {
+        private final List<SseConnection> connections = new ArrayList<>();
+        private final Deque<SseEvent> recentEvents = new ArrayDeque<>();
+        private long lastEventId;
+        private long lastActivityAt = System.currentTimeMillis();
     }
 }
@@ -0,0 +1,12 @@
+package com.matchhub.catconnect.domain.notification.sse;
+
+/**
+ * 사용자에게 전송되는 SSE 이벤트
+ *
+ * @param id 서비스 전체에서 단조 증가하는 이벤트 ID (Last-Event-ID 재전송 기준)
+ * @param name 이벤트 이름 (예: "chat")
+ * @param data 이벤트 데이터
+ * @param mergeKey 같은 키의 전송 대기 이벤트를 최신 것으로 대체하기 위한 키 (null이면 병합하지 않음)
+ */
+public record SseEvent(long id, String name, Object data, String mergeKey) {
+}
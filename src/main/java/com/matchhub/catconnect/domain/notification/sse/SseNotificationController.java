@@ -9,7 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -22,10 +24,25 @@ public class SseNotificationController {
     private final UserRepository userRepository;
 
     @GetMapping(value = "/notifications", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(Authentication authentication) {
+    public SseEmitter subscribe(Authentication authentication,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
         String username = authentication.getName();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND));
-        return sseEmitterService.subscribe(user.getId());
+        // 브라우저 자동 재연결은 헤더로, 수동 재연결은 쿼리 파라미터로 마지막 이벤트 ID를 전달함
+        Long lastEventId = parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        return sseEmitterService.subscribe(user.getId(), lastEventId);
+    }
+
+    private Long parseLastEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
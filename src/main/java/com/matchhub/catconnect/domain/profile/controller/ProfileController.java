@@ -2,6 +2,7 @@ package com.matchhub.catconnect.domain.profile.controller;
 
 import com.matchhub.catconnect.domain.user.model.dto.UserResponseDTO;
 import com.matchhub.catconnect.domain.user.service.UserService;
+import com.matchhub.catconnect.global.configuration.ViewController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
  * 프로필 설정 페이지 뷰 컨트롤러
  */
 @Controller
+@ViewController
 @RequestMapping("/profile")
 public class ProfileController {
 
@@ -1,6 +1,8 @@
 package com.matchhub.catconnect.domain.profile.controller;
 
+import com.matchhub.catconnect.common.search.SearchIndexEvent;
 import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import com.matchhub.catconnect.domain.chat.service.ChatRoomSessionInvalidatedEvent;
 import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
 import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
 import com.matchhub.catconnect.domain.profile.service.ProfileService;
@@ -8,6 +10,7 @@ import com.matchhub.catconnect.domain.user.model.dto.UserResponseDTO;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
 import com.matchhub.catconnect.domain.user.service.UserService;
+import com.matchhub.catconnect.global.configuration.HeaderContextInvalidatedEvent;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
@@ -18,6 +21,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -45,16 +49,19 @@ public class ProfileRestController {
     private final PasswordEncoder passwordEncoder;
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProfileRestController(ProfileService profileService, UserService userService,
                                  UserRepository userRepository, PasswordEncoder passwordEncoder,
-                                 BoardRepository boardRepository, CommentRepository commentRepository) {
+                                 BoardRepository boardRepository, CommentRepository commentRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.profileService = profileService;
         this.userService = userService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.boardRepository = boardRepository;
         this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Getter
@@ -143,6 +150,7 @@ public class ProfileRestController {
 
         user.update(user.getUsername(), newEmail, newPhoneNumber, newPassword);
         userRepository.save(user);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
 
         return ResponseEntity.ok(Response.success(null, "프로필 수정 성공"));
     }
@@ -167,10 +175,13 @@ public class ProfileRestController {
         // 소프트 삭제
         user.softDelete();
         userRepository.save(user);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(user.getId()));
 
         // 게시글/댓글 작성자명 변경
         boardRepository.updateAuthorByAuthor(username, "(탈퇴한 사용자)");
         commentRepository.updateAuthorByAuthor(username, "(탈퇴한 사용자)");
+        eventPublisher.publishEvent(SearchIndexEvent.renameAuthor(username, "(탈퇴한 사용자)"));
 
         return ResponseEntity.ok(Response.success(null, "회원 탈퇴 성공"));
     }
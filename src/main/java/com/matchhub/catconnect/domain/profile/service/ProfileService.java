@@ -1,15 +1,18 @@
 package com.matchhub.catconnect.domain.profile.service;
 
+import com.matchhub.catconnect.domain.chat.service.ChatRoomSessionInvalidatedEvent;
 import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
 import com.matchhub.catconnect.domain.file.model.enums.FileType;
 import com.matchhub.catconnect.domain.file.service.FileService;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.configuration.HeaderContextInvalidatedEvent;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,10 +28,13 @@ public class ProfileService {
 
     private final UserRepository userRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProfileService(UserRepository userRepository, FileService fileService) {
+    public ProfileService(UserRepository userRepository, FileService fileService,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.fileService = fileService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -51,6 +57,8 @@ public class ProfileService {
         String profileImageUrl = "/api/files/download/" + fileResponse.getStoredName();
         user.updateProfileImage(profileImageUrl);
         userRepository.save(user);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(user.getId()));
 
         log.debug("프로필 이미지 업로드 완료: username={}, url={}", username, profileImageUrl);
         return fileResponse;
@@ -70,6 +78,8 @@ public class ProfileService {
         // 프로필 이미지 URL 초기화
         user.updateProfileImage(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(username));
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(user.getId()));
 
         log.debug("프로필 이미지 삭제 완료: username={}", username);
     }
@@ -1,5 +1,6 @@
 package com.matchhub.catconnect.domain.report.controller;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.report.model.dto.ReportResolveRequestDTO;
 import com.matchhub.catconnect.domain.report.model.dto.ReportResponseDTO;
 import com.matchhub.catconnect.domain.report.model.dto.SanctionRequestDTO;
@@ -47,6 +48,20 @@ public class AdminReportRestController {
         return ResponseEntity.ok(Response.success(reports, "신고 목록 조회 성공"));
     }
 
+    @Operation(summary = "신고 목록 커서 조회", description = "after 커서(createdDttm,id) 이후의 신고 목록을 조회합니다. 상태별 필터링이 가능합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<Response<CursorSliceDTO<ReportResponseDTO>>> getReportSlice(
+            @Parameter(description = "신고 상태 필터 (PENDING, ACCEPTED, REJECTED)") @RequestParam(required = false) ReportStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String after,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "근사 전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.debug("GET /api/admin/reports 커서 요청: status={}, after={}, size={}", status, after, size);
+
+        CursorSliceDTO<ReportResponseDTO> reports = reportService.getReportSlice(status, after, size, includeTotal);
+        return ResponseEntity.ok(Response.success(reports, "신고 목록 조회 성공"));
+    }
+
     @Operation(summary = "신고 처리", description = "신고를 수락 또는 거절 처리합니다.")
     @PutMapping("/{id}/resolve")
     public ResponseEntity<Response<ReportResponseDTO>> resolveReport(
@@ -17,6 +17,9 @@ import lombok.NoArgsConstructor;
                 name = "uk_report_reporter_target",
                 columnNames = {"reporter", "target_type", "target_id"}
         )
+}, indexes = {
+        @Index(name = "idx_report_created", columnList = "createdDttm DESC, id DESC"),
+        @Index(name = "idx_report_status_created", columnList = "status, createdDttm DESC, id DESC")
 })
 @Getter
 @NoArgsConstructor
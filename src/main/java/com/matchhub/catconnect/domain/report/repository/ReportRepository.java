@@ -6,8 +6,11 @@ import com.matchhub.catconnect.domain.report.model.enums.ReportTargetType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -22,4 +25,34 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     Page<Report> findAll(Pageable pageable);
 
     List<Report> findByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
+
+    long countByStatus(ReportStatus status);
+
+    /**
+     * 커서 이후의 신고를 최신순으로 조회함 (키셋 페이지네이션)
+     * @param createdDttm 커서 신고일시
+     * @param id 커서 신고 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r " +
+            "WHERE r.createdDttm < :createdDttm OR (r.createdDttm = :createdDttm AND r.id < :id) " +
+            "ORDER BY r.createdDttm DESC, r.id DESC")
+    List<Report> findAfter(@Param("createdDttm") LocalDateTime createdDttm, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 커서 이후의 상태별 신고를 최신순으로 조회함 (키셋 페이지네이션)
+     * @param status 신고 상태
+     * @param createdDttm 커서 신고일시
+     * @param id 커서 신고 ID
+     * @param pageable 조회 개수 제한 (정렬은 쿼리에 고정)
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r WHERE r.status = :status AND " +
+            "(r.createdDttm < :createdDttm OR (r.createdDttm = :createdDttm AND r.id < :id)) " +
+            "ORDER BY r.createdDttm DESC, r.id DESC")
+    List<Report> findByStatusAfter(@Param("status") ReportStatus status,
+                                   @Param("createdDttm") LocalDateTime createdDttm,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
 }
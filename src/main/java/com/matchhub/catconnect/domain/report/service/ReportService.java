@@ -1,5 +1,7 @@
 package com.matchhub.catconnect.domain.report.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.common.model.dto.PageCursor;
 import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.domain.board.repository.BoardRepository;
 import com.matchhub.catconnect.domain.comment.model.entity.Comment;
@@ -13,6 +15,7 @@ import com.matchhub.catconnect.domain.report.repository.UserSanctionRepository;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
+import com.matchhub.catconnect.global.util.ApproximateCountCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -36,15 +39,18 @@ public class ReportService {
     private final UserSanctionRepository userSanctionRepository;
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final ApproximateCountCache countCache;
 
     public ReportService(ReportRepository reportRepository,
                          UserSanctionRepository userSanctionRepository,
                          BoardRepository boardRepository,
-                         CommentRepository commentRepository) {
+                         CommentRepository commentRepository,
+                         ApproximateCountCache countCache) {
         this.reportRepository = reportRepository;
         this.userSanctionRepository = userSanctionRepository;
         this.boardRepository = boardRepository;
         this.commentRepository = commentRepository;
+        this.countCache = countCache;
     }
 
     /**
@@ -130,6 +136,29 @@ public class ReportService {
         return reportPage.map(this::toResponseDTO);
     }
 
+    /**
+     * 신고 목록 커서 조회 (키셋 페이지네이션, 상태 필터 선택)
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<ReportResponseDTO> getReportSlice(ReportStatus status, String after, int size, boolean includeTotal) {
+        log.debug("커서 신고 목록 조회: status={}, after={}, size={}", status, after, size);
+        size = CursorSliceDTO.clampSize(size);
+        PageCursor cursor = PageCursor.parse(after);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Report> rows = status != null
+                ? reportRepository.findByStatusAfter(status, cursor.createdDttm(), cursor.id(), limit)
+                : reportRepository.findAfter(cursor.createdDttm(), cursor.id(), limit);
+        Long total = null;
+        if (includeTotal) {
+            total = status != null
+                    ? countCache.get("report:" + status, () -> reportRepository.countByStatus(status))
+                    : countCache.get("report", reportRepository::count);
+        }
+        return CursorSliceDTO.of(rows, size, this::toResponseDTO,
+                report -> new PageCursor(report.getCreatedDttm(), report.getId()), total);
+    }
+
     /**
      * 제재 적용
      */
@@ -90,9 +90,9 @@ public class LinkShareChannel implements ShareChannel {
     }
 
     /**
-     * Base62 기반 랜덤 단축코드 생성
+     * Base62 기반 랜덤 단축코드 생성 (벤치마크에서 직접 호출하므로 package-private)
      */
-    private String generateShortCode() {
+    String generateShortCode() {
         StringBuilder sb = new StringBuilder(SHORT_CODE_LENGTH);
         for (int i = 0; i < SHORT_CODE_LENGTH; i++) {
             int index = RANDOM.nextInt(BASE62_CHARS.length());
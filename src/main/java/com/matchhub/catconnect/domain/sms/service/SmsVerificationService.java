@@ -63,7 +63,7 @@ public class SmsVerificationService {
         SmsVerificationToken token = new SmsVerificationToken(phoneNumber, code, tokenType, expiryMinutes);
         tokenRepository.save(token);
 
-        // SMS 발송
+        // SMS 발송 (아웃박스 적재, 실제 발송은 커밋 후 워커가 재시도와 함께 처리)
         String message = "[CatConnect] 인증번호: " + code + " (3분간 유효)";
         try {
             notificationService.send(phoneNumber, NotificationChannel.SMS, message);
@@ -4,7 +4,11 @@ import com.matchhub.catconnect.domain.user.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +21,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
+
+    /**
+     * 주어진 URL 중 프로필 이미지로 사용 중인 URL 조회 (미참조 파일 정리용)
+     */
+    @Query("SELECT DISTINCT u.profileImageUrl FROM User u WHERE u.profileImageUrl IN :urls")
+    List<String> findProfileImageUrlsIn(@Param("urls") Collection<String> urls);
 }
@@ -1,14 +1,17 @@
 package com.matchhub.catconnect.domain.user.service;
 
+import com.matchhub.catconnect.domain.chat.service.ChatRoomSessionInvalidatedEvent;
 import com.matchhub.catconnect.domain.user.model.dto.UserResponseDTO;
 import com.matchhub.catconnect.domain.user.model.dto.UserUpdateRequestDTO;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.configuration.HeaderContextInvalidatedEvent;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.Domain;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,11 +30,14 @@ public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성자를 통한 의존성 주입
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -98,6 +104,9 @@ public class UserService {
             return;
         }
         userRepository.deleteAllByIdInBatch(ids);
+        // ID로만 삭제하므로 사용자명을 알 수 없어 헤더 컨텍스트 전체 무효화
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.all());
+        ids.forEach(id -> eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(id)));
         log.debug("사용자 다중 삭제 완료: count={}", ids.size());
     }
 
@@ -112,6 +121,8 @@ public class UserService {
             throw new AppException(Domain.USER, ErrorCode.USER_NOT_FOUND);
         }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.all());
+        eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(id));
         log.debug("사용자 개별 삭제 완료: id={}", id);
     }
 
@@ -143,8 +154,15 @@ public class UserService {
             throw new AppException(Domain.USER, ErrorCode.USER_DUPLICATE_EMAIL, "이미 사용 중인 이메일입니다.");
         }
 
+        String oldUsername = user.getUsername();
         user.update(newUsername, newEmail, newPhoneNumber, newPassword);
         userRepository.save(user);
+        eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(oldUsername));
+        if (!oldUsername.equals(newUsername)) {
+            eventPublisher.publishEvent(HeaderContextInvalidatedEvent.of(newUsername));
+            // 채팅방 세션은 사용자명으로 참여자를 찾고, 최근 메시지 버퍼는 발신자명을 담고 있음
+            eventPublisher.publishEvent(ChatRoomSessionInvalidatedEvent.user(id));
+        }
 
         log.debug("사용자 수정 완료: id={}", id);
         return toResponseDTO(user);
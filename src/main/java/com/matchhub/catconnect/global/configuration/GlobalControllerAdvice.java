@@ -1,8 +1,6 @@
 package com.matchhub.catconnect.global.configuration;
 
 import com.matchhub.catconnect.domain.user.model.dto.UserResponseDTO;
-import com.matchhub.catconnect.domain.user.model.entity.User;
-import com.matchhub.catconnect.domain.user.repository.UserRepository;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,14 +8,15 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 
 /**
  * 모든 뷰 컨트롤러에 공통 모델 속성을 제공하는 ControllerAdvice
+ * REST 컨트롤러에는 적용되지 않도록 @ViewController가 붙은 컨트롤러로 범위를 제한함
  */
-@ControllerAdvice
+@ControllerAdvice(annotations = ViewController.class)
 public class GlobalControllerAdvice {
 
-    private final UserRepository userRepository;
+    private final HeaderContextCache headerContextCache;
 
-    public GlobalControllerAdvice(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public GlobalControllerAdvice(HeaderContextCache headerContextCache) {
+        this.headerContextCache = headerContextCache;
     }
 
     /**
@@ -32,21 +31,7 @@ public class GlobalControllerAdvice {
             return null;
         }
 
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .map(this::toResponseDTO)
-                .orElse(null);
-    }
-
-    private UserResponseDTO toResponseDTO(User user) {
-        UserResponseDTO dto = new UserResponseDTO();
-        dto.setId(user.getId());
-        dto.setUsername(user.getUsername());
-        dto.setEmail(user.getEmail());
-        dto.setPhoneNumber(user.getPhoneNumber());
-        dto.setProfileImageUrl(user.getProfileImageUrl());
-        dto.setRole(user.getRole().name());
-        dto.setCreatedDttm(user.getCreatedDttm());
-        return dto;
+        HeaderContextCache.HeaderContext context = headerContextCache.get(authentication.getName());
+        return context != null ? context.currentUser() : null;
     }
 }
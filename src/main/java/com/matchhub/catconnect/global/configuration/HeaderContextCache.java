@@ -0,0 +1,112 @@
+package com.matchhub.catconnect.global.configuration;
+
+import com.matchhub.catconnect.domain.inbox.repository.InboxItemRepository;
+import com.matchhub.catconnect.domain.user.model.dto.UserResponseDTO;
+import com.matchhub.catconnect.domain.user.model.entity.User;
+import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 뷰 헤더 렌더링용 사용자별 컨텍스트 캐시
+ *
+ * 로그인 사용자의 프로필 스냅샷과 안 읽은 알림 수를 함께 보관하여
+ * 페이지 렌더링마다 사용자/알림 수 조회 쿼리가 실행되지 않도록 함
+ * 인박스, 프로필, 사용자 정보 변경 시 HeaderContextInvalidatedEvent로 무효화되며,
+ * 이벤트가 누락되더라도 TTL이 지나면 다시 조회함
+ */
+@Component
+public class HeaderContextCache {
+
+    private static final Logger log = LoggerFactory.getLogger(HeaderContextCache.class);
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MILLIS = 30_000L;
+
+    private final UserRepository userRepository;
+    private final InboxItemRepository inboxItemRepository;
+
+    // 사용자명 → 헤더 컨텍스트 (접근 순서 기준 LRU)
+    private final Map<String, CachedEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public HeaderContextCache(UserRepository userRepository, InboxItemRepository inboxItemRepository) {
+        this.userRepository = userRepository;
+        this.inboxItemRepository = inboxItemRepository;
+    }
+
+    /**
+     * 헤더 컨텍스트 조회 (캐시 미스 시 DB 조회 후 저장)
+     * @param username 사용자명
+     * @return 헤더 컨텍스트 (사용자가 없으면 null)
+     */
+    public HeaderContext get(String username) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedEntry cached = entries.get(username);
+            if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+                return cached.context();
+            }
+        }
+
+        HeaderContext context = load(username);
+        if (context != null) {
+            synchronized (entries) {
+                entries.put(username, new CachedEntry(context, now));
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 후 해당 사용자(또는 전체) 컨텍스트 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInvalidated(HeaderContextInvalidatedEvent event) {
+        synchronized (entries) {
+            if (event.username() == null) {
+                entries.clear();
+            } else {
+                entries.remove(event.username());
+            }
+        }
+        log.debug("헤더 컨텍스트 무효화: username={}", event.username() != null ? event.username() : "전체");
+    }
+
+    private HeaderContext load(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> new HeaderContext(toResponseDTO(user), inboxItemRepository.countUnread(user.getId())))
+                .orElse(null);
+    }
+
+    private UserResponseDTO toResponseDTO(User user) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(user.getId());
+        dto.setUsername(user.getUsername());
+        dto.setEmail(user.getEmail());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setProfileImageUrl(user.getProfileImageUrl());
+        dto.setRole(user.getRole().name());
+        dto.setCreatedDttm(user.getCreatedDttm());
+        return dto;
+    }
+
+    /**
+     * 헤더 렌더링에 필요한 사용자 정보 스냅샷
+     * @param currentUser 로그인 사용자 프로필
+     * @param unreadCount 안 읽은 인박스 항목 수
+     */
+    public record HeaderContext(UserResponseDTO currentUser, long unreadCount) {
+    }
+
+    private record CachedEntry(HeaderContext context, long loadedAt) {
+    }
+}
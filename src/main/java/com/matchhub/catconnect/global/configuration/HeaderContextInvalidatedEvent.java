@@ -0,0 +1,17 @@
+package com.matchhub.catconnect.global.configuration;
+
+/**
+ * 헤더 컨텍스트(프로필 스냅샷, 안 읽은 알림 수) 무효화 이벤트
+ *
+ * @param username 무효화할 사용자명 (null이면 전체 무효화)
+ */
+public record HeaderContextInvalidatedEvent(String username) {
+
+    public static HeaderContextInvalidatedEvent of(String username) {
+        return new HeaderContextInvalidatedEvent(username);
+    }
+
+    public static HeaderContextInvalidatedEvent all() {
+        return new HeaderContextInvalidatedEvent(null);
+    }
+}
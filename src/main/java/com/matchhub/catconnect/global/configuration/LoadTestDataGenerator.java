@@ -0,0 +1,355 @@
+package com.matchhub.catconnect.global.configuration;
+
+import com.matchhub.catconnect.domain.board.model.enums.BoardCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 (loadtest 프로필 전용)
+ *
+ * 사용자/게시글/댓글/좋아요/채팅방/채팅 메시지를 JDBC 배치 INSERT로 넣음 (JPA 엔티티를 거치지 않음)
+ * 운영 데이터처럼 치우친 분포를 만들기 위해 Zipf 분포로 작성자(파워 유저), 댓글/좋아요 대상(인기 게시글),
+ * 메시지 대상(활발한 채팅방)을 고름
+ * 게시글이 이미 충분히 있으면(로컬 Postgres 재기동 등) 생성하지 않음
+ * 검색 색인은 ApplicationReadyEvent에서 DB 기준으로 만들어지므로 CommandLineRunner 단계에서 넣은 데이터도 색인됨
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    // 생성 사용자 이름 접두사 (부하 드라이버가 같은 규칙으로 토큰을 발급함)
+    public static final String USERNAME_PREFIX = "lt_user_";
+    // 본문/댓글 단어 (부하 드라이버의 검색 키워드로도 사용)
+    public static final List<String> WORDS = List.of(
+            "고양이", "입양", "사료", "간식", "병원", "중성화", "모래", "장난감", "캣타워", "털갈이",
+            "예방접종", "길고양이", "임시보호", "구조", "츄르", "스크래쳐", "발톱", "양치", "건강검진", "캔",
+            "캣닢", "집사", "냥이", "아깽이", "노묘", "다이어트", "알레르기", "이동장", "급식소", "숨숨집");
+
+    private static final int BOARD_CATEGORY_COUNT = BoardCategory.values().length;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final boolean enabled;
+    private final int users;
+    private final int boards;
+    private final int comments;
+    private final int likes;
+    private final int chatRooms;
+    private final int chatMessages;
+    private final int batchSize;
+    private final double skew;
+    private final int days;
+    private final long seed;
+
+    public LoadTestDataGenerator(JdbcTemplate jdbcTemplate,
+                                 PasswordEncoder passwordEncoder,
+                                 @Value("${app.loadtest.data.enabled:true}") boolean enabled,
+                                 @Value("${app.loadtest.data.users:100000}") int users,
+                                 @Value("${app.loadtest.data.boards:1000000}") int boards,
+                                 @Value("${app.loadtest.data.comments:3000000}") int comments,
+                                 @Value("${app.loadtest.data.likes:5000000}") int likes,
+                                 @Value("${app.loadtest.data.chat-rooms:50000}") int chatRooms,
+                                 @Value("${app.loadtest.data.chat-messages:2000000}") int chatMessages,
+                                 @Value("${app.loadtest.data.batch-size:5000}") int batchSize,
+                                 @Value("${app.loadtest.data.skew:1.1}") double skew,
+                                 @Value("${app.loadtest.data.days:365}") int days,
+                                 @Value("${app.loadtest.data.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.enabled = enabled;
+        this.users = Math.max(users, 2);
+        this.boards = boards;
+        this.comments = comments;
+        this.likes = likes;
+        this.chatRooms = chatRooms;
+        this.chatMessages = chatMessages;
+        this.batchSize = batchSize;
+        this.skew = skew;
+        this.days = Math.max(days, 1);
+        this.seed = seed;
+    }
+
+    public static String username(int index) {
+        return USERNAME_PREFIX + index;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_board", Long.class);
+        if (existing != null && existing >= boards) {
+            log.info("부하 테스트 데이터 생성 생략: 기존 게시글 {}건", existing);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now();
+        ZipfSampler userSampler = new ZipfSampler(users, skew);
+        ZipfSampler boardSampler = new ZipfSampler(Math.max(boards, 1), skew);
+
+        long firstUserId = insertUsers(now);
+
+        // 게시글별 댓글/좋아요 수를 먼저 정해 게시글 INSERT 시 카운터 컬럼을 함께 채움
+        int[] commentCounts = new int[boards];
+        int[] likeCounts = new int[boards];
+        if (boards > 0) {
+            for (int i = 0; i < comments; i++) {
+                commentCounts[boardSampler.sample(random)]++;
+            }
+            for (int i = 0; i < likes; i++) {
+                int board = boardSampler.sample(random);
+                // 같은 사용자가 한 게시글에 좋아요를 두 번 누를 수 없으므로 사용자 수에서 멈춤
+                if (likeCounts[board] < users) {
+                    likeCounts[board]++;
+                }
+            }
+            long firstBoardId = insertBoards(random, userSampler, commentCounts, likeCounts, now);
+            insertComments(random, userSampler, commentCounts, firstBoardId, now);
+            insertLikes(likeCounts, firstBoardId, now);
+        }
+        insertChat(random, userSampler, firstUserId, now);
+
+        log.info("부하 테스트 데이터 생성 완료: users={}, boards={}, comments={}, likes={}, chatRooms={}, chatMessages={}, elapsedMs={}",
+                users, boards, comments, Arrays.stream(likeCounts).asLongStream().sum(), chatRooms, chatMessages,
+                System.currentTimeMillis() - start);
+    }
+
+    private long insertUsers(LocalDateTime now) {
+        // BCrypt는 느리므로 모든 생성 사용자가 같은 비밀번호 해시를 공유함
+        String password = passwordEncoder.encode("password");
+        Timestamp created = Timestamp.valueOf(now.minusDays(days));
+        batchInsert("tb_user",
+                "INSERT INTO tb_user (username, email, password, role, created_dttm, updated_dttm) VALUES (?, ?, ?, 'USER', ?, ?)",
+                users, (ps, i) -> {
+                    ps.setString(1, username(i));
+                    ps.setString(2, username(i) + "@loadtest.local");
+                    ps.setString(3, password);
+                    ps.setTimestamp(4, created);
+                    ps.setTimestamp(5, created);
+                });
+        return firstIdOf("tb_user", users);
+    }
+
+    private long insertBoards(SplittableRandom random, ZipfSampler userSampler,
+                              int[] commentCounts, int[] likeCounts, LocalDateTime now) {
+        batchInsert("tb_board",
+                "INSERT INTO tb_board (title, content, author, category, view_count, like_count, comment_count, blinded, "
+                        + "read_permission, write_permission, owner_read_only, created_dttm, updated_dttm) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, 'ANYONE', 'MEMBER', FALSE, ?, ?)",
+                boards, (ps, i) -> {
+                    // 게시글 번호가 작을수록 인기 게시글 (조회수도 좋아요/댓글 수에 비례하도록)
+                    Timestamp created = timestampAt(now, i, boards);
+                    ps.setString(1, sentence(random, 3) + " #" + i);
+                    ps.setString(2, "<p>" + sentence(random, 30) + "</p><p>" + sentence(random, 20) + "</p>");
+                    ps.setString(3, username(userSampler.sample(random)));
+                    ps.setString(4, BoardCategory.values()[random.nextInt(BOARD_CATEGORY_COUNT)].name());
+                    ps.setInt(5, likeCounts[i] * 10 + commentCounts[i] * 5 + random.nextInt(50));
+                    ps.setInt(6, likeCounts[i]);
+                    ps.setInt(7, commentCounts[i]);
+                    ps.setTimestamp(8, created);
+                    ps.setTimestamp(9, created);
+                });
+        return firstIdOf("tb_board", boards);
+    }
+
+    private void insertComments(SplittableRandom random, ZipfSampler userSampler, int[] commentCounts,
+                                long firstBoardId, LocalDateTime now) {
+        int[] cursor = {0, 0};
+        batchInsert("tb_comment",
+                "INSERT INTO tb_comment (content, author, board_id, blinded, created_dttm, updated_dttm) VALUES (?, ?, ?, FALSE, ?, ?)",
+                comments, (ps, i) -> {
+                    // 게시글 순서대로 commentCounts만큼 채움
+                    while (commentCounts[cursor[0]] == cursor[1]) {
+                        cursor[0]++;
+                        cursor[1] = 0;
+                    }
+                    cursor[1]++;
+                    Timestamp created = timestampAt(now, cursor[0], boards);
+                    ps.setString(1, sentence(random, 8));
+                    ps.setString(2, username(userSampler.sample(random)));
+                    ps.setLong(3, firstBoardId + cursor[0]);
+                    ps.setTimestamp(4, created);
+                    ps.setTimestamp(5, created);
+                });
+    }
+
+    private void insertLikes(int[] likeCounts, long firstBoardId, LocalDateTime now) {
+        long total = Arrays.stream(likeCounts).asLongStream().sum();
+        int[] cursor = {0, 0};
+        Timestamp created = Timestamp.valueOf(now);
+        batchInsert("tb_like",
+                "INSERT INTO tb_like (username, board_id, created_dttm, updated_dttm) VALUES (?, ?, ?, ?)",
+                (int) total, (ps, i) -> {
+                    while (likeCounts[cursor[0]] == cursor[1]) {
+                        cursor[0]++;
+                        cursor[1] = 0;
+                    }
+                    // 게시글마다 시작 위치를 달리해 사용자를 순서대로 배정 (게시글 안에서 중복 없음)
+                    int user = (int) ((cursor[0] * 7919L + cursor[1]) % users);
+                    cursor[1]++;
+                    ps.setString(1, username(user));
+                    ps.setLong(2, firstBoardId + cursor[0]);
+                    ps.setTimestamp(3, created);
+                    ps.setTimestamp(4, created);
+                });
+    }
+
+    private void insertChat(SplittableRandom random, ZipfSampler userSampler, long firstUserId, LocalDateTime now) {
+        if (chatRooms == 0) {
+            return;
+        }
+        // 1:1 채팅방: 한쪽은 파워 유저 위주, 다른 쪽은 균등 분포
+        int[] first = new int[chatRooms];
+        int[] second = new int[chatRooms];
+        for (int i = 0; i < chatRooms; i++) {
+            first[i] = userSampler.sample(random);
+            int other = random.nextInt(users - 1);
+            second[i] = other >= first[i] ? other + 1 : other;
+        }
+
+        Timestamp roomCreated = Timestamp.valueOf(now.minusDays(days));
+        batchInsert("chat_rooms",
+                "INSERT INTO chat_rooms (room_type, last_message_at, last_seq, created_dttm, updated_dttm) VALUES ('DIRECT', ?, 0, ?, ?)",
+                chatRooms, (ps, i) -> {
+                    ps.setTimestamp(1, roomCreated);
+                    ps.setTimestamp(2, roomCreated);
+                    ps.setTimestamp(3, roomCreated);
+                });
+        long firstRoomId = firstIdOf("chat_rooms", chatRooms);
+
+        batchInsert("chat_room_participants",
+                "INSERT INTO chat_room_participants (chat_room_id, user_id, joined_at, last_read_message_id, unread_count) "
+                        + "VALUES (?, ?, ?, 0, 0)",
+                chatRooms * 2, (ps, i) -> {
+                    int room = i / 2;
+                    ps.setLong(1, firstRoomId + room);
+                    ps.setLong(2, firstUserId + (i % 2 == 0 ? first[room] : second[room]));
+                    ps.setTimestamp(3, roomCreated);
+                });
+
+        ZipfSampler roomSampler = new ZipfSampler(chatRooms, skew);
+        long[] roomSeqs = new long[chatRooms]; // 채팅방별 메시지 순번 (작성 시각 순으로 발급)
+        batchInsert("chat_messages",
+                "INSERT INTO chat_messages (chat_room_id, sender_id, seq, content, message_type, is_deleted, created_dttm) "
+                        + "VALUES (?, ?, ?, ?, 'TEXT', FALSE, ?)",
+                chatMessages, (ps, i) -> {
+                    int room = roomSampler.sample(random);
+                    ps.setLong(1, firstRoomId + room);
+                    ps.setLong(2, firstUserId + (random.nextBoolean() ? first[room] : second[room]));
+                    ps.setLong(3, ++roomSeqs[room]);
+                    ps.setString(4, sentence(random, 6));
+                    ps.setTimestamp(5, timestampAt(now, chatMessages - 1 - i, chatMessages));
+                });
+
+        // 채팅방 목록 정렬용 마지막 메시지 요약과 마지막 순번 갱신
+        int updated = jdbcTemplate.update(
+                "UPDATE chat_rooms SET last_message_id = (SELECT MAX(m.id) FROM chat_messages m WHERE m.chat_room_id = chat_rooms.id), "
+                        + "last_seq = (SELECT COALESCE(MAX(m.seq), 0) FROM chat_messages m WHERE m.chat_room_id = chat_rooms.id) "
+                        + "WHERE id >= ?", firstRoomId);
+        jdbcTemplate.update(
+                "UPDATE chat_rooms SET last_message_at = (SELECT m.created_dttm FROM chat_messages m WHERE m.id = chat_rooms.last_message_id), "
+                        + "last_message_preview = (SELECT SUBSTRING(m.content, 1, 200) FROM chat_messages m WHERE m.id = chat_rooms.last_message_id) "
+                        + "WHERE id >= ? AND last_message_id IS NOT NULL", firstRoomId);
+        log.info("채팅방 마지막 메시지 갱신 완료: rooms={}", updated);
+    }
+
+    /**
+     * batchSize 단위로 나누어 배치 INSERT (청크마다 커밋되므로 중간 실패 시 앞 청크는 남음)
+     */
+    private void batchInsert(String table, String sql, int total, RowSetter setter) {
+        long start = System.currentTimeMillis();
+        for (int offset = 0; offset < total; offset += batchSize) {
+            int base = offset;
+            int size = Math.min(batchSize, total - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, base + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            if ((offset / batchSize) % 100 == 99) {
+                log.info("부하 테스트 데이터 생성 중: table={}, rows={}/{}", table, offset + size, total);
+            }
+        }
+        log.info("부하 테스트 데이터 생성: table={}, rows={}, elapsedMs={}", table, total, System.currentTimeMillis() - start);
+    }
+
+    // 방금 넣은 행의 첫 ID (생성 중에는 다른 INSERT가 없으므로 IDENTITY가 연속 발급됨)
+    private long firstIdOf(String table, int inserted) {
+        Long lastId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return lastId != null ? lastId - inserted + 1 : 0;
+    }
+
+    // 순번이 작을수록 최근 시각 (기간 안에서 균등 분포)
+    private Timestamp timestampAt(LocalDateTime now, int index, int total) {
+        long seconds = (long) days * 24 * 3600 * index / Math.max(total, 1);
+        return Timestamp.valueOf(now.minusSeconds(seconds));
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder(words * 4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sentence.toString();
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+
+    /**
+     * 0..n-1 중 작은 번호일수록 자주 뽑히는 Zipf 분포 표본 추출 (누적 분포를 미리 계산하고 이진 탐색)
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            index = index >= 0 ? index : -index - 1;
+            return Math.min(index, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.matchhub.catconnect.global.configuration;
+
+import com.matchhub.catconnect.domain.chat.service.ChatRecentMessageBuffer;
+import com.matchhub.catconnect.domain.chat.websocket.WebSocketSessionTracker;
+import com.matchhub.catconnect.domain.notification.sse.SseEmitterService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실시간 연결 수와 채팅 최근 메시지 버퍼 게이지
+ *
+ * 값은 수집(/actuator/prometheus 스크레이프) 시점에만 계산하므로 연결/해제 경로에는 비용이 없음
+ * REST 핸들러(http.server.requests)와 Hikari 풀(hikaricp.connections.*) 메트릭은 스프링 부트 자동 구성을 사용함
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder realtimeConnectionMetrics(SseEmitterService sseEmitterService,
+                                                 WebSocketSessionTracker webSocketSessionTracker) {
+        return registry -> {
+            Gauge.builder("sse.connections", sseEmitterService, SseEmitterService::getTotalConnectionCount)
+                    .register(registry);
+            Gauge.builder("websocket.sessions", webSocketSessionTracker, WebSocketSessionTracker::getSessionCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder chatRecentBufferMetrics(ChatRecentMessageBuffer recentMessageBuffer) {
+        return registry -> {
+            Gauge.builder("chat.recent_buffer.rooms", recentMessageBuffer, ChatRecentMessageBuffer::getRoomCount)
+                    .register(registry);
+            Gauge.builder("chat.recent_buffer.size", recentMessageBuffer, ChatRecentMessageBuffer::getTotalBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
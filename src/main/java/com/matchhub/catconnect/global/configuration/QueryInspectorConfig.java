@@ -0,0 +1,29 @@
+package com.matchhub.catconnect.global.configuration;
+
+import com.matchhub.catconnect.global.util.query.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 수 집계용 StatementInspector 등록 (app.query-inspector.enabled=true일 때만)
+ *
+ * Hibernate 통계(generate_statistics)는 SessionFactory 전체 누계라 동시 요청을 구분할 수 없으므로,
+ * SQL 준비 시점에 호출되는 StatementInspector로 현재 스레드의 집계 범위에 기록함
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-inspector.enabled", havingValue = "true")
+public class QueryInspectorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatementInspector(QueryCounter queryCounter) {
+        StatementInspector inspector = sql -> {
+            queryCounter.record(sql);
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,13 @@
+package com.matchhub.catconnect.global.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ * 조회수 write-behind flush 등 백그라운드 작업에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -79,6 +79,8 @@ public class SecurityConfig {
                 .requestMatchers(WHITELIST).permitAll()        // 화이트리스트는 인증없이 접근 허용
                 .requestMatchers("/admin/**").hasRole("ADMIN") // /admin/** 경로는 ADMIN 권한만 접근 가능
                 .requestMatchers("/api/admin/**").hasRole("ADMIN") // /api/admin/** 경로는 ADMIN 권한만 접근 가능
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 헬스 체크(프로브)는 모두 허용
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭 등 나머지 관리 엔드포인트는 ADMIN 권한만 접근 가능
                 .requestMatchers("/api/reports/**").authenticated() // 신고 API는 인증 필요
                 .requestMatchers("/api/chat/**").authenticated() // 채팅 API는 인증 필요
                 .requestMatchers("/api/blocks/**").authenticated() // 차단 API는 인증 필요
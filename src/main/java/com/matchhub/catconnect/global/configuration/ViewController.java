@@ -0,0 +1,19 @@
+package com.matchhub.catconnect.global.configuration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Thymeleaf 레이아웃(헤더 포함)을 렌더링하는 뷰 컨트롤러 표시용 어노테이션
+ *
+ * GlobalControllerAdvice, InboxModelAdvice의 적용 범위를 이 어노테이션이 붙은 컨트롤러로 제한하여
+ * REST API 요청에서는 헤더용 사용자/알림 조회가 실행되지 않도록 함
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ViewController {
+}
@@ -1,7 +1,9 @@
 package com.matchhub.catconnect.global.configuration;
 
 import com.matchhub.catconnect.domain.chat.websocket.ChatStompInterceptor;
+import com.matchhub.catconnect.domain.chat.websocket.StompMetricsInterceptor;
 import com.matchhub.catconnect.domain.chat.websocket.WebSocketHandshakeInterceptor;
+import com.matchhub.catconnect.global.util.query.QueryCountStompInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -17,6 +19,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChatStompInterceptor chatStompInterceptor;
     private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+    private final StompMetricsInterceptor stompMetricsInterceptor;
+    private final QueryCountStompInterceptor queryCountStompInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -35,6 +39,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(chatStompInterceptor);
+        // 쿼리 수 집계는 인증/구독 검증 인터셉터의 조회까지 포함하도록 가장 먼저 등록
+        registration.interceptors(queryCountStompInterceptor, chatStompInterceptor, stompMetricsInterceptor);
     }
 }
@@ -0,0 +1,49 @@
+package com.matchhub.catconnect.global.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수 근사치 캐시
+ * 커서 페이지네이션 목록에서 화면에 전체 개수가 필요할 때만 사용하며,
+ * 요청마다 COUNT(*)를 실행하지 않고 TTL 동안 마지막 값을 재사용함
+ */
+@Component
+public class ApproximateCountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ApproximateCountCache.class);
+
+    private final long ttlMillis;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public ApproximateCountCache(@Value("${app.pagination.count-cache-ttl-ms:60000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 캐시된 개수 조회, 없거나 만료되었으면 다시 계산
+     * @param key 목록 식별 키 (예: "board:FREE")
+     * @param counter 실제 COUNT 쿼리
+     * @return 근사 전체 개수
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlMillis) {
+            return cached.count();
+        }
+        long count = counter.getAsLong();
+        counts.put(key, new CachedCount(count, now));
+        log.debug("근사 개수 갱신: key={}, count={}", key, count);
+        return count;
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+}
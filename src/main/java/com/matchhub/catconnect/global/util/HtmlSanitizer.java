@@ -1,20 +1,27 @@
 package com.matchhub.catconnect.global.util;
 
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Safelist;
 import org.springframework.stereotype.Component;
 
 /**
  * HTML 콘텐츠 XSS 방어를 위한 Sanitizer
+ *
+ * 입력을 한 번 훑어 마크업 여부를 먼저 판단하고, 마크업이 없으면 DOM을 만들지 않고 이스케이프만 함
+ * 마크업이 있을 때만 미리 만들어 둔 Cleaner(Safelist는 생성 후 변경하지 않으므로 스레드 간 공유 가능)로 정리함
  */
 @Component
 public class HtmlSanitizer {
 
-    private final Safelist safelist;
+    private final Cleaner cleaner;
 
     public HtmlSanitizer() {
         // Toast UI Editor에서 생성하는 HTML 태그들을 허용
-        this.safelist = Safelist.relaxed()
+        Safelist safelist = new RelativeImageSafelist()
                 // 상대 경로 링크 유지 (/api/files/download/... 등)
                 .preserveRelativeLinks(true)
                 // 기본 서식
@@ -36,9 +43,10 @@ public class HtmlSanitizer {
                 .addProtocols("a", "href", "http", "https", "mailto")
                 // 이미지
                 .addAttributes("img", "src", "alt", "title", "width", "height")
-                .addProtocols("img", "src", "http", "https", "data", "relpath")
+                .addProtocols("img", "src", "http", "https", "data")
                 // 일반 속성
                 .addAttributes(":all", "class", "id", "style");
+        this.cleaner = new Cleaner(safelist);
     }
 
     /**
@@ -50,10 +58,71 @@ public class HtmlSanitizer {
         if (html == null || html.isBlank()) {
             return html;
         }
-        // 상대 경로를 임시 프로토콜로 변환 (Jsoup이 프로토콜 없는 src를 제거하므로)
-        String preprocessed = html.replace("src=\"/", "src=\"relpath:///");
-        String cleaned = Jsoup.clean(preprocessed, "", safelist);
-        // 다시 상대 경로로 복원
-        return cleaned.replace("src=\"relpath:///", "src=\"/");
+        // 태그(<)와 엔티티(&)가 없으면 마크업이 없으므로 DOM 파싱 없이 텍스트로 처리
+        if (html.indexOf('<') < 0 && html.indexOf('&') < 0) {
+            return escapeText(html);
+        }
+        Document dirty = Jsoup.parseBodyFragment(html, "");
+        return cleaner.clean(dirty).body().html();
+    }
+
+    /**
+     * 마크업을 허용하지 않는 일반 텍스트(채팅 메시지 등)를 DOM 파싱 없이 이스케이프
+     * 이스케이프할 문자가 없으면 입력 문자열을 그대로 반환함
+     * @param text 원본 텍스트
+     * @return &amp;, &lt;, &gt;를 엔티티로 바꾼 텍스트
+     */
+    public String escapeText(String text) {
+        if (text == null) {
+            return null;
+        }
+        int first = firstSpecialChar(text);
+        if (first < 0) {
+            return text;
+        }
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        escaped.append(text, 0, first);
+        for (int i = first; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static int firstSpecialChar(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&' || c == '<' || c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * img src의 사이트 내부 절대 경로(/로 시작, //는 제외)를 허용하는 Safelist
+     * (기본 Safelist는 프로토콜 없는 src를 제거하므로, 문자열 치환 없이 검사 단계에서 허용함)
+     */
+    private static final class RelativeImageSafelist extends Safelist {
+
+        RelativeImageSafelist() {
+            super(Safelist.relaxed());
+        }
+
+        @Override
+        public boolean isSafeAttribute(String tagName, Element el, Attribute attr) {
+            if ("img".equals(tagName) && "src".equalsIgnoreCase(attr.getKey())) {
+                String value = attr.getValue();
+                if (value.startsWith("/") && !value.startsWith("//") && !value.startsWith("/\\")) {
+                    return true;
+                }
+            }
+            return super.isSafeAttribute(tagName, el, attr);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.matchhub.catconnect.global.util.auth;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -46,29 +47,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         if (token != null) {
             try {
-                if (jwtProvider.validateToken(token)) {
-                    String username = jwtProvider.getUsernameFromToken(token);
-                    String role = jwtProvider.getRoleFromToken(token);
-                    logger.debug("토큰 유효, 사용자 정보: username={}, role={}", username, role);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-                    );
-                    logger.debug("인증 객체 생성: username={}, authorities={}", username, authentication.getAuthorities());
+                // 서명 검증은 한 번만 수행하고, 최근 검증된 토큰은 캐시에서 바로 가져옴
+                JwtClaims claims = jwtProvider.parseClaims(token);
+                String username = claims.username();
+                String role = claims.role();
+                logger.debug("토큰 유효, 사용자 정보: username={}, role={}", username, role);
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                );
+                logger.debug("인증 객체 생성: username={}, authorities={}", username, authentication.getAuthorities());
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.debug("SecurityContext 설정 완료: username={}", username);
-                } else {
-                    logger.warn("토큰 유효성 검증 실패: token={}", token.substring(0, Math.min(token.length(), 20)) + "...");
-                    // 토큰이 만료된 경우 request attribute에 저장
-                    if (jwtProvider.isTokenExpired(token)) {
-                        request.setAttribute(TOKEN_EXPIRED_ATTRIBUTE, true);
-                        logger.debug("토큰 만료됨, request attribute 설정: TOKEN_EXPIRED=true");
-                    }
-                }
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                logger.debug("SecurityContext 설정 완료: username={}", username);
             } catch (ExpiredJwtException e) {
                 // 토큰 만료 예외 처리
                 request.setAttribute(TOKEN_EXPIRED_ATTRIBUTE, true);
                 logger.warn("토큰 만료: error={}", e.getMessage());
+            } catch (JwtException e) {
+                logger.warn("토큰 유효성 검증 실패: error={}, token={}", e.getMessage(), token.substring(0, Math.min(token.length(), 20)) + "...");
             } catch (Exception e) {
                 logger.error("토큰 처리 중 예외 발생: error={}, token={}", e.getMessage(), token.substring(0, Math.min(token.length(), 20)) + "...");
             }
@@ -0,0 +1,20 @@
+package com.matchhub.catconnect.global.util.auth;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT에서 추출한 인증 정보
+ *
+ * @param username 토큰 subject (사용자명)
+ * @param role 사용자 역할 (Refresh Token은 null)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtClaims(String username, String role, Instant expiresAt) {
+
+	/**
+	 * 주어진 시각 기준 만료 여부
+	 */
+	public boolean isExpiredAt(Instant now) {
+		return expiresAt != null && !expiresAt.isAfter(now);
+	}
+}
@@ -1,13 +1,18 @@
 package com.matchhub.catconnect.global.util.auth;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
@@ -25,6 +30,14 @@ public class JwtProvider {
 	private static final Logger logger = LoggerFactory.getLogger(JwtProvider.class);
 	private final String secret = "2025-prototype-sample-secret-key-1234567890";
 
+	// 서명 키와 파서는 불변/스레드 안전하므로 기동 시 한 번만 생성
+	private final SecretKey signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+	private final JwtParser jwtParser = Jwts.parser().verifyWith(signingKey).build();
+
+	// 최근 검증된 토큰 캐시 (요청마다 서명 재검증 방지)
+	private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+	private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+
 	// Access Token 만료 시간
 	private final long accessTokenExpirationTime = 1000 * 60 * 15; // 15분
 	private final long extendedAccessTokenExpirationTime = 1000 * 60 * 60 * 24 * 7; // 7일 (로그인 상태 유지)
@@ -59,7 +72,7 @@ public class JwtProvider {
 				.subject(username)
 				.issuedAt(new Date())
 				.expiration(new Date(System.currentTimeMillis() + expiration))
-				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+				.signWith(signingKey)
 				.compact();
 		logger.debug("Access Token 생성: username={}, role={}, stayLoggedIn={}", username, role, stayLoggedIn);
 		return token;
@@ -78,7 +91,7 @@ public class JwtProvider {
 				.id(java.util.UUID.randomUUID().toString()) // 토큰 고유 ID 추가 (Rotation 시 구분용)
 				.issuedAt(new Date())
 				.expiration(new Date(System.currentTimeMillis() + refreshTokenExpirationTime))
-				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+				.signWith(signingKey)
 				.compact();
 		logger.debug("Refresh Token 생성: username={}", username);
 		return token;
@@ -118,22 +131,36 @@ public class JwtProvider {
 		return getAccessTokenExpirationSeconds(stayLoggedIn);
 	}
 
+	/**
+	 * 토큰을 한 번만 검증하여 username/role/만료 시각을 반환
+	 *
+	 * 최근 검증된 토큰은 캐시에서 바로 반환하며, 캐시 항목은 토큰 만료 시각이 지나면 무효화됨
+	 * @throws ExpiredJwtException 토큰이 만료된 경우
+	 * @throws JwtException 서명 또는 형식이 유효하지 않은 경우
+	 */
+	public JwtClaims parseClaims(String token) {
+		JwtClaims cached = verifiedTokenCache.get(token);
+		if (cached != null) {
+			return cached;
+		}
+		Claims payload = jwtParser.parseSignedClaims(token).getPayload();
+		Instant expiresAt = payload.getExpiration() != null ? payload.getExpiration().toInstant() : null;
+		JwtClaims claims = new JwtClaims(payload.getSubject(), payload.get("role", String.class), expiresAt);
+		verifiedTokenCache.put(token, claims);
+		logger.debug("JWT 토큰 검증 및 캐시 저장: username={}", claims.username());
+		return claims;
+	}
+
 	public String getUsernameFromToken(String token) {
-		return Jwts.parser()
-				.verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-				.build()
-				.parseSignedClaims(token)
+		return jwtParser.parseSignedClaims(token)
 				.getPayload()
 				.getSubject();
 	}
 
 	public String getRoleFromToken(String token) {
-		return  Jwts.parser()
-				    .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-				    .build()
-				    .parseSignedClaims(token)
-				    .getPayload()
-				    .get("role", String.class);
+		return jwtParser.parseSignedClaims(token)
+				.getPayload()
+				.get("role", String.class);
 	}
 
 	/**
@@ -141,10 +168,7 @@ public class JwtProvider {
 	 */
 	public boolean validateToken(String token) {
 		try {
-			Jwts.parser()
-					.verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-					.build()
-					.parseSignedClaims(token);
+			jwtParser.parseSignedClaims(token);
 			logger.debug("JWT 토큰 유효성 검증 성공: token={}", token.substring(0, Math.min(token.length(), 20)) + "...");
 			return true;
 		} catch (Exception e) {
@@ -158,10 +182,7 @@ public class JwtProvider {
 	 */
 	public boolean isTokenExpired(String token) {
 		try {
-			Jwts.parser()
-					.verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-					.build()
-					.parseSignedClaims(token);
+			jwtParser.parseSignedClaims(token);
 			return false;
 		} catch (ExpiredJwtException e) {
 			return true;
@@ -175,10 +196,7 @@ public class JwtProvider {
 	 */
 	public String getUsernameFromExpiredToken(String token) {
 		try {
-			return Jwts.parser()
-					.verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-					.build()
-					.parseSignedClaims(token)
+			return jwtParser.parseSignedClaims(token)
 					.getPayload()
 					.getSubject();
 		} catch (ExpiredJwtException e) {
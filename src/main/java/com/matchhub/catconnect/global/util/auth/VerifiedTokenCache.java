@@ -0,0 +1,73 @@
+package com.matchhub.catconnect.global.util.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 서명 검증된 토큰의 클레임을 보관하는 LRU 캐시
+ *
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하여 메모리에 토큰이 남지 않도록 함
+ * 조회 시 만료된 항목은 즉시 제거하므로 만료된 토큰이 캐시로 통과되지 않음
+ */
+class VerifiedTokenCache {
+
+	private final int maxSize;
+	private final Map<String, JwtClaims> entries;
+
+	VerifiedTokenCache(int maxSize) {
+		this.maxSize = maxSize;
+		// accessOrder=true: 조회 순서 기준 LRU
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+				return size() > VerifiedTokenCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 캐시된 클레임 조회 (없거나 만료되었으면 null)
+	 */
+	JwtClaims get(String token) {
+		String key = hash(token);
+		synchronized (entries) {
+			JwtClaims claims = entries.get(key);
+			if (claims != null && claims.isExpiredAt(Instant.now())) {
+				entries.remove(key);
+				return null;
+			}
+			return claims;
+		}
+	}
+
+	/**
+	 * 검증된 토큰의 클레임 저장
+	 */
+	void put(String token, JwtClaims claims) {
+		String key = hash(token);
+		synchronized (entries) {
+			entries.put(key, claims);
+		}
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hashed);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
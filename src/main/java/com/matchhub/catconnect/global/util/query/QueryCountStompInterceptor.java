@@ -0,0 +1,67 @@
+package com.matchhub.catconnect.global.util.query;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 메시지 단위 SQL 실행 수 집계
+ *
+ * 인바운드 인터셉터 단계(preSend ~ afterSendCompletion, 연결/구독 검증 등)와
+ * @MessageMapping 핸들러 단계(beforeHandle ~ afterMessageHandled)는 실행 스레드가 달라 각각 따로 집계함
+ * 인터셉터 단계까지 포함하려면 clientInboundChannel에 가장 먼저 등록해야 함
+ */
+@Component
+public class QueryCountStompInterceptor implements ExecutorChannelInterceptor {
+
+    private final QueryCounter queryCounter;
+    private final ThreadLocal<QueryCounter.Scope> inboundScope = new ThreadLocal<>();
+    private final ThreadLocal<QueryCounter.Scope> handlerScope = new ThreadLocal<>();
+
+    public QueryCountStompInterceptor(QueryCounter queryCounter) {
+        this.queryCounter = queryCounter;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (queryCounter.isEnabled()) {
+            inboundScope.set(queryCounter.open(label(message, "inbound")));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        close(inboundScope);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (queryCounter.isEnabled() && handler instanceof SimpAnnotationMethodMessageHandler) {
+            handlerScope.set(queryCounter.open(label(message, "handler")));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        close(handlerScope);
+    }
+
+    private void close(ThreadLocal<QueryCounter.Scope> holder) {
+        QueryCounter.Scope scope = holder.get();
+        if (scope != null) {
+            holder.remove();
+            queryCounter.report(scope.close());
+        }
+    }
+
+    private static String label(Message<?> message, String phase) {
+        return "STOMP " + SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+                + " " + SimpMessageHeaderAccessor.getDestination(message.getHeaders()) + " (" + phase + ")";
+    }
+}
@@ -0,0 +1,145 @@
+package com.matchhub.catconnect.global.util.query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 실행 수 집계 (개발/테스트용)
+ *
+ * Hibernate StatementInspector가 SQL을 준비할 때마다 record를 호출하고,
+ * 현재 스레드에 열린 범위(HTTP 요청, STOMP 메시지, 테스트 메서드)마다 실행 수와 SQL 형태별 횟수를 셈
+ * 같은 형태의 SQL이 임계값 이상 반복되면 N+1 의심으로 보고함
+ * 범위는 중첩될 수 있으며 안쪽 범위의 SQL은 바깥 범위에도 함께 집계됨
+ * 비활성화 상태(app.query-inspector.enabled=false)에서는 StatementInspector가 등록되지 않아 아무것도 집계하지 않음
+ */
+@Component
+public class QueryCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCounter.class);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final int suspectThreshold;
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    public QueryCounter(@Value("${app.query-inspector.enabled:false}") boolean enabled,
+                        @Value("${app.query-inspector.n-plus-one-threshold:3}") int suspectThreshold) {
+        this.enabled = enabled;
+        this.suspectThreshold = suspectThreshold;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 스레드에 집계 범위를 엶 (반드시 close로 닫아야 함)
+     * @param label 로그에 남길 범위 이름 (예: GET /api/boards)
+     */
+    public Scope open(String label) {
+        Scope scope = new Scope(label, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * 실행될 SQL 기록 (StatementInspector에서 호출)
+     */
+    public void record(String sql) {
+        Scope scope = current.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 범위 결과를 로그로 남김 (N+1 의심이 있으면 WARN)
+     */
+    public void report(Result result) {
+        if (!result.suspects().isEmpty()) {
+            log.warn("N+1 의심: {}, statements={}, repeated={}", result.label(), result.statements(), result.suspects());
+        } else if (result.statements() > 0) {
+            log.debug("쿼리 수: {}, statements={}", result.label(), result.statements());
+        }
+    }
+
+    // 리터럴과 IN 목록 길이를 지워 같은 형태의 SQL을 하나로 묶음
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * 집계 범위 (한 스레드 안에서만 사용)
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final String label;
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private final List<Result> children = new ArrayList<>();
+        private int statements;
+        private Result result;
+
+        private Scope(String label, Scope parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+
+        /**
+         * 범위를 닫고 결과 반환 (바깥 범위가 있으면 하위 결과로 추가)
+         */
+        @Override
+        public Result close() {
+            if (result != null) {
+                return result;
+            }
+            if (current.get() == this) {
+                if (parent != null) {
+                    current.set(parent);
+                } else {
+                    current.remove();
+                }
+            }
+            Map<String, Integer> suspects = new LinkedHashMap<>();
+            shapes.forEach((shape, count) -> {
+                if (count >= suspectThreshold) {
+                    suspects.put(shape, count);
+                }
+            });
+            result = new Result(label, statements, Collections.unmodifiableMap(suspects), List.copyOf(children));
+            if (parent != null) {
+                parent.children.add(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 범위 집계 결과
+     * @param statements 실행된 SQL 수
+     * @param suspects 임계값 이상 반복된 SQL 형태와 횟수
+     * @param children 안쪽 범위 결과 (테스트 메서드 안의 각 HTTP 요청 등)
+     */
+    public record Result(String label, int statements, Map<String, Integer> suspects, List<Result> children) {
+    }
+}
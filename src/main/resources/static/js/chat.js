@@ -21,6 +21,11 @@
     var isLoadingHistory = false;
     var lastDateShown = null;
     var otherUser = null;
+    var lastSeq = null; // 마지막으로 받은 채팅방 내 메시지 순번 (재연결/누락 감지 기준)
+    var isCatchingUp = false;
+    var catchUpAgain = false; // 조회 중에 또 누락이 감지되면 끝난 뒤 한 번 더 조회
+    var renderedIds = {};
+    var connectedOnce = false;
 
     // 초기화
     function init() {
@@ -31,11 +36,12 @@
     }
 
     function loadRoomInfo() {
-        axios.get('/api/chat/rooms', { withCredentials: true })
+        axios.get('/api/chat/rooms/' + roomId, { withCredentials: true })
             .then(function (res) {
-                var rooms = res.data.data || [];
-                var room = rooms.find(function (r) { return r.roomId == roomId; });
-                if (room && room.otherUser) {
+                var room = res.data.data;
+                if (room && room.name) {
+                    partnerNameEl.textContent = room.name;
+                } else if (room && room.otherUser) {
                     otherUser = room.otherUser;
                     partnerNameEl.textContent = otherUser.username;
                 }
@@ -52,6 +58,7 @@
 
         var url = '/api/chat/rooms/' + roomId + '/messages?size=50';
         if (nextCursor) url += '&cursor=' + nextCursor;
+        var isFirstPage = !nextCursor;
 
         axios.get(url, { withCredentials: true })
             .then(function (res) {
@@ -66,9 +73,14 @@
                     return;
                 }
 
+                if (isFirstPage && msgs.length > 0) {
+                    trackSeq(msgs[msgs.length - 1].seq);
+                }
+
                 var fragment = document.createDocumentFragment();
                 var prevDate = null;
                 msgs.forEach(function (msg) {
+                    renderedIds[msg.messageId] = true;
                     var msgDate = formatDateDivider(msg.createdAt);
                     if (msgDate !== prevDate) {
                         fragment.appendChild(createDateDivider(msgDate));
@@ -124,6 +136,12 @@
                 handleWebSocketMessage(body);
             });
 
+            // 재연결이면 끊긴 동안 놓친 메시지 조회
+            if (connectedOnce) {
+                catchUp();
+            }
+            connectedOnce = true;
+
             // 에러 구독
             stompClient.subscribe('/user/queue/errors', function (message) {
                 var body = JSON.parse(message.body);
@@ -141,6 +159,12 @@
     function handleWebSocketMessage(msg) {
         if (msg.type === 'MESSAGE') {
             var payload = msg.payload;
+            if (renderedIds[payload.messageId]) return;
+            // 순번이 건너뛰었으면 빠진 메시지부터 받아옴
+            if (lastSeq !== null && payload.seq > lastSeq + 1) {
+                catchUp();
+                return;
+            }
             appendMessage(payload);
             messagesEl.scrollTop = messagesEl.scrollHeight;
 
@@ -154,6 +178,48 @@
         }
     }
 
+    function catchUp() {
+        if (lastSeq === null) return;
+        if (isCatchingUp) {
+            // 진행 중인 조회가 이 메시지를 포함하지 않았을 수 있으므로 끝난 뒤 다시 조회
+            catchUpAgain = true;
+            return;
+        }
+        isCatchingUp = true;
+        catchUpAgain = false;
+        axios.get('/api/chat/sync?since=' + roomId + ':' + lastSeq, { withCredentials: true })
+            .then(function (res) {
+                isCatchingUp = false;
+                var room = (res.data.data.rooms || []).filter(function (r) {
+                    return String(r.roomId) === String(roomId);
+                })[0];
+                if (room) {
+                    var msgs = room.messages.filter(function (msg) {
+                        return !renderedIds[msg.messageId];
+                    });
+                    msgs.forEach(appendMessage);
+                    if (msgs.length > 0) {
+                        messagesEl.scrollTop = messagesEl.scrollHeight;
+                        markAsRead(msgs[msgs.length - 1].messageId);
+                    }
+                }
+                if ((room && room.hasMore) || catchUpAgain) {
+                    catchUp();
+                }
+            })
+            .catch(function () {
+                isCatchingUp = false;
+                // 실패하면 누락된 메시지를 잃지 않도록 3초 후 다시 조회
+                setTimeout(catchUp, 3000);
+            });
+    }
+
+    function trackSeq(seq) {
+        if (seq != null && (lastSeq === null || seq > lastSeq)) {
+            lastSeq = seq;
+        }
+    }
+
     var isSending = false;
 
     function sendMessage() {
@@ -193,6 +259,8 @@
     }
 
     function appendMessage(msg) {
+        renderedIds[msg.messageId] = true;
+        trackSeq(msg.seq);
         var msgDate = formatDateDivider(msg.createdAt);
         if (msgDate !== lastDateShown) {
             messagesEl.appendChild(createDateDivider(msgDate));
@@ -220,7 +288,8 @@
         if (msg.messageType === 'IMAGE' && msg.fileUrl) {
             var img = document.createElement('img');
             img.className = 'chat-msg-image';
-            img.src = msg.fileUrl;
+            // 목록에는 리사이즈 변형을 쓰고, 클릭 시 원본을 연다
+            img.src = msg.fileUrl + '?w=256';
             img.alt = '첨부 이미지';
             img.onerror = function () {
                 var placeholder = document.createElement('div');
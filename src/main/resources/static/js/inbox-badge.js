@@ -9,6 +9,7 @@
     var currentCount = 0;
     var sseConnected = false;
     var pollTimer = null;
+    var lastEventId = null;
 
     function init() {
         badgeEl = document.getElementById('inboxBadge');
@@ -30,7 +31,9 @@
             return;
         }
 
-        var eventSource = new EventSource('/api/sse/notifications');
+        // 수동 재연결 시 마지막으로 받은 이벤트 이후부터 다시 받음
+        var url = '/api/sse/notifications' + (lastEventId ? '?lastEventId=' + encodeURIComponent(lastEventId) : '');
+        var eventSource = new EventSource(url);
 
         eventSource.addEventListener('connect', function () {
             sseConnected = true;
@@ -42,6 +45,9 @@
         });
 
         eventSource.addEventListener('chat', function (event) {
+            if (event.lastEventId) {
+                lastEventId = event.lastEventId;
+            }
             try {
                 var data = JSON.parse(event.data);
                 if (data.unreadCount !== undefined) {
@@ -10,6 +10,8 @@ import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.model.enums.Role;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
 import com.matchhub.catconnect.domain.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +24,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -55,6 +58,9 @@ class SearchControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private BoardResponseDTO testBoard;
     private User testUser;
 
@@ -178,6 +184,49 @@ class SearchControllerTest {
             log.debug("댓글 검색 테스트 완료");
         }
 
+        @Test
+        @WithMockUser(username = "testUser")
+        @DisplayName("관련도순 검색 성공 - 커서 첫 페이지")
+        void testSearchRanked() throws Exception {
+            log.debug("관련도순 검색 테스트 시작");
+
+            mockMvc.perform(get("/api/search")
+                            .param("keyword", "테스트 제목")
+                            .param("type", "ALL")
+                            .param("after", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value("SUCCESS"))
+                    .andExpect(jsonPath("$.data.items[0].type").value("BOARD"))
+                    .andExpect(jsonPath("$.data.items[0].id").value(testBoard.getId()))
+                    .andExpect(jsonPath("$.data.items[0].title").value("검색 테스트 제목"))
+                    .andExpect(jsonPath("$.data.hasNext").value(false))
+                    .andDo(result -> log.debug("관련도순 검색 응답: {}", result.getResponse().getContentAsString()));
+
+            log.debug("관련도순 검색 테스트 완료");
+        }
+
+        @Test
+        @WithMockUser(username = "testUser")
+        @DisplayName("관련도순 검색 - 페이지 크기가 0 또는 음수면 기본값으로 조회")
+        void testSearchRankedInvalidSize() throws Exception {
+            log.debug("관련도순 검색 페이지 크기 보정 테스트 시작");
+
+            for (String size : List.of("0", "-5")) {
+                mockMvc.perform(get("/api/search")
+                                .param("keyword", "테스트 제목")
+                                .param("type", "ALL")
+                                .param("after", "")
+                                .param("size", size))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.result").value("SUCCESS"))
+                        .andExpect(jsonPath("$.data.items[0].id").value(testBoard.getId()))
+                        .andExpect(jsonPath("$.data.hasNext").value(false))
+                        .andDo(result -> log.debug("페이지 크기 {} 응답: {}", size, result.getResponse().getContentAsString()));
+            }
+
+            log.debug("관련도순 검색 페이지 크기 보정 테스트 완료");
+        }
+
         @Test
         @WithMockUser(username = "testUser")
         @DisplayName("검색 결과 없음")
@@ -214,4 +263,41 @@ class SearchControllerTest {
             log.debug("유효하지 않은 검색 타입 테스트 완료");
         }
     }
+
+    @Nested
+    @DisplayName("검색 메트릭 테스트")
+    class SearchMetricsTests {
+
+        @Test
+        @WithMockUser(username = "testUser")
+        @DisplayName("검색 타입과 페이지 방식별로 지연 시간 기록")
+        void testSearchTimer() throws Exception {
+            log.debug("검색 메트릭 테스트 시작");
+
+            // 색인 사용 여부(backend 태그)와 관계없이 타입/페이지 방식별 합계로 확인
+            long offsetBefore = searchCount("BOARD", "offset");
+            long cursorBefore = searchCount("ALL", "cursor");
+
+            mockMvc.perform(get("/api/search")
+                            .param("keyword", "제목")
+                            .param("type", "BOARD"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/search")
+                            .param("keyword", "제목")
+                            .param("type", "ALL")
+                            .param("after", ""))
+                    .andExpect(status().isOk());
+
+            assertEquals(offsetBefore + 1, searchCount("BOARD", "offset"));
+            assertEquals(cursorBefore + 1, searchCount("ALL", "cursor"));
+
+            log.debug("검색 메트릭 테스트 완료");
+        }
+
+        private long searchCount(String type, String paging) {
+            return meterRegistry.get("search.requests").tags("type", type, "paging", paging).timers().stream()
+                    .mapToLong(Timer::count)
+                    .sum();
+        }
+    }
 }
@@ -0,0 +1,195 @@
+package com.matchhub.catconnect.common.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BigramSearchIndex 테스트")
+class BigramSearchIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BigramSearchIndexTest.class);
+
+    private BigramSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BigramSearchIndex("index");
+        searchIndex.beginBuild();
+        searchIndex.upsert(board(1L, "고양이 입양 후기", "우리 고양이가 많이 컸어요", "catLover", 1));
+        searchIndex.upsert(board(2L, "강아지 산책", "산책 중에 고양이를 만났어요", "dogLover", 2));
+        searchIndex.upsert(board(3L, "Spring 질문", "JPA 질문입니다", "developer", 3));
+        searchIndex.upsert(comment(10L, 1L, "고양이 너무 귀여워요", "dogLover", 4));
+        searchIndex.completeBuild();
+    }
+
+    private static SearchDocument board(Long id, String title, String content, String author, int minute) {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 0, minute);
+        return new SearchDocument(SearchDocumentType.BOARD, id, id, title, content, author, false, at, at);
+    }
+
+    private static SearchDocument comment(Long id, Long boardId, String content, String author, int minute) {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 0, minute);
+        return new SearchDocument(SearchDocumentType.COMMENT, id, boardId, null, content, author, false, at, at);
+    }
+
+    @Nested
+    @DisplayName("일치 검색 테스트")
+    class MatchTests {
+
+        @Test
+        @DisplayName("한국어 부분 문자열 검색 시 최신순 ID 반환")
+        void testFindIdsKorean() {
+            log.debug("한국어 검색 테스트 시작");
+
+            List<Long> ids = searchIndex.findIds(SearchDocumentType.BOARD, "고양이");
+
+            assertEquals(List.of(2L, 1L), ids);
+
+            log.debug("한국어 검색 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("대소문자 구분 없이 제목/작성자 검색")
+        void testFindIdsCaseInsensitive() {
+            log.debug("대소문자 검색 테스트 시작");
+
+            assertEquals(List.of(3L), searchIndex.findIds(SearchDocumentType.BOARD, "spring"));
+            assertEquals(List.of(3L), searchIndex.findIds(SearchDocumentType.BOARD, "DEVELOPER"));
+
+            log.debug("대소문자 검색 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("바이그램은 모두 있지만 연속되지 않으면 일치하지 않음")
+        void testBigramsWithoutSubstring() {
+            log.debug("부분 문자열 검증 테스트 시작");
+
+            // 본문에 "많이"와 "이가"는 있지만 "많이가"는 없음
+            assertTrue(searchIndex.findIds(SearchDocumentType.BOARD, "많이가").isEmpty());
+
+            log.debug("부분 문자열 검증 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("두 글자 미만 키워드는 색인에서 처리하지 않음 (LIKE로 대체)")
+        void testSingleCharacterKeyword() {
+            log.debug("한 글자 검색 테스트 시작");
+
+            // 전체 문서를 훑지 않도록 색인 검색 대상에서 제외
+            assertFalse(searchIndex.canSearch("J"));
+            assertFalse(searchIndex.canSearch(""));
+            assertTrue(searchIndex.canSearch("jp"));
+            assertTrue(searchIndex.findIds(SearchDocumentType.BOARD, "J").isEmpty());
+            assertTrue(searchIndex.search(null, "", null, 10).isEmpty());
+
+            log.debug("한 글자 검색 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("관련도순 검색 테스트")
+    class RankedSearchTests {
+
+        @Test
+        @DisplayName("제목 일치가 본문 일치보다 상위, 커서로 다음 페이지 조회")
+        void testRankedSearchWithCursor() {
+            log.debug("관련도순 검색 테스트 시작");
+
+            // 제목+본문에 있는 게시글 1 → 본문에만 있는 댓글/게시글 순
+            List<SearchHit> first = searchIndex.search(null, "고양이", null, 1);
+            assertEquals(1, first.size());
+            assertEquals(1L, first.get(0).document().id());
+            assertEquals(SearchDocumentType.BOARD, first.get(0).document().type());
+
+            List<SearchHit> rest = searchIndex.search(null, "고양이", SearchCursor.of(first.get(0)), 10);
+            assertEquals(2, rest.size());
+            assertEquals(SearchDocumentType.BOARD, rest.get(0).document().type());
+            assertEquals(2L, rest.get(0).document().id());
+            assertEquals(SearchDocumentType.COMMENT, rest.get(1).document().type());
+            assertEquals(10L, rest.get(1).document().id());
+
+            log.debug("관련도순 검색 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("스니펫에 키워드가 mark로 강조되고 HTML은 이스케이프됨")
+        void testSnippetHighlight() {
+            log.debug("스니펫 테스트 시작");
+
+            searchIndex.upsert(board(4L, "제목", "<b>태그</b> 안의 키워드", "writer", 5));
+
+            List<SearchHit> hits = searchIndex.search(SearchDocumentType.BOARD, "키워드", null, 10);
+            assertEquals(1, hits.size());
+            assertEquals("&lt;b&gt;태그&lt;/b&gt; 안의 <mark>키워드</mark>", hits.get(0).snippet());
+
+            log.debug("스니펫 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신 테스트")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("게시글 수정 시 이전 내용으로는 검색되지 않음")
+        void testUpsertReplacesDocument() {
+            log.debug("문서 갱신 테스트 시작");
+
+            LocalDateTime later = LocalDateTime.of(2025, 1, 2, 0, 0);
+            searchIndex.upsert(new SearchDocument(SearchDocumentType.BOARD, 3L, 3L, "Kotlin 질문", "코루틴 질문입니다",
+                    "developer", false, LocalDateTime.of(2025, 1, 1, 0, 3), later));
+
+            assertTrue(searchIndex.findIds(SearchDocumentType.BOARD, "spring").isEmpty());
+            assertEquals(List.of(3L), searchIndex.findIds(SearchDocumentType.BOARD, "코루틴"));
+
+            log.debug("문서 갱신 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("게시글 삭제 시 소속 댓글도 색인에서 제거됨")
+        void testRemoveBoardRemovesComments() {
+            log.debug("게시글 삭제 테스트 시작");
+
+            searchIndex.remove(SearchDocumentType.BOARD, 1L);
+
+            assertEquals(List.of(2L), searchIndex.findIds(SearchDocumentType.BOARD, "고양이"));
+            assertTrue(searchIndex.findIds(SearchDocumentType.COMMENT, "고양이").isEmpty());
+
+            log.debug("게시글 삭제 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("작성자명 변경이 검색에 반영됨")
+        void testRenameAuthor() {
+            log.debug("작성자명 변경 테스트 시작");
+
+            searchIndex.renameAuthor("catLover", "(탈퇴한 사용자)");
+
+            assertTrue(searchIndex.findIds(SearchDocumentType.BOARD, "catLover").isEmpty());
+            assertEquals(List.of(1L), searchIndex.findIds(SearchDocumentType.BOARD, "탈퇴한"));
+
+            log.debug("작성자명 변경 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("LIKE 모드에서는 색인을 사용할 수 없음")
+        void testLikeMode() {
+            log.debug("LIKE 모드 테스트 시작");
+
+            BigramSearchIndex likeIndex = new BigramSearchIndex("like");
+
+            assertFalse(likeIndex.isEnabled());
+            assertFalse(likeIndex.isAvailable());
+
+            log.debug("LIKE 모드 테스트 완료");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
 import com.matchhub.catconnect.domain.board.service.BoardService;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentRequestDTO;
 import com.matchhub.catconnect.domain.comment.service.CommentService;
+import com.matchhub.catconnect.global.util.query.QueryBudget;
 import org.junit.jupiter.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -97,6 +98,7 @@ class BoardRestControllerTest {
 
         @Test
         @DisplayName("게시글 목록 조회 성공 (페이지네이션)")
+        @QueryBudget(max = 2)
         void testGetAllBoards() throws Exception {
             log.debug("게시글 목록 조회 테스트 시작");
 
@@ -110,6 +112,11 @@ class BoardRestControllerTest {
                     .andExpect(jsonPath("$.data.totalElements").value(2))
                     .andExpect(jsonPath("$.data.totalPages").value(1))
                     .andExpect(jsonPath("$.data.number").value(0))
+                    // 목록 응답은 본문/댓글 목록 없이 카운터만 포함
+                    .andExpect(jsonPath("$.data.content[0].commentCount").value(0))
+                    .andExpect(jsonPath("$.data.content[0].likeCount").value(0))
+                    .andExpect(jsonPath("$.data.content[0].content").doesNotExist())
+                    .andExpect(jsonPath("$.data.content[0].comments").doesNotExist())
                     .andDo(result -> log.debug("게시글 목록 조회 응답: {}", result.getResponse().getContentAsString()));
 
             log.debug("게시글 목록 조회 테스트 완료");
@@ -152,8 +159,30 @@ class BoardRestControllerTest {
             log.debug("게시글 목록 조회 (기본값) 테스트 완료");
         }
 
+        @Test
+        @DisplayName("게시글 커서 조회 - 첫 페이지")
+        @QueryBudget(max = 2)
+        void testGetBoardSlice() throws Exception {
+            log.debug("게시글 커서 조회 테스트 시작");
+
+            mockMvc.perform(get("/api/boards")
+                            .param("after", "")
+                            .param("size", "1")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value("SUCCESS"))
+                    .andExpect(jsonPath("$.data.items.length()").value(1))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.nextCursor").isString())
+                    .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                    .andDo(result -> log.debug("게시글 커서 조회 응답: {}", result.getResponse().getContentAsString()));
+
+            log.debug("게시글 커서 조회 테스트 완료");
+        }
+
         @Test
         @DisplayName("게시글 상세 조회 성공")
+        @QueryBudget(max = 3)
         void testGetBoardById() throws Exception {
             log.debug("게시글 상세 조회 테스트 시작");
 
@@ -1,12 +1,18 @@
 package com.matchhub.catconnect.domain.board.service;
 
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
 import com.matchhub.catconnect.domain.board.model.dto.BoardRequestDTO;
 import com.matchhub.catconnect.domain.board.model.dto.BoardResponseDTO;
+import com.matchhub.catconnect.domain.board.model.dto.BoardSummaryDTO;
+import com.matchhub.catconnect.domain.board.model.entity.Board;
 import com.matchhub.catconnect.domain.board.repository.BoardRepository;
 import com.matchhub.catconnect.domain.comment.model.dto.CommentRequestDTO;
 import com.matchhub.catconnect.domain.comment.model.entity.Comment;
 import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
 import com.matchhub.catconnect.domain.comment.service.CommentService;
+import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
+import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.service.FileService;
 import com.matchhub.catconnect.domain.like.repository.LikeRepository;
 import com.matchhub.catconnect.domain.like.service.LikeService;
 import com.matchhub.catconnect.global.exception.AppException;
@@ -20,8 +26,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,6 +58,15 @@ class BoardServiceTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private BoardViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private BoardInlineImageMigrationJob inlineImageMigrationJob;
+
+    @Autowired
+    private FileService fileService;
+
     private BoardResponseDTO testBoard;
     private BoardResponseDTO testBoard2;
 
@@ -121,7 +139,7 @@ class BoardServiceTest {
             log.debug("페이지네이션 게시글 조회 테스트 시작");
 
             // 페이지네이션으로 게시글 조회 (첫 페이지, 10개씩)
-            Page<BoardResponseDTO> boardPage = boardService.getAllBoards(0, 10);
+            Page<BoardSummaryDTO> boardPage = boardService.getAllBoards(0, 10);
 
             // 페이지 정보 확인
             assertNotNull(boardPage);
@@ -143,10 +161,10 @@ class BoardServiceTest {
             log.debug("페이지네이션 정렬 테스트 시작");
 
             // 페이지네이션으로 게시글 조회
-            Page<BoardResponseDTO> boardPage = boardService.getAllBoards(0, 10);
+            Page<BoardSummaryDTO> boardPage = boardService.getAllBoards(0, 10);
 
             // 최신순 정렬 확인 (Test Title 2가 먼저 나와야 함)
-            List<BoardResponseDTO> content = boardPage.getContent();
+            List<BoardSummaryDTO> content = boardPage.getContent();
             assertEquals("Test Title 2", content.get(0).getTitle());
             assertEquals("Test Title", content.get(1).getTitle());
 
@@ -159,7 +177,7 @@ class BoardServiceTest {
             log.debug("페이지네이션 크기 테스트 시작");
 
             // 페이지 크기를 1로 설정하여 조회
-            Page<BoardResponseDTO> boardPage = boardService.getAllBoards(0, 1);
+            Page<BoardSummaryDTO> boardPage = boardService.getAllBoards(0, 1);
 
             // 페이지 정보 확인
             assertEquals(1, boardPage.getSize()); // 페이지 크기
@@ -367,6 +385,167 @@ class BoardServiceTest {
 
             log.debug("댓글 추가 테스트 완료");
         }
+
+        @Test
+        @DisplayName("좋아요 토글 시 게시글 좋아요 수 증감")
+        void testToggleLikeUpdatesLikeCount() {
+            log.debug("좋아요 수 증감 테스트 시작");
+
+            // 두 사용자가 좋아요 추가
+            likeService.toggleLike(testBoard.getId(), "testUser");
+            likeService.toggleLike(testBoard.getId(), "otherUser");
+            assertEquals(2, boardRepository.findById(testBoard.getId()).orElseThrow().getLikeCount());
+
+            // 한 사용자가 좋아요 취소
+            likeService.toggleLike(testBoard.getId(), "testUser");
+            assertEquals(1, boardRepository.findById(testBoard.getId()).orElseThrow().getLikeCount());
+
+            log.debug("좋아요 수 증감 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("댓글 추가/삭제 시 게시글 댓글 수 증감")
+        void testCommentUpdatesCommentCount() {
+            log.debug("댓글 수 증감 테스트 시작");
+
+            // 댓글과 대댓글 추가
+            CommentRequestDTO commentDTO = new CommentRequestDTO();
+            commentDTO.setContent("Parent Comment");
+            commentService.addComment(testBoard.getId(), commentDTO, "testUser");
+            Long parentId = commentRepository.findAllByBoardId(testBoard.getId()).get(0).getId();
+            commentDTO.setContent("Reply Comment");
+            commentService.addComment(testBoard.getId(), commentDTO, "testUser", parentId);
+            assertEquals(2, boardRepository.findById(testBoard.getId()).orElseThrow().getCommentCount());
+
+            // 부모 댓글 삭제 시 대댓글까지 함께 차감
+            commentService.deleteCommentByAuthor(parentId, "testUser");
+            assertEquals(0, boardRepository.findById(testBoard.getId()).orElseThrow().getCommentCount());
+
+            log.debug("댓글 수 증감 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 요약 테스트")
+    class BoardSummaryTests {
+
+        @Test
+        @DisplayName("목록 조회 시 좋아요/댓글 수와 썸네일이 요약에 포함됨")
+        void testSummaryContainsCounters() {
+            log.debug("게시글 목록 요약 테스트 시작");
+
+            // 이미지가 포함된 게시글 생성
+            BoardRequestDTO requestDTO = new BoardRequestDTO();
+            requestDTO.setTitle("Image Title");
+            requestDTO.setContent("<p>본문</p><img src=\"/uploads/board/cat.png\">");
+            BoardResponseDTO imageBoard = boardService.createBoard(requestDTO, "testUser");
+
+            // 좋아요와 댓글 추가
+            likeService.toggleLike(imageBoard.getId(), "testUser");
+            CommentRequestDTO commentDTO = new CommentRequestDTO();
+            commentDTO.setContent("Test Comment");
+            commentService.addComment(imageBoard.getId(), commentDTO, "testUser");
+
+            // 목록 조회
+            BoardSummaryDTO summary = boardService.getAllBoards(0, 10).getContent().stream()
+                    .filter(board -> board.getId().equals(imageBoard.getId()))
+                    .findFirst()
+                    .orElseThrow();
+
+            // 카운터와 썸네일 확인
+            assertEquals(1, summary.getLikeCount());
+            assertEquals(1, summary.getCommentCount());
+            assertEquals("/uploads/board/cat.png", summary.getThumbnailUrl());
+            assertEquals("Image Title", summary.getTitle());
+
+            log.debug("게시글 목록 요약 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("인라인 이미지 분리 테스트")
+    class InlineImageTests {
+
+        @Test
+        @DisplayName("본문의 data: 이미지가 파일로 저장되고 다운로드 URL로 바뀜")
+        void testExtractInlineImage() {
+            log.debug("인라인 이미지 분리 테스트 시작");
+
+            byte[] image = ("inline image " + System.nanoTime()).getBytes();
+            BoardRequestDTO requestDTO = new BoardRequestDTO();
+            requestDTO.setTitle("Inline Image");
+            requestDTO.setContent("<p>본문</p><img src=\"data:image/png;base64,"
+                    + Base64.getEncoder().encodeToString(image) + "\">");
+            BoardResponseDTO board = boardService.createBoard(requestDTO, "testUser");
+
+            // 본문에 data: URI가 남지 않고, 파일 다운로드 URL이 썸네일이 됨
+            assertFalse(board.getContent().contains("data:"));
+            Matcher matcher = Pattern.compile("/api/files/download/([\\w.-]+)").matcher(board.getContent());
+            assertTrue(matcher.find());
+            assertEquals("/api/files/download/" + matcher.group(1),
+                    boardRepository.findById(board.getId()).orElseThrow().getThumbnailUrl());
+
+            // 저장된 파일 내용이 원본 이미지와 같음
+            FileResponseDTO file = fileService.getFileInfoByStoredName(matcher.group(1));
+            assertEquals(FileType.BOARD, file.getFileType());
+            assertEquals((long) image.length, file.getFileSize());
+
+            log.debug("인라인 이미지 분리 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("image/jpg data: 이미지는 image/jpeg로 저장됨")
+        void testExtractJpgInlineImage() {
+            log.debug("image/jpg 인라인 이미지 테스트 시작");
+
+            byte[] image = ("inline jpg " + System.nanoTime()).getBytes();
+            BoardRequestDTO requestDTO = new BoardRequestDTO();
+            requestDTO.setTitle("Inline Jpg");
+            requestDTO.setContent("<img src=\"data:image/jpg;base64,"
+                    + Base64.getEncoder().encodeToString(image) + "\">");
+            BoardResponseDTO board = boardService.createBoard(requestDTO, "testUser");
+
+            Matcher matcher = Pattern.compile("/api/files/download/([\\w.-]+)").matcher(board.getContent());
+            assertTrue(matcher.find());
+            FileResponseDTO file = fileService.getFileInfoByStoredName(matcher.group(1));
+            assertEquals("image/jpeg", file.getContentType());
+
+            log.debug("image/jpg 인라인 이미지 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 data: URI는 제거됨")
+        void testDropUnsupportedInlineImage() {
+            log.debug("지원하지 않는 인라인 이미지 테스트 시작");
+
+            BoardRequestDTO requestDTO = new BoardRequestDTO();
+            requestDTO.setTitle("Unsupported Inline Image");
+            requestDTO.setContent("<p>본문</p><img src=\"data:image/svg+xml;base64,PHN2Zz48L3N2Zz4=\">");
+            BoardResponseDTO board = boardService.createBoard(requestDTO, "testUser");
+
+            assertFalse(board.getContent().contains("data:"));
+            assertNull(boardRepository.findById(board.getId()).orElseThrow().getThumbnailUrl());
+
+            log.debug("지원하지 않는 인라인 이미지 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("기존 게시글의 data: 이미지를 일괄 이전")
+        void testMigrateInlineImages() {
+            log.debug("인라인 이미지 이전 테스트 시작");
+
+            String dataUri = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString("legacy image".getBytes());
+            Board legacy = boardRepository.save(new Board("Legacy", "<img src=\"" + dataUri + "\">", "testUser"));
+
+            assertTrue(inlineImageMigrationJob.migrate() >= 1);
+
+            Board migrated = boardRepository.findById(legacy.getId()).orElseThrow();
+            assertFalse(migrated.getContent().contains("data:"));
+            assertTrue(migrated.getContent().contains("/api/files/download/"));
+            assertNotNull(migrated.getThumbnailUrl());
+
+            log.debug("인라인 이미지 이전 테스트 완료");
+        }
     }
 
     @Nested
@@ -446,4 +625,116 @@ class BoardServiceTest {
             log.debug("게시글 대소문자 구분 없이 검색 테스트 완료");
         }
     }
+
+    @Nested
+    @DisplayName("게시글 커서 페이지네이션 테스트")
+    class BoardCursorTests {
+
+        @Test
+        @DisplayName("nextCursor로 다음 페이지를 이어서 조회")
+        void testGetBoardSlice() {
+            log.debug("게시글 커서 조회 테스트 시작");
+
+            // 첫 페이지 (크기 1)
+            CursorSliceDTO<BoardSummaryDTO> first = boardService.getBoardSlice(null, "", 1, true);
+            assertEquals(1, first.getItems().size());
+            assertEquals("Test Title 2", first.getItems().get(0).getTitle());
+            assertTrue(first.isHasNext());
+            assertNotNull(first.getApproximateTotal());
+
+            // 두 번째 페이지
+            CursorSliceDTO<BoardSummaryDTO> second = boardService.getBoardSlice(null, first.getNextCursor(), 1, false);
+            assertEquals(1, second.getItems().size());
+            assertEquals("Test Title", second.getItems().get(0).getTitle());
+            assertFalse(second.isHasNext());
+            assertNull(second.getNextCursor());
+            assertNull(second.getApproximateTotal());
+
+            log.debug("게시글 커서 조회 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("잘못된 커서 형식이면 예외 발생")
+        void testGetBoardSliceInvalidCursor() {
+            log.debug("잘못된 커서 테스트 시작");
+
+            AppException exception = assertThrows(AppException.class,
+                    () -> boardService.getBoardSlice(null, "not-a-cursor", 10, false));
+            assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+
+            log.debug("잘못된 커서 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 0이면 기본값으로 조회")
+        void testGetBoardSliceZeroSize() {
+            log.debug("페이지 크기 0 테스트 시작");
+
+            CursorSliceDTO<BoardSummaryDTO> slice = boardService.getBoardSlice(null, "", 0, false);
+            assertEquals(2, slice.getItems().size());
+            assertFalse(slice.isHasNext());
+            assertNull(slice.getNextCursor());
+
+            // 음수도 기본값으로 보정
+            CursorSliceDTO<BoardSummaryDTO> negative = boardService.getBoardSlice(null, "", -5, false);
+            assertEquals(2, negative.getItems().size());
+
+            log.debug("페이지 크기 0 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 최대값을 넘으면 최대값으로 보정")
+        void testGetBoardSliceOversize() {
+            log.debug("페이지 크기 상한 테스트 시작");
+
+            assertEquals(CursorSliceDTO.MAX_SIZE, CursorSliceDTO.clampSize(1_000_000));
+            CursorSliceDTO<BoardSummaryDTO> slice = boardService.getBoardSlice(null, "", 1_000_000, false);
+            assertEquals(2, slice.getItems().size());
+            assertFalse(slice.isHasNext());
+
+            log.debug("페이지 크기 상한 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 조회수 테스트")
+    class ViewCountTests {
+
+        @Test
+        @DisplayName("상세 조회 시 대기 중인 조회수가 응답에 반영됨")
+        void testViewCountIncludesPending() {
+            log.debug("조회수 반영 테스트 시작");
+
+            // 두 번 상세 조회
+            BoardResponseDTO first = boardService.getBoardByIdWithViewCount(testBoard.getId());
+            BoardResponseDTO second = boardService.getBoardByIdWithViewCount(testBoard.getId());
+
+            // flush 전이어도 응답 조회수는 증가해야 함
+            assertEquals(1, first.getViewCount());
+            assertEquals(2, second.getViewCount());
+
+            log.debug("조회수 반영 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("flush 후 조회수가 DB에 반영됨")
+        void testViewCountFlush() {
+            log.debug("조회수 flush 테스트 시작");
+
+            // 세 번 상세 조회 후 flush
+            boardService.getBoardByIdWithViewCount(testBoard.getId());
+            boardService.getBoardByIdWithViewCount(testBoard.getId());
+            boardService.getBoardByIdWithViewCount(testBoard.getId());
+            viewCountBuffer.flush();
+
+            // DB 값 확인 및 버퍼 비워짐 확인
+            assertEquals(3, boardRepository.findById(testBoard.getId()).orElseThrow().getViewCount());
+            assertEquals(0, viewCountBuffer.getPending(testBoard.getId()));
+
+            // 조회수 증가 없는 상세 조회도 동일한 값 반환
+            assertEquals(3, boardService.getBoardById(testBoard.getId()).getViewCount());
+
+            log.debug("조회수 flush 테스트 완료");
+        }
+    }
 }
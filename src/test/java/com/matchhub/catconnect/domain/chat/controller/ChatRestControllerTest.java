@@ -0,0 +1,159 @@
+package com.matchhub.catconnect.domain.chat.controller;
+
+import com.matchhub.catconnect.domain.chat.model.dto.SendMessageDTO;
+import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
+import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
+import com.matchhub.catconnect.domain.chat.repository.ChatMessageRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomParticipantRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomRepository;
+import com.matchhub.catconnect.domain.chat.service.ChatFanoutDispatcher;
+import com.matchhub.catconnect.domain.chat.service.ChatMessageService;
+import com.matchhub.catconnect.domain.chat.service.ChatRoomService;
+import com.matchhub.catconnect.domain.inbox.repository.InboxItemRepository;
+import com.matchhub.catconnect.domain.user.model.entity.User;
+import com.matchhub.catconnect.domain.user.model.enums.Role;
+import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.util.query.QueryBudget;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ChatRestController 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChatRestControllerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatRestControllerTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatFanoutDispatcher fanoutDispatcher;
+
+    @Autowired
+    private ChatMessageRepository messageRepository;
+
+    @Autowired
+    private ChatRoomParticipantRepository participantRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private InboxItemRepository inboxItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        log.debug("테스트 설정 시작");
+        cleanUp();
+
+        // 채팅방 2개에 양쪽 사용자가 번갈아 메시지 전송 (발신자/상대방 조회가 N+1이면 쿼리 예산 초과)
+        findOrCreateUser("chatApiUser");
+        User other = findOrCreateUser("chatApiOther");
+        User third = findOrCreateUser("chatApiThird");
+        roomId = chatRoomService.createOrGetRoom("chatApiUser", other.getId(), RoomType.DIRECT).getRoomId();
+        Long secondRoomId = chatRoomService.createOrGetRoom("chatApiUser", third.getId(), RoomType.DIRECT).getRoomId();
+        for (int i = 0; i < 3; i++) {
+            send("chatApiUser", roomId, "보낸 메시지 " + i);
+            send("chatApiOther", roomId, "받은 메시지 " + i);
+        }
+        send("chatApiThird", secondRoomId, "다른 채팅방 메시지");
+
+        log.debug("테스트 설정 완료: roomId={}", roomId);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        log.debug("테스트 정리 시작");
+        cleanUp();
+        log.debug("테스트 정리 완료");
+    }
+
+    private void cleanUp() throws InterruptedException {
+        // 커밋 후 비동기로 처리되는 인박스 팬아웃이 끝난 뒤 정리
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (fanoutDispatcher.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        messageRepository.deleteAll();
+        inboxItemRepository.deleteAll();
+        participantRepository.deleteAll();
+        chatRoomRepository.deleteAll();
+    }
+
+    private User findOrCreateUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseGet(() -> userRepository.save(new User(username, username + "@email.com", "password", Role.USER)));
+    }
+
+    private void send(String username, Long roomId, String content) throws Exception {
+        SendMessageDTO dto = new SendMessageDTO();
+        dto.setRoomId(roomId);
+        dto.setContent(content);
+        dto.setMessageType(MessageType.TEXT);
+        chatMessageService.sendMessage(username, dto).get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("채팅 API 테스트")
+    class ChatApiTests {
+
+        @Test
+        @WithMockUser(username = "chatApiUser")
+        @DisplayName("채팅방 목록 조회는 채팅방 수와 관계없이 쿼리 1회")
+        @QueryBudget(max = 1)
+        void testGetRoomList() throws Exception {
+            log.debug("채팅방 목록 조회 테스트 시작");
+
+            mockMvc.perform(get("/api/chat/rooms").contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].otherUser").exists())
+                    .andDo(result -> log.debug("채팅방 목록 조회 응답: {}", result.getResponse().getContentAsString()));
+
+            log.debug("채팅방 목록 조회 테스트 완료");
+        }
+
+        @Test
+        @WithMockUser(username = "chatApiUser")
+        @DisplayName("메시지 이력 조회는 메시지 수와 관계없이 세션 적재와 이력 조회 쿼리만 실행")
+        @QueryBudget(max = 3)
+        void testGetMessages() throws Exception {
+            log.debug("메시지 이력 조회 테스트 시작");
+
+            mockMvc.perform(get("/api/chat/rooms/" + roomId + "/messages")
+                            .param("size", "10")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.messages.length()").value(7)) // 채팅방 생성 시스템 메시지 포함
+                    .andExpect(jsonPath("$.data.messages[6].senderName").value("chatApiOther"))
+                    .andDo(result -> log.debug("메시지 이력 조회 응답: {}", result.getResponse().getContentAsString()));
+
+            log.debug("메시지 이력 조회 테스트 완료");
+        }
+    }
+}
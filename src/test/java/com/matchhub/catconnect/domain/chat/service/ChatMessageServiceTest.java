@@ -0,0 +1,711 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.common.model.dto.CursorSliceDTO;
+import com.matchhub.catconnect.domain.block.repository.BlockRepository;
+import com.matchhub.catconnect.domain.block.service.BlockService;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatHistoryResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatMessageResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatRoomResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.ChatSyncResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.dto.SendMessageDTO;
+import com.matchhub.catconnect.domain.chat.model.entity.ChatMessage;
+import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
+import com.matchhub.catconnect.domain.chat.model.enums.RoomType;
+import com.matchhub.catconnect.domain.chat.repository.ChatMessageRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomParticipantRepository;
+import com.matchhub.catconnect.domain.chat.repository.ChatRoomRepository;
+import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
+import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.repository.FileRepository;
+import com.matchhub.catconnect.domain.inbox.repository.InboxItemRepository;
+import com.matchhub.catconnect.domain.user.model.dto.UserUpdateRequestDTO;
+import com.matchhub.catconnect.domain.user.model.entity.User;
+import com.matchhub.catconnect.domain.user.model.enums.Role;
+import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.domain.user.service.UserService;
+import com.matchhub.catconnect.global.exception.AppException;
+import com.matchhub.catconnect.global.util.query.QueryCounter;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChatMessageService의 통합 테스트 클래스
+ * 채팅방 세션 캐시 기반 검증과 배치 저장기를 거치는 메시지 전송을 실제 H2 DB와 연동하여 테스트
+ */
+@DisplayName("ChatMessageService 테스트")
+@SpringBootTest
+class ChatMessageServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageServiceTest.class);
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private BlockService blockService;
+
+    @Autowired
+    private ChatMessageRepository messageRepository;
+
+    @Autowired
+    private ChatRoomParticipantRepository participantRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private InboxItemRepository inboxItemRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private ChatFanoutDispatcher fanoutDispatcher;
+
+    @Autowired
+    private ChatRoomSessionCache sessionCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User sender;
+    private User recipient;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        log.debug("테스트 설정 시작");
+        cleanUp();
+
+        sender = findOrCreateUser("chatSender");
+        recipient = findOrCreateUser("chatRecipient");
+        roomId = chatRoomService.createOrGetRoom(sender.getUsername(), recipient.getId(), RoomType.DIRECT).getRoomId();
+
+        log.debug("테스트 설정 완료: roomId={}", roomId);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        log.debug("테스트 정리 시작");
+        cleanUp();
+        log.debug("테스트 정리 완료");
+    }
+
+    private void cleanUp() throws InterruptedException {
+        awaitFanout();
+        messageRepository.deleteAll();
+        inboxItemRepository.deleteAll();
+        participantRepository.deleteAll();
+        chatRoomRepository.deleteAll();
+        blockRepository.deleteAll();
+        fileRepository.deleteAll(fileRepository.findByUploadedBy("chatSender"));
+    }
+
+    private User findOrCreateUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseGet(() -> userRepository.save(new User(username, username + "@email.com", "password", Role.USER)));
+    }
+
+    // 커밋 후 비동기로 처리되는 인박스/알림 팬아웃이 끝날 때까지 대기
+    private void awaitFanout() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (fanoutDispatcher.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private SendMessageDTO textMessage(String content) {
+        SendMessageDTO dto = new SendMessageDTO();
+        dto.setRoomId(roomId);
+        dto.setContent(content);
+        dto.setMessageType(MessageType.TEXT);
+        return dto;
+    }
+
+    private ChatMessageResponseDTO send(String username, String content) throws Exception {
+        return chatMessageService.sendMessage(username, textMessage(content)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("메시지 전송 테스트")
+    class SendTests {
+
+        @Test
+        @DisplayName("메시지 전송 시 커밋 후 응답이 오고 인박스가 비동기로 반영됨")
+        void testSendMessage() throws Exception {
+            log.debug("메시지 전송 테스트 시작");
+
+            ChatMessageResponseDTO response = send(sender.getUsername(), "안녕하세요");
+
+            assertNotNull(response.getMessageId());
+            assertEquals(roomId, response.getRoomId());
+            assertEquals(sender.getUsername(), response.getSenderName());
+            assertNotNull(response.getCreatedAt());
+            assertTrue(messageRepository.findById(response.getMessageId()).isPresent());
+            awaitFanout();
+            assertEquals("안녕하세요", inboxItemRepository.findChatInboxItem(recipient.getId(), roomId)
+                    .orElseThrow().getPreview());
+
+            log.debug("메시지 전송 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("여러 발신자가 동시에 전송한 메시지가 모두 저장됨")
+        void testConcurrentSend() throws Exception {
+            log.debug("동시 전송 테스트 시작");
+
+            int count = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<CompletableFuture<ChatMessageResponseDTO>>> submitted = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    String username = i % 2 == 0 ? sender.getUsername() : recipient.getUsername();
+                    String content = "메시지 " + i;
+                    submitted.add(executor.submit(() -> chatMessageService.sendMessage(username, textMessage(content))));
+                }
+                Set<Long> messageIds = new HashSet<>();
+                for (Future<CompletableFuture<ChatMessageResponseDTO>> future : submitted) {
+                    messageIds.add(future.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).getMessageId());
+                }
+                assertEquals(count, messageIds.size());
+            } finally {
+                executor.shutdown();
+            }
+
+            // 시스템 메시지 1건 포함
+            assertEquals(count + 1, messageRepository.countUnreadMessages(roomId, 0L));
+            awaitFanout();
+            assertTrue(inboxItemRepository.findChatInboxItem(sender.getId(), roomId).isPresent());
+            assertTrue(inboxItemRepository.findChatInboxItem(recipient.getId(), roomId).isPresent());
+
+            log.debug("동시 전송 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("채팅방 세션 캐시 무효화 테스트")
+    class SessionInvalidationTests {
+
+        @Test
+        @DisplayName("차단 후 전송 실패, 차단 해제 후 전송 성공")
+        void testBlockInvalidatesSession() throws Exception {
+            log.debug("차단 무효화 테스트 시작");
+
+            // 세션 캐시 적재
+            send(sender.getUsername(), "차단 전");
+
+            blockService.blockUser(recipient.getUsername(), sender.getId());
+            AppException exception = assertThrows(AppException.class,
+                    () -> chatMessageService.sendMessage(sender.getUsername(), textMessage("차단 후")));
+            assertEquals("메시지를 보낼 수 없습니다.", exception.getMessage());
+
+            blockService.unblockUser(recipient.getUsername(), sender.getId());
+            assertNotNull(send(sender.getUsername(), "차단 해제 후").getMessageId());
+
+            log.debug("차단 무효화 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("나간 채팅방에는 전송 실패")
+        void testLeaveInvalidatesSession() throws Exception {
+            log.debug("나가기 무효화 테스트 시작");
+
+            send(sender.getUsername(), "나가기 전");
+
+            chatRoomService.leaveRoom(sender.getUsername(), roomId);
+            AppException exception = assertThrows(AppException.class,
+                    () -> chatMessageService.sendMessage(sender.getUsername(), textMessage("나간 후")));
+            assertEquals("나간 채팅방입니다.", exception.getMessage());
+
+            log.debug("나가기 무효화 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("관리자가 사용자명을 바꾸면 새 사용자명으로 전송 가능")
+        void testRenameInvalidatesSession() throws Exception {
+            log.debug("사용자명 변경 무효화 테스트 시작");
+
+            send(recipient.getUsername(), "변경 전");
+
+            UserUpdateRequestDTO rename = new UserUpdateRequestDTO();
+            rename.setUsername("chatRenamed");
+            userService.updateUser(recipient.getId(), rename);
+            try {
+                ChatMessageResponseDTO response = send("chatRenamed", "변경 후");
+                assertEquals("chatRenamed", response.getSenderName());
+            } finally {
+                UserUpdateRequestDTO restore = new UserUpdateRequestDTO();
+                restore.setUsername("chatRecipient");
+                userService.updateUser(recipient.getId(), restore);
+            }
+
+            log.debug("사용자명 변경 무효화 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("채팅방 세션이 무효화되면 사용자 역인덱스에서도 제거됨")
+        void testRoomInvalidationPrunesUserIndex() {
+            log.debug("역인덱스 정리 테스트 시작");
+
+            User indexUser = findOrCreateUser("chatIndexUser");
+            Long otherRoomId = chatRoomService.createOrGetRoom(sender.getUsername(), indexUser.getId(), RoomType.DIRECT).getRoomId();
+            sessionCache.warm(otherRoomId);
+            assertTrue(sessionCache.hasIndexedRooms(indexUser.getId()));
+
+            chatRoomService.leaveRoom(indexUser.getUsername(), otherRoomId);
+            assertFalse(sessionCache.hasIndexedRooms(indexUser.getId()));
+
+            log.debug("역인덱스 정리 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("채팅방 요약 테스트")
+    class RoomSummaryTests {
+
+        @Test
+        @DisplayName("전송 시 마지막 메시지와 안 읽은 수가 갱신되고 읽음 처리 시 초기화됨")
+        void testUnreadCountAndLastMessage() throws Exception {
+            log.debug("채팅방 요약 테스트 시작");
+
+            send(sender.getUsername(), "첫 번째");
+            send(sender.getUsername(), "두 번째");
+            ChatMessageResponseDTO last = send(sender.getUsername(), "세 번째");
+
+            List<ChatRoomResponseDTO> rooms = chatRoomService.getRoomList(recipient.getUsername());
+            assertEquals(1, rooms.size());
+            assertEquals(roomId, rooms.get(0).getRoomId());
+            assertEquals("세 번째", rooms.get(0).getLastMessage());
+            assertEquals(3L, rooms.get(0).getUnreadCount());
+            assertEquals(sender.getUsername(), rooms.get(0).getOtherUser().getUsername());
+
+            // 발신자 본인의 안 읽은 수는 증가하지 않음
+            assertEquals(0L, chatRoomService.getRoom(sender.getUsername(), roomId).getUnreadCount());
+
+            chatMessageService.markAsRead(recipient.getUsername(), roomId, last.getMessageId());
+            assertEquals(0L, chatRoomService.getRoom(recipient.getUsername(), roomId).getUnreadCount());
+
+            log.debug("채팅방 요약 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("채팅방 목록 커서 조회 성공")
+        void testRoomSlice() throws Exception {
+            log.debug("채팅방 커서 조회 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            Long otherRoomId = chatRoomService.createOrGetRoom(sender.getUsername(), third.getId(), RoomType.DIRECT).getRoomId();
+            // 기존 채팅방에 새 메시지가 오면 목록 맨 앞으로 이동
+            send(sender.getUsername(), "최근 메시지");
+
+            CursorSliceDTO<ChatRoomResponseDTO> first = chatRoomService.getRoomSlice(sender.getUsername(), "", 1);
+            assertEquals(1, first.getItems().size());
+            assertEquals(roomId, first.getItems().get(0).getRoomId());
+            assertTrue(first.isHasNext());
+
+            CursorSliceDTO<ChatRoomResponseDTO> second = chatRoomService.getRoomSlice(sender.getUsername(), first.getNextCursor(), 1);
+            assertEquals(1, second.getItems().size());
+            assertEquals(otherRoomId, second.getItems().get(0).getRoomId());
+            assertFalse(second.isHasNext());
+
+            log.debug("채팅방 커서 조회 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 메시지 파일 URL 테스트")
+    class FileUrlTests {
+
+        private FileEntity saveImage(String storedName) {
+            return fileRepository.save(new FileEntity("cat.png", storedName, "/uploads/" + storedName,
+                    "image/png", 10L, FileType.CHAT, null, sender.getUsername()));
+        }
+
+        @Test
+        @DisplayName("전송 시 파일 URL이 메시지에 저장되고 이력 조회에서 그대로 사용됨")
+        void testFileUrlStoredOnSend() throws Exception {
+            log.debug("파일 URL 저장 테스트 시작");
+
+            FileEntity file = saveImage("chat-send.png");
+            SendMessageDTO dto = new SendMessageDTO();
+            dto.setRoomId(roomId);
+            dto.setMessageType(MessageType.IMAGE);
+            dto.setFileId(file.getId());
+
+            ChatMessageResponseDTO response = chatMessageService.sendMessage(sender.getUsername(), dto).get(5, TimeUnit.SECONDS);
+
+            assertEquals("/api/files/download/chat-send.png", response.getFileUrl());
+            assertEquals("/api/files/download/chat-send.png",
+                    messageRepository.findById(response.getMessageId()).orElseThrow().getFileUrl());
+
+            ChatHistoryResponseDTO history = chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+            assertEquals("/api/files/download/chat-send.png", history.getMessages().get(0).getFileUrl());
+
+            log.debug("파일 URL 저장 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("파일 URL이 없는 이전 메시지는 이력 조회 시 한 번에 채워짐")
+        void testLegacyFileUrlResolved() throws Exception {
+            log.debug("이전 메시지 파일 URL 조회 테스트 시작");
+
+            FileEntity first = saveImage("chat-legacy-1.png");
+            FileEntity second = saveImage("chat-legacy-2.png");
+            for (FileEntity file : List.of(first, second, first)) {
+                messageRepository.save(new ChatMessage(chatRoomRepository.getReferenceById(roomId), sender,
+                        null, null, MessageType.IMAGE, file.getId(), null)); // 순번/파일 URL 도입 전 메시지
+            }
+            send(sender.getUsername(), "텍스트 메시지");
+
+            ChatHistoryResponseDTO history = chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+
+            List<String> fileUrls = history.getMessages().stream().map(ChatMessageResponseDTO::getFileUrl).toList();
+            // 채팅방 생성 시스템 메시지 + 이미지 3건 + 텍스트 1건
+            assertEquals(5, fileUrls.size());
+            assertNull(fileUrls.get(0));
+            assertEquals("/api/files/download/chat-legacy-1.png", fileUrls.get(1));
+            assertEquals("/api/files/download/chat-legacy-2.png", fileUrls.get(2));
+            assertEquals("/api/files/download/chat-legacy-1.png", fileUrls.get(3));
+            assertNull(fileUrls.get(4));
+
+            log.debug("이전 메시지 파일 URL 조회 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("최근 메시지 버퍼 테스트")
+    class RecentBufferTests {
+
+        @Test
+        @DisplayName("첫 이력 조회 이후 전송된 메시지까지 DB 조회 없이 첫 페이지로 응답")
+        void testFirstPageFromBuffer() throws Exception {
+            log.debug("버퍼 첫 페이지 테스트 시작");
+
+            send(sender.getUsername(), "첫 메시지");
+            chatMessageService.getHistory(sender.getUsername(), roomId, null, 10); // 버퍼 적재
+            ChatMessageResponseDTO second = send(recipient.getUsername(), "두 번째 메시지");
+
+            ChatHistoryResponseDTO history;
+            try (QueryCounter.Scope scope = queryCounter.open("buffered history")) {
+                history = chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+                assertEquals(0, scope.close().statements());
+            }
+
+            assertEquals(3, history.getMessages().size()); // 채팅방 생성 시스템 메시지 포함
+            assertEquals(second.getMessageId(), history.getMessages().get(2).getMessageId());
+            assertFalse(history.isHasMore());
+            assertNull(history.getNextCursor());
+
+            log.debug("버퍼 첫 페이지 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("나가기 시스템 메시지 저장 시 버퍼가 무효화되어 첫 페이지에 반영됨")
+        void testInvalidatedOnSystemMessage() throws Exception {
+            log.debug("버퍼 무효화 테스트 시작");
+
+            send(sender.getUsername(), "하나");
+            chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+            send(recipient.getUsername(), "둘");
+
+            // 나가기 시스템 메시지는 버퍼를 거치지 않고 저장되므로 버퍼가 무효화되어야 함
+            chatRoomService.leaveRoom(recipient.getUsername(), roomId);
+            ChatHistoryResponseDTO history = chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+            assertEquals(4, history.getMessages().size());
+            assertEquals(MessageType.SYSTEM, history.getMessages().get(3).getMessageType());
+
+            log.debug("버퍼 무효화 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("메시지 순번 및 동기화 테스트")
+    class SeqTests {
+
+        private List<String> contents(List<ChatMessageResponseDTO> messages) {
+            return messages.stream().map(ChatMessageResponseDTO::getContent).toList();
+        }
+
+        private ChatSyncResponseDTO.RoomSync roomSync(ChatSyncResponseDTO sync, Long id) {
+            return sync.getRooms().stream().filter(r -> r.getRoomId().equals(id)).findFirst().orElse(null);
+        }
+
+        @Test
+        @DisplayName("채팅방마다 1부터 빈틈 없이 순번이 발급됨")
+        void testSeqPerRoom() throws Exception {
+            log.debug("채팅방 순번 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            Long otherRoomId = chatRoomService.createOrGetRoom(sender.getUsername(), third.getId(), RoomType.DIRECT).getRoomId();
+
+            ChatMessageResponseDTO first = send(sender.getUsername(), "하나");
+            SendMessageDTO other = textMessage("다른 방");
+            other.setRoomId(otherRoomId);
+            ChatMessageResponseDTO otherMessage = chatMessageService.sendMessage(sender.getUsername(), other).get(5, TimeUnit.SECONDS);
+            ChatMessageResponseDTO second = send(recipient.getUsername(), "둘");
+
+            // 각 채팅방의 1번은 채팅방 생성 시스템 메시지
+            assertEquals(2L, first.getSeq());
+            assertEquals(3L, second.getSeq());
+            assertEquals(2L, otherMessage.getSeq());
+            assertEquals(3L, messageRepository.findById(second.getMessageId()).orElseThrow().getSeq());
+            assertEquals(3L, chatRoomRepository.findLastSeq(roomId));
+
+            log.debug("채팅방 순번 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("동기화 시 채팅방별 누락 메시지만 반환 (버퍼/DB 경로 동일)")
+        void testSync() throws Exception {
+            log.debug("동기화 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            Long otherRoomId = chatRoomService.createOrGetRoom(sender.getUsername(), third.getId(), RoomType.DIRECT).getRoomId();
+            ChatMessageResponseDTO first = send(sender.getUsername(), "하나");
+            send(recipient.getUsername(), "둘");
+            send(recipient.getUsername(), "셋");
+
+            // 버퍼에 없는 상태(DB 조회)
+            ChatSyncResponseDTO fromDb = chatMessageService.sync(sender.getUsername(),
+                    roomId + ":" + first.getSeq() + "," + otherRoomId + ":1");
+            // 버퍼에 올린 상태
+            chatMessageService.getHistory(sender.getUsername(), roomId, null, 10);
+            ChatSyncResponseDTO fromBuffer = chatMessageService.sync(sender.getUsername(),
+                    roomId + ":" + first.getSeq() + "," + otherRoomId + ":1");
+
+            for (ChatSyncResponseDTO sync : List.of(fromDb, fromBuffer)) {
+                assertEquals(1, sync.getRooms().size()); // 새 메시지가 없는 채팅방은 제외
+                ChatSyncResponseDTO.RoomSync room = roomSync(sync, roomId);
+                assertEquals(List.of("둘", "셋"), contents(room.getMessages()));
+                assertEquals(4L, room.getLastSeq());
+                assertFalse(room.isHasMore());
+            }
+
+            // 기준에 없는 채팅방은 마지막 순번만 알려줌
+            ChatSyncResponseDTO unknown = chatMessageService.sync(sender.getUsername(), roomId + ":4");
+            ChatSyncResponseDTO.RoomSync otherRoom = roomSync(unknown, otherRoomId);
+            assertEquals(1L, otherRoom.getLastSeq());
+            assertTrue(otherRoom.getMessages().isEmpty());
+            assertNull(roomSync(unknown, roomId));
+
+            assertThrows(AppException.class, () -> chatMessageService.sync(sender.getUsername(), "abc"));
+
+            log.debug("동기화 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("버퍼가 DB의 마지막 순번보다 뒤처져 있으면 DB에서 누락 메시지 조회")
+        void testSyncWhenBufferBehind() throws Exception {
+            log.debug("버퍼 지연 동기화 테스트 시작");
+
+            ChatMessageResponseDTO first = send(sender.getUsername(), "하나");
+            chatMessageService.getHistory(sender.getUsername(), roomId, null, 10); // 버퍼 적재
+
+            // 커밋은 되었지만 아직 버퍼에 추가되지 않은 메시지 (배치 저장기의 커밋 직후 구간)
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                chatRoomRepository.reserveSeq(roomId, 1);
+                long seq = chatRoomRepository.findLastSeq(roomId);
+                messageRepository.save(ChatMessage.systemMessage(
+                        chatRoomRepository.findById(roomId).orElseThrow(), seq, "커밋 직후"));
+            });
+
+            ChatSyncResponseDTO sync = chatMessageService.sync(sender.getUsername(), roomId + ":" + first.getSeq());
+            ChatSyncResponseDTO.RoomSync room = roomSync(sync, roomId);
+            assertEquals(List.of("커밋 직후"), contents(room.getMessages()));
+            assertEquals(first.getSeq() + 1, room.getLastSeq());
+            assertFalse(room.isHasMore());
+
+            log.debug("버퍼 지연 동기화 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("다른 채팅방 메시지가 섞여 있어도 전후 맥락을 채팅방 순번으로 조회")
+        void testMessagesAround() throws Exception {
+            log.debug("메시지 전후 맥락 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            Long otherRoomId = chatRoomService.createOrGetRoom(sender.getUsername(), third.getId(), RoomType.DIRECT).getRoomId();
+            SendMessageDTO other = textMessage("다른 방");
+            other.setRoomId(otherRoomId);
+
+            List<ChatMessageResponseDTO> sent = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                sent.add(send(sender.getUsername(), "메시지" + i));
+                chatMessageService.sendMessage(sender.getUsername(), other).get(5, TimeUnit.SECONDS);
+            }
+
+            List<ChatMessageResponseDTO> around = chatMessageService.getMessagesAroundId(roomId, sent.get(2).getMessageId(), 1);
+            assertEquals(List.of("메시지2", "메시지3", "메시지4"), contents(around));
+
+            log.debug("메시지 전후 맥락 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("그룹 채팅방 테스트")
+    class GroupRoomTests {
+
+        private Long createGroup(String name, User... members) {
+            List<Long> memberIds = new ArrayList<>();
+            for (User member : members) {
+                memberIds.add(member.getId());
+            }
+            return chatRoomService.createGroupRoom(sender.getUsername(), name, memberIds).getRoomId();
+        }
+
+        private ChatMessageResponseDTO sendTo(Long groupId, String username, String content) throws Exception {
+            SendMessageDTO dto = textMessage(content);
+            dto.setRoomId(groupId);
+            return chatMessageService.sendMessage(username, dto).get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("그룹 메시지 전송 시 참여자별 안 읽은 수와 인박스가 반영됨")
+        void testGroupSend() throws Exception {
+            log.debug("그룹 메시지 전송 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            User fourth = findOrCreateUser("chatFourth");
+            Long groupId = createGroup("고양이 모임", recipient, third, fourth, sender); // 본인 ID는 무시
+
+            sendTo(groupId, sender.getUsername(), "하나");
+            sendTo(groupId, sender.getUsername(), "둘");
+            sendTo(groupId, third.getUsername(), "셋");
+
+            assertEquals(3L, chatRoomService.getRoom(recipient.getUsername(), groupId).getUnreadCount());
+            assertEquals(3L, chatRoomService.getRoom(fourth.getUsername(), groupId).getUnreadCount());
+            assertEquals(2L, chatRoomService.getRoom(third.getUsername(), groupId).getUnreadCount());
+            assertEquals(1L, chatRoomService.getRoom(sender.getUsername(), groupId).getUnreadCount());
+
+            // 그룹 채팅방은 참여자 수와 관계없이 목록에 한 번만 나오고 이름으로 표시됨
+            List<ChatRoomResponseDTO> groups = chatRoomService.getRoomList(recipient.getUsername()).stream()
+                    .filter(room -> room.getRoomId().equals(groupId))
+                    .toList();
+            assertEquals(1, groups.size());
+            assertEquals(RoomType.GROUP, groups.get(0).getRoomType());
+            assertEquals("고양이 모임", groups.get(0).getName());
+            assertNull(groups.get(0).getOtherUser());
+
+            awaitFanout();
+            assertEquals("셋", inboxItemRepository.findChatInboxItem(fourth.getId(), groupId).orElseThrow().getPreview());
+            assertEquals("셋", inboxItemRepository.findChatInboxItem(sender.getId(), groupId).orElseThrow().getPreview());
+
+            log.debug("그룹 메시지 전송 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("그룹 채팅방은 참여자 수와 관계없이 전송 스레드에서 쿼리가 실행되지 않음")
+        void testGroupSendWithoutQueries() throws Exception {
+            log.debug("그룹 전송 쿼리 테스트 시작");
+
+            List<User> members = new ArrayList<>();
+            for (int i = 1; i <= 30; i++) {
+                members.add(findOrCreateUser("chatGroupMember" + i));
+            }
+            Long groupId = createGroup("대규모 모임", members.toArray(User[]::new));
+            sendTo(groupId, sender.getUsername(), "세션 적재");
+
+            SendMessageDTO dto = textMessage("인원과 무관");
+            dto.setRoomId(groupId);
+            CompletableFuture<ChatMessageResponseDTO> future;
+            QueryCounter.Result result;
+            try (QueryCounter.Scope scope = queryCounter.open("group send")) {
+                future = chatMessageService.sendMessage(sender.getUsername(), dto);
+                result = scope.close();
+            }
+            future.get(5, TimeUnit.SECONDS);
+
+            assertEquals(0, result.statements());
+            assertEquals(2L, chatRoomService.getRoom(members.get(29).getUsername(), groupId).getUnreadCount());
+
+            log.debug("그룹 전송 쿼리 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("생성자와 차단 관계인 사용자는 그룹에 초대할 수 없음")
+        void testGroupInviteBlocked() {
+            log.debug("그룹 초대 차단 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            blockService.blockUser(recipient.getUsername(), sender.getId()); // 초대 대상이 생성자를 차단
+            assertThrows(AppException.class, () -> createGroup("차단 모임", recipient, third));
+
+            blockService.unblockUser(recipient.getUsername(), sender.getId());
+            blockService.blockUser(sender.getUsername(), third.getId()); // 생성자가 초대 대상을 차단
+            assertThrows(AppException.class, () -> createGroup("차단 모임", recipient, third));
+
+            log.debug("그룹 초대 차단 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("참여 후 차단한 사용자에게는 발신자의 인박스/알림이 가지 않음")
+        void testGroupExcludesBlockedRecipient() throws Exception {
+            log.debug("그룹 차단 수신자 제외 테스트 시작");
+
+            User third = findOrCreateUser("chatThird");
+            User fourth = findOrCreateUser("chatFourth");
+            Long groupId = createGroup("차단 모임", recipient, third, fourth);
+            sendTo(groupId, sender.getUsername(), "세션 적재");
+            blockService.blockUser(recipient.getUsername(), third.getId());
+            long recipientUnread = chatRoomService.getRoom(recipient.getUsername(), groupId).getUnreadCount();
+            long fourthUnread = chatRoomService.getRoom(fourth.getUsername(), groupId).getUnreadCount();
+
+            assertNotNull(sendTo(groupId, third.getUsername(), "차단 후").getMessageId());
+
+            // 차단 관계인 참여자는 받지 못한 메시지만큼 안 읽은 수도 늘지 않음
+            assertEquals(recipientUnread, chatRoomService.getRoom(recipient.getUsername(), groupId).getUnreadCount());
+            assertEquals(fourthUnread + 1, chatRoomService.getRoom(fourth.getUsername(), groupId).getUnreadCount());
+
+            awaitFanout();
+            assertEquals("세션 적재", inboxItemRepository.findChatInboxItem(recipient.getId(), groupId).orElseThrow().getPreview());
+            assertEquals("차단 후", inboxItemRepository.findChatInboxItem(fourth.getId(), groupId).orElseThrow().getPreview());
+
+            log.debug("그룹 차단 수신자 제외 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("초대 대상이 없거나 1:1 생성 요청으로 그룹을 만들면 실패")
+        void testInvalidGroup() {
+            log.debug("그룹 생성 실패 테스트 시작");
+
+            assertThrows(AppException.class,
+                    () -> chatRoomService.createGroupRoom(sender.getUsername(), "혼자", List.of(sender.getId())));
+            assertThrows(AppException.class,
+                    () -> chatRoomService.createOrGetRoom(sender.getUsername(), recipient.getId(), RoomType.GROUP));
+
+            log.debug("그룹 생성 실패 테스트 완료");
+        }
+    }
+}
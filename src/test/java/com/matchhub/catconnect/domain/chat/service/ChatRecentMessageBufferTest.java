@@ -0,0 +1,211 @@
+package com.matchhub.catconnect.domain.chat.service;
+
+import com.matchhub.catconnect.domain.chat.model.dto.ChatMessageResponseDTO;
+import com.matchhub.catconnect.domain.chat.model.enums.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChatRecentMessageBuffer 단위 테스트
+ */
+@DisplayName("ChatRecentMessageBuffer 테스트")
+class ChatRecentMessageBufferTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatRecentMessageBufferTest.class);
+    private static final Long ROOM_ID = 1L;
+
+    private static ChatMessageResponseDTO message(Long roomId, long id) {
+        return ChatMessageResponseDTO.builder()
+                .messageId(id)
+                .roomId(roomId)
+                .seq(id)
+                .senderId(10L)
+                .senderName("sender")
+                .content("message " + id)
+                .messageType(MessageType.TEXT)
+                .build();
+    }
+
+    // 메시지 ID 1..count를 가진 채팅방을 흉내 내는 로더 (최신순으로 limit개 반환)
+    private static IntFunction<List<ChatMessageResponseDTO>> loader(long count, AtomicInteger calls) {
+        return limit -> {
+            calls.incrementAndGet();
+            List<ChatMessageResponseDTO> newestFirst = new ArrayList<>();
+            for (long id = count; id >= 1 && newestFirst.size() < limit; id--) {
+                newestFirst.add(message(ROOM_ID, id));
+            }
+            return newestFirst;
+        };
+    }
+
+    private static List<Long> ids(List<ChatMessageResponseDTO> messages) {
+        return messages.stream().map(ChatMessageResponseDTO::getMessageId).toList();
+    }
+
+    @Nested
+    @DisplayName("최근 메시지 조회 테스트")
+    class LatestTests {
+
+        @Test
+        @DisplayName("첫 조회만 로더를 호출하고 이후에는 버퍼에서 응답")
+        void testLoadOnce() {
+            log.debug("버퍼 로드 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            AtomicInteger calls = new AtomicInteger();
+
+            ChatRecentMessageBuffer.Window first = buffer.latest(ROOM_ID, 3, loader(10, calls)).orElseThrow();
+            ChatRecentMessageBuffer.Window second = buffer.latest(ROOM_ID, 5, loader(10, calls)).orElseThrow();
+
+            assertEquals(1, calls.get());
+            assertEquals(List.of(8L, 9L, 10L), ids(first.messages()));
+            assertTrue(first.hasMore());
+            assertEquals(List.of(6L, 7L, 8L, 9L, 10L), ids(second.messages()));
+            assertTrue(second.hasMore()); // 버퍼 밖에 이전 메시지가 남아 있음
+
+            log.debug("버퍼 로드 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("메시지가 적은 채팅방은 이전 메시지 없음으로 응답")
+        void testCompleteRoom() {
+            log.debug("전체 보관 채팅방 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            ChatRecentMessageBuffer.Window window = buffer.latest(ROOM_ID, 5, loader(2, new AtomicInteger())).orElseThrow();
+
+            assertEquals(List.of(1L, 2L), ids(window.messages()));
+            assertFalse(window.hasMore());
+
+            log.debug("전체 보관 채팅방 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("버퍼 크기보다 큰 페이지는 DB 조회로 넘김")
+        void testSizeOverCapacity() {
+            log.debug("버퍼 크기 초과 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertTrue(buffer.latest(ROOM_ID, 6, loader(10, calls)).isEmpty());
+            assertEquals(0, calls.get());
+
+            log.debug("버퍼 크기 초과 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("메시지 추가 테스트")
+    class AppendTests {
+
+        @Test
+        @DisplayName("순서가 어긋난 추가도 ID 순으로 정렬되고 capacity를 넘으면 오래된 것부터 버림")
+        void testAppendOrderAndTrim() {
+            log.debug("메시지 추가 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            buffer.latest(ROOM_ID, 5, loader(3, new AtomicInteger()));
+
+            buffer.append(message(ROOM_ID, 5L));
+            buffer.append(message(ROOM_ID, 4L));
+            buffer.append(message(ROOM_ID, 6L));
+            buffer.append(message(ROOM_ID, 6L)); // 중복 무시
+
+            ChatRecentMessageBuffer.Window window = buffer.latest(ROOM_ID, 5, loader(0, new AtomicInteger())).orElseThrow();
+            assertEquals(List.of(2L, 3L, 4L, 5L, 6L), ids(window.messages()));
+            assertTrue(window.hasMore());
+
+            log.debug("메시지 추가 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("버퍼에 없는 채팅방의 메시지는 보관하지 않음")
+        void testAppendToUnknownRoom() {
+            log.debug("미적재 채팅방 추가 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            buffer.append(message(ROOM_ID, 1L));
+
+            assertEquals(0, buffer.getRoomCount());
+            assertEquals(0, buffer.getTotalBytes());
+
+            log.debug("미적재 채팅방 추가 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("누락분 조회 테스트")
+    class AfterTests {
+
+        @Test
+        @DisplayName("버퍼가 기준 순번 이후를 빈틈 없이 담고 있을 때만 응답")
+        void testAfter() {
+            log.debug("누락분 조회 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            buffer.latest(ROOM_ID, 5, loader(10, new AtomicInteger()));
+
+            Optional<List<ChatMessageResponseDTO>> recent = buffer.after(ROOM_ID, 7L);
+            assertEquals(List.of(8L, 9L, 10L), ids(recent.orElseThrow()));
+            assertTrue(buffer.after(ROOM_ID, 3L).isEmpty()); // 버퍼에서 이미 밀려난 구간
+            assertTrue(buffer.after(2L, 0).isEmpty());
+
+            log.debug("누락분 조회 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("제거 테스트")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("메모리 예산을 넘으면 가장 오래 접근하지 않은 채팅방부터 제거")
+        void testEvictOverBudget() {
+            log.debug("메모리 예산 제거 테스트 시작");
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, 1_000, 60_000);
+            for (long roomId = 1; roomId <= 3; roomId++) {
+                long room = roomId;
+                buffer.latest(room, 5, limit -> List.of(message(room, room * 10 + 2), message(room, room * 10 + 1)));
+            }
+
+            assertTrue(buffer.getTotalBytes() <= 1_000);
+            assertEquals(2, buffer.getRoomCount());
+            assertTrue(buffer.after(1L, 0).isEmpty());
+            assertTrue(buffer.after(3L, 0).isPresent());
+
+            log.debug("메모리 예산 제거 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("유휴 시간이 지난 채팅방과 무효화된 채팅방 제거")
+        void testEvictIdleAndInvalidated() {
+            log.debug("유휴/무효화 제거 테스트 시작");
+
+            ChatRecentMessageBuffer idle = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, -1);
+            idle.latest(ROOM_ID, 5, loader(3, new AtomicInteger()));
+            idle.evictIdle();
+            assertEquals(0, idle.getRoomCount());
+            assertEquals(0, idle.getTotalBytes());
+
+            ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(5, Long.MAX_VALUE, 60_000);
+            buffer.latest(ROOM_ID, 5, loader(3, new AtomicInteger()));
+            buffer.onInvalidated(ChatRoomSessionInvalidatedEvent.user(10L)); // 메시지 발신자의 프로필 변경
+            assertEquals(0, buffer.getRoomCount());
+
+            log.debug("유휴/무효화 제거 테스트 완료");
+        }
+    }
+}
@@ -15,6 +15,11 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -188,6 +193,66 @@ class FileRestControllerTest {
             log.debug("파일 다운로드 테스트 완료");
         }
 
+        @Test
+        @DisplayName("다운로드 응답에 강한 ETag와 immutable 캐시 헤더 포함")
+        void testDownloadCacheHeaders() throws Exception {
+            log.debug("다운로드 캐시 헤더 테스트 시작");
+
+            mockMvc.perform(get("/api/files/download/" + testFile.getStoredName()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("\"")))
+                    .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                    .andExpect(header().string("Accept-Ranges", "bytes"))
+                    .andExpect(content().bytes("test image content".getBytes()));
+
+            log.debug("다운로드 캐시 헤더 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("요청한 변형이 없어 원본으로 응답하면 immutable 없이 재검증 캐시 헤더 포함")
+        void testVariantFallbackCacheHeaders() throws Exception {
+            log.debug("변형 대체 캐시 헤더 테스트 시작");
+
+            mockMvc.perform(get("/api/files/download/" + testFile.getStoredName()).param("w", "100"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "no-cache"))
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(content().bytes("test image content".getBytes()));
+
+            log.debug("변형 대체 캐시 헤더 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 ETag와 일치하면 304 응답")
+        void testDownloadNotModified() throws Exception {
+            log.debug("조건부 다운로드 테스트 시작");
+
+            String etag = mockMvc.perform(get("/api/files/download/" + testFile.getStoredName()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/files/download/" + testFile.getStoredName())
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+
+            log.debug("조건부 다운로드 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("Range 요청 시 206과 요청 구간만 응답")
+        void testDownloadRange() throws Exception {
+            log.debug("부분 다운로드 테스트 시작");
+
+            mockMvc.perform(get("/api/files/download/" + testFile.getStoredName())
+                            .header("Range", "bytes=0-3"))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string("Content-Range", "bytes 0-3/18"))
+                    .andExpect(content().bytes("test".getBytes()));
+
+            log.debug("부분 다운로드 테스트 완료");
+        }
+
         @Test
         @DisplayName("존재하지 않는 파일 다운로드 실패")
         void testDownloadFileNotFound() throws Exception {
@@ -202,6 +267,51 @@ class FileRestControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("이미지 변형 다운로드 테스트")
+    class ImageVariantTests {
+
+        private byte[] pngBytes(int width, int height) throws Exception {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        private int widthOf(byte[] bytes) throws Exception {
+            return ImageIO.read(new ByteArrayInputStream(bytes)).getWidth();
+        }
+
+        @Test
+        @DisplayName("업로드 후 원본보다 작은 변형이 생성되고 w 파라미터로 선택됨")
+        void testVariantSelection() throws Exception {
+            log.debug("이미지 변형 선택 테스트 시작");
+
+            MockMultipartFile image = new MockMultipartFile("file", "photo.png", "image/png", pngBytes(600, 300));
+            FileResponseDTO uploaded = fileService.uploadImage(image, FileType.BOARD, 1L, "testUser");
+
+            // 백그라운드 변형 생성 대기 (1024는 원본보다 커서 생성하지 않음)
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!"64,256".equals(fileRepository.findByStoredNameWithBlob(uploaded.getStoredName())
+                    .orElseThrow().getBlob().getVariantWidths())) {
+                assertTrue(System.currentTimeMillis() < deadline, "변형 생성 시간 초과");
+                Thread.sleep(50);
+            }
+
+            byte[] variant = mockMvc.perform(get("/api/files/download/" + uploaded.getStoredName()).param("w", "100"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertEquals(256, widthOf(variant));
+
+            byte[] original = mockMvc.perform(get("/api/files/download/" + uploaded.getStoredName()).param("w", "1024"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertEquals(600, widthOf(original));
+
+            log.debug("이미지 변형 선택 테스트 완료");
+        }
+    }
+
     @Nested
     @DisplayName("파일 정보 조회 API 테스트")
     class FileInfoApiTests {
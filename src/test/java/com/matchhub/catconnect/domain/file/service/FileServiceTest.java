@@ -1,7 +1,10 @@
 package com.matchhub.catconnect.domain.file.service;
 
 import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
+import com.matchhub.catconnect.domain.file.model.entity.FileBlob;
+import com.matchhub.catconnect.domain.file.model.entity.FileEntity;
 import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.repository.FileBlobRepository;
 import com.matchhub.catconnect.domain.file.repository.FileRepository;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.ErrorCode;
@@ -10,14 +13,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +39,15 @@ class FileServiceTest {
     @Autowired
     private FileRepository fileRepository;
 
+    @Autowired
+    private FileBlobRepository blobRepository;
+
+    @Autowired
+    private FileMetadataCache metadataCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private FileResponseDTO testFile;
 
     @BeforeEach
@@ -105,6 +120,42 @@ class FileServiceTest {
             log.debug("이미지 파일 업로드 테스트 완료: fileId={}", uploadedFile.getId());
         }
 
+        @Test
+        @DisplayName("같은 내용 업로드 시 블롭 공유 및 삭제 시 참조 해제")
+        void testDeduplicatedUpload() {
+            log.debug("중복 내용 업로드 테스트 시작");
+
+            byte[] content = ("dedup content " + UUID.randomUUID()).getBytes();
+            FileResponseDTO first = fileService.uploadImage(
+                    new MockMultipartFile("file", "a.png", "image/png", content), FileType.BOARD, 1L, "testUser");
+            FileResponseDTO second = fileService.uploadImage(
+                    new MockMultipartFile("file", "b.png", "image/png", content), FileType.BOARD, 1L, "testUser");
+
+            // 파일명은 다르지만 같은 블롭을 가리킴
+            assertNotEquals(first.getStoredName(), second.getStoredName());
+            FileEntity firstEntity = fileRepository.findByStoredNameWithBlob(first.getStoredName()).orElseThrow();
+            FileEntity secondEntity = fileRepository.findByStoredNameWithBlob(second.getStoredName()).orElseThrow();
+            String hash = firstEntity.getBlob().getHash();
+            assertEquals(hash, secondEntity.getBlob().getHash());
+            assertEquals(firstEntity.getFilePath(), secondEntity.getFilePath());
+            assertEquals(2, blobRepository.findById(hash).orElseThrow().getRefCount());
+
+            // 하나를 삭제해도 블롭과 디스크 파일은 유지
+            fileService.deleteFileByAdmin(first.getId());
+            FileBlob blob = blobRepository.findById(hash).orElseThrow();
+            assertEquals(1, blob.getRefCount());
+            assertNull(blob.getZeroRefSince());
+            assertTrue(Files.exists(fileService.getDownload(second.getStoredName()).path()));
+
+            // 마지막 참조가 해제되면 정리 대기 상태가 됨
+            fileService.deleteFileByAdmin(second.getId());
+            blob = blobRepository.findById(hash).orElseThrow();
+            assertEquals(0, blob.getRefCount());
+            assertNotNull(blob.getZeroRefSince());
+
+            log.debug("중복 내용 업로드 테스트 완료");
+        }
+
         @Test
         @DisplayName("빈 파일 업로드 실패")
         void testUploadEmptyFile() {
@@ -203,12 +254,12 @@ class FileServiceTest {
         void testDownloadFileSuccess() {
             log.debug("파일 다운로드 테스트 시작");
 
-            // 파일 다운로드
-            Resource resource = fileService.downloadFile(testFile.getStoredName());
+            // 다운로드 메타데이터 조회
+            FileDownload download = fileService.getDownload(testFile.getStoredName());
 
             // 다운로드 결과 검증
-            assertNotNull(resource);
-            assertTrue(resource.exists());
+            assertNotNull(download);
+            assertTrue(Files.exists(download.path()));
 
             log.debug("파일 다운로드 테스트 완료");
         }
@@ -220,7 +271,7 @@ class FileServiceTest {
 
             // 존재하지 않는 파일명으로 다운로드 시도
             AppException exception = assertThrows(AppException.class, () ->
-                    fileService.downloadFile("non-existent-file.jpg")
+                    fileService.getDownload("non-existent-file.jpg")
             );
             assertEquals(ErrorCode.FILE_NOT_FOUND, exception.getErrorCode());
 
@@ -376,6 +427,30 @@ class FileServiceTest {
             log.debug("관리자 파일 삭제 테스트 완료");
         }
 
+        @Test
+        @DisplayName("삭제 트랜잭션이 커밋된 뒤에만 메타데이터 캐시에서 제거됨")
+        void testDeleteEvictsCacheAfterCommit() {
+            log.debug("삭제 후 캐시 제거 테스트 시작");
+
+            String storedName = testFile.getStoredName();
+            fileService.getDownload(storedName);
+            assertNotNull(metadataCache.get(storedName));
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                fileService.deleteFileByAdmin(testFile.getId());
+                // 커밋 전에는 제거하지 않음 (동시 다운로드가 삭제 전 행을 다시 캐시하지 않도록)
+                assertNotNull(metadataCache.get(storedName));
+            });
+
+            assertNull(metadataCache.get(storedName));
+            AppException exception = assertThrows(AppException.class, () ->
+                    fileService.getDownload(storedName)
+            );
+            assertEquals(ErrorCode.FILE_NOT_FOUND, exception.getErrorCode());
+
+            log.debug("삭제 후 캐시 제거 테스트 완료");
+        }
+
         @Test
         @DisplayName("존재하지 않는 파일 삭제 실패")
         void testDeleteFileNotFound() {
@@ -0,0 +1,108 @@
+package com.matchhub.catconnect.domain.file.service;
+
+import com.matchhub.catconnect.domain.board.model.entity.Board;
+import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import com.matchhub.catconnect.domain.file.model.dto.FileResponseDTO;
+import com.matchhub.catconnect.domain.file.model.enums.FileType;
+import com.matchhub.catconnect.domain.file.repository.FileRepository;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrphanFileCollector 테스트")
+@SpringBootTest
+class OrphanFileCollectorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanFileCollectorTest.class);
+
+    @Autowired
+    private OrphanFileCollector collector;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private FileResponseDTO referencedFile;
+    private FileResponseDTO orphanFile;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        log.debug("테스트 설정 시작");
+
+        referencedFile = fileService.uploadImage(
+                new MockMultipartFile("file", "used.png", "image/png", "referenced content".getBytes()),
+                FileType.BOARD, null, "testUser");
+        orphanFile = fileService.uploadImage(
+                new MockMultipartFile("file", "abandoned.png", "image/png", "orphan content".getBytes()),
+                FileType.BOARD, null, "testUser");
+
+        board = boardRepository.save(new Board("이미지 게시글",
+                "<p>본문</p><img src=\"" + referencedFile.getDownloadUrl() + "?w=1024\">", "testUser"));
+
+        log.debug("테스트 설정 완료: referenced={}, orphan={}", referencedFile.getId(), orphanFile.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.debug("테스트 정리 시작");
+        boardRepository.deleteById(board.getId());
+        fileRepository.findAllById(List.of(referencedFile.getId(), orphanFile.getId()))
+                .forEach(file -> fileService.deleteFileByAdmin(file.getId()));
+        log.debug("테스트 정리 완료");
+    }
+
+    @Test
+    @DisplayName("dry-run은 미참조 파일을 집계만 하고 삭제하지 않음")
+    void testDryRun() {
+        log.debug("dry-run 정리 테스트 시작");
+
+        OrphanFileCollector.Report report = collector.collect(LocalDateTime.now().plusSeconds(1), true);
+
+        assertTrue(report.orphans() >= 1);
+        assertTrue(report.orphanBytes() >= "orphan content".length());
+        assertEquals(0, report.deleted());
+        assertTrue(fileRepository.existsById(orphanFile.getId()));
+        assertTrue(fileRepository.existsById(referencedFile.getId()));
+
+        log.debug("dry-run 정리 테스트 완료: report={}", report);
+    }
+
+    @Test
+    @DisplayName("게시글 본문에서 참조하지 않는 파일만 삭제")
+    void testCollectOrphans() {
+        log.debug("미참조 파일 정리 테스트 시작");
+
+        OrphanFileCollector.Report report = collector.collect(LocalDateTime.now().plusSeconds(1), false);
+
+        assertTrue(report.deleted() >= 1);
+        assertFalse(fileRepository.existsById(orphanFile.getId()));
+        assertTrue(fileRepository.existsById(referencedFile.getId()));
+
+        log.debug("미참조 파일 정리 테스트 완료: report={}", report);
+    }
+
+    @Test
+    @DisplayName("유예 기간 안에 업로드된 파일은 삭제하지 않음")
+    void testGracePeriod() {
+        log.debug("유예 기간 정리 테스트 시작");
+
+        OrphanFileCollector.Report report = collector.collect(LocalDateTime.now().minusHours(1), false);
+
+        assertTrue(fileRepository.existsById(orphanFile.getId()));
+        log.debug("유예 기간 정리 테스트 완료: report={}", report);
+    }
+}
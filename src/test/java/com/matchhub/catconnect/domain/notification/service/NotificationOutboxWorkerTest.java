@@ -0,0 +1,496 @@
+package com.matchhub.catconnect.domain.notification.service;
+
+import com.matchhub.catconnect.domain.notification.model.entity.NotificationOutbox;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationChannel;
+import com.matchhub.catconnect.domain.notification.model.enums.NotificationStatus;
+import com.matchhub.catconnect.domain.notification.repository.NotificationOutboxRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 아웃박스 워커 통합 테스트
+ * 로컬 가짜 SMTP 서버와 SOLAPI 대역 HTTP 엔드포인트를 띄워 실제 발송 경로(JavaMailSender, send-many 배치 발송기)로 검증
+ * 다른 테스트 컨텍스트의 워커가 아웃박스를 가져가지 않도록 별도 H2 DB 사용
+ */
+@DisplayName("NotificationOutboxWorker 테스트")
+@SpringBootTest
+class NotificationOutboxWorkerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxWorkerTest.class);
+
+    private static final FakeSmtpServer smtpServer = FakeSmtpServer.start();
+    private static final StubSmsEndpoint smsEndpoint = StubSmsEndpoint.start();
+
+    @DynamicPropertySource
+    static void notificationProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:notification-outbox-test");
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", smtpServer::getPort);
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.required", () -> "false");
+        registry.add("app.solapi.api-url", () -> "http://localhost:" + smsEndpoint.getPort() + "/messages");
+        registry.add("app.notification.poll-interval-ms", () -> "100");
+        registry.add("app.notification.retry-base-delay-ms", () -> "50");
+        registry.add("app.notification.max-attempts", () -> "3");
+        registry.add("app.solapi.batch-wait-ms", () -> "100");
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationOutboxWorker outboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        log.debug("테스트 설정 시작");
+        outboxRepository.deleteAll();
+        smtpServer.reset();
+        smsEndpoint.reset();
+        log.debug("테스트 설정 완료");
+    }
+
+    @AfterAll
+    static void stopServers() {
+        smtpServer.stop();
+        smsEndpoint.stop();
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("제한 시간 안에 조건이 충족되지 않음");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private NotificationOutbox onlyOutbox() {
+        List<NotificationOutbox> all = outboxRepository.findAll();
+        assertEquals(1, all.size());
+        return all.get(0);
+    }
+
+    @Nested
+    @DisplayName("이메일 발송 테스트")
+    class EmailTests {
+
+        @Test
+        @DisplayName("템플릿 이메일이 아웃박스를 거쳐 SMTP 서버로 발송됨")
+        void testSendTemplateEmail() throws Exception {
+            log.debug("템플릿 이메일 발송 테스트 시작");
+
+            notificationService.sendWithTemplate("user@email.com", NotificationChannel.EMAIL,
+                    "signup-code", Map.of("code", "123456"));
+
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+            assertEquals(1, smtpServer.getRecipients().size());
+            assertTrue(smtpServer.getRecipients().get(0).contains("user@email.com"));
+            assertEquals(1, onlyOutbox().getAttempts());
+
+            log.debug("템플릿 이메일 발송 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 롤백되면 아웃박스에 남지 않고 발송되지 않음")
+        void testRollbackDiscardsNotification() throws Exception {
+            log.debug("롤백 테스트 시작");
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                notificationService.send("rollback@email.com", NotificationChannel.EMAIL, "롤백될 알림");
+                status.setRollbackOnly();
+            });
+
+            Thread.sleep(500);
+            assertEquals(0, outboxRepository.count());
+            assertTrue(smtpServer.getRecipients().isEmpty());
+
+            log.debug("롤백 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("채널별 동시 발송 수 제한을 넘지 않음")
+        void testConcurrencyLimit() throws Exception {
+            log.debug("동시 발송 제한 테스트 시작");
+
+            smtpServer.delayMillis(200);
+            for (int i = 0; i < 6; i++) {
+                notificationService.send("user" + i + "@email.com", NotificationChannel.EMAIL, "알림 " + i);
+            }
+
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+            assertEquals(6, smtpServer.getRecipients().size());
+            assertTrue(smtpServer.getMaxConcurrent() <= 2);
+
+            log.debug("동시 발송 제한 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("SMS 발송 재시도 테스트")
+    class SmsRetryTests {
+
+        @Test
+        @DisplayName("일시적 실패 후 지수 백오프로 재시도하여 발송 성공")
+        void testRetryUntilSuccess() throws Exception {
+            log.debug("재시도 성공 테스트 시작");
+
+            smsEndpoint.failNext(2);
+            notificationService.send("01012345678", NotificationChannel.SMS, "인증번호: 123456");
+
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+            NotificationOutbox outbox = onlyOutbox();
+            assertEquals(3, outbox.getAttempts());
+            assertNull(outbox.getLastError());
+            assertEquals(3, smsEndpoint.getRequestCount());
+
+            log.debug("재시도 성공 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘으면 FAILED로 남음")
+        void testExhaustedAttempts() throws Exception {
+            log.debug("최종 실패 테스트 시작");
+
+            smsEndpoint.failNext(100);
+            notificationService.send("01012345678", NotificationChannel.SMS, "인증번호: 123456");
+
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.FAILED));
+            NotificationOutbox outbox = onlyOutbox();
+            assertEquals(3, outbox.getAttempts());
+            assertNotNull(outbox.getLastError());
+
+            log.debug("최종 실패 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("여러 SMS가 send-many 호출로 묶여 발송됨")
+        void testBatchedSend() throws Exception {
+            log.debug("SMS 배치 발송 테스트 시작");
+
+            for (int i = 0; i < 6; i++) {
+                notificationService.send("0101234567" + i, NotificationChannel.SMS, "알림 " + i);
+            }
+
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+            assertEquals(6, smsEndpoint.getMessageCount());
+            assertTrue(smsEndpoint.getRequestCount() < 6);
+
+            log.debug("SMS 배치 발송 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("배치 중 실패한 메시지만 재시도 대상이 됨")
+        void testPartialFailure() throws Exception {
+            log.debug("SMS 부분 실패 테스트 시작");
+
+            smsEndpoint.rejectRecipient("01099999999");
+            notificationService.send("01011111111", NotificationChannel.SMS, "성공할 알림");
+            notificationService.send("01099999999", NotificationChannel.SMS, "실패할 알림");
+
+            await(() -> outboxRepository.findAll().stream().noneMatch(o -> o.getStatus() == NotificationStatus.PENDING
+                    || o.getStatus() == NotificationStatus.SENDING));
+            for (NotificationOutbox outbox : outboxRepository.findAll()) {
+                if (outbox.getRecipient().equals("01099999999")) {
+                    assertEquals(NotificationStatus.FAILED, outbox.getStatus());
+                    assertEquals(3, outbox.getAttempts());
+                } else {
+                    assertEquals(NotificationStatus.SENT, outbox.getStatus());
+                    assertEquals(1, outbox.getAttempts());
+                }
+            }
+
+            log.debug("SMS 부분 실패 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 상태 관리 테스트")
+    class OutboxLifecycleTests {
+
+        @Test
+        @DisplayName("점유 토큰이 다르거나 SENDING이 아니면 결과 기록이 무시됨")
+        void testStaleResultIgnored() throws Exception {
+            log.debug("점유 만료 결과 기록 테스트 시작");
+
+            notificationService.send("lease@email.com", NotificationChannel.EMAIL, "점유 테스트");
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+            NotificationOutbox sent = onlyOutbox();
+
+            // 늦게 끝난 이전 워커가 실패를 기록하려 해도 반영되지 않음
+            Integer updated = new TransactionTemplate(transactionManager).execute(status ->
+                    outboxRepository.markFailure(sent.getId(), "stale-token", NotificationStatus.SENDING,
+                            NotificationStatus.PENDING, LocalDateTime.now(), "late failure"));
+            assertEquals(0, updated);
+            NotificationOutbox after = onlyOutbox();
+            assertEquals(NotificationStatus.SENT, after.getStatus());
+            assertNull(after.getLastError());
+
+            log.debug("점유 만료 결과 기록 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 발송 완료 알림만 삭제됨")
+        void testPurgeCompleted() throws Exception {
+            log.debug("아웃박스 정리 테스트 시작");
+
+            notificationService.send("purge@email.com", NotificationChannel.EMAIL, "정리 테스트");
+            await(() -> outboxRepository.findAll().stream().allMatch(o -> o.getStatus() == NotificationStatus.SENT));
+
+            // 기준 시각 이후에 발송된 알림은 남김
+            assertEquals(0, outboxWorker.purgeCompleted(LocalDateTime.now().minusDays(1)));
+            assertEquals(1, outboxRepository.count());
+
+            assertEquals(1, outboxWorker.purgeCompleted(LocalDateTime.now().plusSeconds(1)));
+            assertEquals(0, outboxRepository.count());
+
+            log.debug("아웃박스 정리 테스트 완료");
+        }
+    }
+
+    /**
+     * 수신자와 동시 처리 중인 DATA 수만 기록하는 최소한의 SMTP 서버 (인증/TLS 미지원)
+     */
+    static class FakeSmtpServer {
+
+        private final ServerSocket serverSocket;
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private volatile long delayMillis;
+
+        private FakeSmtpServer(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        static FakeSmtpServer start() {
+            try {
+                FakeSmtpServer server = new FakeSmtpServer(new ServerSocket(0));
+                Thread thread = new Thread(server::acceptLoop, "fake-smtp");
+                thread.setDaemon(true);
+                thread.start();
+                return server;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        List<String> getRecipients() {
+            return recipients;
+        }
+
+        int getMaxConcurrent() {
+            return maxConcurrent.get();
+        }
+
+        void delayMillis(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        void reset() {
+            recipients.clear();
+            maxConcurrent.set(0);
+            delayMillis = 0;
+        }
+
+        void stop() {
+            try {
+                serverSocket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread session = new Thread(() -> handle(socket), "fake-smtp-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                reply(out, "220 localhost fake smtp");
+                List<String> envelope = new CopyOnWriteArrayList<>();
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("RCPT TO:")) {
+                        envelope.add(line.substring(8).trim());
+                        reply(out, "250 OK");
+                    } else if (command.equals("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // 본문은 검증하지 않음
+                        }
+                        receive(envelope);
+                        envelope.clear();
+                        reply(out, "250 OK");
+                    } else if (command.equals("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else {
+                        // EHLO, HELO, MAIL FROM, RSET, NOOP
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        // 느린 SMTP 서버 흉내 (응답 전 지연 동안 동시 처리 수 기록)
+        private void receive(List<String> envelope) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            recipients.addAll(envelope);
+        }
+
+        private void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+    }
+
+    /**
+     * SOLAPI 대역 HTTP 엔드포인트
+     * 지정한 횟수만큼 500 응답, 지정한 수신번호는 failedMessageList로 거부, 요청/메시지 수 기록
+     */
+    static class StubSmsEndpoint {
+
+        private static final Pattern RECIPIENT = Pattern.compile("\"to\"\\s*:\\s*\"([0-9]+)\"");
+
+        private final HttpServer server;
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicInteger messageCount = new AtomicInteger();
+        private final AtomicInteger failuresRemaining = new AtomicInteger();
+        private volatile String rejectedRecipient;
+
+        private StubSmsEndpoint(HttpServer server) {
+            this.server = server;
+        }
+
+        static StubSmsEndpoint start() {
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+                StubSmsEndpoint endpoint = new StubSmsEndpoint(server);
+                server.createContext("/messages", exchange -> {
+                    try {
+                        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                        endpoint.requestCount.incrementAndGet();
+
+                        StringBuilder failed = new StringBuilder();
+                        Matcher matcher = RECIPIENT.matcher(request);
+                        while (matcher.find()) {
+                            endpoint.messageCount.incrementAndGet();
+                            if (matcher.group(1).equals(endpoint.rejectedRecipient)) {
+                                failed.append(failed.isEmpty() ? "" : ",")
+                                        .append("{\"to\":\"").append(matcher.group(1))
+                                        .append("\",\"statusCode\":\"1062\",\"statusMessage\":\"수신번호 오류\"}");
+                            }
+                        }
+
+                        boolean fail = endpoint.failuresRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0;
+                        byte[] body = ("{\"failedMessageList\":[" + failed + "]}").getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+                        try (OutputStream os = exchange.getResponseBody()) {
+                            os.write(body);
+                        }
+                    } finally {
+                        exchange.close();
+                    }
+                });
+                server.start();
+                return endpoint;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        int getPort() {
+            return server.getAddress().getPort();
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+        int getMessageCount() {
+            return messageCount.get();
+        }
+
+        void failNext(int count) {
+            failuresRemaining.set(count);
+        }
+
+        void rejectRecipient(String recipient) {
+            this.rejectedRecipient = recipient;
+        }
+
+        void reset() {
+            requestCount.set(0);
+            messageCount.set(0);
+            failuresRemaining.set(0);
+            rejectedRecipient = null;
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.matchhub.catconnect.domain.notification.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SseEmitterService 테스트")
+class SseEmitterServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseEmitterServiceTest.class);
+
+    private SseEmitterService sseEmitterService;
+
+    @BeforeEach
+    void setUp() {
+        // 재전송 버퍼 3개, 연결별 대기열 8개, 사용자별 연결 2개
+        sseEmitterService = new SseEmitterService(3, 8, 2, 60_000L, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sseEmitterService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("다중 연결 테스트")
+    class ConnectionTests {
+
+        @Test
+        @DisplayName("사용자별로 여러 연결을 유지하고 제한을 넘으면 오래된 연결을 종료")
+        void testMultipleConnections() {
+            log.debug("다중 연결 테스트 시작");
+
+            sseEmitterService.subscribe(1L);
+            sseEmitterService.subscribe(1L);
+            assertEquals(2, sseEmitterService.connectionCount(1L));
+
+            sseEmitterService.subscribe(1L);
+            assertEquals(2, sseEmitterService.connectionCount(1L));
+            assertFalse(sseEmitterService.isConnected(2L));
+
+            log.debug("다중 연결 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("재전송 버퍼 테스트")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("이벤트 ID가 단조 증가하고 마지막 ID 이후 이벤트만 조회됨")
+        void testEventsAfter() {
+            log.debug("재전송 조회 테스트 시작");
+
+            sseEmitterService.pushNotification(1L, "chat", Map.of("roomId", 1));
+            sseEmitterService.pushNotification(1L, "chat", Map.of("roomId", 2));
+            sseEmitterService.pushNotification(1L, "chat", Map.of("roomId", 3));
+
+            List<Long> ids = sseEmitterService.getEventsAfter(1L, 0L).stream().map(SseEvent::id).toList();
+            assertEquals(3, ids.size());
+            assertTrue(ids.get(0) < ids.get(1) && ids.get(1) < ids.get(2));
+
+            List<SseEvent> events = sseEmitterService.getEventsAfter(1L, ids.get(0));
+            assertEquals(ids.subList(1, 3), events.stream().map(SseEvent::id).toList());
+
+            log.debug("재전송 조회 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("버퍼 크기를 넘으면 오래된 이벤트부터 제거됨")
+        void testBufferBounded() {
+            log.debug("버퍼 크기 제한 테스트 시작");
+
+            for (int i = 0; i < 5; i++) {
+                sseEmitterService.pushNotification(1L, "chat", Map.of("index", i));
+            }
+
+            List<SseEvent> events = sseEmitterService.getEventsAfter(1L, 0L);
+            assertEquals(List.of(2, 3, 4), events.stream().map(e -> ((Map<?, ?>) e.data()).get("index")).toList());
+
+            log.debug("버퍼 크기 제한 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지나 채널이 정리된 뒤에도 마지막 ID 이후 이벤트가 조회됨")
+        void testEventsAfterChannelExpired() throws InterruptedException {
+            log.debug("채널 정리 후 재전송 조회 테스트 시작");
+
+            // 보관 기간이 없어 하트비트 때 연결 없는 채널이 바로 정리되는 서비스
+            SseEmitterService expiringService = new SseEmitterService(3, 8, 2, -1L, 1);
+            try {
+                for (int i = 0; i < 3; i++) {
+                    expiringService.pushNotification(1L, "chat", Map.of("index", i));
+                }
+                long lastEventId = expiringService.getEventsAfter(1L, 0L).get(2).id();
+
+                expiringService.heartbeat();
+                assertTrue(expiringService.getEventsAfter(1L, 0L).isEmpty());
+
+                // 새 채널에서 발급된 ID도 이전 채널의 마지막 ID보다 커야 재연결 시 누락되지 않음
+                expiringService.pushNotification(1L, "chat", Map.of("index", 3));
+                List<SseEvent> events = expiringService.getEventsAfter(1L, lastEventId);
+                assertEquals(1, events.size());
+                assertEquals(3, ((Map<?, ?>) events.get(0).data()).get("index"));
+            } finally {
+                expiringService.shutdown();
+            }
+
+            log.debug("채널 정리 후 재전송 조회 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("연결별 전송 대기열 테스트")
+    class QueueTests {
+
+        // 실행하지 않고 쌓아두는 디스패처 (느린 클라이언트 흉내)
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private SseConnection connection(int capacity) {
+            return new SseConnection(1L, new SseEmitter(), capacity, tasks::add, closed -> { });
+        }
+
+        @Test
+        @DisplayName("같은 mergeKey의 대기 이벤트는 최신 것으로 병합됨")
+        void testMerge() {
+            log.debug("병합 테스트 시작");
+
+            SseConnection connection = connection(8);
+            connection.enqueue(new SseEvent(1L, "chat", "a", "chat:1"));
+            connection.enqueue(new SseEvent(2L, "chat", "b", "chat:2"));
+            connection.enqueue(new SseEvent(3L, "chat", "c", "chat:1"));
+
+            assertEquals(2, connection.pendingCount());
+            assertEquals(1, tasks.size());
+            // 병합된 이벤트는 맨 뒤로 이동해 ID 순서가 유지됨
+            assertEquals(List.of(2L, 3L), connection.pendingIds());
+
+            log.debug("병합 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 가장 오래된 이벤트를 버림")
+        void testDropOldest() {
+            log.debug("대기열 포화 테스트 시작");
+
+            SseConnection connection = connection(2);
+            connection.enqueue(new SseEvent(1L, "chat", "a", null));
+            connection.enqueue(new SseEvent(2L, "chat", "b", null));
+            connection.enqueue(new SseEvent(3L, "chat", "c", null));
+
+            assertEquals(2, connection.pendingCount());
+
+            log.debug("대기열 포화 테스트 완료");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.matchhub.catconnect.domain.profile.service;
 import com.matchhub.catconnect.domain.user.model.entity.User;
 import com.matchhub.catconnect.domain.user.model.enums.Role;
 import com.matchhub.catconnect.domain.user.repository.UserRepository;
+import com.matchhub.catconnect.global.configuration.HeaderContextCache;
 import com.matchhub.catconnect.global.exception.AppException;
 import com.matchhub.catconnect.global.exception.ErrorCode;
 import org.junit.jupiter.api.*;
@@ -32,6 +33,9 @@ class ProfileServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private HeaderContextCache headerContextCache;
+
     private User testUser;
 
     @BeforeEach
@@ -122,6 +126,25 @@ class ProfileServiceTest {
             log.debug("프로필 이미지 삭제 테스트 완료");
         }
 
+        @Test
+        @DisplayName("프로필 이미지 삭제 시 헤더 컨텍스트 캐시 무효화")
+        void testDeleteProfileImageInvalidatesHeaderContext() {
+            log.debug("헤더 컨텍스트 무효화 테스트 시작");
+
+            // 프로필 이미지 설정 후 헤더 컨텍스트 캐시 적재
+            testUser.updateProfileImage("/api/files/download/test-image.jpg");
+            userRepository.save(testUser);
+            HeaderContextCache.HeaderContext before = headerContextCache.get("testuser");
+            assertEquals("/api/files/download/test-image.jpg", before.currentUser().getProfileImageUrl());
+
+            // 삭제 후 캐시가 갱신되었는지 확인
+            profileService.deleteProfileImage("testuser");
+            HeaderContextCache.HeaderContext after = headerContextCache.get("testuser");
+            assertNull(after.currentUser().getProfileImageUrl());
+
+            log.debug("헤더 컨텍스트 무효화 테스트 완료");
+        }
+
         @Test
         @DisplayName("존재하지 않는 사용자의 프로필 이미지 삭제 시 예외 발생")
         void testDeleteProfileImageUserNotFound() {
@@ -0,0 +1,109 @@
+package com.matchhub.catconnect.domain.user.controller;
+
+import com.matchhub.catconnect.domain.board.model.dto.BoardRequestDTO;
+import com.matchhub.catconnect.domain.board.service.BoardService;
+import com.matchhub.catconnect.domain.comment.model.dto.CommentRequestDTO;
+import com.matchhub.catconnect.domain.comment.repository.CommentRepository;
+import com.matchhub.catconnect.domain.comment.service.CommentService;
+import com.matchhub.catconnect.global.util.query.QueryBudget;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("UserProfileRestController 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserProfileRestControllerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProfileRestControllerTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        log.debug("테스트 설정 시작");
+
+        // 서로 다른 게시글 3개에 댓글 작성 (게시글 조회가 N+1이면 쿼리 예산 초과)
+        for (int i = 0; i < 3; i++) {
+            BoardRequestDTO requestDTO = new BoardRequestDTO();
+            requestDTO.setTitle("Profile Board " + i);
+            requestDTO.setContent("Profile Content " + i);
+            Long boardId = boardService.createBoard(requestDTO, "profileWriter").getId();
+            boardIds.add(boardId);
+
+            CommentRequestDTO commentDTO = new CommentRequestDTO();
+            commentDTO.setContent("Profile Comment " + i);
+            commentService.addComment(boardId, commentDTO, "profileCommenter");
+        }
+
+        // 대댓글 (부모 댓글 ID만 사용하므로 부모 조회 쿼리가 없어야 함)
+        Long parentId = commentRepository.findByAuthor("profileCommenter", PageRequest.of(0, 1))
+                .getContent().get(0).getId();
+        CommentRequestDTO replyDTO = new CommentRequestDTO();
+        replyDTO.setContent("Profile Reply");
+        commentService.addComment(boardIds.get(0), replyDTO, "profileCommenter", parentId);
+
+        log.debug("테스트 설정 완료: boardIds={}", boardIds);
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.debug("테스트 정리 시작");
+        try {
+            boardService.deleteBoards(boardIds);
+        } catch (Exception e) {
+            log.debug("테스트 데이터 정리 실패: {}", e.getMessage());
+        }
+        boardIds.clear();
+        log.debug("테스트 정리 완료");
+    }
+
+    @Nested
+    @DisplayName("사용자 프로필 API 테스트")
+    class ProfileApiTests {
+
+        @Test
+        @DisplayName("작성 댓글 목록은 댓글 수와 관계없이 목록/개수 쿼리만 실행")
+        @QueryBudget(max = 2)
+        void testGetUserComments() throws Exception {
+            log.debug("사용자 댓글 목록 조회 테스트 시작");
+
+            mockMvc.perform(get("/api/users/profile/profileCommenter/comments")
+                            .param("page", "0")
+                            .param("size", "10")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value("SUCCESS"))
+                    .andExpect(jsonPath("$.data.totalElements").value(4))
+                    .andExpect(jsonPath("$.data.content[0].boardTitle").isString())
+                    .andDo(result -> log.debug("사용자 댓글 목록 조회 응답: {}", result.getResponse().getContentAsString()));
+
+            log.debug("사용자 댓글 목록 조회 테스트 완료");
+        }
+    }
+}
@@ -82,6 +82,29 @@ class SecurityConfigTest {
             log.debug("사용자 목록 관리자 테스트 완료");
         }
 
+        @Test
+        @DisplayName("관리 엔드포인트는 헬스 체크만 공개하고 메트릭은 비인증 접근 시 401 반환")
+        void testActuatorWithoutAuth() throws Exception {
+            log.debug("관리 엔드포인트 비인증 테스트 시작");
+            mockMvc.perform(get("/actuator/health"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isUnauthorized())
+                    .andDo(result -> log.debug("메트릭 비인증 접근 거부됨"));
+            log.debug("관리 엔드포인트 비인증 테스트 완료");
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("메트릭 엔드포인트 일반 사용자 접근 시 403 반환")
+        void testActuatorWithUserRole() throws Exception {
+            log.debug("메트릭 일반 사용자 테스트 시작");
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isForbidden())
+                    .andDo(result -> log.debug("메트릭 일반 사용자 접근 거부됨"));
+            log.debug("메트릭 일반 사용자 테스트 완료");
+        }
+
         @Test
         @DisplayName("인증 필요 경로 비인증 접근 시 401 반환")
         void testAuthenticatedPathWithoutAuth() throws Exception {
@@ -191,6 +191,51 @@ class HtmlSanitizerTest {
         }
     }
 
+    @Nested
+    @DisplayName("경로별 처리 테스트")
+    class TieredSanitizeTests {
+
+        @Test
+        @DisplayName("상대 경로 이미지 src 유지")
+        void testPreserveRelativeImageSrc() {
+            log.debug("상대 경로 이미지 테스트 시작");
+
+            String html = "<img src=\"/api/files/download/abc.png?w=256\"><img src=\"//evil.example.com/x.png\">";
+            String sanitized = htmlSanitizer.sanitize(html);
+
+            assertTrue(sanitized.contains("src=\"/api/files/download/abc.png?w=256\""));
+            assertFalse(sanitized.contains("evil.example.com"));
+
+            log.debug("상대 경로 이미지 테스트 완료: sanitized={}", sanitized);
+        }
+
+        @Test
+        @DisplayName("마크업 없는 텍스트는 DOM 파싱 결과와 같게 이스케이프")
+        void testPlainTextFastPath() {
+            log.debug("일반 텍스트 경로 테스트 시작");
+
+            String plain = "고양이 사진 올려주세요";
+            assertSame(plain, htmlSanitizer.sanitize(plain));
+            assertEquals("고양이 &gt; 강아지", htmlSanitizer.sanitize("고양이 > 강아지"));
+            assertEquals("a &amp; b", htmlSanitizer.sanitize("a &amp; b"));
+
+            log.debug("일반 텍스트 경로 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("채팅 텍스트 이스케이프")
+        void testEscapeText() {
+            log.debug("채팅 텍스트 이스케이프 테스트 시작");
+
+            String plain = "안녕하세요 :)";
+            assertSame(plain, htmlSanitizer.escapeText(plain));
+            assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; &amp;", htmlSanitizer.escapeText("<script>alert(1)</script> &"));
+            assertNull(htmlSanitizer.escapeText(null));
+
+            log.debug("채팅 텍스트 이스케이프 테스트 완료");
+        }
+    }
+
     @Nested
     @DisplayName("빈 입력 처리 테스트")
     class EmptyInputTests {
@@ -0,0 +1,106 @@
+package com.matchhub.catconnect.global.util.auth;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtProvider 단위 테스트
+ */
+@DisplayName("JwtProvider 테스트")
+class JwtProviderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtProviderTest.class);
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider();
+    }
+
+    @Nested
+    @DisplayName("클레임 파싱 테스트")
+    class ParseClaimsTests {
+
+        @Test
+        @DisplayName("Access Token에서 username, role, 만료 시각 추출")
+        void testParseClaims() {
+            log.debug("클레임 파싱 테스트 시작");
+
+            String token = jwtProvider.generateAccessToken("testUser", "USER");
+            JwtClaims claims = jwtProvider.parseClaims(token);
+
+            assertEquals("testUser", claims.username());
+            assertEquals("USER", claims.role());
+            assertTrue(claims.expiresAt().isAfter(Instant.now()));
+
+            log.debug("클레임 파싱 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("같은 토큰 재검증 시 캐시된 클레임 반환")
+        void testParseClaimsCached() {
+            log.debug("클레임 캐시 테스트 시작");
+
+            String token = jwtProvider.generateAccessToken("testUser", "ADMIN");
+            JwtClaims first = jwtProvider.parseClaims(token);
+            JwtClaims second = jwtProvider.parseClaims(token);
+
+            assertSame(first, second);
+
+            log.debug("클레임 캐시 테스트 완료");
+        }
+
+        @Test
+        @DisplayName("변조된 토큰은 예외 발생")
+        void testParseClaimsTampered() {
+            log.debug("변조 토큰 테스트 시작");
+
+            String token = jwtProvider.generateAccessToken("testUser", "USER");
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThrows(JwtException.class, () -> jwtProvider.parseClaims(tampered));
+
+            log.debug("변조 토큰 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 토큰 캐시 테스트")
+    class VerifiedTokenCacheTests {
+
+        @Test
+        @DisplayName("만료된 항목은 캐시에서 반환되지 않음")
+        void testExpiredEntryEvicted() {
+            VerifiedTokenCache cache = new VerifiedTokenCache(10);
+            cache.put("expired", new JwtClaims("testUser", "USER", Instant.now().minusSeconds(1)));
+
+            assertNull(cache.get("expired"));
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거")
+        void testLruEviction() {
+            VerifiedTokenCache cache = new VerifiedTokenCache(2);
+            Instant future = Instant.now().plusSeconds(60);
+            cache.put("a", new JwtClaims("a", "USER", future));
+            cache.put("b", new JwtClaims("b", "USER", future));
+            cache.get("a"); // a 최근 사용
+            cache.put("c", new JwtClaims("c", "USER", future));
+
+            assertNotNull(cache.get("a"));
+            assertNull(cache.get("b"));
+            assertNotNull(cache.get("c"));
+        }
+    }
+}
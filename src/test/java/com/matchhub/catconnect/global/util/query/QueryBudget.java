@@ -0,0 +1,26 @@
+package com.matchhub.catconnect.global.util.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 안의 HTTP 요청(MockMvc)마다 실행되는 SQL 수 상한을 고정
+ *
+ * 테스트 메서드 실행 구간(@BeforeEach 제외)을 QueryCounter 범위로 감싸고,
+ * 안쪽의 요청 범위 중 하나라도 max를 넘으면 실패함 (요청이 없으면 메서드 전체 SQL 수로 검사)
+ * app.query-inspector.enabled=true인 스프링 테스트 컨텍스트에서만 사용할 수 있음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * 요청 하나당 허용하는 최대 SQL 수
+     */
+    int max();
+}
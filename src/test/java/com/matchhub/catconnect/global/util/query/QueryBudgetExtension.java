@@ -0,0 +1,45 @@
+package com.matchhub.catconnect.global.util.query;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+/**
+ * @QueryBudget 검사 확장
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter queryCounter = SpringExtension.getApplicationContext(context).getBean(QueryCounter.class);
+        if (!queryCounter.isEnabled()) {
+            throw new IllegalStateException("@QueryBudget은 app.query-inspector.enabled=true에서만 사용할 수 있습니다.");
+        }
+        context.getStore(NAMESPACE).put(context.getUniqueId(), queryCounter.open("test " + context.getDisplayName()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        QueryCounter.Result result = scope.close();
+        int max = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).max();
+
+        List<QueryCounter.Result> checked = result.children().isEmpty() ? List.of(result) : result.children();
+        for (QueryCounter.Result request : checked) {
+            if (request.statements() > max) {
+                throw new AssertionFailedError("쿼리 예산 초과: " + request.label()
+                        + ", max=" + max + ", actual=" + request.statements()
+                        + (request.suspects().isEmpty() ? "" : ", N+1 의심=" + request.suspects()));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.matchhub.catconnect.global.util.query;
+
+import com.matchhub.catconnect.domain.board.repository.BoardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryCounter 테스트")
+@SpringBootTest // StatementInspector 등록까지 포함해 검증
+class QueryCounterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCounterTest.class);
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Nested
+    @DisplayName("SQL 형태 정규화 테스트")
+    class ShapeTests {
+
+        @Test
+        @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 형태로 묶임")
+        void testShapeOf() {
+            log.debug("SQL 형태 정규화 테스트 시작");
+
+            String first = QueryCounter.shapeOf("select * from tb_comment c where c.board_id in (?, ?, ?) and c.author = 'kim'");
+            String second = QueryCounter.shapeOf("select *  from tb_comment c\n where c.board_id in (?) and c.author = 'lee'");
+
+            assertEquals(first, second);
+            assertEquals("select * from tb_board b where b.id=? limit ?",
+                    QueryCounter.shapeOf("select * from tb_board b where b.id=10 limit 20"));
+
+            log.debug("SQL 형태 정규화 테스트 완료");
+        }
+    }
+
+    @Nested
+    @DisplayName("범위 집계 테스트")
+    class ScopeTests {
+
+        @Test
+        @DisplayName("같은 형태의 SQL이 반복되면 N+1 의심으로 보고")
+        void testDetectsRepeatedStatements() {
+            log.debug("N+1 의심 감지 테스트 시작");
+
+            QueryCounter.Result result;
+            try (QueryCounter.Scope scope = queryCounter.open("loop")) {
+                for (long id = 1; id <= 3; id++) {
+                    boardRepository.findById(-id);
+                }
+                result = scope.close();
+            }
+
+            assertEquals(3, result.statements());
+            assertEquals(1, result.suspects().size());
+            assertEquals(3, result.suspects().values().iterator().next());
+
+            log.debug("N+1 의심 감지 테스트 완료: suspects={}", result.suspects());
+        }
+
+        @Test
+        @DisplayName("안쪽 범위의 SQL은 바깥 범위에도 집계되고 하위 결과로 남음")
+        void testNestedScopes() {
+            log.debug("중첩 범위 집계 테스트 시작");
+
+            QueryCounter.Scope outer = queryCounter.open("outer");
+            boardRepository.count();
+            try (QueryCounter.Scope inner = queryCounter.open("inner")) {
+                boardRepository.findById(-1L);
+            }
+            QueryCounter.Result result = outer.close();
+
+            assertEquals(2, result.statements());
+            assertEquals(1, result.children().size());
+            assertEquals("inner", result.children().get(0).label());
+            assertEquals(1, result.children().get(0).statements());
+            assertTrue(result.suspects().isEmpty());
+
+            log.debug("중첩 범위 집계 테스트 완료");
+        }
+    }
+}